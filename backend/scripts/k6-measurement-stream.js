@@ -0,0 +1,113 @@
+/**
+ * k6 부하 테스트 스크립트 - 측정 데이터 바이너리 스트림 업로드
+ *
+ * 목적: JSON 단건 업로드 대비 바이너리 스트림(POST /measurements/stream) 대역폭/응답 시간 비교
+ * - 포맷은 MeasurementBinaryCodec 주석 참고 (프레임 = i32 길이 + 컬럼 단위 본문)
+ * - FRAMES x ROWS 개의 측정값을 하나의 요청으로 전송
+ *
+ * 실행 방법:
+ * k6 run -e AUTH_TOKEN="Bearer <token>" k6-measurement-stream.js
+ */
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend, Counter } from 'k6/metrics';
+
+const streamUploadTime = new Trend('measurement_stream_duration');
+const uploadedRows = new Counter('measurement_stream_rows');
+
+export const options = {
+    vus: 10,
+    duration: '1m',
+    thresholds: {
+        'checks': ['rate>0.99'],
+        'http_req_duration': ['p(95)<2000'],
+    },
+};
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const AUTH_TOKEN = __ENV.AUTH_TOKEN || 'Bearer test-token-for-user-1';
+const FRAMES = Number(__ENV.FRAMES || 5);
+const ROWS = Number(__ENV.ROWS || 200);
+
+const FLOAT_COLUMNS = 11;
+const ROW_BYTES = 4 + FLOAT_COLUMNS * 4 + 1 + 1 + 4;
+
+/**
+ * 프레임 1개 인코딩 (MeasurementBinaryCodec.writeFrame과 동일한 레이아웃)
+ */
+function writeFrame(view, offset, rows) {
+    const n = rows.length;
+    view.setInt32(offset, 2 + 8 + n * ROW_BYTES); offset += 4;
+    view.setUint16(offset, n); offset += 2;
+
+    // i64 base (ms) - DataView.setBigInt64 미지원 환경 대비 상/하위 32비트로 분리
+    const base = rows[0].measuredAt;
+    view.setInt32(offset, Math.floor(base / 2 ** 32)); offset += 4;
+    view.setUint32(offset, base % 2 ** 32); offset += 4;
+
+    let previous = base;
+    for (const r of rows) { view.setInt32(offset, r.measuredAt - previous); previous = r.measuredAt; offset += 4; }
+
+    const floatColumns = ['heartRate', 'objectTemp', 'ambientTemp', 'accelX', 'accelY', 'accelZ',
+        'hrvSdnn', 'hrvRmssd', 'movementIntensity', 'stressIndex', 'stepsPerMinute'];
+    for (const column of floatColumns) {
+        for (const r of rows) { view.setFloat32(offset, r[column] == null ? NaN : r[column]); offset += 4; }
+    }
+    for (const r of rows) { view.setInt8(offset, r.stressLevel || 0); offset += 1; }
+    for (const r of rows) { view.setInt8(offset, r.isAnomaly ? 1 : 0); offset += 1; }
+    for (const r of rows) { view.setInt32(offset, r.totalSteps == null ? -1 : r.totalSteps); offset += 4; }
+    return offset;
+}
+
+function sampleRows(start, count) {
+    const rows = [];
+    for (let i = 0; i < count; i++) {
+        const stressIndex = 20 + Math.random() * 60;
+        rows.push({
+            measuredAt: start + i * 1000,
+            heartRate: 60 + Math.random() * 40,
+            objectTemp: 33 + Math.random() * 2,
+            ambientTemp: 22 + Math.random() * 3,
+            accelX: Math.random(), accelY: Math.random(), accelZ: 9.8,
+            hrvSdnn: 30 + Math.random() * 40,
+            hrvRmssd: 20 + Math.random() * 40,
+            movementIntensity: Math.random(),
+            stressIndex: stressIndex,
+            stepsPerMinute: null,
+            stressLevel: Math.min(5, 1 + Math.floor(stressIndex / 20)),
+            isAnomaly: stressIndex > 75,
+            totalSteps: 1000 + i,
+        });
+    }
+    return rows;
+}
+
+export default function () {
+    // 과거 시각으로 생성 (@PastOrPresent 검증)
+    const start = Date.now() - (FRAMES * ROWS + 60) * 1000 - __VU * 10_000_000 - __ITER * FRAMES * ROWS * 1000;
+
+    const buffer = new ArrayBuffer(FRAMES * (4 + 2 + 8 + ROWS * ROW_BYTES) + 4);
+    const view = new DataView(buffer);
+    let offset = 0;
+    for (let f = 0; f < FRAMES; f++) {
+        offset = writeFrame(view, offset, sampleRows(start + f * ROWS * 1000, ROWS));
+    }
+    view.setInt32(offset, 0); // 스트림 종료
+
+    const res = http.post(`${BASE_URL}/api/v1/measurements/stream`, buffer, {
+        headers: {
+            'Content-Type': 'application/vnd.hand.measurements',
+            'Authorization': AUTH_TOKEN,
+        },
+    });
+
+    streamUploadTime.add(res.timings.duration);
+    const ok = check(res, {
+        'status is 201': (r) => r.status === 201,
+        'all rows saved': (r) => r.json('data.count') === FRAMES * ROWS,
+    });
+    if (ok) {
+        uploadedRows.add(FRAMES * ROWS);
+    }
+}
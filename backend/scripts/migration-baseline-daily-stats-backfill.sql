@@ -0,0 +1,63 @@
+-- baseline_daily_stats 백필: 기존 measurements로 Baseline 일별 누적 통계 생성
+-- 실행: docker exec -i hand-mysql-local mysql -u hand_user -phand1234 hand_db < migration-baseline-daily-stats-backfill.sql
+--
+-- - 통계 테이블은 애플리케이션 기동 시 ddl-auto로 생성됨 (아래 CREATE는 수동 실행 대비)
+-- - 배포 후 새 측정값은 저장 시점에 반영되므로, 백필은 배포 직후 트래픽이 적을 때 1회 실행
+-- - 편안한 상태(stress_level <= 2) 측정값만, 지표별로 0 이하 값은 제외
+-- - 같은 (user_id, stat_date)가 이미 있으면 원본 기준 값으로 덮어씀 (여러 번 실행해도 결과 동일)
+-- - 계산식은 BaselineDailyStatWriter.REBUILD_SQL과 동일 (M2 = VAR_POP × COUNT)
+
+CREATE TABLE IF NOT EXISTS baseline_daily_stats (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    stat_date DATE NOT NULL,
+    sample_count BIGINT NOT NULL,
+    heart_rate_count BIGINT NOT NULL,
+    heart_rate_mean DOUBLE NOT NULL,
+    heart_rate_m2 DOUBLE NOT NULL,
+    heart_rate_min DOUBLE,
+    heart_rate_max DOUBLE,
+    hrv_sdnn_count BIGINT NOT NULL,
+    hrv_sdnn_mean DOUBLE NOT NULL,
+    hrv_sdnn_m2 DOUBLE NOT NULL,
+    hrv_sdnn_min DOUBLE,
+    hrv_sdnn_max DOUBLE,
+    hrv_rmssd_count BIGINT NOT NULL,
+    hrv_rmssd_mean DOUBLE NOT NULL,
+    hrv_rmssd_m2 DOUBLE NOT NULL,
+    hrv_rmssd_min DOUBLE,
+    hrv_rmssd_max DOUBLE,
+    object_temp_count BIGINT NOT NULL,
+    object_temp_mean DOUBLE NOT NULL,
+    object_temp_m2 DOUBLE NOT NULL,
+    object_temp_min DOUBLE,
+    object_temp_max DOUBLE,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_baseline_daily_stats_user_date (user_id, stat_date)
+);
+
+REPLACE INTO baseline_daily_stats (
+    user_id, stat_date, sample_count,
+    heart_rate_count, heart_rate_mean, heart_rate_m2, heart_rate_min, heart_rate_max,
+    hrv_sdnn_count, hrv_sdnn_mean, hrv_sdnn_m2, hrv_sdnn_min, hrv_sdnn_max,
+    hrv_rmssd_count, hrv_rmssd_mean, hrv_rmssd_m2, hrv_rmssd_min, hrv_rmssd_max,
+    object_temp_count, object_temp_mean, object_temp_m2, object_temp_min, object_temp_max,
+    updated_at
+)
+SELECT user_id, DATE(measured_at), COUNT(*),
+       COUNT(heart_rate), COALESCE(AVG(heart_rate), 0), COALESCE(VAR_POP(heart_rate) * COUNT(heart_rate), 0), MIN(heart_rate), MAX(heart_rate),
+       COUNT(hrv_sdnn), COALESCE(AVG(hrv_sdnn), 0), COALESCE(VAR_POP(hrv_sdnn) * COUNT(hrv_sdnn), 0), MIN(hrv_sdnn), MAX(hrv_sdnn),
+       COUNT(hrv_rmssd), COALESCE(AVG(hrv_rmssd), 0), COALESCE(VAR_POP(hrv_rmssd) * COUNT(hrv_rmssd), 0), MIN(hrv_rmssd), MAX(hrv_rmssd),
+       COUNT(object_temp), COALESCE(AVG(object_temp), 0), COALESCE(VAR_POP(object_temp) * COUNT(object_temp), 0), MIN(object_temp), MAX(object_temp),
+       NOW()
+FROM (
+    SELECT user_id, measured_at,
+           IF(heart_rate > 0, heart_rate, NULL) AS heart_rate,
+           IF(hrv_sdnn > 0, hrv_sdnn, NULL) AS hrv_sdnn,
+           IF(hrv_rmssd > 0, hrv_rmssd, NULL) AS hrv_rmssd,
+           IF(object_temp > 0, object_temp, NULL) AS object_temp
+    FROM measurements
+    WHERE stress_level <= 2
+) m
+GROUP BY user_id, DATE(measured_at);
@@ -0,0 +1,51 @@
+-- measurement_rollups 이상치 stressIndex 백필: anomaly_stress_count/anomaly_stress_sum을 원본 measurements로 다시 계산
+-- 실행: docker exec -i hand-mysql-local mysql -u hand_user -phand1234 hand_db < migration-measurement-rollups-anomaly-stress-backfill.sql
+--
+-- - 컬럼 추가 전에 만든 롤업은 0으로 채워져 있어 이상치가 있는 날의 이상치 stressIndex 평균이 비어 있음
+-- - 이 스크립트를 배포 직후 1회 실행해야 위험 점수 계산이 일 롤업만으로 정확함 (원본 대체 조회 없음)
+-- - 이상치가 있는 버킷만 갱신, 계산식은 MeasurementRollupWriter.REBUILD_SQL의 이상치 컬럼과 동일
+-- - 여러 번 실행해도 결과 동일
+
+DELIMITER //
+
+DROP PROCEDURE IF EXISTS backfill_rollup_anomaly_stress //
+
+CREATE PROCEDURE backfill_rollup_anomaly_stress(IN p_resolution VARCHAR(10), IN p_format VARCHAR(32))
+BEGIN
+    UPDATE measurement_rollups r
+    JOIN (
+        SELECT user_id,
+               CAST(DATE_FORMAT(measured_at, p_format) AS DATETIME(6)) AS bucket_start,
+               COUNT(stress_index) AS c_anomaly_stress,
+               COALESCE(SUM(stress_index), 0) AS s_anomaly_sum
+        FROM measurements
+        WHERE is_anomaly = 1
+        GROUP BY user_id, bucket_start
+    ) a ON a.user_id = r.user_id
+       AND r.resolution = p_resolution
+       AND r.bucket_start = a.bucket_start
+    SET r.anomaly_stress_count = a.c_anomaly_stress,
+        r.anomaly_stress_sum = a.s_anomaly_sum;
+END //
+
+DELIMITER ;
+
+CALL backfill_rollup_anomaly_stress('DAY', '%Y-%m-%d 00:00:00');
+CALL backfill_rollup_anomaly_stress('HOUR', '%Y-%m-%d %H:00:00');
+CALL backfill_rollup_anomaly_stress('MINUTE', '%Y-%m-%d %H:%i:00');
+DROP PROCEDURE backfill_rollup_anomaly_stress;
+
+-- 검증: 이상치가 있는데 이상치 stressIndex 개수가 0인 일 롤업 (원본 이상치 stressIndex가 모두 NULL인 경우만 남아야 함)
+SELECT COUNT(*) AS remaining_day_rollups
+FROM measurement_rollups r
+WHERE r.resolution = 'DAY'
+  AND r.anomaly_count > 0
+  AND r.anomaly_stress_count = 0
+  AND EXISTS (
+      SELECT 1 FROM measurements m
+      WHERE m.user_id = r.user_id
+        AND m.is_anomaly = 1
+        AND m.stress_index IS NOT NULL
+        AND m.measured_at >= r.bucket_start
+        AND m.measured_at < r.bucket_start + INTERVAL 1 DAY
+  );
@@ -0,0 +1,91 @@
+-- measurement_rollups 백필: 기존 measurements로 1분/1시간/1일 롤업 생성
+-- 실행: docker exec -i hand-mysql-local mysql -u hand_user -phand1234 hand_db < migration-measurement-rollups-backfill.sql
+--
+-- - 롤업 테이블은 애플리케이션 기동 시 ddl-auto로 생성됨 (아래 CREATE는 수동 실행 대비)
+-- - 배포 후 새 측정값은 저장 시점에 롤업에 반영되므로, 백필은 배포 직후 트래픽이 적을 때 1회 실행
+-- - 같은 버킷이 이미 있으면 원본 기준 값으로 덮어씀 (여러 번 실행해도 결과 동일)
+-- - 계산식은 MeasurementRollupWriter.REBUILD_SQL과 동일
+-- - anomaly_stress_count/anomaly_stress_sum 컬럼 추가 전에 만든 롤업은 0으로 채워져 있음
+--   → 이 스크립트를 다시 실행하거나, 이상치 컬럼만 채우는 migration-measurement-rollups-anomaly-stress-backfill.sql 실행
+
+CREATE TABLE IF NOT EXISTS measurement_rollups (
+    id                BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id           BIGINT      NOT NULL,
+    resolution        VARCHAR(10) NOT NULL,
+    bucket_start      DATETIME(6) NOT NULL,
+    measurement_count INT         NOT NULL,
+    stress_count      INT         NOT NULL,
+    anomaly_count     INT         NOT NULL,
+    anomaly_stress_count INT      NOT NULL,
+    anomaly_stress_sum   DOUBLE   NOT NULL,
+    stress_min        DOUBLE,
+    stress_min_at     DATETIME(6),
+    stress_max        DOUBLE,
+    stress_max_at     DATETIME(6),
+    stress_sum        DOUBLE      NOT NULL,
+    stress_sum_sq     DOUBLE      NOT NULL,
+    updated_at        DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_rollup_user_resolution_bucket (user_id, resolution, bucket_start)
+);
+
+-- 해상도별 버킷 포맷을 바꿔가며 3회 실행
+DELIMITER //
+
+DROP PROCEDURE IF EXISTS backfill_measurement_rollups //
+
+CREATE PROCEDURE backfill_measurement_rollups(IN p_resolution VARCHAR(10), IN p_format VARCHAR(32))
+BEGIN
+    -- INSERT ... SELECT에는 row alias(AS new)를 쓸 수 없으므로 파생 테이블(src) 컬럼을 참조
+    INSERT INTO measurement_rollups (
+        user_id, resolution, bucket_start, measurement_count, stress_count, anomaly_count,
+        anomaly_stress_count, anomaly_stress_sum,
+        stress_min, stress_min_at, stress_max, stress_max_at, stress_sum, stress_sum_sq, updated_at
+    )
+    SELECT * FROM (
+        SELECT user_id, p_resolution AS resolution, bucket AS bucket_start,
+               COUNT(*) AS c_count, COUNT(stress_index) AS c_stress, COALESCE(SUM(is_anomaly), 0) AS c_anomaly,
+               COUNT(CASE WHEN is_anomaly = 1 THEN stress_index END) AS c_anomaly_stress,
+               COALESCE(SUM(CASE WHEN is_anomaly = 1 THEN stress_index END), 0) AS s_anomaly_sum,
+               MIN(stress_index) AS s_min, MAX(CASE WHEN rn_min = 1 AND stress_index IS NOT NULL THEN measured_at END) AS s_min_at,
+               MAX(stress_index) AS s_max, MAX(CASE WHEN rn_max = 1 AND stress_index IS NOT NULL THEN measured_at END) AS s_max_at,
+               COALESCE(SUM(stress_index), 0) AS s_sum, COALESCE(SUM(stress_index * stress_index), 0) AS s_sum_sq,
+               NOW() AS s_updated_at
+        FROM (
+            SELECT b.*,
+                   ROW_NUMBER() OVER (PARTITION BY user_id, bucket ORDER BY stress_index IS NULL, stress_index, measured_at) AS rn_min,
+                   ROW_NUMBER() OVER (PARTITION BY user_id, bucket ORDER BY stress_index IS NULL, stress_index DESC, measured_at) AS rn_max
+            FROM (
+                SELECT user_id, stress_index, is_anomaly, measured_at, DATE_FORMAT(measured_at, p_format) AS bucket
+                FROM measurements
+            ) b
+        ) r
+        GROUP BY user_id, bucket
+    ) AS src
+    ON DUPLICATE KEY UPDATE
+        measurement_count = src.c_count,
+        stress_count = src.c_stress,
+        anomaly_count = src.c_anomaly,
+        anomaly_stress_count = src.c_anomaly_stress,
+        anomaly_stress_sum = src.s_anomaly_sum,
+        stress_min = src.s_min,
+        stress_min_at = src.s_min_at,
+        stress_max = src.s_max,
+        stress_max_at = src.s_max_at,
+        stress_sum = src.s_sum,
+        stress_sum_sq = src.s_sum_sq,
+        updated_at = src.s_updated_at;
+END //
+
+DELIMITER ;
+
+CALL backfill_measurement_rollups('DAY', '%Y-%m-%d 00:00:00');
+CALL backfill_measurement_rollups('HOUR', '%Y-%m-%d %H:00:00');
+CALL backfill_measurement_rollups('MINUTE', '%Y-%m-%d %H:%i:00');
+DROP PROCEDURE backfill_measurement_rollups;
+
+-- 검증: 일 롤업 합계와 원본 개수 비교 (차이가 없어야 함)
+SELECT
+    (SELECT COUNT(*) FROM measurements) AS raw_count,
+    (SELECT SUM(measurement_count) FROM measurement_rollups WHERE resolution = 'DAY') AS rollup_count,
+    (SELECT SUM(anomaly_count) FROM measurement_rollups WHERE resolution = 'DAY') AS rollup_anomalies;
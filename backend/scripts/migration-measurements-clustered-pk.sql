@@ -0,0 +1,81 @@
+-- measurements 테이블 클러스터드 키 변경: PRIMARY KEY(id) → PRIMARY KEY(user_id, measured_at, id)
+-- 실행: docker exec -i hand-mysql-local mysql -u hand_user -phand1234 hand_db < migration-measurements-clustered-pk.sql
+--
+-- 목적
+-- - InnoDB는 PK 순서로 행을 저장하므로, (user_id, measured_at) 범위 조회가
+--   보조 인덱스 탐색 + PK 랜덤 조회 대신 연속된 페이지를 순차로 읽게 됨
+-- - id는 PK 마지막 컬럼으로 남겨 같은 시각 중복 행도 허용 (JPA @Id는 그대로 id)
+-- - AUTO_INCREMENT 컬럼은 인덱스의 첫 컬럼이어야 하므로 idx_measurements_id(id) 유지
+-- - idx_user_measured는 새 PK와 중복되므로 제거
+--
+-- 주의
+-- - PK 변경은 테이블 재작성(rebuild)이지만 ALGORITHM=INPLACE, LOCK=NONE으로 읽기/쓰기는 계속 가능
+-- - 재작성 동안 테이블 크기만큼 임시 공간 필요 (innodb_online_alter_log_max_size 확인)
+-- - 수천만 건 이상이면 gh-ost 사용 권장 (아래 참고)
+-- - 애플리케이션 배포(엔티티 인덱스 정의 변경) 전에 실행해야 ddl-auto: update가 idx_user_measured를 다시 만들지 않음
+-- - 애플리케이션은 기동 시 PK를 바꾸지 않음 → ddl-auto로 새로 만든 DB(PRIMARY KEY(id))도 첫 기동 후 1회 실행
+-- - 현재 PK/인덱스를 확인해서 필요한 변경만 수행하므로 여러 번 실행해도 안전
+
+-- 0. 현재 상태 확인
+SHOW INDEX FROM measurements;
+SELECT COUNT(*) AS total_rows FROM measurements;
+
+-- 1. PK 교체 (단일 ALTER로 원자적 변경, 이미 전환됐으면 건너뜀)
+DELIMITER //
+
+DROP PROCEDURE IF EXISTS migrate_measurements_clustered_pk //
+
+CREATE PROCEDURE migrate_measurements_clustered_pk()
+BEGIN
+    DECLARE v_pk VARCHAR(255);
+
+    SELECT GROUP_CONCAT(column_name ORDER BY seq_in_index) INTO v_pk
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'measurements' AND index_name = 'PRIMARY';
+
+    IF v_pk IS NULL OR v_pk <> 'user_id,measured_at,id' THEN
+        -- 새 DB에는 idx_measurements_id가 이미 있고 idx_user_measured는 없음
+        SET @ddl = CONCAT(
+            'ALTER TABLE measurements DROP PRIMARY KEY, ADD PRIMARY KEY (user_id, measured_at, id)',
+            IF(EXISTS (SELECT 1 FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'measurements'
+                         AND index_name = 'idx_measurements_id'),
+               '', ', ADD KEY idx_measurements_id (id)'),
+            IF(EXISTS (SELECT 1 FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'measurements'
+                         AND index_name = 'idx_user_measured'),
+               ', DROP INDEX idx_user_measured', ''),
+            ', ALGORITHM = INPLACE, LOCK = NONE');
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+
+DELIMITER ;
+
+CALL migrate_measurements_clustered_pk();
+DROP PROCEDURE migrate_measurements_clustered_pk;
+
+-- 2. 결과 확인
+SHOW INDEX FROM measurements;
+
+-- 실행 계획 확인: key = PRIMARY, type = range, Extra에 "Using index condition" 없이 순차 스캔
+EXPLAIN
+SELECT * FROM measurements
+WHERE user_id = 1
+  AND measured_at BETWEEN CURDATE() - INTERVAL 7 DAY AND NOW();
+
+-- 대용량 테이블 (gh-ost, 트리거 없이 binlog 기반 복사)
+-- gh-ost --host=<DB_HOST> --user=<USER> --password=<PASSWORD> --database=hand_db --table=measurements \
+--   --alter="DROP PRIMARY KEY, ADD PRIMARY KEY (user_id, measured_at, id), ADD KEY idx_measurements_id (id), DROP INDEX idx_user_measured" \
+--   --allow-on-master --chunk-size=2000 --max-load=Threads_running=25 --execute
+
+-- 롤백
+-- ALTER TABLE measurements
+--     DROP PRIMARY KEY,
+--     ADD PRIMARY KEY (id),
+--     DROP INDEX idx_measurements_id,
+--     ADD INDEX idx_user_measured (user_id, measured_at),
+--     ALGORITHM = INPLACE,
+--     LOCK = NONE;
@@ -0,0 +1,65 @@
+-- measurements 테이블 월 단위 RANGE 파티셔닝
+-- 실행: docker exec -i hand-mysql-local mysql -u hand_user -phand1234 hand_db < migration-measurements-partitioning.sql
+--
+-- 선행 조건
+-- - migration-measurements-clustered-pk.sql 적용 완료 (PK에 measured_at 포함 필수)
+-- - measurements를 참조하는 FOREIGN KEY 없음 (InnoDB 파티션 테이블은 FK 미지원)
+--
+-- 결과
+-- - 파티션 이름: pYYYYMM (해당 월), p_future (MAXVALUE)
+-- - 이후 파티션 생성/보관 기간 정리는 MeasurementPartitionMaintainer가 매일 00:30 수행
+--   (measurement.partition.months-ahead, retention-months, retention-action)
+--
+-- 주의
+-- - PARTITION BY는 테이블 전체를 재작성 (COPY 알고리즘, 쓰기 잠금)
+--   대용량이면 점검 시간에 실행하거나 gh-ost로 --alter="PARTITION BY RANGE COLUMNS(measured_at) (...)" 사용
+
+DELIMITER //
+
+DROP PROCEDURE IF EXISTS partition_measurements_monthly //
+
+CREATE PROCEDURE partition_measurements_monthly(IN months_ahead INT)
+BEGIN
+    DECLARE month_start DATE;
+    DECLARE last_month DATE;
+    DECLARE ddl TEXT DEFAULT '';
+
+    SELECT DATE_FORMAT(COALESCE(MIN(measured_at), NOW()), '%Y-%m-01') INTO month_start FROM measurements;
+    SET last_month = DATE_FORMAT(NOW() + INTERVAL months_ahead MONTH, '%Y-%m-01');
+
+    WHILE month_start <= last_month DO
+        SET ddl = CONCAT(ddl,
+            'PARTITION p', DATE_FORMAT(month_start, '%Y%m'),
+            ' VALUES LESS THAN (''', month_start + INTERVAL 1 MONTH, ' 00:00:00''), ');
+        SET month_start = month_start + INTERVAL 1 MONTH;
+    END WHILE;
+
+    SET @partition_ddl = CONCAT(
+        'ALTER TABLE measurements PARTITION BY RANGE COLUMNS(measured_at) (',
+        ddl, 'PARTITION p_future VALUES LESS THAN (MAXVALUE))');
+
+    PREPARE stmt FROM @partition_ddl;
+    EXECUTE stmt;
+    DEALLOCATE PREPARE stmt;
+END //
+
+DELIMITER ;
+
+-- 1. 파티셔닝 (현재 월 + 3개월까지 미리 생성)
+CALL partition_measurements_monthly(3);
+DROP PROCEDURE partition_measurements_monthly;
+
+-- 2. 결과 확인
+SELECT partition_name, partition_description, table_rows
+FROM information_schema.partitions
+WHERE table_schema = DATABASE() AND table_name = 'measurements'
+ORDER BY partition_ordinal_position;
+
+-- 3. 프루닝 확인: partitions 컬럼에 1~2개 파티션만 표시되어야 함
+EXPLAIN
+SELECT * FROM measurements
+WHERE user_id = 1
+  AND measured_at BETWEEN CURDATE() - INTERVAL 7 DAY AND NOW();
+
+-- 롤백 (테이블 재작성)
+-- ALTER TABLE measurements REMOVE PARTITIONING;
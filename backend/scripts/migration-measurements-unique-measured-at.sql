@@ -0,0 +1,47 @@
+-- measurements (user_id, measured_at) 유니크 키 추가: 워치 재시도로 중복 저장된 측정값 정리
+-- 실행: docker exec -i hand-mysql-local mysql -u hand_user -phand1234 hand_db < migration-measurements-unique-measured-at.sql
+--
+-- 목적
+-- - 같은 사용자의 같은 측정 시각은 1건만 허용 → 이상치 횟수/롤업이 재시도로 부풀지 않음
+-- - 애플리케이션은 저장 전에 기존 측정값을 찾아 원래 ID를 반환 (MeasurementDeduplicator)
+--
+-- 주의
+-- - 중복이 남아 있으면 ddl-auto: update의 유니크 키 생성이 실패하므로 배포 전에 실행
+-- - 중복 중 가장 먼저 저장된 행(id 최소)만 남김
+-- - 보고서 상세(weekly/monthly/counseling)의 이상치 measurementId가 삭제 대상 id를 가리킬 수 있음 (값은 그대로 보존됨)
+-- - 파티션 테이블이어도 유니크 키에 파티션 컬럼(measured_at)이 포함되어 있으므로 추가 가능
+
+-- 0. 중복 현황
+SELECT COUNT(*) AS duplicate_groups, COALESCE(SUM(cnt - 1), 0) AS rows_to_delete
+FROM (
+    SELECT COUNT(*) AS cnt
+    FROM measurements
+    GROUP BY user_id, measured_at
+    HAVING COUNT(*) > 1
+) d;
+
+-- 1. 중복 삭제 (id 최소 1건 유지)
+DELETE m
+FROM measurements m
+JOIN (
+    SELECT user_id, measured_at, MIN(id) AS keep_id
+    FROM measurements
+    GROUP BY user_id, measured_at
+    HAVING COUNT(*) > 1
+) d ON d.user_id = m.user_id AND d.measured_at = m.measured_at
+WHERE m.id <> d.keep_id;
+
+-- 2. 유니크 키 추가
+ALTER TABLE measurements
+    ADD UNIQUE KEY uk_measurements_user_measured (user_id, measured_at),
+    ALGORITHM = INPLACE,
+    LOCK = NONE;
+
+-- 3. 결과 확인
+SHOW INDEX FROM measurements WHERE Key_name = 'uk_measurements_user_measured';
+
+-- 4. 삭제된 행이 있었다면 롤업 재계산
+-- docker exec -i hand-mysql-local mysql -u hand_user -phand1234 hand_db < migration-measurement-rollups-backfill.sql
+
+-- 롤백
+-- ALTER TABLE measurements DROP INDEX uk_measurements_user_measured;
@@ -0,0 +1,92 @@
+package com.finger.hand_backend.measurement.anomaly;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버 이상 탐지 측정값 1건당 비용
+ * - detectOneUser: z-score + EWMA/히스테리시스 갱신만 (순수 연산)
+ * - detectManyUsers: 사용자 수만큼 상태를 ConcurrentHashMap에서 찾아 갱신 (수집 경로와 같은 조회 + 락)
+ *
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class StreamingAnomalyDetectorBenchmark {
+
+    private static final int READINGS = 4096;
+    private static final long INTERVAL_MICROS = 10_000_000L;  // 10초 간격
+
+    @Param({"1000", "10000"})
+    private int users;
+
+    private final StreamingAnomalyDetector detector =
+            new StreamingAnomalyDetector(0.3, 3.0, 2.0, 600_000_000L);
+    private final BaselineProfile profile =
+            new BaselineProfile(72, 8, 45, 12, 38, 10, 33.5, 0.6);
+
+    private final double[] heartRate = new double[READINGS];
+    private final double[] hrvSdnn = new double[READINGS];
+    private final double[] hrvRmssd = new double[READINGS];
+    private final double[] objectTemp = new double[READINGS];
+
+    private final StreamingAnomalyDetector.State single = new StreamingAnomalyDetector.State();
+    private final Map<Long, StreamingAnomalyDetector.State> states = new ConcurrentHashMap<>();
+
+    private int cursor;
+    private long micros;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < READINGS; i++) {
+            // 대부분 정상 범위, 약 5%는 스트레스 구간
+            boolean stressed = random.nextInt(100) < 5;
+            heartRate[i] = 72 + random.nextDouble(-10, 10) + (stressed ? 35 : 0);
+            hrvSdnn[i] = 45 + random.nextDouble(-12, 12) - (stressed ? 30 : 0);
+            hrvRmssd[i] = 38 + random.nextDouble(-10, 10) - (stressed ? 25 : 0);
+            objectTemp[i] = 33.5 + random.nextDouble(-0.5, 0.5);
+        }
+        for (long userId = 0; userId < users; userId++) {
+            states.put(userId, new StreamingAnomalyDetector.State());
+        }
+        micros = 1_700_000_000_000_000L;
+    }
+
+    @Benchmark
+    public boolean detectOneUser() {
+        int i = next();
+        double z = StreamingAnomalyDetector.pointScore(profile, heartRate[i], hrvSdnn[i], hrvRmssd[i], objectTemp[i]);
+        return detector.update(single, micros, z);
+    }
+
+    @Benchmark
+    public boolean detectManyUsers() {
+        int i = next();
+        StreamingAnomalyDetector.State state = states.get((long) (i % users));
+        double z = StreamingAnomalyDetector.pointScore(profile, heartRate[i], hrvSdnn[i], hrvRmssd[i], objectTemp[i]);
+        synchronized (state) {
+            return detector.update(state, micros, z);
+        }
+    }
+
+    private int next() {
+        int i = cursor;
+        cursor = (cursor + 1) & (READINGS - 1);
+        micros += INTERVAL_MICROS;
+        return i;
+    }
+}
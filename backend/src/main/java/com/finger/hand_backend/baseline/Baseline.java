@@ -165,6 +165,15 @@ public class Baseline {
     // - stress_index는 Z-score로 이미 개인화됨
     // - 고정 threshold로 충분: 30/50/70
 
+    /**
+     * 계산 방식 (이전 버전 행은 null = MEAN_STD)
+     * MEDIAN_MAD이면 *_mean은 중앙값, *_std는 1.4826 × MAD
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "method", length = 20)
+    @Builder.Default
+    private BaselineMethod method = BaselineMethod.MEAN_STD;
+
     /**
      * 계산에 사용된 측정 데이터 개수
      */
@@ -209,4 +218,8 @@ public class Baseline {
     public void deactivate() {
         this.isActive = false;
     }
+
+    public BaselineMethod getMethod() {
+        return method != null ? method : BaselineMethod.MEAN_STD;
+    }
 }
@@ -31,16 +31,18 @@ public class BaselineController {
      *
      * @param authentication 인증 정보
      * @param days           수집 기간 (기본 3일)
+     * @param method         계산 방식 (기본 MEAN_STD, MEDIAN_MAD = 중앙값/MAD)
      * @return 생성된 Baseline
      */
     @PostMapping("/calculate")
     public ResponseEntity<ApiResponse<BaselineResponse>> calculateBaseline(
             Authentication authentication,
-            @RequestParam(defaultValue = "3") Integer days
+            @RequestParam(defaultValue = "3") Integer days,
+            @RequestParam(defaultValue = "MEAN_STD") BaselineMethod method
     ) {
         Long userId = Long.valueOf(authentication.getName());
 
-        Baseline baseline = baselineService.calculateAndSave(userId, days);
+        Baseline baseline = baselineService.calculateAndSave(userId, days, method);
 
         BaselineResponse data = BaselineResponse.from(baseline);
 
@@ -120,16 +122,18 @@ public class BaselineController {
      *
      * @param authentication 인증 정보
      * @param days           수집 기간 (기본 3일)
+     * @param method         계산 방식 (기본 MEAN_STD, MEDIAN_MAD = 중앙값/MAD)
      * @return 업데이트된 Baseline
      */
     @PutMapping("/update")
     public ResponseEntity<ApiResponse<BaselineResponse>> updateBaseline(
             Authentication authentication,
-            @RequestParam(defaultValue = "3") Integer days
+            @RequestParam(defaultValue = "3") Integer days,
+            @RequestParam(defaultValue = "MEAN_STD") BaselineMethod method
     ) {
         Long userId = Long.valueOf(authentication.getName());
 
-        Baseline baseline = baselineService.updateBaseline(userId, days);
+        Baseline baseline = baselineService.updateBaseline(userId, days, method);
 
         BaselineResponse data = BaselineResponse.from(baseline);
 
@@ -0,0 +1,19 @@
+package com.finger.hand_backend.baseline;
+
+/**
+ * Baseline 중심값/산포 계산 방식
+ */
+public enum BaselineMethod {
+
+    /**
+     * 평균 / 모집단 표준편차 (일별 Welford 통계 병합)
+     */
+    MEAN_STD,
+
+    /**
+     * 중앙값 / 1.4826 × MAD (일별 분위수 스케치 병합)
+     * - 착용 불량, 움직임 등으로 생긴 튀는 값의 영향을 덜 받음
+     * - 정규분포에서는 MEAN_STD와 같은 척도
+     */
+    MEDIAN_MAD
+}
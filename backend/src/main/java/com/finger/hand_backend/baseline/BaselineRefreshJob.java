@@ -0,0 +1,140 @@
+package com.finger.hand_backend.baseline;
+
+import com.finger.hand_backend.baseline.stats.BaselineStatsService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전체 사용자 Baseline 야간 갱신
+ * - 대상: 활성 Baseline이 있고 최근 N일 편안한 상태 측정값이 MIN_SAMPLES개 이상인 사용자
+ * - 계산 방식은 사용자별 활성 Baseline의 방식 유지, 과거 버전을 직접 활성화한 사용자는 건너뜀
+ * - 사용자를 chunk-size 단위로 나눠 청크마다 통계 병합 SQL 1회 + 쓰기 트랜잭션 1개
+ * - 청크는 가상 스레드에서 병렬 실행, 동시 실행 수는 커넥션 풀의 절반 이하로 제한 (API 요청용 커넥션 확보)
+ * - 활성 Baseline 이후 통계가 바뀌지 않은 사용자는 건너뜀
+ * - 지표: baseline.refresh.users{result=refreshed|skipped|failed}, baseline.refresh.duration
+ */
+@Slf4j
+@Component
+public class BaselineRefreshJob {
+
+    private final BaselineService baselineService;
+    private final BaselineStatsService baselineStatsService;
+
+    private final boolean enabled;
+    private final int days;
+    private final int chunkSize;
+    private final int concurrency;
+
+    private final Counter refreshedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+    private final Timer durationTimer;
+
+    public BaselineRefreshJob(
+            BaselineService baselineService,
+            BaselineStatsService baselineStatsService,
+            MeterRegistry meterRegistry,
+            @Value("${baseline.refresh.enabled:true}") boolean enabled,
+            @Value("${baseline.refresh.days:3}") int days,
+            @Value("${baseline.refresh.chunk-size:500}") int chunkSize,
+            @Value("${baseline.refresh.max-concurrency:4}") int maxConcurrency,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize
+    ) {
+        this.baselineService = baselineService;
+        this.baselineStatsService = baselineStatsService;
+        this.enabled = enabled;
+        this.days = days;
+        this.chunkSize = chunkSize;
+        this.concurrency = Math.max(1, Math.min(maxConcurrency, poolSize / 2));
+
+        this.refreshedCounter = usersCounter(meterRegistry, "refreshed");
+        this.skippedCounter = usersCounter(meterRegistry, "skipped");
+        this.failedCounter = usersCounter(meterRegistry, "failed");
+        this.durationTimer = Timer.builder("baseline.refresh.duration")
+                .description("Nightly baseline refresh run time")
+                .register(meterRegistry);
+    }
+
+    private static Counter usersCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("baseline.refresh.users")
+                .tag("result", result)
+                .description("Users processed by the nightly baseline refresh")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 매일 새벽 3시 전체 사용자 Baseline 갱신
+     */
+    @Scheduled(cron = "0 0 3 * * *", zone = "Asia/Seoul")
+    public void refreshAll() {
+        if (!enabled) {
+            return;
+        }
+        durationTimer.record(this::run);
+    }
+
+    private void run() {
+        long startedAt = System.nanoTime();
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusDays(days);
+
+        List<Long> userIds = baselineStatsService.findUsersWithSamples(startDate, endDate, BaselineService.MIN_SAMPLES);
+        log.info("=== Baseline Refresh Started ({} ~ {}, users: {}, concurrency: {}) ===",
+                startDate, endDate, userIds.size(), concurrency);
+
+        AtomicInteger refreshed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        Semaphore permits = new Semaphore(concurrency);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int from = 0; from < userIds.size(); from += chunkSize) {
+                List<Long> chunk = userIds.subList(from, Math.min(from + chunkSize, userIds.size()));
+                futures.add(executor.submit(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        refreshed.addAndGet(baselineService.refreshBaselines(chunk, startDate, endDate));
+                    } catch (Exception e) {
+                        failed.addAndGet(chunk.size());
+                        log.error("Baseline refresh failed for {} users ({} ~ {})",
+                                chunk.size(), chunk.get(0), chunk.get(chunk.size() - 1), e);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Baseline refresh interrupted");
+        } catch (Exception e) {
+            log.error("Baseline refresh aborted", e);
+        }
+
+        int skipped = userIds.size() - refreshed.get() - failed.get();
+        refreshedCounter.increment(refreshed.get());
+        skippedCounter.increment(skipped);
+        failedCounter.increment(failed.get());
+
+        double seconds = Math.max(1e-3, (System.nanoTime() - startedAt) / 1e9);
+        log.info("=== Baseline Refresh Completed: {} refreshed, {} unchanged, {} failed in {}s ({} users/s) ===",
+                refreshed.get(), skipped, failed.get(), String.format("%.1f", seconds),
+                String.format("%.0f", userIds.size() / seconds));
+    }
+}
@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -59,6 +61,37 @@ public interface BaselineRepository extends JpaRepository<Baseline, Long> {
     @Query("UPDATE Baseline b SET b.isActive = false WHERE b.userId = :userId")
     void deactivateAllByUserId(@Param("userId") Long userId);
 
+    /**
+     * 여러 사용자의 활성 Baseline 조회 (일괄 갱신용)
+     */
+    List<Baseline> findByUserIdInAndIsActiveTrue(Collection<Long> userIds);
+
+    /**
+     * 여러 사용자의 최신 버전 번호 조회 (일괄 갱신용)
+     *
+     * @return [userId, maxVersion] 목록 (Baseline이 없는 사용자는 제외)
+     */
+    @Query("SELECT b.userId, MAX(b.version) FROM Baseline b WHERE b.userId IN :userIds GROUP BY b.userId")
+    List<Object[]> findMaxVersionsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 여러 사용자의 모든 Baseline 비활성화 (일괄 갱신용)
+     */
+    @Modifying
+    @Query("UPDATE Baseline b SET b.isActive = false WHERE b.userId IN :userIds")
+    void deactivateAllByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Baseline 버전 채번 직렬화 (사용자 행 잠금, 트랜잭션 종료까지 유지)
+     * - 단건 계산과 야간 일괄 갱신이 같은 사용자의 다음 버전을 동시에 계산해 uk_user_version에서 충돌하지 않도록
+     * - 트랜잭션의 첫 조회로 호출해야 이후 조회가 잠금 획득 뒤의 스냅샷을 읽음
+     * - 사용자 ID 순서로 잠가서 청크 간 교착 방지
+     *
+     * @return 잠근 사용자 ID
+     */
+    @Query(value = "SELECT id FROM users WHERE id IN (:userIds) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockUsers(@Param("userIds") Collection<Long> userIds);
+
     /**
      * 사용자의 Baseline 개수 조회
      *
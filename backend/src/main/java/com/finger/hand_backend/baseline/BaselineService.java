@@ -1,7 +1,13 @@
 package com.finger.hand_backend.baseline;
 
-import com.finger.hand_backend.measurement.Measurement;
-import com.finger.hand_backend.measurement.MeasurementRepository;
+import com.finger.hand_backend.baseline.event.BaselineActivated;
+import com.finger.hand_backend.baseline.stats.BaselineStatsService;
+import com.finger.hand_backend.baseline.stats.BaselineWindowStats;
+import com.finger.hand_backend.baseline.stats.WelfordAccumulator;
+import com.finger.hand_backend.common.event.DomainEventBus;
+import com.finger.hand_backend.measurement.sketch.MeasurementSketchService;
+import com.finger.hand_backend.measurement.sketch.SketchMetric;
+import com.finger.hand_backend.measurement.sketch.TDigest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,9 +15,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.OptionalDouble;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Baseline Service
@@ -22,108 +31,159 @@ import java.util.OptionalDouble;
 @RequiredArgsConstructor
 public class BaselineService {
 
+    /**
+     * Baseline 계산에 필요한 최소 측정 개수
+     */
+    public static final int MIN_SAMPLES = 10;
+
+    /**
+     * MAD → 표준편차 환산 계수 (정규분포 기준)
+     */
+    private static final double MAD_TO_STD = 1.4826;
+
+    private static final Set<SketchMetric> CALM_METRICS = Set.of(
+            SketchMetric.CALM_HEART_RATE,
+            SketchMetric.CALM_HRV_SDNN,
+            SketchMetric.CALM_HRV_RMSSD,
+            SketchMetric.CALM_OBJECT_TEMP);
+
     private final BaselineRepository baselineRepository;
-    private final MeasurementRepository measurementRepository;
+    private final BaselineStatsService baselineStatsService;
+    private final MeasurementSketchService sketchService;
+    private final DomainEventBus eventBus;
 
     /**
      * Baseline 계산 및 생성
-     * - 최근 N일간 stress_level ≤ 2 (편안한 상태) 측정 데이터 수집
-     * - 통계 계산 (평균, 표준편차)
+     * - 최근 N일(오늘 포함 N+1개 날짜 버킷) stress_level ≤ 2 (편안한 상태) 일별 통계 병합
+     * - 통계 계산 (평균, 표준편차 또는 중앙값, MAD)
      * - 스트레스 임계값 계산
      *
      * @param userId 사용자 ID
      * @param days   수집 기간 (기본 3일)
+     * @param method 계산 방식 (null이면 MEAN_STD, MEDIAN_MAD는 같은 기간 일별 분위수 스케치 병합)
      * @return 생성된 Baseline
      */
     @Transactional
-    public Baseline calculateAndSave(Long userId, Integer days) {
+    public Baseline calculateAndSave(Long userId, Integer days, BaselineMethod method) {
         if (days == null || days < 1) {
             days = 3;  // 기본값
         }
 
-        // 1. 최근 N일간 편안한 상태 측정 데이터 조회
-        LocalDateTime endDate = LocalDateTime.now();
-        LocalDateTime startDate = endDate.minusDays(days);
+        // 야간 일괄 갱신과 버전 채번이 겹치지 않도록 먼저 사용자 행 잠금
+        baselineRepository.lockUsers(List.of(userId));
+
+        // 1. 최근 N일간 편안한 상태 측정값의 일별 통계 병합 (원본 재조회 없음)
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusDays(days);
 
-        List<Measurement> measurements = measurementRepository
-                .findByUserIdAndMeasuredAtBetweenAndStressLevelLessThanEqual(
-                        userId, startDate, endDate, 2
-                );
+        BaselineWindowStats stats = baselineStatsService.summarize(userId, startDate, endDate);
 
-        if (measurements.isEmpty()) {
+        if (stats.sampleCount() == 0) {
             throw new IllegalStateException("INSUFFICIENT_DATA: 편안한 상태의 측정 데이터가 부족합니다");
         }
 
-        if (measurements.size() < 10) {
+        if (stats.sampleCount() < MIN_SAMPLES) {
             throw new IllegalStateException(
                     String.format("INSUFFICIENT_DATA: 최소 10개 이상의 데이터가 필요합니다 (현재: %d개)",
-                            measurements.size())
+                            stats.sampleCount())
             );
         }
 
-        // 2. 통계 계산 (min, max, mean, std)
-        // HRV SDNN
-        double hrvSdnnMin = calculateMin(measurements, Measurement::getHrvSdnn);
-        double hrvSdnnMax = calculateMax(measurements, Measurement::getHrvSdnn);
-        double hrvSdnnMean = calculateMean(measurements, Measurement::getHrvSdnn);
-        double hrvSdnnStd = calculateStdDev(measurements, Measurement::getHrvSdnn, hrvSdnnMean);
-
-        // HRV RMSSD
-        double hrvRmssdMin = calculateMin(measurements, Measurement::getHrvRmssd);
-        double hrvRmssdMax = calculateMax(measurements, Measurement::getHrvRmssd);
-        double hrvRmssdMean = calculateMean(measurements, Measurement::getHrvRmssd);
-        double hrvRmssdStd = calculateStdDev(measurements, Measurement::getHrvRmssd, hrvRmssdMean);
-
-        // Heart Rate
-        double heartRateMin = calculateMin(measurements, m -> m.getHeartRate().doubleValue());
-        double heartRateMax = calculateMax(measurements, m -> m.getHeartRate().doubleValue());
-        double heartRateMean = calculateMean(measurements, m -> m.getHeartRate().doubleValue());
-        double heartRateStd = calculateStdDev(measurements, m -> m.getHeartRate().doubleValue(), heartRateMean);
-
-        // Object Temp
-        double objectTempMin = calculateMin(measurements, Measurement::getObjectTemp);
-        double objectTempMax = calculateMax(measurements, Measurement::getObjectTemp);
-        double objectTempMean = calculateMean(measurements, Measurement::getObjectTemp);
-        double objectTempStd = calculateStdDev(measurements, Measurement::getObjectTemp, objectTempMean);
-
-        // 3. 버전 관리
+        // 2. 버전 관리
         Integer nextVersion = baselineRepository.findMaxVersionByUserId(userId) + 1;
 
-        // 4. 기존 활성 Baseline 비활성화
+        // 3. 기존 활성 Baseline 비활성화
         baselineRepository.deactivateAllByUserId(userId);
 
-        // 5. 새 Baseline 생성 및 저장
-        Baseline baseline = Baseline.builder()
-                .userId(userId)
-                .version(nextVersion)
-                .isActive(true)
-                // HRV SDNN
-                .hrvSdnnMin(hrvSdnnMin)
-                .hrvSdnnMax(hrvSdnnMax)
-                .hrvSdnnMean(hrvSdnnMean)
-                .hrvSdnnStd(hrvSdnnStd)
-                // HRV RMSSD
-                .hrvRmssdMin(hrvRmssdMin)
-                .hrvRmssdMax(hrvRmssdMax)
-                .hrvRmssdMean(hrvRmssdMean)
-                .hrvRmssdStd(hrvRmssdStd)
-                // Heart Rate
-                .heartRateMin(heartRateMin)
-                .heartRateMax(heartRateMax)
-                .heartRateMean(heartRateMean)
-                .heartRateStd(heartRateStd)
-                // Object Temp
-                .objectTempMin(objectTempMin)
-                .objectTempMax(objectTempMax)
-                .objectTempMean(objectTempMean)
-                .objectTempStd(objectTempStd)
-                // Metadata
-                .measurementCount(measurements.size())
-                .dataStartDate(measurements.get(0).getMeasuredAt().toLocalDate())
-                .dataEndDate(measurements.get(measurements.size() - 1).getMeasuredAt().toLocalDate())
-                .build();
+        // 4. 새 Baseline 생성 및 저장 (min, max, mean, std)
+        Map<SketchMetric, TDigest> sketches = method == BaselineMethod.MEDIAN_MAD
+                ? sketchService.mergeAll(List.of(userId), CALM_METRICS, startDate, endDate).getOrDefault(userId, Map.of())
+                : Map.of();
+        Baseline baseline = newBaseline(userId, nextVersion, stats, method, sketches);
 
-        return baselineRepository.save(baseline);
+        Baseline saved = baselineRepository.save(baseline);
+        eventBus.publishAfterCommit(new BaselineActivated(userId, saved.getId(), saved.getVersion()));
+        return saved;
+    }
+
+    /**
+     * 여러 사용자의 Baseline 일괄 갱신 (야간 작업 청크 1개, 한 트랜잭션)
+     * - 이미 활성 Baseline이 있는 사용자만 갱신하고, 계산 방식은 활성 Baseline의 방식을 그대로 사용
+     *   (Baseline을 만든 적 없는 사용자는 새로 만들지 않음)
+     * - 최신 버전이 아닌 Baseline을 직접 활성화한 사용자는 그 선택을 유지 (건너뜀)
+     * - 수집 기간은 야간 작업 설정(baseline.refresh.days)을 따름
+     * - 사용자 목록 전체의 기간 통계를 SQL 1회로 병합
+     * - 활성 Baseline 이후 통계가 바뀌지 않았으면 (같은 기간/개수, 이후 갱신 없음) 건너뜀
+     * - 나머지는 한 번에 비활성화 후 새 버전 저장
+     * - 통계를 읽기 전에 청크 사용자 행을 잠가서 단건 계산과 버전이 충돌해 청크 전체가 롤백되지 않도록 함
+     *
+     * @param userIds   대상 사용자
+     * @param startDate 통계 시작 날짜 (포함)
+     * @param endDate   통계 종료 날짜 (포함)
+     * @return 새 Baseline을 만든 사용자 수
+     */
+    @Transactional
+    public int refreshBaselines(List<Long> userIds, LocalDate startDate, LocalDate endDate) {
+        baselineRepository.lockUsers(userIds);
+
+        Map<Long, Baseline> activeByUser = new HashMap<>();
+        for (Baseline active : baselineRepository.findByUserIdInAndIsActiveTrue(userIds)) {
+            activeByUser.put(active.getUserId(), active);
+        }
+        if (activeByUser.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> candidates = List.copyOf(activeByUser.keySet());
+        Map<Long, BaselineWindowStats> statsByUser = baselineStatsService.summarizeAll(candidates, startDate, endDate);
+
+        Map<Long, Integer> maxVersions = new HashMap<>();
+        for (Object[] row : baselineRepository.findMaxVersionsByUserIds(candidates)) {
+            maxVersions.put((Long) row[0], (Integer) row[1]);
+        }
+
+        List<Long> changed = new ArrayList<>();
+        statsByUser.forEach((userId, stats) -> {
+            Baseline active = activeByUser.get(userId);
+            boolean pinned = !active.getVersion().equals(maxVersions.get(userId));
+            if (stats.sampleCount() >= MIN_SAMPLES && !pinned && !isUpToDate(active, stats)) {
+                changed.add(userId);
+            }
+        });
+        if (changed.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> medianMadUsers = changed.stream()
+                .filter(userId -> activeByUser.get(userId).getMethod() == BaselineMethod.MEDIAN_MAD)
+                .toList();
+        Map<Long, Map<SketchMetric, TDigest>> sketchesByUser = medianMadUsers.isEmpty()
+                ? Map.of()
+                : sketchService.mergeAll(medianMadUsers, CALM_METRICS, startDate, endDate);
+
+        baselineRepository.deactivateAllByUserIds(changed);
+
+        List<Baseline> created = new ArrayList<>(changed.size());
+        for (Long userId : changed) {
+            created.add(newBaseline(userId, maxVersions.get(userId) + 1, statsByUser.get(userId),
+                    activeByUser.get(userId).getMethod(), sketchesByUser.getOrDefault(userId, Map.of())));
+        }
+        for (Baseline saved : baselineRepository.saveAll(created)) {
+            eventBus.publishAfterCommit(new BaselineActivated(saved.getUserId(), saved.getId(), saved.getVersion()));
+        }
+        return created.size();
+    }
+
+    /**
+     * 활성 Baseline이 현재 통계로 계산된 것과 같은지
+     */
+    private boolean isUpToDate(Baseline active, BaselineWindowStats stats) {
+        return active.getCreatedAt() != null
+                && stats.updatedAt() != null
+                && !stats.updatedAt().isAfter(active.getCreatedAt())
+                && Objects.equals(active.getMeasurementCount(), (int) stats.sampleCount())
+                && Objects.equals(active.getDataStartDate(), stats.firstDate())
+                && Objects.equals(active.getDataEndDate(), stats.lastDate());
     }
 
     /**
@@ -181,7 +241,9 @@ public class BaselineService {
 
         // 지정한 버전 활성화
         baseline.activate();
-        return baselineRepository.save(baseline);
+        Baseline saved = baselineRepository.save(baseline);
+        eventBus.publishAfterCommit(new BaselineActivated(userId, saved.getId(), saved.getVersion()));
+        return saved;
     }
 
     /**
@@ -209,73 +271,80 @@ public class BaselineService {
      *
      * @param userId 사용자 ID
      * @param days   수집 기간
+     * @param method 계산 방식 (null이면 MEAN_STD)
      * @return 업데이트된 Baseline
      */
     @Transactional
-    public Baseline updateBaseline(Long userId, Integer days) {
+    public Baseline updateBaseline(Long userId, Integer days, BaselineMethod method) {
+        baselineRepository.lockUsers(List.of(userId));
+
         // 기존 활성 Baseline이 있는지 확인
         baselineRepository.findByUserIdAndIsActiveTrue(userId)
                 .orElseThrow(() -> new IllegalArgumentException("BASELINE_NOT_FOUND"));
 
         // 재계산 (내부적으로 버전 증가 및 활성화 처리)
-        return calculateAndSave(userId, days);
-    }
-
-    // ========== 통계 계산 헬퍼 메서드 ==========
-
-    /**
-     * 평균 계산
-     */
-    private double calculateMean(List<Measurement> measurements,
-                                  java.util.function.Function<Measurement, Double> extractor) {
-        OptionalDouble average = measurements.stream()
-                .map(extractor)
-                .filter(val -> val != null && val > 0)
-                .mapToDouble(Double::doubleValue)
-                .average();
-
-        return average.orElse(0.0);
+        return calculateAndSave(userId, days, method);
     }
 
     /**
-     * 표준편차 계산
+     * 병합된 일별 통계로 새 활성 Baseline 생성 (저장 전)
+     * - 0 이하 값은 제외, 표준편차는 모집단 기준
+     * - MEDIAN_MAD이면 중심값/산포만 스케치에서 계산 (스케치가 비어 있는 지표는 평균/표준편차)
      */
-    private double calculateStdDev(List<Measurement> measurements,
-                                    java.util.function.Function<Measurement, Double> extractor,
-                                    double mean) {
-        double variance = measurements.stream()
-                .map(extractor)
-                .filter(val -> val != null && val > 0)
-                .mapToDouble(val -> Math.pow(val - mean, 2))
-                .average()
-                .orElse(0.0);
-
-        return Math.sqrt(variance);
+    private Baseline newBaseline(Long userId, int version, BaselineWindowStats stats,
+                                 BaselineMethod method, Map<SketchMetric, TDigest> sketches) {
+        BaselineMethod resolved = method != null ? method : BaselineMethod.MEAN_STD;
+        WelfordAccumulator hrvSdnn = stats.hrvSdnn();
+        WelfordAccumulator hrvRmssd = stats.hrvRmssd();
+        WelfordAccumulator heartRate = stats.heartRate();
+        WelfordAccumulator objectTemp = stats.objectTemp();
+        Location hrvSdnnLoc = Location.of(resolved, hrvSdnn, sketches.get(SketchMetric.CALM_HRV_SDNN));
+        Location hrvRmssdLoc = Location.of(resolved, hrvRmssd, sketches.get(SketchMetric.CALM_HRV_RMSSD));
+        Location heartRateLoc = Location.of(resolved, heartRate, sketches.get(SketchMetric.CALM_HEART_RATE));
+        Location objectTempLoc = Location.of(resolved, objectTemp, sketches.get(SketchMetric.CALM_OBJECT_TEMP));
+
+        return Baseline.builder()
+                .userId(userId)
+                .version(version)
+                .isActive(true)
+                // HRV SDNN
+                .hrvSdnnMin(hrvSdnn.min())
+                .hrvSdnnMax(hrvSdnn.max())
+                .hrvSdnnMean(hrvSdnnLoc.center())
+                .hrvSdnnStd(hrvSdnnLoc.scale())
+                // HRV RMSSD
+                .hrvRmssdMin(hrvRmssd.min())
+                .hrvRmssdMax(hrvRmssd.max())
+                .hrvRmssdMean(hrvRmssdLoc.center())
+                .hrvRmssdStd(hrvRmssdLoc.scale())
+                // Heart Rate
+                .heartRateMin(heartRate.min())
+                .heartRateMax(heartRate.max())
+                .heartRateMean(heartRateLoc.center())
+                .heartRateStd(heartRateLoc.scale())
+                // Object Temp
+                .objectTempMin(objectTemp.min())
+                .objectTempMax(objectTemp.max())
+                .objectTempMean(objectTempLoc.center())
+                .objectTempStd(objectTempLoc.scale())
+                // Metadata
+                .method(resolved)
+                .measurementCount((int) stats.sampleCount())
+                .dataStartDate(stats.firstDate())
+                .dataEndDate(stats.lastDate())
+                .build();
     }
 
     /**
-     * 최소값 계산
+     * 지표 1개의 중심값/산포
      */
-    private double calculateMin(List<Measurement> measurements,
-                                 java.util.function.Function<Measurement, Double> extractor) {
-        return measurements.stream()
-                .map(extractor)
-                .filter(val -> val != null && val > 0)
-                .mapToDouble(Double::doubleValue)
-                .min()
-                .orElse(0.0);
-    }
+    private record Location(double center, double scale) {
 
-    /**
-     * 최대값 계산
-     */
-    private double calculateMax(List<Measurement> measurements,
-                                 java.util.function.Function<Measurement, Double> extractor) {
-        return measurements.stream()
-                .map(extractor)
-                .filter(val -> val != null && val > 0)
-                .mapToDouble(Double::doubleValue)
-                .max()
-                .orElse(0.0);
+        static Location of(BaselineMethod method, WelfordAccumulator stats, TDigest sketch) {
+            if (method == BaselineMethod.MEDIAN_MAD && sketch != null && !sketch.isEmpty()) {
+                return new Location(sketch.quantile(0.5), MAD_TO_STD * sketch.medianAbsoluteDeviation());
+            }
+            return new Location(stats.mean(), stats.std());
+        }
     }
 }
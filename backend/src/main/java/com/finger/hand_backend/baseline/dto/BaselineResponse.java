@@ -1,6 +1,7 @@
 package com.finger.hand_backend.baseline.dto;
 
 import com.finger.hand_backend.baseline.Baseline;
+import com.finger.hand_backend.baseline.BaselineMethod;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -33,6 +34,7 @@ public class BaselineResponse {
     private Double objectTempStd;
 
     // 메타데이터
+    private BaselineMethod method;
     private Integer measurementCount;
     private LocalDate dataStartDate;
     private LocalDate dataEndDate;
@@ -57,6 +59,7 @@ public class BaselineResponse {
                 .heartRateStd(baseline.getHeartRateStd())
                 .objectTempMean(baseline.getObjectTempMean())
                 .objectTempStd(baseline.getObjectTempStd())
+                .method(baseline.getMethod())
                 .measurementCount(baseline.getMeasurementCount())
                 .dataStartDate(baseline.getDataStartDate())
                 .dataEndDate(baseline.getDataEndDate())
@@ -0,0 +1,13 @@
+package com.finger.hand_backend.baseline.event;
+
+import com.finger.hand_backend.common.event.DomainEvent;
+
+/**
+ * 사용자의 활성 Baseline이 바뀜 (새로 계산 또는 이전 버전 활성화)
+ *
+ * @param userId     사용자 ID
+ * @param baselineId 활성화된 Baseline ID
+ * @param version    활성화된 버전
+ */
+public record BaselineActivated(Long userId, Long baselineId, Integer version) implements DomainEvent {
+}
@@ -0,0 +1,99 @@
+package com.finger.hand_backend.baseline.stats;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Baseline용 일별 누적 통계
+ * - 사용자 × 날짜별로 편안한 상태(stress_level ≤ 2) 측정값의 Welford 상태 (count, mean, M2, min, max)
+ * - 0 이하 값은 제외 (기존 Baseline 계산과 동일)
+ * - 측정 데이터 저장 시 같은 트랜잭션에서 증분 병합 (BaselineDailyStatWriter), JPA로는 조회만 함
+ * - Baseline 계산은 기간 내 일별 행을 병합하는 것으로 끝남
+ */
+@Entity
+@Table(
+    name = "baseline_daily_stats",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_baseline_daily_stats_user_date", columnNames = {"user_id", "stat_date"})
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BaselineDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    /**
+     * 편안한 상태 측정 횟수 (Baseline.measurementCount)
+     */
+    @Column(name = "sample_count", nullable = false)
+    private Long sampleCount;
+
+    /**
+     * 심박수
+     */
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "count", column = @Column(name = "heart_rate_count", nullable = false)),
+        @AttributeOverride(name = "mean", column = @Column(name = "heart_rate_mean", nullable = false)),
+        @AttributeOverride(name = "m2", column = @Column(name = "heart_rate_m2", nullable = false)),
+        @AttributeOverride(name = "min", column = @Column(name = "heart_rate_min")),
+        @AttributeOverride(name = "max", column = @Column(name = "heart_rate_max"))
+    })
+    private MetricStats heartRate;
+
+    /**
+     * HRV SDNN
+     */
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "count", column = @Column(name = "hrv_sdnn_count", nullable = false)),
+        @AttributeOverride(name = "mean", column = @Column(name = "hrv_sdnn_mean", nullable = false)),
+        @AttributeOverride(name = "m2", column = @Column(name = "hrv_sdnn_m2", nullable = false)),
+        @AttributeOverride(name = "min", column = @Column(name = "hrv_sdnn_min")),
+        @AttributeOverride(name = "max", column = @Column(name = "hrv_sdnn_max"))
+    })
+    private MetricStats hrvSdnn;
+
+    /**
+     * HRV RMSSD
+     */
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "count", column = @Column(name = "hrv_rmssd_count", nullable = false)),
+        @AttributeOverride(name = "mean", column = @Column(name = "hrv_rmssd_mean", nullable = false)),
+        @AttributeOverride(name = "m2", column = @Column(name = "hrv_rmssd_m2", nullable = false)),
+        @AttributeOverride(name = "min", column = @Column(name = "hrv_rmssd_min")),
+        @AttributeOverride(name = "max", column = @Column(name = "hrv_rmssd_max"))
+    })
+    private MetricStats hrvRmssd;
+
+    /**
+     * 피부 온도
+     */
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "count", column = @Column(name = "object_temp_count", nullable = false)),
+        @AttributeOverride(name = "mean", column = @Column(name = "object_temp_mean", nullable = false)),
+        @AttributeOverride(name = "m2", column = @Column(name = "object_temp_m2", nullable = false)),
+        @AttributeOverride(name = "min", column = @Column(name = "object_temp_min")),
+        @AttributeOverride(name = "max", column = @Column(name = "object_temp_max"))
+    })
+    private MetricStats objectTemp;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package com.finger.hand_backend.baseline.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface BaselineDailyStatRepository extends JpaRepository<BaselineDailyStat, Long> {
+
+    List<BaselineDailyStat> findByUserIdAndStatDateBetweenOrderByStatDateAsc(Long userId, LocalDate from, LocalDate to);
+
+    @Query("""
+        SELECT s.userId
+        FROM BaselineDailyStat s
+        WHERE s.statDate BETWEEN :from AND :to
+        GROUP BY s.userId
+        HAVING SUM(s.sampleCount) >= :minSamples
+        ORDER BY s.userId
+        """)
+    List<Long> findUserIdsWithSamples(@Param("from") LocalDate from,
+                                      @Param("to") LocalDate to,
+                                      @Param("minSamples") long minSamples);
+}
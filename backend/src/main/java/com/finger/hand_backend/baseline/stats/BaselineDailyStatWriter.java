@@ -0,0 +1,146 @@
+package com.finger.hand_backend.baseline.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * BaselineDailyStat 쓰기 저장소 (JDBC)
+ * - upsert: 배치 내 증분을 Chan 병렬 병합식으로 기존 행에 합침 (MySQL 8.0.19+ row alias)
+ * - rebuild: 원본 measurements에서 하루치를 다시 계산 (삭제 반영)
+ */
+@Repository
+@RequiredArgsConstructor
+public class BaselineDailyStatWriter {
+
+    /**
+     * 지표 컬럼 접두어 (DailyStatAccumulator.metrics() 순서)
+     */
+    private static final List<String> METRICS = List.of("heart_rate", "hrv_sdnn", "hrv_rmssd", "object_temp");
+
+    private static final String METRIC_COLUMNS = METRICS.stream()
+            .map(p -> p + "_count, " + p + "_mean, " + p + "_m2, " + p + "_min, " + p + "_max")
+            .collect(Collectors.joining(",\n    "));
+
+    /**
+     * ON DUPLICATE KEY UPDATE는 왼쪽부터 차례로 적용되고 갱신된 컬럼을 참조하면 새 값을 읽으므로
+     * 지표마다 m2 → mean → count 순서로 갱신 (m2, mean은 이전 count/mean 기준으로 계산)
+     */
+    private static final String UPSERT_SQL = """
+            INSERT INTO baseline_daily_stats (
+                user_id, stat_date, sample_count,
+                %s,
+                updated_at
+            ) VALUES (?, ?, ?, %s, ?) AS new
+            ON DUPLICATE KEY UPDATE
+                sample_count = sample_count + new.sample_count,
+                %s,
+                updated_at = new.updated_at
+            """.formatted(
+            METRIC_COLUMNS,
+            String.join(", ", Collections.nCopies(METRICS.size() * 5, "?")),
+            METRICS.stream().map(BaselineDailyStatWriter::mergeAssignments).collect(Collectors.joining(",\n    ")));
+
+    private static final String DELETE_DAY_SQL = """
+            DELETE FROM baseline_daily_stats
+            WHERE user_id = ? AND stat_date = ?
+            """;
+
+    /**
+     * 하루치 재계산 (VAR_POP × COUNT = M2)
+     * - updated_at은 애플리케이션 시각으로 기록 (Baseline.createdAt과 비교하므로 DB NOW()와 시간대가 섞이지 않도록)
+     */
+    private static final String REBUILD_SQL = """
+            INSERT INTO baseline_daily_stats (
+                user_id, stat_date, sample_count,
+                %s,
+                updated_at
+            )
+            SELECT user_id, DATE(measured_at), COUNT(*),
+                   %s,
+                   ?
+            FROM (
+                SELECT user_id, measured_at,
+                       %s
+                FROM measurements
+                WHERE user_id = ? AND measured_at >= ? AND measured_at < ? AND stress_level <= 2
+            ) m
+            GROUP BY user_id, DATE(measured_at)
+            """.formatted(
+            METRIC_COLUMNS,
+            METRICS.stream()
+                    .map(p -> "COUNT(" + p + "), COALESCE(AVG(" + p + "), 0), COALESCE(VAR_POP(" + p + ") * COUNT(" + p + "), 0), "
+                            + "MIN(" + p + "), MAX(" + p + ")")
+                    .collect(Collectors.joining(",\n       ")),
+            METRICS.stream()
+                    .map(p -> "IF(" + p + " > 0, " + p + ", NULL) AS " + p)
+                    .collect(Collectors.joining(",\n           ")));
+
+    private static String mergeAssignments(String p) {
+        String n = "(" + p + "_count + new." + p + "_count)";
+        return String.join(",\n    ",
+                p + "_m2 = IF(new." + p + "_count = 0, " + p + "_m2, " + p + "_m2 + new." + p + "_m2 + POW(new." + p + "_mean - "
+                        + p + "_mean, 2) * " + p + "_count * new." + p + "_count / " + n + ")",
+                p + "_mean = IF(new." + p + "_count = 0, " + p + "_mean, " + p + "_mean + (new." + p + "_mean - "
+                        + p + "_mean) * new." + p + "_count / " + n + ")",
+                p + "_min = COALESCE(LEAST(" + p + "_min, new." + p + "_min), " + p + "_min, new." + p + "_min)",
+                p + "_max = COALESCE(GREATEST(" + p + "_max, new." + p + "_max), " + p + "_max, new." + p + "_max)",
+                p + "_count = " + p + "_count + new." + p + "_count");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 증분 병합
+     *
+     * @param deltas 사용자 × 날짜별 증분 (교착 방지를 위해 키 순서로 정렬된 상태)
+     */
+    void upsert(List<DailyStatAccumulator> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                DailyStatAccumulator d = deltas.get(i);
+                int idx = 1;
+                ps.setLong(idx++, d.userId);
+                ps.setObject(idx++, d.statDate);
+                ps.setLong(idx++, d.sampleCount);
+                for (WelfordAccumulator metric : d.metrics()) {
+                    ps.setLong(idx++, metric.count());
+                    ps.setDouble(idx++, metric.mean());
+                    ps.setDouble(idx++, metric.m2());
+                    ps.setObject(idx++, metric.minOrNull(), Types.DOUBLE);
+                    ps.setObject(idx++, metric.maxOrNull(), Types.DOUBLE);
+                }
+                ps.setObject(idx, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return deltas.size();
+            }
+        });
+    }
+
+    /**
+     * 하루치 통계를 원본에서 다시 계산
+     */
+    void rebuildDay(Long userId, LocalDate date) {
+        jdbcTemplate.update(DELETE_DAY_SQL, userId, date);
+        jdbcTemplate.update(REBUILD_SQL, LocalDateTime.now(), userId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+}
@@ -0,0 +1,195 @@
+package com.finger.hand_backend.baseline.stats;
+
+import com.finger.hand_backend.measurement.Measurement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Baseline 일별 누적 통계 서비스
+ * - 측정 데이터 저장 시 편안한 상태(stress_level ≤ 2) 측정값만 사용자 × 날짜 버킷에 증분 반영
+ * - Baseline 계산 시 원본 재조회 없이 기간 내 버킷(며칠치 행)만 병합
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BaselineStatsService {
+
+    private static final int CALM_STRESS_LEVEL = 2;
+
+    private static final Comparator<DayKey> KEY_ORDER = Comparator
+            .comparing(DayKey::userId)
+            .thenComparing(DayKey::date);
+
+    /**
+     * 여러 사용자의 기간 통계를 한 번에 병합 (사용자별 GROUP BY)
+     * - 합친 평균 = Σ(n·mean) / N
+     * - 합친 M2 = Σ M2 + Σ(n·mean²) − N·평균²  (일별 M2와 일별 평균의 편차를 함께 반영)
+     */
+    private static final String SUMMARIZE_USERS_SQL = """
+            SELECT user_id,
+                   SUM(sample_count) AS sample_count,
+                   MIN(stat_date) AS first_date,
+                   MAX(stat_date) AS last_date,
+                   MAX(updated_at) AS updated_at,
+                   SUM(heart_rate_count) AS heart_rate_n,
+                   SUM(heart_rate_count * heart_rate_mean) AS heart_rate_sum,
+                   SUM(heart_rate_m2) + SUM(heart_rate_count * heart_rate_mean * heart_rate_mean) AS heart_rate_sq,
+                   MIN(heart_rate_min) AS heart_rate_min, MAX(heart_rate_max) AS heart_rate_max,
+                   SUM(hrv_sdnn_count) AS hrv_sdnn_n,
+                   SUM(hrv_sdnn_count * hrv_sdnn_mean) AS hrv_sdnn_sum,
+                   SUM(hrv_sdnn_m2) + SUM(hrv_sdnn_count * hrv_sdnn_mean * hrv_sdnn_mean) AS hrv_sdnn_sq,
+                   MIN(hrv_sdnn_min) AS hrv_sdnn_min, MAX(hrv_sdnn_max) AS hrv_sdnn_max,
+                   SUM(hrv_rmssd_count) AS hrv_rmssd_n,
+                   SUM(hrv_rmssd_count * hrv_rmssd_mean) AS hrv_rmssd_sum,
+                   SUM(hrv_rmssd_m2) + SUM(hrv_rmssd_count * hrv_rmssd_mean * hrv_rmssd_mean) AS hrv_rmssd_sq,
+                   MIN(hrv_rmssd_min) AS hrv_rmssd_min, MAX(hrv_rmssd_max) AS hrv_rmssd_max,
+                   SUM(object_temp_count) AS object_temp_n,
+                   SUM(object_temp_count * object_temp_mean) AS object_temp_sum,
+                   SUM(object_temp_m2) + SUM(object_temp_count * object_temp_mean * object_temp_mean) AS object_temp_sq,
+                   MIN(object_temp_min) AS object_temp_min, MAX(object_temp_max) AS object_temp_max
+            FROM baseline_daily_stats
+            WHERE user_id IN (:userIds) AND stat_date BETWEEN :from AND :to AND sample_count > 0
+            GROUP BY user_id
+            """;
+
+    private final BaselineDailyStatWriter statWriter;
+    private final BaselineDailyStatRepository statRepository;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * 새로 저장된 측정 데이터 반영 (호출 측 트랜잭션에 참여)
+     */
+    @Transactional
+    public void apply(List<Measurement> measurements) {
+        // 정렬된 키 순서로 upsert → 동시 배치 간 행 잠금 순서가 같아 교착 방지
+        Map<DayKey, DailyStatAccumulator> deltas = new TreeMap<>(KEY_ORDER);
+        for (Measurement m : measurements) {
+            if (m.getStressLevel() == null || m.getStressLevel() > CALM_STRESS_LEVEL) {
+                continue;
+            }
+            DayKey key = new DayKey(m.getUserId(), m.getMeasuredAt().toLocalDate());
+            deltas.computeIfAbsent(key, k -> new DailyStatAccumulator(k.userId(), k.date())).add(m);
+        }
+
+        statWriter.upsert(new ArrayList<>(deltas.values()));
+    }
+
+    /**
+     * 하루치 통계 재계산 (측정 데이터 삭제 시)
+     */
+    @Transactional
+    public void rebuildDay(Long userId, LocalDate date) {
+        statWriter.rebuildDay(userId, date);
+        log.debug("Rebuilt baseline daily stats for user {} on {}", userId, date);
+    }
+
+    /**
+     * 기간 내 일별 통계 병합
+     *
+     * @param from 시작 날짜 (포함)
+     * @param to   종료 날짜 (포함)
+     */
+    @Transactional(readOnly = true)
+    public BaselineWindowStats summarize(Long userId, LocalDate from, LocalDate to) {
+        long sampleCount = 0;
+        LocalDate firstDate = null;
+        LocalDate lastDate = null;
+        LocalDateTime updatedAt = null;
+        WelfordAccumulator heartRate = new WelfordAccumulator();
+        WelfordAccumulator hrvSdnn = new WelfordAccumulator();
+        WelfordAccumulator hrvRmssd = new WelfordAccumulator();
+        WelfordAccumulator objectTemp = new WelfordAccumulator();
+
+        for (BaselineDailyStat day : statRepository.findByUserIdAndStatDateBetweenOrderByStatDateAsc(userId, from, to)) {
+            if (day.getSampleCount() == 0) {
+                continue;
+            }
+            sampleCount += day.getSampleCount();
+            if (firstDate == null) {
+                firstDate = day.getStatDate();
+            }
+            lastDate = day.getStatDate();
+            if (updatedAt == null || day.getUpdatedAt().isAfter(updatedAt)) {
+                updatedAt = day.getUpdatedAt();
+            }
+
+            heartRate.merge(day.getHeartRate().toAccumulator());
+            hrvSdnn.merge(day.getHrvSdnn().toAccumulator());
+            hrvRmssd.merge(day.getHrvRmssd().toAccumulator());
+            objectTemp.merge(day.getObjectTemp().toAccumulator());
+        }
+
+        return new BaselineWindowStats(sampleCount, firstDate, lastDate, updatedAt, heartRate, hrvSdnn, hrvRmssd, objectTemp);
+    }
+
+    /**
+     * 기간 내 편안한 상태 측정값이 minSamples개 이상인 사용자 (Baseline 일괄 갱신 대상)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findUsersWithSamples(LocalDate from, LocalDate to, long minSamples) {
+        return statRepository.findUserIdsWithSamples(from, to, minSamples);
+    }
+
+    /**
+     * 여러 사용자의 기간 통계를 SQL 1회로 병합
+     *
+     * @return 사용자 ID → 병합 결과 (기간 내 데이터가 없는 사용자는 없음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, BaselineWindowStats> summarizeAll(Collection<Long> userIds, LocalDate from, LocalDate to) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userIds", userIds)
+                .addValue("from", from)
+                .addValue("to", to);
+
+        Map<Long, BaselineWindowStats> result = new HashMap<>();
+        namedJdbcTemplate.query(SUMMARIZE_USERS_SQL, params, rs -> {
+            result.put(rs.getLong("user_id"), new BaselineWindowStats(
+                    rs.getLong("sample_count"),
+                    rs.getObject("first_date", LocalDate.class),
+                    rs.getObject("last_date", LocalDate.class),
+                    rs.getObject("updated_at", LocalDateTime.class),
+                    merged(rs, "heart_rate"),
+                    merged(rs, "hrv_sdnn"),
+                    merged(rs, "hrv_rmssd"),
+                    merged(rs, "object_temp")
+            ));
+        });
+        return result;
+    }
+
+    private static WelfordAccumulator merged(ResultSet rs, String metric) throws SQLException {
+        long n = rs.getLong(metric + "_n");
+        if (n == 0) {
+            return new WelfordAccumulator();
+        }
+        double sum = rs.getDouble(metric + "_sum");
+        double mean = sum / n;
+        double m2 = rs.getDouble(metric + "_sq") - sum * mean;
+        return WelfordAccumulator.of(n, mean, Math.max(0.0, m2),
+                rs.getObject(metric + "_min", Double.class), rs.getObject(metric + "_max", Double.class));
+    }
+
+    private record DayKey(Long userId, LocalDate date) {
+    }
+}
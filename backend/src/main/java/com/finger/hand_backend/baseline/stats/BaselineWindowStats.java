@@ -0,0 +1,24 @@
+package com.finger.hand_backend.baseline.stats;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 기간 내 일별 통계를 병합한 결과
+ *
+ * @param sampleCount 편안한 상태 측정 횟수
+ * @param firstDate   측정값이 있는 첫 날짜 (없으면 null)
+ * @param lastDate    측정값이 있는 마지막 날짜 (없으면 null)
+ * @param updatedAt   기간 내 일별 통계의 마지막 갱신 시각 (없으면 null)
+ */
+public record BaselineWindowStats(
+        long sampleCount,
+        LocalDate firstDate,
+        LocalDate lastDate,
+        LocalDateTime updatedAt,
+        WelfordAccumulator heartRate,
+        WelfordAccumulator hrvSdnn,
+        WelfordAccumulator hrvRmssd,
+        WelfordAccumulator objectTemp
+) {
+}
@@ -0,0 +1,44 @@
+package com.finger.hand_backend.baseline.stats;
+
+import com.finger.hand_backend.measurement.Measurement;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자 × 날짜 1개에 대한 배치 내 증분 (upsert 파라미터)
+ */
+final class DailyStatAccumulator {
+
+    final Long userId;
+    final LocalDate statDate;
+
+    long sampleCount;
+    final WelfordAccumulator heartRate = new WelfordAccumulator();
+    final WelfordAccumulator hrvSdnn = new WelfordAccumulator();
+    final WelfordAccumulator hrvRmssd = new WelfordAccumulator();
+    final WelfordAccumulator objectTemp = new WelfordAccumulator();
+
+    DailyStatAccumulator(Long userId, LocalDate statDate) {
+        this.userId = userId;
+        this.statDate = statDate;
+    }
+
+    void add(Measurement m) {
+        sampleCount++;
+        addPositive(heartRate, m.getHeartRate());
+        addPositive(hrvSdnn, m.getHrvSdnn());
+        addPositive(hrvRmssd, m.getHrvRmssd());
+        addPositive(objectTemp, m.getObjectTemp());
+    }
+
+    WelfordAccumulator[] metrics() {
+        return new WelfordAccumulator[]{heartRate, hrvSdnn, hrvRmssd, objectTemp};
+    }
+
+    // 0 이하 값은 센서 미측정으로 보고 제외
+    private static void addPositive(WelfordAccumulator acc, Double value) {
+        if (value != null && value > 0) {
+            acc.add(value);
+        }
+    }
+}
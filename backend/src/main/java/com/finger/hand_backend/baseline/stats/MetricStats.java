@@ -0,0 +1,39 @@
+package com.finger.hand_backend.baseline.stats;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일별 통계의 지표 1개 (Welford 상태)
+ * - 컬럼명은 BaselineDailyStat에서 지표별 접두어로 재정의
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MetricStats {
+
+    @Column(name = "count", nullable = false)
+    private Long count;
+
+    @Column(name = "mean", nullable = false)
+    private Double mean;
+
+    /**
+     * 편차 제곱합 (분산 = m2 / count)
+     */
+    @Column(name = "m2", nullable = false)
+    private Double m2;
+
+    @Column(name = "min_value")
+    private Double min;
+
+    @Column(name = "max_value")
+    private Double max;
+
+    public WelfordAccumulator toAccumulator() {
+        return WelfordAccumulator.of(count, mean, m2, min, max);
+    }
+}
@@ -0,0 +1,97 @@
+package com.finger.hand_backend.baseline.stats;
+
+/**
+ * 지표 1개의 누적 통계 (Welford)
+ * - 값 1개씩 add, 또는 다른 누적값과 merge (Chan 병렬 병합식)
+ * - 분산은 모집단 분산 (M2 / n)
+ * - 비어 있으면 평균/표준편차/최소/최대 모두 0.0 (기존 Baseline 계산과 동일)
+ */
+public final class WelfordAccumulator {
+
+    private long count;
+    private double mean;
+    private double m2;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    public static WelfordAccumulator of(long count, double mean, double m2, Double min, Double max) {
+        WelfordAccumulator acc = new WelfordAccumulator();
+        if (count > 0) {
+            acc.count = count;
+            acc.mean = mean;
+            acc.m2 = m2;
+            acc.min = min != null ? min : Double.NaN;
+            acc.max = max != null ? max : Double.NaN;
+        }
+        return acc;
+    }
+
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        min = Double.isNaN(min) ? value : Math.min(min, value);
+        max = Double.isNaN(max) ? value : Math.max(max, value);
+    }
+
+    public void merge(WelfordAccumulator other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            m2 = other.m2;
+            min = other.min;
+            max = other.max;
+            return;
+        }
+
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        m2 += other.m2 + delta * delta * count * other.count / total;
+        mean += delta * other.count / total;
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double mean() {
+        return count > 0 ? mean : 0.0;
+    }
+
+    /**
+     * 편차 제곱합 (upsert 파라미터)
+     */
+    public double m2() {
+        return m2;
+    }
+
+    public double std() {
+        return count > 0 ? Math.sqrt(Math.max(0.0, m2 / count)) : 0.0;
+    }
+
+    public double min() {
+        return count > 0 ? min : 0.0;
+    }
+
+    public double max() {
+        return count > 0 ? max : 0.0;
+    }
+
+    /**
+     * 저장용 최소/최대 (비어 있으면 null)
+     */
+    Double minOrNull() {
+        return count > 0 ? min : null;
+    }
+
+    Double maxOrNull() {
+        return count > 0 ? max : null;
+    }
+}
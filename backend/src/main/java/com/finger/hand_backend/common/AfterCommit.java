@@ -0,0 +1,29 @@
+package com.finger.hand_backend.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행 유틸
+ * - 롤백된 데이터가 캐시/인메모리 구조에 반영되지 않도록 커밋 후에만 실행
+ * - 트랜잭션 밖에서 호출하면 즉시 실행
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
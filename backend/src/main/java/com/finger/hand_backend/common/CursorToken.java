@@ -0,0 +1,50 @@
+package com.finger.hand_backend.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션 연속 토큰
+ * - (정렬 시각, id) 키를 base64url 문자열로 인코딩 (클라이언트는 값 해석 없이 그대로 전달)
+ * - 최신순 목록에서 "이 키보다 이전" 행부터 다음 페이지를 조회
+ *
+ * @param at 마지막 행의 정렬 시각 (measured_at, created_at 등)
+ * @param id 마지막 행의 ID (같은 시각 내 정렬 기준)
+ */
+public record CursorToken(LocalDateTime at, Long id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode() {
+        long micros = at.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + at.getNano() / 1_000;
+        return ENCODER.encodeToString((micros + ":" + id).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 토큰 해석
+     *
+     * @param token 연속 토큰 (null/빈 문자열이면 첫 페이지)
+     * @return 커서 (첫 페이지면 null)
+     */
+    public static CursorToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(DECODER.decode(token), StandardCharsets.US_ASCII);
+            int sep = raw.indexOf(':');
+            long micros = Long.parseLong(raw.substring(0, sep));
+            long id = Long.parseLong(raw.substring(sep + 1));
+
+            LocalDateTime at = LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                    (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+            return new CursorToken(at, id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("INVALID_CURSOR");
+        }
+    }
+}
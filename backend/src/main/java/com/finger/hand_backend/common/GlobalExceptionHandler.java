@@ -1,6 +1,7 @@
 package com.finger.hand_backend.common;
 
 import com.finger.hand_backend.common.dto.ErrorResponse;
+import com.finger.hand_backend.measurement.DuplicateMeasurementException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -57,6 +58,16 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<ErrorResponse> handleIllegalState(IllegalStateException ex) {
+        String message = ex.getMessage();
+
+        // 비동기 수집 큐 포화/비활성 → 503 (클라이언트 재시도 또는 동기 API 사용)
+        if ("INGEST_QUEUE_FULL".equals(message) || "ASYNC_INGEST_DISABLED".equals(message)) {
+            log.warn("Async ingest unavailable: {}", message);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "1")
+                    .body(new ErrorResponse(message, "측정 데이터를 지금 수신할 수 없습니다. 잠시 후 다시 시도해주세요"));
+        }
+
         log.error("IllegalStateException: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new ErrorResponse("INTERNAL_ERROR", ex.getMessage()));
@@ -74,6 +85,17 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse("ALREADY_COMPLETED", "이미 완료된 다이어리입니다"));
     }
 
+    /**
+     * 측정값 동시 중복 저장 처리
+     * - 같은 측정값이 동시에 두 번 들어와 유니크 키에 걸린 경우 → 409 (재시도하면 기존 측정값 반환)
+     */
+    @ExceptionHandler(DuplicateMeasurementException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateMeasurement(DuplicateMeasurementException ex) {
+        log.warn("Concurrent duplicate measurement: {}", ex.getCause().getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse("DUPLICATE_MEASUREMENT", "이미 처리 중인 측정 데이터입니다. 다시 시도해주세요"));
+    }
+
     /**
      * Validation 에러 처리
      * - @Valid 검증 실패 시 발생
@@ -0,0 +1,65 @@
+package com.finger.hand_backend.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.finger.hand_backend.common.CursorToken;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답
+ * - nextCursor를 다음 요청의 cursor 파라미터로 그대로 전달
+ * - total은 includeTotal=true로 요청한 경우에만 포함 (COUNT 쿼리 생략용)
+ *
+ * @param items      현재 페이지 항목
+ * @param nextCursor 다음 페이지 토큰 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ * @param total      전체 개수 (선택)
+ */
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor,
+        boolean hasNext,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Long total
+) {
+
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 요청 페이지 크기를 1 ~ MAX_SIZE로 보정
+     */
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * size + 1건 조회 결과로 페이지 구성
+     *
+     * @param rows    조회 결과 (최대 size + 1건)
+     * @param size    페이지 크기
+     * @param atOf    정렬 시각 추출
+     * @param idOf    ID 추출
+     * @param mapper  응답 변환
+     * @param total   전체 개수 (없으면 null)
+     */
+    public static <E, T> CursorPage<T> of(
+            List<E> rows,
+            int size,
+            Function<E, LocalDateTime> atOf,
+            Function<E, Long> idOf,
+            Function<E, T> mapper,
+            Long total
+    ) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            E last = page.get(page.size() - 1);
+            nextCursor = new CursorToken(atOf.apply(last), idOf.apply(last)).encode();
+        }
+
+        return new CursorPage<>(page.stream().map(mapper).toList(), nextCursor, hasNext, total);
+    }
+}
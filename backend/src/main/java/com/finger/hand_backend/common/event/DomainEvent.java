@@ -0,0 +1,13 @@
+package com.finger.hand_backend.common.event;
+
+/**
+ * 도메인 이벤트
+ * - 같은 사용자의 이벤트는 리스너별로 발행 순서대로 전달
+ */
+public interface DomainEvent {
+
+    /**
+     * 순서 보장 기준 사용자 ID
+     */
+    Long userId();
+}
@@ -0,0 +1,243 @@
+package com.finger.hand_backend.common.event;
+
+import com.finger.hand_backend.common.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 도메인 이벤트 버스 (인프로세스)
+ * - 발행은 트랜잭션 커밋 후 (롤백되면 전달하지 않음)
+ * - 리스너마다 lanes-per-listener개 레인, 사용자 ID로 레인 선택 → 같은 사용자의 이벤트는 순서대로 1건씩 처리
+ * - 레인 큐는 크기 제한 없음 → 커밋한 요청 스레드를 막거나 이벤트를 버리지 않음 (적재량은 domain_event.queued)
+ * - 레인에 이벤트가 있을 때만 가상 스레드 1개가 큐를 비움 (유휴 스레드 없음)
+ * - 실패 시 max-attempts까지 선형 백오프로 재시도, 모두 실패하면 로그 후 다음 이벤트 진행
+ * - 메모리 큐이므로 재시작 시 처리 전 이벤트는 유실됨
+ *   → 리스너는 DB에서 다시 만들 수 있는 상태만 다루고 기동 시 스스로 보정 (ServerAnomalyDetector 캐시, ReliefAfterBackfill.reconcile)
+ *   → 유실되면 안 되는 쓰기는 이벤트가 아니라 원 트랜잭션 안에서 처리
+ */
+@Slf4j
+@Component
+public class DomainEventBus {
+
+    private record Envelope(DomainEvent event, long publishedAtNanos) {
+    }
+
+    private final ObjectProvider<DomainEventListener<?>> listenerProvider;
+    private final MeterRegistry meterRegistry;
+    private final int lanesPerListener;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("domain-event-", 0).factory());
+
+    // 구독 목록은 첫 발행 시 구성 (리스너가 발행 서비스에 의존해도 순환 참조가 생기지 않도록)
+    private volatile Map<Class<?>, List<Subscription>> subscriptions;
+
+    public DomainEventBus(
+            ObjectProvider<DomainEventListener<?>> listenerProvider,
+            MeterRegistry meterRegistry,
+            @Value("${domain-events.lanes-per-listener:16}") int lanesPerListener,
+            @Value("${domain-events.max-attempts:3}") int maxAttempts,
+            @Value("${domain-events.retry-backoff-ms:200}") long retryBackoffMs
+    ) {
+        this.listenerProvider = listenerProvider;
+        this.meterRegistry = meterRegistry;
+        this.lanesPerListener = lanesPerListener;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+    }
+
+    /**
+     * 트랜잭션 커밋 후 이벤트 발행 (트랜잭션 밖이면 즉시)
+     */
+    public void publishAfterCommit(DomainEvent event) {
+        AfterCommit.run(() -> publish(event));
+    }
+
+    private void publish(DomainEvent event) {
+        List<Subscription> targets = subscriptions().getOrDefault(event.getClass(), List.of());
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        Envelope envelope = new Envelope(event, System.nanoTime());
+        for (Subscription subscription : targets) {
+            subscription.enqueue(envelope);
+        }
+    }
+
+    private Map<Class<?>, List<Subscription>> subscriptions() {
+        Map<Class<?>, List<Subscription>> current = subscriptions;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (subscriptions == null) {
+                Map<Class<?>, List<Subscription>> built = new HashMap<>();
+                listenerProvider.orderedStream().forEach(listener -> built
+                        .computeIfAbsent(listener.eventType(), type -> new ArrayList<>())
+                        .add(new Subscription(listener)));
+                built.forEach((type, subs) -> log.info("Domain event {} -> {}", type.getSimpleName(),
+                        subs.stream().map(s -> s.name).toList()));
+                subscriptions = built;
+            }
+            return subscriptions;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Domain event lanes did not drain within 10s");
+        }
+    }
+
+    /**
+     * 리스너 1개의 구독 (레인 묶음 + 지표)
+     */
+    private final class Subscription {
+
+        private final DomainEventListener<DomainEvent> listener;
+        private final String name;
+        private final Lane[] lanes;
+
+        private final Timer lagTimer;
+        private final Counter successCounter;
+        private final Counter retryCounter;
+        private final Counter failedCounter;
+
+        @SuppressWarnings("unchecked")
+        Subscription(DomainEventListener<?> listener) {
+            this.listener = (DomainEventListener<DomainEvent>) listener;
+            this.name = ClassUtils.getUserClass(listener).getSimpleName();
+            this.lanes = new Lane[lanesPerListener];
+            for (int i = 0; i < lanes.length; i++) {
+                lanes[i] = new Lane();
+            }
+
+            this.lagTimer = Timer.builder("domain_event.lag")
+                    .tag("listener", name)
+                    .description("Time from publish to delivery start")
+                    .register(meterRegistry);
+            this.successCounter = deliveryCounter("success");
+            this.retryCounter = deliveryCounter("retry");
+            this.failedCounter = deliveryCounter("failed");
+            Gauge.builder("domain_event.queued", this, Subscription::queued)
+                    .tag("listener", name)
+                    .description("Events waiting in the listener lanes")
+                    .register(meterRegistry);
+        }
+
+        private Counter deliveryCounter(String result) {
+            return Counter.builder("domain_event.delivery")
+                    .tag("listener", name)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+
+        private double queued() {
+            int total = 0;
+            for (Lane lane : lanes) {
+                total += lane.queue.size();
+            }
+            return total;
+        }
+
+        void enqueue(Envelope envelope) {
+            Lane lane = lanes[Math.floorMod(Long.hashCode(envelope.event().userId()), lanes.length)];
+            lane.queue.add(envelope);
+            lane.signal();
+        }
+
+        private void deliver(Envelope envelope) {
+            lagTimer.record(System.nanoTime() - envelope.publishedAtNanos(), TimeUnit.NANOSECONDS);
+
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    listener.on(envelope.event());
+                    successCounter.increment();
+                    return;
+                } catch (Exception e) {
+                    if (attempt >= maxAttempts) {
+                        failedCounter.increment();
+                        log.error("Domain event failed after {} attempts - listener: {}, event: {}",
+                                attempt, name, envelope.event(), e);
+                        return;
+                    }
+                    retryCounter.increment();
+                    log.warn("Domain event retry {}/{} - listener: {}, error: {}",
+                            attempt, maxAttempts, name, e.getMessage());
+                }
+
+                try {
+                    Thread.sleep(retryBackoffMs * attempt);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failedCounter.increment();
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 사용자 순서 보장 단위 (한 번에 가상 스레드 1개만 소비)
+         */
+        private final class Lane implements Runnable {
+
+            private final Queue<Envelope> queue = new LinkedBlockingQueue<>(); // 제한 없음, size() O(1)
+            private final AtomicBoolean draining = new AtomicBoolean();
+
+            void signal() {
+                if (!draining.compareAndSet(false, true)) {
+                    return;
+                }
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    log.warn("Domain event lane not scheduled (shutting down) - listener: {}, queued: {}",
+                            name, queue.size());
+                }
+            }
+
+            @Override
+            public void run() {
+                try {
+                    Envelope envelope;
+                    while ((envelope = queue.poll()) != null) {
+                        deliver(envelope);
+                    }
+                } finally {
+                    draining.set(false);
+                    // 종료 직전에 들어온 이벤트가 남아 있으면 다시 예약
+                    if (!queue.isEmpty()) {
+                        signal();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.finger.hand_backend.common.event;
+
+/**
+ * 도메인 이벤트 비동기 리스너
+ * - 빈으로 등록하면 DomainEventBus가 자동 구독
+ * - 커밋 이후 가상 스레드에서 호출되므로 DB 작업이 필요하면 on()에 @Transactional 지정
+ * - 예외를 던지면 domain-events.max-attempts까지 재시도 (같은 사용자의 다음 이벤트는 대기)
+ *
+ * @param <E> 구독할 이벤트 타입
+ */
+public interface DomainEventListener<E extends DomainEvent> {
+
+    Class<E> eventType();
+
+    void on(E event);
+}
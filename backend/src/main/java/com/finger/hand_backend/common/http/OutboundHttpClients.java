@@ -0,0 +1,160 @@
+package com.finger.hand_backend.common.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 외부 API(FastAPI, GMS) 호출용 공용 HTTP 클라이언트
+ * - JDK HttpClient 기반: 호스트별 keep-alive 커넥션 재사용, http2=true면 HTTP/2 (TLS는 ALPN 협상, 미지원 서버는 HTTP/1.1)
+ * - 엔드포인트별 설정 (http.client.endpoints.{name}.*, 없으면 http.client.* 기본값)
+ *   connect-timeout-ms / read-timeout-ms / http2 / gzip-requests
+ * - connect-timeout과 http2가 같은 엔드포인트끼리는 HttpClient(커넥션 풀)를 공유
+ * - 지표: http.client.requests (RestTemplate Observation), http.client.in_flight{endpoint}, http.client.pools
+ */
+@Slf4j
+@Component
+public class OutboundHttpClients {
+
+    private static final String PREFIX = "http.client.";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<PoolKey, HttpClient> clients = new ConcurrentHashMap<>();
+
+    private record PoolKey(Duration connectTimeout, HttpClient.Version version) {
+    }
+
+    public OutboundHttpClients(Environment environment,
+                               MeterRegistry meterRegistry,
+                               ObservationRegistry observationRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.observationRegistry = observationRegistry;
+
+        Gauge.builder("http.client.pools", clients, Map::size)
+                .description("Shared outbound HttpClient instances (one keep-alive pool each)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 엔드포인트용 RestTemplate 생성 (클라이언트 생성자에서 1회 호출)
+     *
+     * @param endpoint 엔드포인트 이름 (emotion, gms, report 등)
+     */
+    public RestTemplate forEndpoint(String endpoint) {
+        Duration connectTimeout = Duration.ofMillis(property(endpoint, "connect-timeout-ms", Long.class, 2000L));
+        Duration readTimeout = Duration.ofMillis(property(endpoint, "read-timeout-ms", Long.class, 30000L));
+        boolean http2 = property(endpoint, "http2", Boolean.class, false);
+        boolean gzipRequests = property(endpoint, "gzip-requests", Boolean.class, false);
+        int gzipMinBytes = property(endpoint, "gzip-min-bytes", Integer.class, 2048);
+
+        HttpClient httpClient = clients.computeIfAbsent(
+                new PoolKey(connectTimeout, http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1),
+                this::newHttpClient);
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient, executor);
+        requestFactory.setReadTimeout(readTimeout);
+
+        List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
+        interceptors.add(inFlightInterceptor(endpoint));
+        if (gzipRequests) {
+            interceptors.add(gzipInterceptor(gzipMinBytes));
+        }
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setInterceptors(interceptors);
+        restTemplate.setObservationRegistry(observationRegistry);
+
+        log.info("Outbound HTTP endpoint '{}': connectTimeout={}, readTimeout={}, http2={}, gzipRequests={}",
+                endpoint, connectTimeout, readTimeout, http2, gzipRequests);
+        return restTemplate;
+    }
+
+    private <T> T property(String endpoint, String key, Class<T> type, T defaultValue) {
+        T fallback = environment.getProperty(PREFIX + key, type, defaultValue);
+        return environment.getProperty(PREFIX + "endpoints." + endpoint + "." + key, type, fallback);
+    }
+
+    private HttpClient newHttpClient(PoolKey key) {
+        return HttpClient.newBuilder()
+                .version(key.version())
+                .connectTimeout(key.connectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * 엔드포인트별 진행 중 요청 수 (커넥션 풀 사용량 근사치, JDK HttpClient는 풀 내부 상태를 노출하지 않음)
+     */
+    private ClientHttpRequestInterceptor inFlightInterceptor(String endpoint) {
+        AtomicInteger inFlight = new AtomicInteger();
+        Gauge.builder("http.client.in_flight", inFlight, AtomicInteger::get)
+                .tag("endpoint", endpoint)
+                .description("Outbound HTTP requests in flight")
+                .register(meterRegistry);
+
+        return (request, body, execution) -> {
+            inFlight.incrementAndGet();
+            try {
+                return execution.execute(request, body);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        };
+    }
+
+    /**
+     * 요청 본문 gzip 압축 (서버가 Content-Encoding: gzip 요청을 풀 수 있을 때만 사용)
+     */
+    private static ClientHttpRequestInterceptor gzipInterceptor(int minBytes) {
+        return (request, body, execution) -> {
+            if (body.length < minBytes || request.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+                return execution.execute(request, body);
+            }
+
+            byte[] compressed = gzip(body);
+            request.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            request.getHeaders().setContentLength(compressed.length);
+            return execution.execute(request, compressed);
+        };
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    @PreDestroy
+    public void close() {
+        clients.values().forEach(HttpClient::close);
+        executor.close();
+    }
+}
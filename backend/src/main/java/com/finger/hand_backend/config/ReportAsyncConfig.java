@@ -2,19 +2,19 @@ package com.finger.hand_backend.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 @Configuration
 public class ReportAsyncConfig {
 
+    /**
+     * 보고서 생성용 가상 스레드 실행기
+     * - 작업마다 가상 스레드 1개 (풀/큐 없음), AI 호출 동시성은 AiConcurrencyLimiter, DB 동시성은 ReportBatchRunService가 제한
+     */
     @Bean(name = "reportGenerationExecutor")
-    public ThreadPoolTaskExecutor reportGenerationExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(10);
-        executor.setMaxPoolSize(20);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("report-gen-");
-        executor.initialize();
+    public SimpleAsyncTaskExecutor reportGenerationExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("report-gen-");
+        executor.setVirtualThreads(true);
         return executor;
     }
 }
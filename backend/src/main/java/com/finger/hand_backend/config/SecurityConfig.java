@@ -26,6 +26,8 @@ public class SecurityConfig {
                         .authenticationEntryPoint(new JwtAuthenticationEntryPoint())
                         .accessDeniedHandler(new JwtAccessDeniedHandler()))
                 .authorizeHttpRequests(auth -> auth
+                        // 운영용 actuator 엔드포인트 (사용자 ID/실행 현황 노출) → /actuator/** 허용보다 먼저 인증 요구
+                        .requestMatchers("/actuator/reportbatches", "/actuator/reportbatches/**").authenticated()
                         // 인증 없이 접근 가능한 경로
                         .requestMatchers(
                                 "/users/signup",
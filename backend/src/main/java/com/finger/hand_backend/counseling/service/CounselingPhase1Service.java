@@ -0,0 +1,88 @@
+package com.finger.hand_backend.counseling.service;
+
+import com.finger.hand_backend.counseling.entity.CounselingReport;
+import com.finger.hand_backend.counseling.repository.CounselingReportRepository;
+import com.finger.hand_backend.diary.entity.DiaryConversation;
+import com.finger.hand_backend.diary.repository.DiaryConversationRepository;
+import com.finger.hand_backend.report.service.BiometricDataCollector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 상담 분석 Phase 1 서비스
+ * - 트랜잭션 분리를 위해 별도 서비스로 분리 (Self-invocation 문제 해결)
+ * - 기존 보고서 확인 + 다이어리/생체 데이터 조회까지만 짧은 읽기 트랜잭션으로 처리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CounselingPhase1Service {
+
+    private final CounselingReportRepository counselingReportRepository;
+    private final DiaryConversationRepository diaryConversationRepository;
+    private final BiometricDataCollector biometricDataCollector;
+
+    /**
+     * Phase 1 결과
+     *
+     * @param existingReportId 같은 기간 보고서가 이미 있으면 그 ID (이때 나머지는 null)
+     * @param diaries          기간 내 완료된 다이어리 (날짜 오름차순)
+     * @param biometricData    생체 데이터
+     */
+    public record Phase1Result(
+            Long existingReportId,
+            List<DiaryConversation> diaries,
+            BiometricDataCollector.BiometricDataResult biometricData
+    ) {
+
+        public boolean isExisting() {
+            return existingReportId != null;
+        }
+    }
+
+    /**
+     * Phase 1: 기존 보고서 확인 및 분석 입력 조회 (읽기 트랜잭션)
+     */
+    @Transactional(readOnly = true)
+    public Phase1Result loadData(Long userId, LocalDate startDate, LocalDate endDate) {
+        // 1. 중복 체크: 같은 기간 보고서가 이미 있으면 기존 것 반환
+        Optional<CounselingReport> existingReport = counselingReportRepository
+                .findTopByUserIdAndStartDateAndEndDateOrderByCreatedAtDesc(userId, startDate, endDate);
+
+        if (existingReport.isPresent()) {
+            log.info("Existing report found for user {} ({} ~ {}), returning existing report: {}",
+                    userId, startDate, endDate, existingReport.get().getId());
+            return new Phase1Result(existingReport.get().getId(), null, null);
+        }
+
+        log.info("No existing report found, creating new counseling report");
+
+        // 2. 해당 기간의 다이어리 조회
+        // Between 쿼리에서 endDate 포함을 위해 +1일 (MongoDB LocalDate 변환 이슈 대응)
+        List<DiaryConversation> diaries = diaryConversationRepository
+                .findByUserIdAndSessionDateBetweenOrderBySessionDateAsc(userId, startDate.minusDays(1), endDate.plusDays(1))
+                .stream()
+                .filter(d -> d.getEmotionAnalysis() != null) // 완료된 다이어리만
+                .filter(d -> !d.getSessionDate().isBefore(startDate) && !d.getSessionDate().isAfter(endDate)) // 정확한 범위 필터링
+                .collect(Collectors.toList());
+
+        log.debug("Found {} completed diaries", diaries.size());
+
+        if (diaries.isEmpty()) {
+            throw new IllegalStateException("해당 기간에 작성된 다이어리가 없습니다.");
+        }
+
+        // 3. 생체 데이터 수집
+        BiometricDataCollector.BiometricDataResult biometricData =
+                biometricDataCollector.collectBiometricData(userId, startDate, endDate);
+
+        return new Phase1Result(null, diaries, biometricData);
+    }
+}
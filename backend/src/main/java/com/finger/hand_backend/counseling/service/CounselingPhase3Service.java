@@ -0,0 +1,75 @@
+package com.finger.hand_backend.counseling.service;
+
+import com.finger.hand_backend.counseling.entity.CounselingReport;
+import com.finger.hand_backend.counseling.entity.CounselingReportDetail;
+import com.finger.hand_backend.counseling.repository.CounselingReportDetailRepository;
+import com.finger.hand_backend.counseling.repository.CounselingReportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 상담 분석 Phase 3 서비스
+ * - 트랜잭션 분리를 위해 별도 서비스로 분리 (Self-invocation 문제 해결)
+ * - AI 분석이 끝난 뒤 짧은 쓰기 트랜잭션으로 저장, 그 사이 같은 기간 보고서가 생성됐으면 저장하지 않고 기존 보고서 반환
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CounselingPhase3Service {
+
+    private final CounselingReportRepository counselingReportRepository;
+    private final CounselingReportDetailRepository counselingReportDetailRepository;
+
+    /**
+     * Phase 3 결과
+     */
+    public record Phase3Result(CounselingReport report, CounselingReportDetail detail) {
+    }
+
+    /**
+     * Phase 3: 재확인 후 결과 저장 (트랜잭션)
+     *
+     * @param detail AI 분석이 끝난 보고서 상세 (id 없음)
+     */
+    @Transactional
+    public Phase3Result saveReport(CounselingReportDetail detail) {
+        // 1. 재확인 (Phase 2 동안 다른 요청이 먼저 생성했을 수 있음)
+        Optional<CounselingReport> existingReport = counselingReportRepository
+                .findTopByUserIdAndStartDateAndEndDateOrderByCreatedAtDesc(
+                        detail.getUserId(), detail.getStartDate(), detail.getEndDate());
+
+        if (existingReport.isPresent()) {
+            CounselingReport report = existingReport.get();
+            log.info("Counseling report created concurrently for user {} ({} ~ {}), returning existing report: {}",
+                    detail.getUserId(), detail.getStartDate(), detail.getEndDate(), report.getId());
+            CounselingReportDetail existingDetail = counselingReportDetailRepository.findById(report.getMongodbReportId())
+                    .orElseThrow(() -> new IllegalStateException("상담 보고서 상세 정보를 찾을 수 없습니다."));
+            return new Phase3Result(report, existingDetail);
+        }
+
+        // 2. CounselingReportDetail (MongoDB) 저장
+        detail = counselingReportDetailRepository.save(detail);
+        log.debug("CounselingReportDetail saved with ID: {}", detail.getId());
+
+        // 3. CounselingReport (MySQL) 메타데이터 저장
+        CounselingReport savedReport = counselingReportRepository.save(
+                CounselingReport.builder()
+                        .userId(detail.getUserId())
+                        .startDate(detail.getStartDate())
+                        .endDate(detail.getEndDate())
+                        .diaryCount(detail.getTotalDiaryCount())
+                        .mongodbReportId(detail.getId())
+                        .counselingAdvice(detail.getAdvice())  // 하위 호환성
+                        .createdAt(LocalDateTime.now())
+                        .build()
+        );
+
+        log.info("Counseling report saved with id: {}", savedReport.getId());
+        return new Phase3Result(savedReport, detail);
+    }
+}
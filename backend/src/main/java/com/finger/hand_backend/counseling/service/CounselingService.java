@@ -6,7 +6,6 @@ import com.finger.hand_backend.counseling.entity.CounselingReportDetail;
 import com.finger.hand_backend.counseling.repository.CounselingReportDetailRepository;
 import com.finger.hand_backend.counseling.repository.CounselingReportRepository;
 import com.finger.hand_backend.diary.entity.DiaryConversation;
-import com.finger.hand_backend.diary.repository.DiaryConversationRepository;
 import com.finger.hand_backend.group.entity.GroupMember;
 import com.finger.hand_backend.group.entity.GroupRole;
 import com.finger.hand_backend.group.repository.GroupMemberRepository;
@@ -34,10 +33,10 @@ public class CounselingService {
 
     private final CounselingReportRepository counselingReportRepository;
     private final CounselingReportDetailRepository counselingReportDetailRepository;
-    private final DiaryConversationRepository diaryConversationRepository;
     private final GroupMemberRepository groupMemberRepository;
-    private final BiometricDataCollector biometricDataCollector;
     private final ReportAnalysisClient reportAnalysisClient;
+    private final CounselingPhase1Service phase1Service;
+    private final CounselingPhase3Service phase3Service;
 
     /**
      * 관리자가 특정 그룹에서 대상 유저를 관리할 권한이 있는지 검증
@@ -71,6 +70,9 @@ public class CounselingService {
 
     /**
      * 관리자 상담용 분석
+     * Phase 1: 기존 보고서 확인 + 다이어리/생체 데이터 조회 (읽기 트랜잭션) - 별도 서비스
+     * Phase 2: AI 분석 (트랜잭션 외부 - 커넥션 해제 상태) - 현재 서비스
+     * Phase 3: 재확인 후 저장 (쓰기 트랜잭션) - 별도 서비스
      *
      * @param managerId 관리자 ID
      * @param groupId   그룹 ID
@@ -79,46 +81,43 @@ public class CounselingService {
      * @param endDate   종료일
      * @return 상담 조언
      */
-    @Transactional
     public CounselingAnalysisResult analyzeCounseling(Long managerId, Long groupId, Long userId, LocalDate startDate, LocalDate endDate) {
         log.info("Analyzing counseling for user {} by manager {} in group {} ({} ~ {})", userId, managerId, groupId, startDate, endDate);
 
         // 1. 관리자 권한 검증
         validateManagerAccessToGroup(managerId, groupId, userId);
 
-        // 2. 중복 체크: 같은 기간 보고서가 이미 있으면 기존 것 반환
-        Optional<CounselingReport> existingReport = counselingReportRepository
-                .findTopByUserIdAndStartDateAndEndDateOrderByCreatedAtDesc(userId, startDate, endDate);
-
-        if (existingReport.isPresent()) {
-            log.info("Existing report found for user {} ({} ~ {}), returning existing report: {}",
-                    userId, startDate, endDate, existingReport.get().getId());
-            return getCounselingReport(managerId, groupId, existingReport.get().getId());
+        // Phase 1: 중복 체크 + 다이어리/생체 데이터 조회 (트랜잭션 내) - 별도 서비스로 프록시 호출
+        CounselingPhase1Service.Phase1Result phase1Result = phase1Service.loadData(userId, startDate, endDate);
+        if (phase1Result.isExisting()) {
+            return getCounselingReport(managerId, groupId, phase1Result.existingReportId());
         }
 
-        log.info("No existing report found, creating new counseling report");
-
-        // 3. 해당 기간의 다이어리 조회
-        // Between 쿼리에서 endDate 포함을 위해 +1일 (MongoDB LocalDate 변환 이슈 대응)
-        List<DiaryConversation> diaries = diaryConversationRepository
-                .findByUserIdAndSessionDateBetweenOrderBySessionDateAsc(userId, startDate.minusDays(1), endDate.plusDays(1))
-                .stream()
-                .filter(d -> d.getEmotionAnalysis() != null) // 완료된 다이어리만
-                .filter(d -> !d.getSessionDate().isBefore(startDate) && !d.getSessionDate().isAfter(endDate)) // 정확한 범위 필터링
-                .collect(Collectors.toList());
+        // Phase 2: AI 분석 (트랜잭션 외부)
+        CounselingReportDetail detail = buildCounselingReportDetail(
+                userId, startDate, endDate, phase1Result.diaries(), phase1Result.biometricData());
 
-        log.debug("Found {} completed diaries", diaries.size());
+        // Phase 3: 재확인 후 저장 (트랜잭션 내) - 별도 서비스로 프록시 호출
+        CounselingPhase3Service.Phase3Result saved = phase3Service.saveReport(detail);
 
-        if (diaries.isEmpty()) {
-            throw new IllegalStateException("해당 기간에 작성된 다이어리가 없습니다.");
-        }
+        // 결과 반환 (specialNotes는 toDto에서 실시간 조회)
+        return toDto(saved.report(), saved.detail(), groupId);
+    }
 
-        // 4. totalSummary 생성 (관리자용 RAG: 모든 longSummary 이어붙이기)
+    /**
+     * AI 분석 요청 후 CounselingReportDetail 구성 (저장 전)
+     */
+    private CounselingReportDetail buildCounselingReportDetail(Long userId,
+                                                               LocalDate startDate,
+                                                               LocalDate endDate,
+                                                               List<DiaryConversation> diaries,
+                                                               BiometricDataCollector.BiometricDataResult biometricData) {
+        // 1. totalSummary 생성 (관리자용 RAG: 모든 longSummary 이어붙이기)
         String totalSummary = diaries.stream()
                 .map(diary -> diary.getEmotionAnalysis().getLongSummary())
                 .collect(Collectors.joining(" "));
 
-        // 5. 일별 다이어리 데이터 구성
+        // 2. 일별 다이어리 데이터 구성
         List<Map<String, Object>> dailyDiaries = new ArrayList<>();
         for (DiaryConversation diary : diaries) {
             Map<String, Object> dailyDiary = new HashMap<>();
@@ -129,17 +128,13 @@ public class CounselingService {
             dailyDiaries.add(dailyDiary);
         }
 
-        // 6. 생체 데이터 수집
-        BiometricDataCollector.BiometricDataResult biometricData =
-                biometricDataCollector.collectBiometricData(userId, startDate, endDate);
-
-        // 7. FastAPI로 분석 요청 (관리자용)
+        // 3. FastAPI로 분석 요청 (관리자용)
         Map<String, Object> biometrics = new HashMap<>();
         biometrics.put("baseline", biometricData.getUserBaseline());
         biometrics.put("anomalies", biometricData.getAnomalies());
         biometrics.put("userInfo", biometricData.getUserInfo());  // height, weight, residenceType 포함
 
-        // 8. AI 분석용 user_info 생성 (height, weight 제외, family로 변경)
+        // 4. AI 분석용 user_info 생성 (height, weight 제외, family로 변경)
         Map<String, Object> userInfoForAi = new HashMap<>();
         Map<String, Object> baseUserInfo = biometricData.getUserInfo();
         userInfoForAi.put("age", baseUserInfo.get("age"));
@@ -157,13 +152,13 @@ public class CounselingService {
                         userInfoForAi  // AI 분석용 사용자 정보
                 );
 
-        // 9. 통계 계산
+        // 5. 통계 계산
         DoubleSummaryStatistics scoreStats = diaries.stream()
                 .mapToDouble(d -> d.getEmotionAnalysis().getDepressionScore())
                 .summaryStatistics();
 
-        // 10. CounselingReportDetail (MongoDB) 저장
-        CounselingReportDetail detail = CounselingReportDetail.builder()
+        // 6. CounselingReportDetail 구성
+        return CounselingReportDetail.builder()
                 .userId(userId)
                 .startDate(startDate)
                 .endDate(endDate)
@@ -180,27 +175,6 @@ public class CounselingService {
                 .createdAt(LocalDateTime.now())
                 .analyzedAt(LocalDateTime.now())
                 .build();
-
-        detail = counselingReportDetailRepository.save(detail);
-        log.debug("CounselingReportDetail saved with ID: {}", detail.getId());
-
-        // 11. CounselingReport (MySQL) 메타데이터 저장
-        CounselingReport savedReport = counselingReportRepository.save(
-                CounselingReport.builder()
-                        .userId(userId)
-                        .startDate(startDate)
-                        .endDate(endDate)
-                        .diaryCount(diaries.size())
-                        .mongodbReportId(detail.getId())
-                        .counselingAdvice(analysisResult.getAdvice())  // 하위 호환성
-                        .createdAt(LocalDateTime.now())
-                        .build()
-        );
-
-        log.info("Counseling report saved with id: {}", savedReport.getId());
-
-        // 11. 결과 반환 (specialNotes는 toDto에서 실시간 조회)
-        return toDto(savedReport, detail, groupId);
     }
 
     /**
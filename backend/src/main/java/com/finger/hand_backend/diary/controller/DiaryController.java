@@ -1,6 +1,7 @@
 package com.finger.hand_backend.diary.controller;
 
 import com.finger.hand_backend.common.dto.ApiResponse;
+import com.finger.hand_backend.common.dto.CursorPage;
 import com.finger.hand_backend.diary.dto.*;
 import com.finger.hand_backend.diary.service.DiaryService;
 import jakarta.validation.Valid;
@@ -121,6 +122,29 @@ public class DiaryController {
         return ResponseEntity.ok(ApiResponse.success(diaries,"내 다이어리 목록 조회"));
     }
 
+    /**
+     * 내 다이어리 목록 커서 조회 (생성 시각 최신순)
+     * GET /api/v1/diaries/my/cursor?cursor={nextCursor}&size=20
+     *
+     * @param cursor       이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size         페이지 크기 (최대 100)
+     * @param includeTotal 전체 개수 포함 여부 (기본 false)
+     * @return 다이어리 목록 커서 페이지
+     */
+    @GetMapping("/my/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<DiaryListResponse>>> getMyDiariesByCursor(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        Long userId = Long.valueOf(authentication.getName());
+
+        CursorPage<DiaryListResponse> diaries = diaryService.getMyDiariesByCursor(userId, cursor, size, includeTotal);
+
+        return ResponseEntity.ok(ApiResponse.success(diaries, "내 다이어리 목록 조회"));
+    }
+
     /**
      * 다이어리 상세 조회
      * GET /api/v1/diaries/{sessionId}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
@@ -18,6 +19,7 @@ import java.util.List;
  * - AI 감정 분석 결과 저장
  */
 @Document(collection = "diary_conversations")
+@CompoundIndex(name = "idx_user_session_date", def = "{'userId': 1, 'sessionDate': 1}")
 @Data
 @Builder
 @NoArgsConstructor
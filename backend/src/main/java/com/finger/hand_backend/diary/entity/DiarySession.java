@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
     name = "diary_sessions",
     indexes = {
         @Index(name = "idx_user_date", columnList = "user_id, session_date"),
-        @Index(name = "idx_user_status", columnList = "user_id, status")
+        @Index(name = "idx_user_status", columnList = "user_id, status"),
+        @Index(name = "idx_user_created", columnList = "user_id, created_at, id")
     }
 )
 @Getter
@@ -4,6 +4,7 @@ import com.finger.hand_backend.diary.entity.DiaryConversation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +32,15 @@ public interface DiaryConversationRepository extends MongoRepository<DiaryConver
             LocalDate endDate
     );
 
+    /**
+     * 여러 사용자의 날짜 범위 다이어리 조회 (보고서 일괄 생성용, userId $in 1회)
+     */
+    List<DiaryConversation> findByUserIdInAndSessionDateBetween(
+            Collection<Long> userIds,
+            LocalDate startDate,
+            LocalDate endDate
+    );
+
     /**
      * 특정 날짜의 모든 다이어리 조회 (스케줄러용)
      */
@@ -5,8 +5,10 @@ import com.finger.hand_backend.diary.entity.DiaryStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +31,32 @@ public interface DiarySessionRepository extends JpaRepository<DiarySession, Long
      */
     Page<DiarySession> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
+    /**
+     * 사용자 ID로 커서 조회 - 첫 페이지 (최신순, COUNT 없음)
+     */
+    @Query("""
+  SELECT s FROM DiarySession s
+  WHERE s.userId = :userId
+  ORDER BY s.createdAt DESC, s.id DESC
+""")
+    List<DiarySession> findCursorFirstPage(Long userId, Pageable pageable);
+
+    /**
+     * 사용자 ID로 커서 조회 - (at, id) 이전 행부터
+     */
+    @Query("""
+  SELECT s FROM DiarySession s
+  WHERE s.userId = :userId
+    AND (s.createdAt < :at OR (s.createdAt = :at AND s.id < :id))
+  ORDER BY s.createdAt DESC, s.id DESC
+""")
+    List<DiarySession> findCursorPageBefore(Long userId, LocalDateTime at, Long id, Pageable pageable);
+
+    /**
+     * 사용자의 다이어리 세션 개수
+     */
+    long countByUserId(Long userId);
+
     /**
      * 사용자 ID와 날짜로 조회
      */
@@ -53,4 +81,14 @@ public interface DiarySessionRepository extends JpaRepository<DiarySession, Long
      * 특정 날짜의 모든 다이어리 세션 조회
      */
     List<DiarySession> findBySessionDate(LocalDate sessionDate);
+
+    /**
+     * 날짜와 상태로 사용자 ID만 조회 (엔티티 로딩 없음)
+     */
+    @Query("""
+  SELECT s.userId FROM DiarySession s
+  WHERE s.sessionDate = :sessionDate
+    AND s.status = :status
+""")
+    List<Long> findUserIdsBySessionDateAndStatus(LocalDate sessionDate, DiaryStatus status);
 }
@@ -53,7 +53,7 @@ public class DiaryPhase3Service {
         session.complete();
         sessionRepository.save(session);
 
-        // 4. daily_risk_scores 계산 및 저장
+        // 4. daily_risk_scores 계산 및 저장 (같은 트랜잭션)
         riskScoreService.calculateAndSave(
                 userId,
                 session.getSessionDate(),
@@ -1,5 +1,7 @@
 package com.finger.hand_backend.diary.service;
 
+import com.finger.hand_backend.common.CursorToken;
+import com.finger.hand_backend.common.dto.CursorPage;
 import com.finger.hand_backend.diary.dto.*;
 import com.finger.hand_backend.diary.entity.*;
 import com.finger.hand_backend.diary.repository.DiaryConversationRepository;
@@ -9,6 +11,7 @@ import com.finger.hand_backend.risk.DailyRiskScoreService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Service;
@@ -18,6 +21,7 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 다이어리 서비스
@@ -222,37 +226,26 @@ public class DiaryService {
     public Page<DiaryListResponse> getMyDiaries(Long userId, Pageable pageable) {
         Page<DiarySession> sessions = sessionRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
 
-        return sessions.map(session -> {
-            Double depressionScore = null;
-            String shortSummary = null;
-
-            // 완료된 다이어리인 경우 우울점수와 짧은 요약 포함
-            if (session.getStatus() == DiaryStatus.COMPLETED) {
-                try {
-                    DiaryConversation conversation = conversationRepository
-                            .findById(session.getMongodbDiaryId())
-                            .orElse(null);
-
-                    if (conversation != null && conversation.getEmotionAnalysis() != null) {
-                        depressionScore = conversation.getEmotionAnalysis().getDepressionScore();
-                        shortSummary = conversation.getEmotionAnalysis().getShortSummary();
-                    }
-                } catch (Exception e) {
-                    log.warn("감정 분석 결과 조회 실패 - sessionId: {}", session.getId(), e);
-                }
-            }
+        return sessions.map(this::toListResponse);
+    }
 
-            return DiaryListResponse.builder()
-                    .sessionId(session.getId())
-                    .sessionDate(session.getSessionDate())
-                    .status(session.getStatus())
-                    .questionCount(session.getQuestionCount())
-                    .createdAt(session.getCreatedAt())
-                    .completedAt(session.getCompletedAt())
-                    .depressionScore(depressionScore)
-                    .shortSummary(shortSummary)
-                    .build();
-        });
+    /**
+     * 내 다이어리 목록 커서 조회 (생성 시각 최신순)
+     * - (created_at, id) 키셋 조회, 전체 개수는 includeTotal=true일 때만 계산
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<DiaryListResponse> getMyDiariesByCursor(Long userId, String cursor, int size, boolean includeTotal) {
+        int limit = CursorPage.clampSize(size);
+        CursorToken token = CursorToken.decode(cursor);
+        PageRequest fetch = PageRequest.of(0, limit + 1);
+
+        List<DiarySession> rows = token == null
+                ? sessionRepository.findCursorFirstPage(userId, fetch)
+                : sessionRepository.findCursorPageBefore(userId, token.at(), token.id(), fetch);
+        Long total = includeTotal ? sessionRepository.countByUserId(userId) : null;
+
+        return CursorPage.of(rows, limit, DiarySession::getCreatedAt, DiarySession::getId,
+                this::toListResponse, total);
     }
 
     /**
@@ -270,36 +263,42 @@ public class DiaryService {
                         userId, startDate, endDate, pageable
                 );
 
-        return sessions.map(session -> {
-            Double depressionScore = null;
-            String shortSummary = null;
-
-            if (session.getStatus() == DiaryStatus.COMPLETED) {
-                try {
-                    DiaryConversation conversation = conversationRepository
-                            .findById(session.getMongodbDiaryId())
-                            .orElse(null);
-
-                    if (conversation != null && conversation.getEmotionAnalysis() != null) {
-                        depressionScore = conversation.getEmotionAnalysis().getDepressionScore();
-                        shortSummary = conversation.getEmotionAnalysis().getShortSummary();
-                    }
-                } catch (Exception e) {
-                    log.warn("감정 분석 결과 조회 실패 - sessionId: {}", session.getId(), e);
+        return sessions.map(this::toListResponse);
+    }
+
+    /**
+     * 목록 항목 변환
+     * - 완료된 다이어리인 경우 우울점수와 짧은 요약 포함
+     */
+    private DiaryListResponse toListResponse(DiarySession session) {
+        Double depressionScore = null;
+        String shortSummary = null;
+
+        if (session.getStatus() == DiaryStatus.COMPLETED) {
+            try {
+                DiaryConversation conversation = conversationRepository
+                        .findById(session.getMongodbDiaryId())
+                        .orElse(null);
+
+                if (conversation != null && conversation.getEmotionAnalysis() != null) {
+                    depressionScore = conversation.getEmotionAnalysis().getDepressionScore();
+                    shortSummary = conversation.getEmotionAnalysis().getShortSummary();
                 }
+            } catch (Exception e) {
+                log.warn("감정 분석 결과 조회 실패 - sessionId: {}", session.getId(), e);
             }
+        }
 
-            return DiaryListResponse.builder()
-                    .sessionId(session.getId())
-                    .sessionDate(session.getSessionDate())
-                    .status(session.getStatus())
-                    .questionCount(session.getQuestionCount())
-                    .createdAt(session.getCreatedAt())
-                    .completedAt(session.getCompletedAt())
-                    .depressionScore(depressionScore)
-                    .shortSummary(shortSummary)
-                    .build();
-        });
+        return DiaryListResponse.builder()
+                .sessionId(session.getId())
+                .sessionDate(session.getSessionDate())
+                .status(session.getStatus())
+                .questionCount(session.getQuestionCount())
+                .createdAt(session.getCreatedAt())
+                .completedAt(session.getCompletedAt())
+                .depressionScore(depressionScore)
+                .shortSummary(shortSummary)
+                .build();
     }
 
     /**
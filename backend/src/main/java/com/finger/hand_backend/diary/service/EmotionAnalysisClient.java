@@ -2,9 +2,9 @@ package com.finger.hand_backend.diary.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finger.hand_backend.common.http.OutboundHttpClients;
 import com.finger.hand_backend.diary.entity.EmotionAnalysis;
 import com.finger.hand_backend.diary.entity.QuestionAnswer;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
@@ -27,12 +27,11 @@ import java.util.stream.Collectors;
  * - TODO: FastAPI 서버 구축 후 실제 API 연동 필요
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class EmotionAnalysisClient {
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
     private final Random random = new Random();
 
     @Value("${emotion.api.url}")
@@ -41,6 +40,11 @@ public class EmotionAnalysisClient {
     @Value("${emotion.test.delay-ms:0}")
     private long testDelayMs;
 
+    public EmotionAnalysisClient(OutboundHttpClients httpClients, ObjectMapper objectMapper) {
+        this.restTemplate = httpClients.forEndpoint("emotion");
+        this.objectMapper = objectMapper;
+    }
+
     /**
      * 감정 분석
      * FastAPI 서버(/ai/diary/summary)로 대화 내용 전송 후 감정 분석 결과 수신
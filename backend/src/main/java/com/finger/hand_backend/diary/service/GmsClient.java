@@ -1,9 +1,9 @@
 package com.finger.hand_backend.diary.service;
 
+import com.finger.hand_backend.common.http.OutboundHttpClients;
 import com.finger.hand_backend.diary.entity.QuestionAnswer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
@@ -22,12 +22,11 @@ import java.util.stream.Collectors;
  * - 상담사처럼 질문, 공감, 격려 등 자연스러운 대화 생성 (감정 분석은 별도 FastAPI)
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class GmsClient {
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
 
     @Value("${gms.api.url:https://gms.ssafy.io/gmsapi/api.openai.com/v1/chat/completions}")
     private String gmsApiUrl;
@@ -35,6 +34,11 @@ public class GmsClient {
     @Value("${gms.api.key}")
     private String gmsApiKey;
 
+    public GmsClient(OutboundHttpClients httpClients, ObjectMapper objectMapper) {
+        this.restTemplate = httpClients.forEndpoint("gms");
+        this.objectMapper = objectMapper;
+    }
+
     /**
      * 다음 대화 생성 (질문, 공감, 격려 등)
      */
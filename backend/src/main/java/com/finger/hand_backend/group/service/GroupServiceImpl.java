@@ -4,8 +4,8 @@ import com.finger.hand_backend.group.dto.*;
 import com.finger.hand_backend.group.entity.*;
 import com.finger.hand_backend.group.repository.*;
 import com.finger.hand_backend.group.util.InviteCodeGenerator;
-import com.finger.hand_backend.measurement.Measurement;
 import com.finger.hand_backend.measurement.MeasurementRepository;
+import com.finger.hand_backend.measurement.projection.DailyAnomalyCount;
 import com.finger.hand_backend.risk.DailyRiskScoreService;
 import com.finger.hand_backend.user.entity.IndividualUser;
 import com.finger.hand_backend.user.repository.IndividualUserRepository;
@@ -14,7 +14,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -238,23 +237,24 @@ public class GroupServiceImpl implements GroupService {
         LocalDate today = LocalDate.now();
         LocalDate sevenDaysAgo = today.minusDays(6);
 
-        // 4. 일별 평균 계산
+        // 4. 멤버 전체의 일별 이상치 개수 (GROUP BY 1회)
+        List<Long> memberIds = members.stream().map(GroupMember::getUserId).toList();
+        List<DailyAnomalyCount> dailyCounts = measurementRepo.countDailyAnomalies(
+                memberIds, sevenDaysAgo.atStartOfDay(), today.plusDays(1).atStartOfDay());
+
+        Map<LocalDate, Long> anomaliesByDay = dailyCounts.stream()
+                .collect(Collectors.groupingBy(DailyAnomalyCount::getDay,
+                        Collectors.summingLong(DailyAnomalyCount::getAnomalyCount)));
+        Map<Long, Long> anomaliesByMember = dailyCounts.stream()
+                .collect(Collectors.groupingBy(DailyAnomalyCount::getUserId,
+                        Collectors.summingLong(DailyAnomalyCount::getAnomalyCount)));
+
+        // 5. 일별 평균 계산
         List<DailyAverageAnomaly> dailyAverages = new ArrayList<>();
         double totalSum = 0.0;
 
         for (LocalDate date = sevenDaysAgo; !date.isAfter(today); date = date.plusDays(1)) {
-            LocalDateTime startOfDay = date.atStartOfDay();
-            LocalDateTime endOfDay = date.plusDays(1).atStartOfDay();
-
-            int totalAnomaliesForDay = 0;
-
-            // 각 멤버의 해당 날짜 이상치 개수 합산
-            for (GroupMember member : members) {
-                List<Measurement> anomalies = measurementRepo
-                        .findByUserIdAndIsAnomalyTrueAndMeasuredAtBetweenOrderByMeasuredAtAsc(
-                                member.getUserId(), startOfDay, endOfDay);
-                totalAnomaliesForDay += anomalies.size();
-            }
+            long totalAnomaliesForDay = anomaliesByDay.getOrDefault(date, 0L);
 
             // 일별 평균 = 해당 날짜 전체 이상치 / 멤버 수
             double dailyAverage = (double) totalAnomaliesForDay / members.size();
@@ -266,22 +266,15 @@ public class GroupServiceImpl implements GroupService {
                     .build());
         }
 
-        // 5. 주간 전체 평균 계산
+        // 6. 주간 전체 평균 계산
         double weeklyAverage = totalSum / 7.0;
 
-        // 6. 최고 위험 멤버 찾기 (주간 평균 이상치 횟수가 가장 높은 멤버)
+        // 7. 최고 위험 멤버 찾기 (주간 평균 이상치 횟수가 가장 높은 멤버)
         TopRiskMember topRiskMember = null;
         double maxAverage = 0.0;
 
         for (GroupMember member : members) {
-            LocalDateTime weekStart = sevenDaysAgo.atStartOfDay();
-            LocalDateTime weekEnd = today.plusDays(1).atStartOfDay();
-
-            List<Measurement> weeklyAnomalies = measurementRepo
-                    .findByUserIdAndIsAnomalyTrueAndMeasuredAtBetweenOrderByMeasuredAtAsc(
-                            member.getUserId(), weekStart, weekEnd);
-
-            double memberAverage = weeklyAnomalies.size() / 7.0;
+            double memberAverage = anomaliesByMember.getOrDefault(member.getUserId(), 0L) / 7.0;
 
             if (memberAverage > maxAverage) {
                 maxAverage = memberAverage;
@@ -299,7 +292,7 @@ public class GroupServiceImpl implements GroupService {
             }
         }
 
-        // 7. 응답 생성
+        // 8. 응답 생성
         WeeklyAnomalyStatistics weeklyStats = WeeklyAnomalyStatistics.builder()
                 .startDate(sevenDaysAgo)
                 .endDate(today)
@@ -0,0 +1,14 @@
+package com.finger.hand_backend.measurement;
+
+/**
+ * 같은 (사용자, 측정 시각)이 동시에 저장되어 uk_measurements_user_measured에 걸림
+ * - MeasurementService에서만 발생 → 409 (재시도하면 기존 측정값 반환)
+ */
+public class DuplicateMeasurementException extends IllegalStateException {
+
+    public static final String UNIQUE_KEY = "uk_measurements_user_measured";
+
+    public DuplicateMeasurementException(Throwable cause) {
+        super("DUPLICATE_MEASUREMENT", cause);
+    }
+}
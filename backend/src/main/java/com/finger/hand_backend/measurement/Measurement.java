@@ -13,12 +13,22 @@ import java.time.LocalDateTime;
  * 측정 데이터 엔티티
  * - 워치가 보낸 측정 데이터 저장
  * - HRV, 스트레스, 이상치 탐지 등 모두 워치에서 계산되어 전송됨
+ * - 서버 이상치(server_anomaly)만 수집 시 서버에서 개인 Baseline 기준으로 계산
+ *
+ * 저장 구조
+ * - DB의 PRIMARY KEY는 (user_id, measured_at, id) → 사용자/시간 순으로 물리적으로 클러스터링
+ * - JPA 식별자는 그대로 id (AUTO_INCREMENT, idx_measurements_id로 유일성 보장)
+ * - PK 전환은 scripts/migration-measurements-clustered-pk.sql로만 (새 DB도 첫 기동 후 1회 실행, 기동 시 DDL 없음)
+ * - (user_id, measured_at)은 유일 (워치 재시도 중복 방지, scripts/migration-measurements-unique-measured-at.sql)
  */
 @Entity
 @Table(
     name = "measurements",
     indexes = {
-        @Index(name = "idx_user_measured", columnList = "user_id, measured_at")
+        @Index(name = "idx_measurements_id", columnList = "id")
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_measurements_user_measured", columnNames = {"user_id", "measured_at"})
     }
 )
 @Getter
@@ -119,6 +129,22 @@ public class Measurement {
     @Column(name = "is_anomaly", nullable = false)
     private Boolean isAnomaly;
 
+    // ========== 서버에서 계산된 값 ==========
+
+    /**
+     * 서버 이상치 여부
+     * 활성 Baseline 기준 EWMA z-score + 히스테리시스 (ServerAnomalyDetector)
+     * 활성 Baseline이 없으면 NULL
+     */
+    @Column(name = "server_anomaly")
+    private Boolean serverAnomaly;
+
+    /**
+     * 서버 이상치 점수 (Baseline 표준편차 단위 EWMA z-score)
+     */
+    @Column(name = "server_anomaly_score")
+    private Double serverAnomalyScore;
+
     // ========== 활동 감지 ==========
 
     /**
@@ -0,0 +1,133 @@
+package com.finger.hand_backend.measurement;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measurement 배치 저장소
+ * - IDENTITY 전략이라 Hibernate JDBC 배치가 동작하지 않으므로 JdbcTemplate으로 직접 INSERT
+ * - rewriteBatchedStatements=true 설정 시 MySQL 드라이버가 multi-row INSERT로 재작성
+ * - 호출 측 트랜잭션(JpaTransactionManager)에 그대로 참여
+ */
+@Repository
+@RequiredArgsConstructor
+public class MeasurementBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO measurements (
+                user_id, heart_rate, object_temp, ambient_temp, accel_x, accel_y, accel_z,
+                hrv_sdnn, hrv_rmssd, movement_intensity, stress_index, stress_level, is_anomaly,
+                server_anomaly, server_anomaly_score,
+                total_steps, steps_per_minute, measured_at, created_at
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 측정 데이터 일괄 저장
+     *
+     * @param measurements 저장할 측정 데이터 (id 없음)
+     * @return 생성된 id, createdAt이 채워진 측정 데이터 (입력 순서 유지)
+     */
+    public List<Measurement> insertAll(List<Measurement> measurements) {
+        if (measurements.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        bind(ps, measurements.get(i), createdAt);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return measurements.size();
+                    }
+                },
+                keyHolder
+        );
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != measurements.size()) {
+            throw new IllegalStateException(String.format(
+                    "MEASUREMENT_BATCH_KEY_MISMATCH: expected %d keys, got %d", measurements.size(), keys.size()));
+        }
+
+        List<Measurement> saved = new ArrayList<>(measurements.size());
+        for (int i = 0; i < measurements.size(); i++) {
+            Long id = ((Number) keys.get(i).values().iterator().next()).longValue();
+            saved.add(withKey(measurements.get(i), id, createdAt));
+        }
+        return saved;
+    }
+
+    private void bind(PreparedStatement ps, Measurement m, LocalDateTime createdAt) throws SQLException {
+        ps.setLong(1, m.getUserId());
+        ps.setObject(2, m.getHeartRate(), Types.DOUBLE);
+        ps.setObject(3, m.getObjectTemp(), Types.DOUBLE);
+        ps.setObject(4, m.getAmbientTemp(), Types.DOUBLE);
+        ps.setObject(5, m.getAccelX(), Types.DOUBLE);
+        ps.setObject(6, m.getAccelY(), Types.DOUBLE);
+        ps.setObject(7, m.getAccelZ(), Types.DOUBLE);
+        ps.setObject(8, m.getHrvSdnn(), Types.DOUBLE);
+        ps.setObject(9, m.getHrvRmssd(), Types.DOUBLE);
+        ps.setObject(10, m.getMovementIntensity(), Types.DOUBLE);
+        ps.setObject(11, m.getStressIndex(), Types.DOUBLE);
+        ps.setObject(12, m.getStressLevel(), Types.INTEGER);
+        ps.setBoolean(13, Boolean.TRUE.equals(m.getIsAnomaly()));
+        ps.setObject(14, m.getServerAnomaly(), Types.BOOLEAN);
+        ps.setObject(15, m.getServerAnomalyScore(), Types.DOUBLE);
+        ps.setObject(16, m.getTotalSteps(), Types.INTEGER);
+        ps.setObject(17, m.getStepsPerMinute(), Types.DOUBLE);
+        ps.setObject(18, m.getMeasuredAt());
+        ps.setObject(19, createdAt);
+    }
+
+    /**
+     * 생성된 키를 반영한 엔티티 복사본
+     */
+    private Measurement withKey(Measurement m, Long id, LocalDateTime createdAt) {
+        return Measurement.builder()
+                .id(id)
+                .userId(m.getUserId())
+                .heartRate(m.getHeartRate())
+                .objectTemp(m.getObjectTemp())
+                .ambientTemp(m.getAmbientTemp())
+                .accelX(m.getAccelX())
+                .accelY(m.getAccelY())
+                .accelZ(m.getAccelZ())
+                .hrvSdnn(m.getHrvSdnn())
+                .hrvRmssd(m.getHrvRmssd())
+                .movementIntensity(m.getMovementIntensity())
+                .stressIndex(m.getStressIndex())
+                .stressLevel(m.getStressLevel())
+                .isAnomaly(m.getIsAnomaly())
+                .serverAnomaly(m.getServerAnomaly())
+                .serverAnomalyScore(m.getServerAnomalyScore())
+                .totalSteps(m.getTotalSteps())
+                .stepsPerMinute(m.getStepsPerMinute())
+                .measuredAt(m.getMeasuredAt())
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -1,7 +1,15 @@
 package com.finger.hand_backend.measurement;
 
 import com.finger.hand_backend.common.dto.ApiResponse;
+import com.finger.hand_backend.common.dto.CursorPage;
+import com.finger.hand_backend.measurement.chart.ChartMetric;
+import com.finger.hand_backend.measurement.chart.MeasurementChartService;
 import com.finger.hand_backend.measurement.dto.*;
+import com.finger.hand_backend.measurement.export.MeasurementExportService;
+import com.finger.hand_backend.measurement.ingest.MeasurementBinaryCodec;
+import com.finger.hand_backend.measurement.ingest.MeasurementIngestBuffer;
+import com.finger.hand_backend.measurement.ingest.MeasurementStreamIngestor;
+import com.finger.hand_backend.measurement.sketch.MeasurementSketchService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -10,12 +18,17 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Measurement Controller
@@ -27,6 +40,11 @@ import java.util.List;
 public class MeasurementController {
 
     private final MeasurementService measurementService;
+    private final MeasurementIngestBuffer measurementIngestBuffer;
+    private final MeasurementStreamIngestor measurementStreamIngestor;
+    private final MeasurementExportService measurementExportService;
+    private final MeasurementChartService measurementChartService;
+    private final MeasurementSketchService measurementSketchService;
 
     /**
      * 측정 데이터 저장
@@ -49,12 +67,91 @@ public class MeasurementController {
                 .stressIndex(measurement.getStressIndex())
                 .stressLevel(measurement.getStressLevel())
                 .isAnomaly(measurement.getIsAnomaly())
+                .serverAnomaly(measurement.getServerAnomaly())
+                .serverAnomalyScore(measurement.getServerAnomalyScore())
                 .build();
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success(data, "측정 데이터가 저장되었습니다"));
     }
 
+    /**
+     * 측정 데이터 일괄 저장
+     * - 워치 재연결 시 밀린 측정값 전송용
+     *
+     * @param authentication 인증 정보
+     * @param request        측정 데이터 목록 (최대 1000개)
+     * @return 저장된 측정 데이터 ID 목록
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<MeasurementBatchResponse>> createMeasurements(
+            Authentication authentication,
+            @Valid @RequestBody MeasurementBatchRequest request
+    ) {
+        Long userId = Long.valueOf(authentication.getName());
+
+        List<Measurement> saved = measurementService.saveBatch(userId, request.getMeasurements());
+
+        MeasurementBatchResponse data = MeasurementBatchResponse.builder()
+                .count(saved.size())
+                .ids(saved.stream()
+                        .map(Measurement::getId)
+                        .toList())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(data, "측정 데이터가 일괄 저장되었습니다"));
+    }
+
+    /**
+     * 측정 데이터 비동기 저장
+     * - 큐 적재 후 바로 202 반환, DB 커밋은 writer가 묶어서 처리
+     * - measurement.ingest.async.enabled=true 일 때만 사용 가능
+     *
+     * @param authentication 인증 정보
+     * @param request        측정 데이터 요청
+     * @return 수집 순번 (sequence token)
+     */
+    @PostMapping("/async")
+    public ResponseEntity<ApiResponse<MeasurementAcceptedResponse>> acceptMeasurement(
+            Authentication authentication,
+            @Valid @RequestBody MeasurementRequest request
+    ) {
+        Long userId = Long.valueOf(authentication.getName());
+
+        long sequence = measurementIngestBuffer.accept(userId, request);
+
+        MeasurementAcceptedResponse data = MeasurementAcceptedResponse.builder()
+                .sequence(sequence)
+                .committedSequence(measurementIngestBuffer.committedSequence())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(data, "측정 데이터가 접수되었습니다"));
+    }
+
+    /**
+     * 측정 데이터 바이너리 스트림 업로드
+     * - Content-Type: application/vnd.hand.measurements (포맷은 MeasurementBinaryCodec 참고)
+     * - 하나의 chunked 요청으로 여러 프레임 전송, 프레임 단위로 배치 저장
+     *
+     * @param authentication 인증 정보
+     * @param body           요청 본문 스트림
+     * @return 처리된 프레임/측정 데이터 개수
+     */
+    @PostMapping(value = "/stream", consumes = MeasurementBinaryCodec.CONTENT_TYPE)
+    public ResponseEntity<ApiResponse<MeasurementStreamResponse>> uploadMeasurementStream(
+            Authentication authentication,
+            InputStream body
+    ) throws IOException {
+        Long userId = Long.valueOf(authentication.getName());
+
+        MeasurementStreamResponse data = measurementStreamIngestor.ingest(userId, body);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(data, "측정 데이터 스트림이 저장되었습니다"));
+    }
+
     /**
      * 내 측정 데이터 목록 조회 (페이징)
      *
@@ -84,6 +181,31 @@ public class MeasurementController {
         return ResponseEntity.ok(ApiResponse.success(data, "측정 데이터 목록을 조회했습니다"));
     }
 
+    /**
+     * 내 측정 데이터 목록 커서 조회 (최신순)
+     * - 스크롤이 깊어져도 응답 시간이 일정 (오프셋/COUNT 없음)
+     *
+     * @param authentication 인증 정보
+     * @param cursor         이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size           페이지 크기 (기본 20, 최대 100)
+     * @param includeTotal   전체 개수 포함 여부 (기본 false)
+     * @return 측정 데이터 커서 페이지
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<MeasurementResponse>>> getMyMeasurementsByCursor(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        Long userId = Long.valueOf(authentication.getName());
+
+        CursorPage<MeasurementResponse> data = measurementService
+                .getMyMeasurementsByCursor(userId, cursor, size, includeTotal);
+
+        return ResponseEntity.ok(ApiResponse.success(data, "측정 데이터 목록을 조회했습니다"));
+    }
+
     /**
      * 특정 기간 측정 데이터 조회
      *
@@ -115,6 +237,61 @@ public class MeasurementController {
         return ResponseEntity.ok(ApiResponse.success(data, "기간별 측정 데이터를 조회했습니다"));
     }
 
+    /**
+     * 특정 기간 측정 데이터 스트리밍 조회 (NDJSON)
+     * - 한 줄에 측정 데이터 1건, 측정 시각 오름차순
+     * - 전체를 메모리에 올리지 않으므로 여러 달 단위 조회에 사용
+     *
+     * @param authentication 인증 정보
+     * @param startDate      시작 날짜 (예: 2025-01-01)
+     * @param endDate        종료 날짜 (예: 2025-03-31)
+     * @return application/x-ndjson 스트림
+     */
+    @GetMapping(value = "/range/stream", produces = MeasurementExportService.CONTENT_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamMeasurementsByDateRange(
+            Authentication authentication,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        Long userId = Long.valueOf(authentication.getName());
+        measurementExportService.validateRange(startDate, endDate);
+
+        StreamingResponseBody body = out -> measurementExportService.export(userId, startDate, endDate, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(MeasurementExportService.CONTENT_TYPE))
+                .header("X-Accel-Buffering", "no")
+                .body(body);
+    }
+
+    /**
+     * 기간 차트 데이터 조회 (다운샘플링)
+     * - 원본 전체 대신 지표별 최대 points개 점만 반환 (LTTB)
+     * - 주/월 스트레스, 심박수, HRV 차트용
+     *
+     * @param authentication 인증 정보
+     * @param startDate      시작 날짜
+     * @param endDate        종료 날짜
+     * @param metrics        지표 (STRESS, HEART_RATE, HRV_RMSSD / 생략 시 전체)
+     * @param points         지표별 최대 점 개수 (기본 500, 최대 2000)
+     * @return 지표별 차트 점
+     */
+    @GetMapping("/chart")
+    public ResponseEntity<ApiResponse<MeasurementChartResponse>> getMeasurementChart(
+            Authentication authentication,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Set<ChartMetric> metrics,
+            @RequestParam(required = false) Integer points
+    ) {
+        Long userId = Long.valueOf(authentication.getName());
+
+        MeasurementChartResponse data = measurementChartService
+                .getChart(userId, startDate, endDate, metrics, points);
+
+        return ResponseEntity.ok(ApiResponse.success(data, "차트 데이터를 조회했습니다"));
+    }
+
     /**
      * 특정 측정 데이터 조회
      *
@@ -263,4 +440,25 @@ public class MeasurementController {
 
         return ResponseEntity.ok(ApiResponse.success(data, "오늘 감정변화 stat"));
     }
+
+    /**
+     * 오늘 스트레스 백분위 조회
+     * - 오늘 스트레스 중앙값/최근 측정값이 지난 N일(오늘 제외) 측정값 중 몇 번째 백분위인지
+     * - 일별 분위수 스케치를 병합해서 계산 (원본 측정 데이터 재조회 없음)
+     *
+     * @param authentication 인증 정보
+     * @param days           비교 기간 (기본 30일)
+     * @return 백분위와 비교 기간 중앙값/90% 분위수
+     */
+    @GetMapping("/stress/percentile")
+    public ResponseEntity<ApiResponse<StressPercentileResponse>> getStressPercentile(
+            Authentication authentication,
+            @RequestParam(defaultValue = "30") int days
+    ) {
+        Long userId = Long.valueOf(authentication.getName());
+
+        StressPercentileResponse data = measurementSketchService.getStressPercentile(userId, days);
+
+        return ResponseEntity.ok(ApiResponse.success(data, "스트레스 백분위를 조회했습니다"));
+    }
 }
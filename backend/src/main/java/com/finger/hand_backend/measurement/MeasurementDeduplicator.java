@@ -0,0 +1,129 @@
+package com.finger.hand_backend.measurement;
+
+import com.finger.hand_backend.common.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 측정 데이터 중복 판별 (멱등 수집)
+ * - 키: (user_id, measured_at) — DB의 uk_measurements_user_measured와 동일
+ * - 최근 저장/조회된 키 → 측정값 ID를 인메모리 LRU에 보관 (엔티티는 보관하지 않음)
+ * - 캐시에 없는 키만 1회 IN 쿼리(ID/키 컬럼만)로 확인, 최종 보장은 DB 유니크 인덱스
+ * - 원래 측정값이 필요한 호출 측은 반환된 ID로 PK 조회
+ * - 캐시는 커밋 후에만 채움 (롤백된 측정값을 원본으로 돌려주지 않도록)
+ */
+@Component
+public class MeasurementDeduplicator {
+
+    /**
+     * 중복 판별 키
+     */
+    public record Key(Long userId, LocalDateTime measuredAt) {
+
+        public static Key of(Measurement measurement) {
+            return new Key(measurement.getUserId(), measurement.getMeasuredAt());
+        }
+    }
+
+    private final MeasurementRepository measurementRepository;
+    private final Map<Key, Long> recent;
+
+    private final Counter cacheHitCounter;
+    private final Counter dbHitCounter;
+
+    public MeasurementDeduplicator(
+            MeasurementRepository measurementRepository,
+            MeterRegistry meterRegistry,
+            @Value("${measurement.dedup.cache-size:100000}") int cacheSize
+    ) {
+        this.measurementRepository = measurementRepository;
+        this.recent = Collections.synchronizedMap(new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Long> eldest) {
+                return size() > cacheSize;
+            }
+        });
+
+        this.cacheHitCounter = Counter.builder("measurement.ingest.duplicate")
+                .tag("source", "cache")
+                .description("Duplicate measurements absorbed by the in-memory key cache")
+                .register(meterRegistry);
+        this.dbHitCounter = Counter.builder("measurement.ingest.duplicate")
+                .tag("source", "db")
+                .description("Duplicate measurements found by the unique key lookup")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이미 저장된 측정값 ID 조회
+     *
+     * @param keys 저장하려는 측정값 키
+     * @return 이미 저장된 키 → 원래 측정값 ID
+     */
+    public Map<Key, Long> findExistingIds(Collection<Key> keys) {
+        Map<Key, Long> existing = new HashMap<>();
+        Set<Key> misses = new HashSet<>();
+
+        for (Key key : keys) {
+            Long cached = recent.get(key);
+            if (cached != null) {
+                existing.put(key, cached);
+            } else {
+                misses.add(key);
+            }
+        }
+        cacheHitCounter.increment(existing.size());
+
+        if (misses.isEmpty()) {
+            return existing;
+        }
+
+        Set<Long> userIds = new HashSet<>();
+        Set<LocalDateTime> times = new HashSet<>();
+        for (Key key : misses) {
+            userIds.add(key.userId());
+            times.add(key.measuredAt());
+        }
+
+        // 사용자 × 시각 조합의 상위 집합을 조회한 뒤 실제 키만 남김
+        for (Object[] row : measurementRepository.findKeysByUserIdInAndMeasuredAtIn(userIds, times)) {
+            Key key = new Key((Long) row[1], (LocalDateTime) row[2]);
+            if (misses.contains(key)) {
+                Long id = (Long) row[0];
+                existing.put(key, id);
+                recent.put(key, id);
+                dbHitCounter.increment();
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * 새로 저장된 측정값 키를 커밋 후 캐시에 등록
+     */
+    public void rememberAfterCommit(List<Measurement> saved) {
+        if (saved.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> saved.forEach(m -> recent.put(Key.of(m), m.getId())));
+    }
+
+    /**
+     * 삭제된 측정값 키를 커밋 후 캐시에서 제거
+     */
+    public void forgetAfterCommit(Measurement deleted) {
+        AfterCommit.run(() -> recent.remove(Key.of(deleted)));
+    }
+}
@@ -0,0 +1,280 @@
+package com.finger.hand_backend.measurement;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+/**
+ * measurements 월 단위 파티션 관리
+ * - PARTITION BY RANGE COLUMNS(measured_at), 파티션 이름 pYYYYMM + 상한 없는 p_future
+ * - 매일 새벽: months-ahead개월 앞까지 파티션 미리 생성 (비어 있는 p_future를 REORGANIZE)
+ * - retention-months가 지난 파티션은 DROP(메타데이터 연산) 또는 ARCHIVE(EXCHANGE 후 DROP)
+ *   (중단된 이전 실행이 남긴 아카이브 테이블은 비어 있으면 재사용, 행이 있으면 실행 ID를 붙인 새 테이블로 교환)
+ * - 파티션이 없는 테이블은 행 수가 작으면 기동 시 바로 파티셔닝, 크면 scripts/migration-measurements-partitioning.sql 안내
+ * - 여러 인스턴스가 동시에 기동/실행해도 DDL은 한 곳에서만 실행 (GET_LOCK, 못 잡으면 건너뜀)
+ * - 월 경계는 Asia/Seoul 기준 (JVM 기본 시간대와 무관)
+ *
+ * measured_at 조건이 있는 조회는 파티션 프루닝으로 1~2개 파티션만 읽음 (Repository 쿼리 변경 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeasurementPartitionMaintainer {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter RUN_ID = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final String LOCK_NAME = "measurement_partition_maintenance";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${measurement.partition.enabled:true}")
+    private boolean enabled;
+
+    @Value("${measurement.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    /**
+     * 보관 개월 수 (0이면 삭제하지 않음)
+     */
+    @Value("${measurement.partition.retention-months:0}")
+    private int retentionMonths;
+
+    /**
+     * 보관 기간이 지난 파티션 처리 방식: DROP | ARCHIVE
+     */
+    @Value("${measurement.partition.retention-action:ARCHIVE}")
+    private String retentionAction;
+
+    @Value("${measurement.partition.auto-partition-max-rows:100000}")
+    private long autoPartitionMaxRows;
+
+    /**
+     * 기동 시 1회
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "0 30 0 * * *", zone = "Asia/Seoul") // 매일 00:30
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+                if (!acquireLock(con)) {
+                    log.info("Measurement partition maintenance skipped - running on another instance");
+                    return null;
+                }
+                try {
+                    maintainLocked();
+                } finally {
+                    releaseLock(con);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("Measurement partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 잠금을 잡은 상태에서 실행 (DDL은 풀의 다른 연결에서 실행, 잠금 연결은 끝날 때까지 유지)
+     */
+    private void maintainLocked() {
+        TreeSet<YearMonth> months = loadMonthlyPartitions();
+        if (months == null) {
+            partitionTable();
+            return;
+        }
+
+        createAhead(months);
+        applyRetention(months);
+    }
+
+    /**
+     * 세션 단위 이름 잠금 (대기 없이 시도, 연결이 끊기면 MySQL이 자동 해제)
+     */
+    private static boolean acquireLock(Connection con) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            ps.setString(1, LOCK_NAME);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void releaseLock(Connection con) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.execute();
+        }
+    }
+
+    /**
+     * 현재 월별 파티션 목록 (파티셔닝되지 않은 테이블이면 null)
+     */
+    private TreeSet<YearMonth> loadMonthlyPartitions() {
+        List<String> names = jdbcTemplate.queryForList("""
+                SELECT partition_name
+                FROM information_schema.partitions
+                WHERE table_schema = DATABASE() AND table_name = 'measurements' AND partition_name IS NOT NULL
+                """, String.class);
+
+        if (names.isEmpty()) {
+            return null;
+        }
+
+        TreeSet<YearMonth> months = new TreeSet<>();
+        for (String name : names) {
+            if (!FUTURE_PARTITION.equals(name)) {
+                months.add(YearMonth.parse(name, PARTITION_NAME));
+            }
+        }
+        return months;
+    }
+
+    private void createAhead(TreeSet<YearMonth> months) {
+        YearMonth last = months.isEmpty() ? YearMonth.now(ZONE).minusMonths(1) : months.last();
+        YearMonth target = YearMonth.now(ZONE).plusMonths(monthsAhead);
+
+        if (!last.isBefore(target)) {
+            return;
+        }
+
+        StringJoiner partitions = new StringJoiner(", ");
+        for (YearMonth month = last.plusMonths(1); !month.isAfter(target); month = month.plusMonths(1)) {
+            partitions.add(partitionDefinition(month));
+        }
+        partitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        jdbcTemplate.execute("ALTER TABLE measurements REORGANIZE PARTITION " + FUTURE_PARTITION
+                + " INTO (" + partitions + ")");
+        log.info("Created measurement partitions up to {}", target);
+    }
+
+    private void applyRetention(TreeSet<YearMonth> months) {
+        if (retentionMonths <= 0) {
+            return;
+        }
+
+        YearMonth oldestKept = YearMonth.now(ZONE).minusMonths(retentionMonths);
+        String runId = LocalDateTime.now(ZONE).format(RUN_ID);
+        for (YearMonth month : months.headSet(oldestKept)) {
+            String partition = month.format(PARTITION_NAME);
+
+            // 빈 파티션은 교환할 필요 없음 (이전 실행이 교환 후 DROP 전에 중단된 경우 포함)
+            if ("ARCHIVE".equalsIgnoreCase(retentionAction) && hasRows("measurements PARTITION (" + partition + ")")) {
+                // 파티션 데이터를 동일 구조의 일반 테이블로 교환 (행 복사 없음)
+                String archive = prepareArchive(
+                        "measurements_archive_" + month.format(DateTimeFormatter.ofPattern("yyyyMM")), runId);
+                jdbcTemplate.execute("ALTER TABLE measurements EXCHANGE PARTITION " + partition
+                        + " WITH TABLE " + archive + " WITHOUT VALIDATION");
+                log.info("Measurement partition {} archived to {}", partition, archive);
+            }
+
+            jdbcTemplate.execute("ALTER TABLE measurements DROP PARTITION " + partition);
+            log.info("Measurement partition {} removed by retention ({})", partition, retentionAction);
+        }
+    }
+
+    /**
+     * 교환 대상 아카이브 테이블 준비 (비어 있고 파티션 없는 테이블)
+     * - 없으면 생성, 비어 있으면 재사용 (생성 직후 중단된 경우), 행이 있으면 실행 ID를 붙인 이름으로 새로 생성
+     *   (행이 있는 테이블과 교환하면 그 행이 파티션으로 들어가 함께 DROP되므로)
+     */
+    private String prepareArchive(String baseName, String runId) {
+        String archive = baseName;
+        if (tableExists(archive) && hasRows(archive)) {
+            archive = baseName + "_" + runId;
+        }
+
+        if (!tableExists(archive)) {
+            jdbcTemplate.execute("CREATE TABLE " + archive + " LIKE measurements");
+        }
+        if (isPartitioned(archive)) {
+            jdbcTemplate.execute("ALTER TABLE " + archive + " REMOVE PARTITIONING");
+        }
+        return archive;
+    }
+
+    private boolean hasRows(String tableExpression) {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM " + tableExpression + " LIMIT 1", Integer.class).isEmpty();
+    }
+
+    private boolean isPartitioned(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) > 0 FROM information_schema.partitions
+                WHERE table_schema = DATABASE() AND table_name = ? AND partition_name IS NOT NULL
+                """, Boolean.class, table));
+    }
+
+    private boolean tableExists(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) > 0 FROM information_schema.tables
+                WHERE table_schema = DATABASE() AND table_name = ?
+                """, Boolean.class, table));
+    }
+
+    /**
+     * 파티셔닝되지 않은 작은 테이블을 월 단위 파티션으로 전환
+     * - 모든 UNIQUE/PRIMARY KEY에 measured_at이 포함되어 있어야 함 (PK 전환 선행)
+     */
+    private void partitionTable() {
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM measurements", Long.class);
+        if (rows == null || rows > autoPartitionMaxRows) {
+            log.warn("measurements is not partitioned ({} rows) - run scripts/migration-measurements-partitioning.sql", rows);
+            return;
+        }
+
+        String primaryKey = jdbcTemplate.queryForObject("""
+                SELECT GROUP_CONCAT(column_name ORDER BY seq_in_index)
+                FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'measurements' AND index_name = 'PRIMARY'
+                """, String.class);
+        if (primaryKey == null || !primaryKey.contains("measured_at")) {
+            log.warn("measurements PRIMARY KEY ({}) does not include measured_at - run scripts/migration-measurements-clustered-pk.sql", primaryKey);
+            return;
+        }
+
+        String oldest = jdbcTemplate.queryForObject(
+                "SELECT DATE_FORMAT(COALESCE(MIN(measured_at), NOW()), '%Y-%m') FROM measurements", String.class);
+
+        StringJoiner partitions = new StringJoiner(", ");
+        YearMonth target = YearMonth.now(ZONE).plusMonths(monthsAhead);
+        for (YearMonth month = YearMonth.parse(oldest); !month.isAfter(target); month = month.plusMonths(1)) {
+            partitions.add(partitionDefinition(month));
+        }
+        partitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        jdbcTemplate.execute("ALTER TABLE measurements PARTITION BY RANGE COLUMNS(measured_at) (" + partitions + ")");
+        log.info("measurements partitioned monthly from {} to {} ({} rows)", oldest, target, rows);
+    }
+
+    private String partitionDefinition(YearMonth month) {
+        return "PARTITION " + month.format(PARTITION_NAME)
+                + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + " 00:00:00')";
+    }
+}
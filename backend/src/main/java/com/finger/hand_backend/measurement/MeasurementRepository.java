@@ -1,15 +1,24 @@
 package com.finger.hand_backend.measurement;
 
+import com.finger.hand_backend.measurement.projection.AnomalyDetailView;
+import com.finger.hand_backend.measurement.projection.DailyAnomalyCount;
+import com.finger.hand_backend.measurement.projection.MeasurementDaySummary;
+import com.finger.hand_backend.measurement.projection.UserAnomalyDetailView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Measurement Repository
@@ -27,6 +36,39 @@ public interface MeasurementRepository extends JpaRepository<Measurement, Long>
      */
     Page<Measurement> findByUserId(Long userId, Pageable pageable);
 
+    /**
+     * 사용자별 측정 데이터 커서 페이징 - 첫 페이지 (최신순)
+     * COUNT 쿼리 없이 pageable 크기만큼만 조회
+     *
+     * @param userId   사용자 ID
+     * @param pageable 조회 건수 (페이지 크기 + 1)
+     * @return 측정 데이터 리스트
+     */
+    @Query("""
+  SELECT m FROM Measurement m
+  WHERE m.userId = :userId
+  ORDER BY m.measuredAt DESC, m.id DESC
+""")
+    List<Measurement> findCursorFirstPage(Long userId, Pageable pageable);
+
+    /**
+     * 사용자별 측정 데이터 커서 페이징 - (at, id) 이전 행부터 (최신순)
+     * PK (user_id, measured_at, id) 범위 스캔 → 깊이와 무관하게 일정한 비용
+     *
+     * @param userId   사용자 ID
+     * @param at       이전 페이지 마지막 측정 시각
+     * @param id       이전 페이지 마지막 ID
+     * @param pageable 조회 건수 (페이지 크기 + 1)
+     * @return 측정 데이터 리스트
+     */
+    @Query("""
+  SELECT m FROM Measurement m
+  WHERE m.userId = :userId
+    AND (m.measuredAt < :at OR (m.measuredAt = :at AND m.id < :id))
+  ORDER BY m.measuredAt DESC, m.id DESC
+""")
+    List<Measurement> findCursorPageBefore(Long userId, LocalDateTime at, Long id, Pageable pageable);
+
     /**
      * 사용자별 특정 기간 측정 데이터 조회
      * Baseline 계산용
@@ -59,6 +101,23 @@ public interface MeasurementRepository extends JpaRepository<Measurement, Long>
         Integer maxStressLevel
     );
 
+    /**
+     * (사용자, 측정 시각) 조합으로 기존 측정 데이터 ID 조회
+     * 중복 수집 판별용 — userIds × measuredAts 상위 집합을 반환하므로 호출 측에서 키 필터링
+     *
+     * @param userIds     사용자 ID 목록
+     * @param measuredAts 측정 시각 목록
+     * @return [id, userId, measuredAt] 목록
+     */
+    @Query("""
+  SELECT m.id, m.userId, m.measuredAt FROM Measurement m
+  WHERE m.userId IN :userIds AND m.measuredAt IN :measuredAts
+""")
+    List<Object[]> findKeysByUserIdInAndMeasuredAtIn(
+        @Param("userIds") Collection<Long> userIds,
+        @Param("measuredAts") Collection<LocalDateTime> measuredAts
+    );
+
     /**
      * 사용자의 측정 데이터 개수 조회
      *
@@ -105,6 +164,89 @@ public interface MeasurementRepository extends JpaRepository<Measurement, Long>
         LocalDateTime end
     );
 
+    /**
+     * 기간 내 측정 횟수 + 이상치 개수 + 이상치 stressIndex 평균 (엔티티 로딩 없이 1회 집계)
+     * 일일 위험 점수 계산용 (일 롤업이 없을 때)
+     *
+     * @param userId 사용자 ID
+     * @param start  시작 시간 (포함)
+     * @param end    종료 시간 (미포함)
+     * @return 측정/이상치 집계
+     */
+    @Query("""
+  SELECT new com.finger.hand_backend.measurement.projection.MeasurementDaySummary(
+    COUNT(m),
+    SUM(CASE WHEN m.isAnomaly = true THEN 1L ELSE 0L END),
+    AVG(CASE WHEN m.isAnomaly = true THEN m.stressIndex END))
+  FROM Measurement m
+  WHERE m.userId = :userId
+    AND m.measuredAt >= :start
+    AND m.measuredAt < :end
+""")
+    MeasurementDaySummary summarizeDay(Long userId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * 기간 내 이상치 상세 (필요 컬럼만 조회)
+     * 보고서 생성 시 AI 서버 전달용
+     *
+     * @param userId 사용자 ID
+     * @param start  시작 시간 (포함)
+     * @param end    종료 시간 (미포함)
+     * @return 이상치 프로젝션 리스트 (측정 시각 오름차순)
+     */
+    @Query("""
+  SELECT new com.finger.hand_backend.measurement.projection.AnomalyDetailView(
+      m.id, m.measuredAt, m.stressIndex, m.stressLevel, m.heartRate, m.hrvSdnn, m.hrvRmssd)
+  FROM Measurement m
+  WHERE m.userId = :userId
+    AND m.isAnomaly = true
+    AND m.measuredAt >= :start
+    AND m.measuredAt < :end
+  ORDER BY m.measuredAt ASC, m.id ASC
+""")
+    List<AnomalyDetailView> findAnomalyDetails(Long userId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * 여러 사용자의 기간 내 이상치 상세 (1회 조회)
+     * 보고서 일괄 생성 시 청크 단위 선조회용
+     *
+     * @param userIds 사용자 ID 목록
+     * @param start   시작 시간 (포함)
+     * @param end     종료 시간 (미포함)
+     * @return 사용자별 이상치 프로젝션 리스트 (사용자, 측정 시각 오름차순)
+     */
+    @Query("""
+  SELECT new com.finger.hand_backend.measurement.projection.UserAnomalyDetailView(
+      m.userId, m.id, m.measuredAt, m.stressIndex, m.stressLevel, m.heartRate, m.hrvSdnn, m.hrvRmssd)
+  FROM Measurement m
+  WHERE m.userId IN :userIds
+    AND m.isAnomaly = true
+    AND m.measuredAt >= :start
+    AND m.measuredAt < :end
+  ORDER BY m.userId ASC, m.measuredAt ASC, m.id ASC
+""")
+    List<UserAnomalyDetailView> findAnomalyDetailsByUsers(Collection<Long> userIds, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * 여러 사용자의 일별 이상치 개수 (1회 GROUP BY 쿼리)
+     * 그룹 이상치 통계용 — 이상치가 없는 날/사용자는 행이 없음
+     *
+     * @param userIds 사용자 ID 목록
+     * @param start   시작 시간 (포함)
+     * @param end     종료 시간 (미포함)
+     * @return 사용자별 일별 이상치 개수
+     */
+    @Query("""
+  SELECT m.userId AS userId, CAST(m.measuredAt AS LocalDate) AS day, COUNT(m) AS anomalyCount
+  FROM Measurement m
+  WHERE m.userId IN :userIds
+    AND m.isAnomaly = true
+    AND m.measuredAt >= :start
+    AND m.measuredAt < :end
+  GROUP BY m.userId, CAST(m.measuredAt AS LocalDate)
+""")
+    List<DailyAnomalyCount> countDailyAnomalies(Collection<Long> userIds, LocalDateTime start, LocalDateTime end);
+
     // 시작시각 직전(=포함) 가장 최근 1건 — 결정적 정렬
     @Query("""
   SELECT m FROM Measurement m
@@ -124,6 +266,28 @@ public interface MeasurementRepository extends JpaRepository<Measurement, Long>
 """)
     List<Measurement> findFirstBetween(Long userId, LocalDateTime from, LocalDateTime to, Pageable pageable);
 
+    /**
+     * 기간 내 측정 데이터 스트림 조회 (측정 시각, ID 오름차순)
+     * NDJSON 내보내기용 — 결과를 한 행씩 스트리밍 (fetch size Integer.MIN_VALUE), 트랜잭션 안에서 사용 후 close 필요
+     *
+     * @param userId 사용자 ID
+     * @param start  시작 시간 (포함)
+     * @param end    종료 시간 (미포함)
+     * @return 측정 데이터 스트림
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+  SELECT m FROM Measurement m
+  WHERE m.userId = :userId
+    AND m.measuredAt >= :start
+    AND m.measuredAt < :end
+  ORDER BY m.measuredAt ASC, m.id ASC
+""")
+    Stream<Measurement> streamByUserIdAndMeasuredAtRange(Long userId, LocalDateTime start, LocalDateTime end);
+
     /**
      * 가장 최근 측정 데이터 1개 조회
      * 홈 화면 표시용
@@ -132,4 +296,19 @@ public interface MeasurementRepository extends JpaRepository<Measurement, Long>
      * @return 가장 최근 측정 데이터
      */
     Optional<Measurement> findTopByUserIdOrderByMeasuredAtDesc(Long userId);
+
+    /**
+     * 특정 시각 이후 최근 측정 데이터 조회 (최신순)
+     * 핫 윈도우 로딩용
+     *
+     * @param userId   사용자 ID
+     * @param from     시작 시간 (포함)
+     * @param pageable 최대 건수
+     * @return 측정 데이터 리스트 (측정 시각, ID 내림차순)
+     */
+    List<Measurement> findByUserIdAndMeasuredAtGreaterThanEqualOrderByMeasuredAtDescIdDesc(
+        Long userId,
+        LocalDateTime from,
+        Pageable pageable
+    );
 }
@@ -1,17 +1,29 @@
 package com.finger.hand_backend.measurement;
 
+import com.finger.hand_backend.baseline.stats.BaselineStatsService;
+import com.finger.hand_backend.common.CursorToken;
+import com.finger.hand_backend.common.event.DomainEventBus;
+import com.finger.hand_backend.common.dto.CursorPage;
+import com.finger.hand_backend.measurement.anomaly.ServerAnomaly;
+import com.finger.hand_backend.measurement.anomaly.ServerAnomalyDetector;
 import com.finger.hand_backend.measurement.dto.*;
-import com.finger.hand_backend.relief.ReliefAfterBackfill;
+import com.finger.hand_backend.measurement.event.MeasurementRecorded;
+import com.finger.hand_backend.measurement.hot.HotWindowStore;
+import com.finger.hand_backend.measurement.rollup.MeasurementRollup;
+import com.finger.hand_backend.measurement.rollup.MeasurementRollupService;
+import com.finger.hand_backend.measurement.rollup.RollupResolution;
+import com.finger.hand_backend.measurement.sketch.MeasurementSketchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -26,20 +38,184 @@ import java.util.stream.Collectors;
 public class MeasurementService {
 
     private final MeasurementRepository measurementRepository;
-    private final ReliefAfterBackfill reliefAfterBackfill;
+    private final MeasurementBatchWriter measurementBatchWriter;
+    private final MeasurementDeduplicator measurementDeduplicator;
+    private final DomainEventBus eventBus;
+    private final MeasurementRollupService rollupService;
+    private final BaselineStatsService baselineStatsService;
+    private final MeasurementSketchService sketchService;
+    private final HotWindowStore hotWindowStore;
+    private final ServerAnomalyDetector serverAnomalyDetector;
 
     /**
      * 측정 데이터 저장
      * - 워치에서 계산된 모든 값을 수신하여 그대로 저장
+     * - 같은 (사용자, 측정 시각)이 이미 저장돼 있으면 저장하지 않고 원래 측정값 반환 (재시도 멱등)
      *
      * @param userId  사용자 ID
      * @param request 측정 데이터 요청
-     * @return 저장된 측정 데이터
+     * @return 저장된 측정 데이터 (중복이면 기존 측정 데이터)
      */
     @Transactional
     public Measurement save(Long userId, MeasurementRequest request) {
+        MeasurementDeduplicator.Key key = new MeasurementDeduplicator.Key(userId, request.getMeasuredAt());
+        Long existingId = measurementDeduplicator.findExistingIds(List.of(key)).get(key);
+        if (existingId != null) {
+            Optional<Measurement> existing = measurementRepository.findById(existingId);
+            if (existing.isPresent()) {
+                log.debug("Duplicate measurement for user {} at {} -> id {}", userId, request.getMeasuredAt(), existingId);
+                return existing.get();
+            }
+        }
+
         // 워치에서 계산된 값 그대로 저장
-        Measurement measurement = Measurement.builder()
+        ServerAnomalyDetector.Session anomalySession = serverAnomalyDetector.session();
+        Measurement measurement = toEntity(anomalySession, userId, request);
+
+        Measurement saved;
+        try {
+            saved = measurementRepository.save(measurement);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicate(e);
+        }
+        measurementDeduplicator.rememberAfterCommit(List.of(saved));
+        anomalySession.applyAfterCommit();
+
+        // 롤업, Baseline 일별 통계, 분위수 스케치 갱신
+        rollupService.apply(List.of(saved));
+        baselineStatsService.apply(List.of(saved));
+        sketchService.apply(List.of(saved));
+        hotWindowStore.appendAfterCommit(List.of(saved));
+
+        // 후속 처리 (Relief 세션 연동 등)는 커밋 후 이벤트로 비동기 처리
+        eventBus.publishAfterCommit(new MeasurementRecorded(userId, List.of(saved)));
+
+        return saved;
+    }
+
+    /**
+     * 측정 데이터 일괄 저장
+     * - 워치 재연결 시 밀린 측정값을 하나의 트랜잭션, JDBC 배치 INSERT로 저장
+     * - 이미 저장된 (사용자, 측정 시각)은 건너뛰고 원래 측정값으로 응답
+     * - 후속 처리 이벤트(MeasurementRecorded)는 배치당 1건
+     *
+     * @param userId   사용자 ID
+     * @param requests 측정 데이터 요청 목록
+     * @return 저장된 측정 데이터 (요청 순서 유지, 중복은 기존 측정 데이터)
+     */
+    @Transactional
+    public List<Measurement> saveBatch(Long userId, List<MeasurementRequest> requests) {
+        Map<MeasurementDeduplicator.Key, Long> existingIds = new HashMap<>();
+        List<Measurement> saved = insertNew(Map.of(userId, requests), existingIds);
+        log.debug("Batch saved {} of {} measurements for user {}", saved.size(), requests.size(), userId);
+
+        if (!saved.isEmpty()) {
+            // 롤업, Baseline 일별 통계, 분위수 스케치 갱신
+            rollupService.apply(saved);
+            baselineStatsService.apply(saved);
+            sketchService.apply(saved);
+            hotWindowStore.appendAfterCommit(saved);
+
+            // 후속 처리는 배치당 이벤트 1건
+            eventBus.publishAfterCommit(new MeasurementRecorded(userId, saved));
+        }
+
+        // 중복 요청은 원래 측정값으로 응답 (PK 조회 1회)
+        Map<MeasurementDeduplicator.Key, Measurement> byKey = new HashMap<>();
+        measurementRepository.findAllById(existingIds.values())
+                .forEach(m -> byKey.put(MeasurementDeduplicator.Key.of(m), m));
+        saved.forEach(m -> byKey.put(MeasurementDeduplicator.Key.of(m), m));
+
+        return requests.stream()
+                .map(request -> byKey.get(new MeasurementDeduplicator.Key(userId, request.getMeasuredAt())))
+                .toList();
+    }
+
+    /**
+     * 여러 사용자의 측정 데이터를 한 트랜잭션으로 저장 (비동기 수집 group commit용)
+     * - 전체를 한 번의 JDBC 배치로 INSERT (이미 저장된 측정값은 제외)
+     * - 롤업은 배치 전체를 한 번에 반영, MeasurementRecorded는 사용자당 1건
+     *
+     * @param requestsByUser 사용자별 측정 데이터 요청 (수신 순서 유지)
+     */
+    @Transactional
+    public void saveGrouped(Map<Long, List<MeasurementRequest>> requestsByUser) {
+        List<Measurement> saved = insertNew(requestsByUser, new HashMap<>());
+        if (saved.isEmpty()) {
+            return;
+        }
+
+        rollupService.apply(saved);
+        baselineStatsService.apply(saved);
+        sketchService.apply(saved);
+        hotWindowStore.appendAfterCommit(saved);
+
+        Map<Long, List<Measurement>> savedByUser = saved.stream()
+                .collect(Collectors.groupingBy(Measurement::getUserId, LinkedHashMap::new, Collectors.toList()));
+
+        savedByUser.forEach((userId, measurements) ->
+                eventBus.publishAfterCommit(new MeasurementRecorded(userId, measurements)));
+    }
+
+    /**
+     * 중복을 제외하고 배치 INSERT
+     * - 이미 저장된 측정값과 요청 내 중복(같은 측정 시각)은 제외
+     *
+     * @param requestsByUser 사용자별 측정 데이터 요청
+     * @param existingIds    (출력) 이미 저장돼 있던 키 → 기존 측정값 ID
+     * @return 새로 저장된 측정 데이터
+     */
+    private List<Measurement> insertNew(
+            Map<Long, List<MeasurementRequest>> requestsByUser,
+            Map<MeasurementDeduplicator.Key, Long> existingIds
+    ) {
+        Set<MeasurementDeduplicator.Key> keys = new HashSet<>();
+        requestsByUser.forEach((userId, requests) -> requests.forEach(request ->
+                keys.add(new MeasurementDeduplicator.Key(userId, request.getMeasuredAt()))));
+        existingIds.putAll(measurementDeduplicator.findExistingIds(keys));
+
+        ServerAnomalyDetector.Session anomalySession = serverAnomalyDetector.session();
+        List<Measurement> fresh = new ArrayList<>();
+        Set<MeasurementDeduplicator.Key> pending = new HashSet<>();
+        requestsByUser.forEach((userId, requests) -> requests.forEach(request -> {
+            MeasurementDeduplicator.Key key = new MeasurementDeduplicator.Key(userId, request.getMeasuredAt());
+            if (!existingIds.containsKey(key) && pending.add(key)) {
+                fresh.add(toEntity(anomalySession, userId, request));
+            }
+        }));
+
+        List<Measurement> saved;
+        try {
+            saved = measurementBatchWriter.insertAll(fresh);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicate(e);
+        }
+        measurementDeduplicator.rememberAfterCommit(saved);
+        anomalySession.applyAfterCommit();
+
+        return saved;
+    }
+
+    /**
+     * 조회 후 INSERT 사이에 같은 측정값이 먼저 저장된 경우만 DuplicateMeasurementException으로 변환
+     */
+    private static RuntimeException translateDuplicate(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        if (message != null && message.contains(DuplicateMeasurementException.UNIQUE_KEY)) {
+            return new DuplicateMeasurementException(e);
+        }
+        return e;
+    }
+
+    /**
+     * 요청 → 엔티티 (서버 이상 탐지 결과 포함)
+     * - 중복을 제외한 새 측정값에만 호출, 탐지 상태는 INSERT가 커밋된 뒤에만 반영 (applyAfterCommit)
+     */
+    private Measurement toEntity(ServerAnomalyDetector.Session anomalySession, Long userId, MeasurementRequest request) {
+        ServerAnomaly serverAnomaly = anomalySession.detect(userId, request.getMeasuredAt(),
+                request.getHeartRate(), request.getHrvSdnn(), request.getHrvRmssd(), request.getObjectTemp());
+
+        return Measurement.builder()
                 .userId(userId)
                 .heartRate(request.getHeartRate())
                 .hrvSdnn(request.getHrvSdnn())
@@ -53,17 +229,12 @@ public class MeasurementService {
                 .stressIndex(request.getStressIndex())
                 .stressLevel(request.getStressLevel())
                 .isAnomaly(request.getIsAnomaly())
+                .serverAnomaly(serverAnomaly != null ? serverAnomaly.anomaly() : null)
+                .serverAnomalyScore(serverAnomaly != null ? serverAnomaly.score() : null)
                 .totalSteps(request.getTotalSteps())
                 .stepsPerMinute(request.getStepsPerMinute())
                 .measuredAt(request.getMeasuredAt())
                 .build();
-
-        Measurement saved = measurementRepository.save(measurement);
-
-        // Relief 세션 연동
-        reliefAfterBackfill.onNewMeasurement(saved.getUserId(), saved);
-
-        return saved;
     }
 
     /**
@@ -78,6 +249,37 @@ public class MeasurementService {
         return measurementRepository.findByUserId(userId, pageable);
     }
 
+    /**
+     * 사용자별 측정 데이터 커서 페이징 조회 (최신순)
+     * - (measured_at, id) 키셋 조회라 스크롤 깊이와 무관하게 일정한 비용
+     * - 전체 개수는 includeTotal=true일 때만 계산
+     *
+     * @param userId       사용자 ID
+     * @param cursor       이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size         페이지 크기 (최대 100)
+     * @param includeTotal 전체 개수 포함 여부
+     * @return 측정 데이터 커서 페이지
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<MeasurementResponse> getMyMeasurementsByCursor(
+            Long userId,
+            String cursor,
+            int size,
+            boolean includeTotal
+    ) {
+        int limit = CursorPage.clampSize(size);
+        CursorToken token = CursorToken.decode(cursor);
+        PageRequest fetch = PageRequest.of(0, limit + 1);
+
+        List<Measurement> rows = token == null
+                ? measurementRepository.findCursorFirstPage(userId, fetch)
+                : measurementRepository.findCursorPageBefore(userId, token.at(), token.id(), fetch);
+        Long total = includeTotal ? measurementRepository.countByUserId(userId) : null;
+
+        return CursorPage.of(rows, limit, Measurement::getMeasuredAt, Measurement::getId,
+                MeasurementResponse::from, total);
+    }
+
     /**
      * 특정 기간 측정 데이터 조회
      *
@@ -127,6 +329,14 @@ public class MeasurementService {
     public void deleteMeasurement(Long userId, Long measurementId) {
         Measurement measurement = getMeasurement(userId, measurementId);
         measurementRepository.delete(measurement);
+        measurementRepository.flush();
+        measurementDeduplicator.forgetAfterCommit(measurement);
+
+        // 삭제된 측정값이 속한 날의 롤업, Baseline 일별 통계, 분위수 스케치 재계산
+        rollupService.rebuildDay(userId, measurement.getMeasuredAt().toLocalDate());
+        baselineStatsService.rebuildDay(userId, measurement.getMeasuredAt().toLocalDate());
+        sketchService.rebuildDay(userId, measurement.getMeasuredAt().toLocalDate());
+        hotWindowStore.invalidateAfterCommit(userId);
     }
 
     /**
@@ -181,18 +391,17 @@ public class MeasurementService {
         LocalDate today = LocalDate.now();
         LocalDate sevenDaysAgo = today.minusDays(6); // 오늘 포함 7일
 
+        // 일 단위 롤업 1회 조회 (최대 7행)
+        Map<LocalDate, Integer> anomalyCountByDate = rollupService
+                .getRollups(userId, RollupResolution.DAY, sevenDaysAgo.atStartOfDay(), today.atStartOfDay())
+                .stream()
+                .collect(Collectors.toMap(r -> r.getBucketStart().toLocalDate(), MeasurementRollup::getAnomalyCount));
+
         List<DailyAnomalyResponse> dailyAnomalies = new ArrayList<>();
         int totalCount = 0;
 
-        // 각 날짜별로 이상치 개수만 조회 (상세 데이터 제외)
         for (LocalDate date = sevenDaysAgo; !date.isAfter(today); date = date.plusDays(1)) {
-            LocalDateTime startOfDay = date.atStartOfDay();
-            LocalDateTime endOfDay = date.plusDays(1).atStartOfDay();
-
-            List<Measurement> anomalies = measurementRepository
-                    .findByUserIdAndIsAnomalyTrueAndMeasuredAtBetweenOrderByMeasuredAtAsc(userId, startOfDay, endOfDay);
-
-            int count = anomalies.size();
+            int count = anomalyCountByDate.getOrDefault(date, 0);
             totalCount += count;
 
             // anomalies 리스트는 빈 리스트로 설정 (데이터 경량화)
@@ -216,14 +425,16 @@ public class MeasurementService {
     /**
      * 가장 최근 측정 데이터 조회
      * 홈 화면 표시용
+     * - 최근 24시간 안의 값은 핫 윈도우에서 반환, 없으면 DB 조회
      *
      * @param userId 사용자 ID
      * @return 가장 최근 측정 데이터 (없으면 null)
      */
     @Transactional(readOnly = true)
     public Measurement getLatestMeasurement(Long userId) {
-        return measurementRepository.findTopByUserIdOrderByMeasuredAtDesc(userId)
-                .orElse(null);
+        return hotWindowStore.latest(userId, () -> measurementRepository
+                .findTopByUserIdOrderByMeasuredAtDesc(userId)
+                .orElse(null));
     }
 
     // ===== 스트레스 관련 메서드 =====
@@ -233,36 +444,33 @@ public class MeasurementService {
      * - 이상치 횟수
      * - 시간대별 통계 (최고/최저/평균)
      * - 최고점/최저점 시각
+     * - 원본 대신 1시간 롤업(최대 24행)으로 계산
      */
     @Transactional(readOnly = true)
     public TodayStressResponse getTodayStress(Long userId, LocalDate date) {
         log.info("Getting today stress for user {} on {}", userId, date);
 
-        // 1. 오늘 하루 범위 계산 (00:00:00 ~ 23:59:59)
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
-
-        // 2. 오늘의 모든 측정 데이터 조회
-        List<Measurement> measurements = measurementRepository
-                .findByUserIdAndMeasuredAtBetween(userId, startOfDay, endOfDay);
+        // 1. 오늘의 시간 단위 롤업 조회 (00:00 ~ 23:00 버킷)
+        List<MeasurementRollup> hourlyRollups = rollupService.getRollups(
+                userId, RollupResolution.HOUR, date.atStartOfDay(), date.atTime(23, 0));
 
-        log.debug("Found {} measurements for date {}", measurements.size(), date);
+        log.debug("Found {} hourly rollups for date {}", hourlyRollups.size(), date);
 
-        // 3. 이상치 횟수 계산
-        long anomalyCount = measurements.stream()
-                .filter(Measurement::getIsAnomaly)
-                .count();
+        // 2. 이상치 횟수 계산
+        int anomalyCount = hourlyRollups.stream()
+                .mapToInt(MeasurementRollup::getAnomalyCount)
+                .sum();
 
-        // 4. 시간대별 통계 계산 (0시~23시)
-        List<HourlyStatsDto> hourlyStats = calculateHourlyStats(measurements);
+        // 3. 시간대별 통계 계산 (0시~23시)
+        List<HourlyStatsDto> hourlyStats = calculateHourlyStats(hourlyRollups);
 
-        // 5. 최고점 찾기 (여러 개 가능)
-        List<StressPointDto> peakStress = findPeakStress(measurements);
+        // 4. 최고점 찾기 (여러 시간대 가능)
+        List<StressPointDto> peakStress = findPeakStress(hourlyRollups);
 
-        // 6. 최저점 찾기 (여러 개 가능)
-        List<StressPointDto> lowestStress = findLowestStress(measurements);
+        // 5. 최저점 찾기 (여러 시간대 가능)
+        List<StressPointDto> lowestStress = findLowestStress(hourlyRollups);
 
-        // 7. 측정 빈도가 가장 높은 시간대 찾기
+        // 6. 측정 빈도가 가장 높은 시간대 찾기
         Integer peakFrequencyHour = null;
         Integer peakFrequencyCount = null;
 
@@ -279,7 +487,7 @@ public class MeasurementService {
 
         return new TodayStressResponse(
                 date,
-                (int) anomalyCount,
+                anomalyCount,
                 hourlyStats,
                 peakStress,
                 lowestStress,
@@ -291,32 +499,25 @@ public class MeasurementService {
     /**
      * 시간대별 통계 계산 (0시~23시, 총 24개)
      */
-    private List<HourlyStatsDto> calculateHourlyStats(List<Measurement> measurements) {
-        // 시간대별로 그룹화
-        Map<Integer, List<Measurement>> hourlyGrouped = measurements.stream()
-                .collect(Collectors.groupingBy(m -> m.getMeasuredAt().getHour()));
+    private List<HourlyStatsDto> calculateHourlyStats(List<MeasurementRollup> hourlyRollups) {
+        Map<Integer, MeasurementRollup> byHour = hourlyRollups.stream()
+                .collect(Collectors.toMap(r -> r.getBucketStart().getHour(), r -> r));
 
         // 0시~23시까지 24개 통계 생성
         List<HourlyStatsDto> hourlyStats = new ArrayList<>();
         for (int hour = 0; hour < 24; hour++) {
-            List<Measurement> hourMeasurements = hourlyGrouped.getOrDefault(hour, Collections.emptyList());
+            MeasurementRollup rollup = byHour.get(hour);
 
-            if (hourMeasurements.isEmpty()) {
+            if (rollup == null) {
                 // 해당 시간대에 측정 데이터가 없으면 null 값
                 hourlyStats.add(new HourlyStatsDto(hour, null, null, null, 0));
             } else {
-                // 최고/최저/평균 계산
-                DoubleSummaryStatistics stats = hourMeasurements.stream()
-                        .filter(m -> m.getStressIndex() != null)
-                        .mapToDouble(Measurement::getStressIndex)
-                        .summaryStatistics();
-
                 hourlyStats.add(new HourlyStatsDto(
                         hour,
-                        stats.getMax(),
-                        stats.getMin(),
-                        stats.getAverage(),
-                        hourMeasurements.size()
+                        rollup.getStressMax(),
+                        rollup.getStressMin(),
+                        rollup.getStressAvg(),
+                        rollup.getMeasurementCount()
                 ));
             }
         }
@@ -325,46 +526,42 @@ public class MeasurementService {
     }
 
     /**
-     * 최고점 찾기 (stressIndex가 최대인 모든 측정값)
+     * 최고점 찾기 (하루 최고 stressIndex에 도달한 시간대별 첫 시각)
      */
-    private List<StressPointDto> findPeakStress(List<Measurement> measurements) {
-        if (measurements.isEmpty()) {
+    private List<StressPointDto> findPeakStress(List<MeasurementRollup> hourlyRollups) {
+        OptionalDouble maxStress = hourlyRollups.stream()
+                .filter(r -> r.getStressMax() != null)
+                .mapToDouble(MeasurementRollup::getStressMax)
+                .max();
+
+        if (maxStress.isEmpty()) {
             return Collections.emptyList();
         }
 
-        // 최댓값 찾기
-        double maxStress = measurements.stream()
-                .filter(m -> m.getStressIndex() != null)
-                .mapToDouble(Measurement::getStressIndex)
-                .max()
-                .orElse(0.0);
-
-        // 최댓값과 같은 모든 측정값 반환
-        return measurements.stream()
-                .filter(m -> m.getStressIndex() != null && m.getStressIndex() == maxStress)
-                .map(m -> new StressPointDto(m.getStressIndex(), m.getMeasuredAt()))
+        // 최댓값과 같은 모든 시간대의 최고점 반환
+        return hourlyRollups.stream()
+                .filter(r -> r.getStressMax() != null && r.getStressMax() == maxStress.getAsDouble())
+                .map(r -> new StressPointDto(r.getStressMax(), r.getStressMaxAt()))
                 .collect(Collectors.toList());
     }
 
     /**
-     * 최저점 찾기 (stressIndex가 최소인 모든 측정값)
+     * 최저점 찾기 (하루 최저 stressIndex에 도달한 시간대별 첫 시각)
      */
-    private List<StressPointDto> findLowestStress(List<Measurement> measurements) {
-        if (measurements.isEmpty()) {
+    private List<StressPointDto> findLowestStress(List<MeasurementRollup> hourlyRollups) {
+        OptionalDouble minStress = hourlyRollups.stream()
+                .filter(r -> r.getStressMin() != null)
+                .mapToDouble(MeasurementRollup::getStressMin)
+                .min();
+
+        if (minStress.isEmpty()) {
             return Collections.emptyList();
         }
 
-        // 최솟값 찾기
-        double minStress = measurements.stream()
-                .filter(m -> m.getStressIndex() != null)
-                .mapToDouble(Measurement::getStressIndex)
-                .min()
-                .orElse(0.0);
-
-        // 최솟값과 같은 모든 측정값 반환
-        return measurements.stream()
-                .filter(m -> m.getStressIndex() != null && m.getStressIndex() == minStress)
-                .map(m -> new StressPointDto(m.getStressIndex(), m.getMeasuredAt()))
+        // 최솟값과 같은 모든 시간대의 최저점 반환
+        return hourlyRollups.stream()
+                .filter(r -> r.getStressMin() != null && r.getStressMin() == minStress.getAsDouble())
+                .map(r -> new StressPointDto(r.getStressMin(), r.getStressMinAt()))
                 .collect(Collectors.toList());
     }
 }
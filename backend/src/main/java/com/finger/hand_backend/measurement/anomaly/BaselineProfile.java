@@ -0,0 +1,40 @@
+package com.finger.hand_backend.measurement.anomaly;
+
+import com.finger.hand_backend.baseline.Baseline;
+
+/**
+ * 이상 탐지에 쓰는 개인 Baseline 통계 (평균, 표준편차)
+ * - 값이 없는 지표는 NaN → 점수 계산에서 제외
+ * - 표준편차는 지표별 하한 이상으로 보정 (편차가 거의 없는 Baseline에서 z-score 폭주 방지)
+ *   (지표마다 단위와 정상 변동폭이 달라서 하한도 따로 둠: 심박 bpm, HRV ms, 피부 온도 ℃ σ≈0.3)
+ */
+public record BaselineProfile(
+        double heartRateMean, double heartRateStd,
+        double hrvSdnnMean, double hrvSdnnStd,
+        double hrvRmssdMean, double hrvRmssdStd,
+        double objectTempMean, double objectTempStd
+) {
+
+    /**
+     * 지표별 표준편차 하한
+     */
+    public record StdFloor(double heartRate, double hrvSdnn, double hrvRmssd, double objectTemp) {
+    }
+
+    public static BaselineProfile from(Baseline baseline, StdFloor minStd) {
+        return new BaselineProfile(
+                value(baseline.getHeartRateMean()), std(baseline.getHeartRateStd(), minStd.heartRate()),
+                value(baseline.getHrvSdnnMean()), std(baseline.getHrvSdnnStd(), minStd.hrvSdnn()),
+                value(baseline.getHrvRmssdMean()), std(baseline.getHrvRmssdStd(), minStd.hrvRmssd()),
+                value(baseline.getObjectTempMean()), std(baseline.getObjectTempStd(), minStd.objectTemp())
+        );
+    }
+
+    private static double value(Double v) {
+        return v != null ? v : Double.NaN;
+    }
+
+    private static double std(Double v, double minStd) {
+        return v != null ? Math.max(v, minStd) : Double.NaN;
+    }
+}
@@ -0,0 +1,10 @@
+package com.finger.hand_backend.measurement.anomaly;
+
+/**
+ * 서버 이상 탐지 결과
+ *
+ * @param anomaly 이상 여부 (히스테리시스 적용)
+ * @param score   EWMA z-score (Baseline 표준편차 단위)
+ */
+public record ServerAnomaly(boolean anomaly, double score) {
+}
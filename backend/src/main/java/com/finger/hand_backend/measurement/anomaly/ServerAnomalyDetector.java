@@ -0,0 +1,262 @@
+package com.finger.hand_backend.measurement.anomaly;
+
+import com.finger.hand_backend.baseline.BaselineRepository;
+import com.finger.hand_backend.baseline.event.BaselineActivated;
+import com.finger.hand_backend.common.AfterCommit;
+import com.finger.hand_backend.common.event.DomainEventListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수집 단계 서버 이상 탐지 (활성 Baseline 기준)
+ * - 저장할 측정값마다 인라인으로 판정 (워치 isAnomaly와 별도로 server_anomaly, server_anomaly_score 기록)
+ * - 사용자별 상태(Baseline 통계 + EWMA)는 메모리에 유지, Baseline은 사용자 첫 측정 때 1회 조회
+ *   (조회는 맵 잠금 밖에서 하고 putIfAbsent로 등록, 활성 Baseline이 없던 사용자는 missing-baseline-ttl-seconds마다 다시 조회)
+ * - 판정은 저장 트랜잭션별 Session에서 상태 복사본으로 하고, 커밋된 측정값만 실제 EWMA에 반영
+ *   (롤백/재시도된 배치가 같은 측정값을 EWMA에 두 번 넣지 않음)
+ * - BaselineActivated 이벤트로 Baseline 교체 및 EWMA 초기화
+ * - reset-gap-minutes + missing-baseline-ttl-seconds 동안 측정이 없던 사용자 상태는 제거
+ *   (그 사이 EWMA는 어차피 재시작되므로 다음 측정 때 Baseline만 다시 조회)
+ * - 활성 Baseline이 없거나 판정할 지표가 없으면 null (컬럼도 NULL)
+ */
+@Component
+public class ServerAnomalyDetector implements DomainEventListener<BaselineActivated> {
+
+    /**
+     * 사용자 상태 (profile == null이면 활성 Baseline 없음)
+     */
+    private static final class UserState {
+
+        private final StreamingAnomalyDetector.State stream = new StreamingAnomalyDetector.State();
+        private volatile BaselineProfile profile;
+        private volatile long loadedAtNanos;
+        private volatile long lastSeenNanos;
+
+        UserState(BaselineProfile profile) {
+            this.profile = profile;
+            this.loadedAtNanos = System.nanoTime();
+            this.lastSeenNanos = loadedAtNanos;
+        }
+    }
+
+    /**
+     * 사용자별 커밋 대기 판정 (상태 복사본 + 반영할 측정값)
+     */
+    private record Pending(UserState state, BaselineProfile profile, StreamingAnomalyDetector.State scratch,
+                           List<Update> updates) {
+    }
+
+    private record Update(long micros, double z, boolean anomaly) {
+    }
+
+    private final BaselineRepository baselineRepository;
+    private final StreamingAnomalyDetector detector;
+    private final boolean enabled;
+    private final BaselineProfile.StdFloor minStd;
+    private final long missingBaselineTtlNanos;
+    private final long idleTtlNanos;
+
+    private final Map<Long, UserState> states = new ConcurrentHashMap<>();
+
+    private final Counter flaggedCounter;
+
+    public ServerAnomalyDetector(
+            BaselineRepository baselineRepository,
+            MeterRegistry meterRegistry,
+            @Value("${measurement.anomaly.enabled:true}") boolean enabled,
+            @Value("${measurement.anomaly.alpha:0.3}") double alpha,
+            @Value("${measurement.anomaly.enter-threshold:3.0}") double enterThreshold,
+            @Value("${measurement.anomaly.exit-threshold:2.0}") double exitThreshold,
+            @Value("${measurement.anomaly.reset-gap-minutes:10}") long resetGapMinutes,
+            @Value("${measurement.anomaly.min-std.heart-rate:1.0}") double minHeartRateStd,
+            @Value("${measurement.anomaly.min-std.hrv-sdnn:1.0}") double minHrvSdnnStd,
+            @Value("${measurement.anomaly.min-std.hrv-rmssd:1.0}") double minHrvRmssdStd,
+            @Value("${measurement.anomaly.min-std.object-temp:0.1}") double minObjectTempStd,
+            @Value("${measurement.anomaly.missing-baseline-ttl-seconds:300}") long missingBaselineTtlSeconds
+    ) {
+        this.baselineRepository = baselineRepository;
+        this.detector = new StreamingAnomalyDetector(alpha, enterThreshold, exitThreshold,
+                resetGapMinutes * 60_000_000L);
+        this.enabled = enabled;
+        this.minStd = new BaselineProfile.StdFloor(minHeartRateStd, minHrvSdnnStd, minHrvRmssdStd, minObjectTempStd);
+        this.missingBaselineTtlNanos = TimeUnit.SECONDS.toNanos(missingBaselineTtlSeconds);
+        this.idleTtlNanos = TimeUnit.MINUTES.toNanos(resetGapMinutes) + missingBaselineTtlNanos;
+
+        this.flaggedCounter = Counter.builder("measurement.server_anomaly.flagged")
+                .description("Measurements flagged by the server-side baseline detector")
+                .register(meterRegistry);
+        Gauge.builder("measurement.server_anomaly.users", states, Map::size)
+                .description("Users with in-memory detector state")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장 트랜잭션 1건의 판정 시작
+     */
+    public Session session() {
+        return new Session();
+    }
+
+    /**
+     * 저장 트랜잭션 1건의 판정
+     * - detect는 사용자 상태 복사본으로 판정 (실제 상태는 그대로)
+     * - applyAfterCommit으로 커밋된 경우에만 같은 측정값을 실제 상태에 반영
+     * - 스레드 안전하지 않음 (트랜잭션을 처리하는 스레드 하나에서 사용)
+     */
+    public final class Session {
+
+        private final Map<Long, Pending> pending = new HashMap<>();
+
+        private Session() {
+        }
+
+        /**
+         * 측정값 1건 판정 (같은 사용자는 측정 시각 순서로 호출, 저장할 새 측정값에만 호출)
+         *
+         * @return 판정 결과, Baseline이 없거나 판정 불가면 null
+         */
+        public ServerAnomaly detect(Long userId, LocalDateTime measuredAt,
+                                    Double heartRate, Double hrvSdnn, Double hrvRmssd, Double objectTemp) {
+            if (!enabled) {
+                return null;
+            }
+
+            Pending p = pending.computeIfAbsent(userId, this::begin);
+            if (p.profile() == null) {
+                return null;
+            }
+
+            double z = StreamingAnomalyDetector.pointScore(p.profile(),
+                    value(heartRate), value(hrvSdnn), value(hrvRmssd), value(objectTemp));
+            if (Double.isNaN(z)) {
+                return null;
+            }
+
+            long micros = toMicros(measuredAt);
+            boolean anomaly = detector.update(p.scratch(), micros, z);
+            p.updates().add(new Update(micros, z, anomaly));
+            return new ServerAnomaly(anomaly, p.scratch().score());
+        }
+
+        /**
+         * 커밋 후 판정한 측정값을 실제 상태에 반영 (롤백되면 버림)
+         * - 그 사이 다른 트랜잭션이 반영한 측정값 위에 다시 적용 (과거 측정값은 상태를 바꾸지 않음)
+         * - 그 사이 Baseline이 바뀌었으면 이전 Baseline 기준 점수이므로 반영하지 않음
+         */
+        public void applyAfterCommit() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<Pending> committed = List.copyOf(pending.values());
+            AfterCommit.run(() -> committed.forEach(ServerAnomalyDetector.this::apply));
+        }
+
+        private Pending begin(Long userId) {
+            UserState state = stateOf(userId);
+            synchronized (state) {
+                return new Pending(state, state.profile, state.stream.copy(), new ArrayList<>());
+            }
+        }
+    }
+
+    private void apply(Pending p) {
+        long flagged = 0;
+        synchronized (p.state()) {
+            if (p.state().profile != p.profile()) {
+                return;
+            }
+            for (Update update : p.updates()) {
+                detector.update(p.state().stream, update.micros(), update.z());
+                if (update.anomaly()) {
+                    flagged++;
+                }
+            }
+        }
+        flaggedCounter.increment(flagged);
+    }
+
+    /**
+     * 측정이 끊긴 사용자 상태 제거 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeIdle() {
+        long now = System.nanoTime();
+        states.values().removeIf(state -> now - state.lastSeenNanos > idleTtlNanos);
+    }
+
+    @Override
+    public Class<BaselineActivated> eventType() {
+        return BaselineActivated.class;
+    }
+
+    /**
+     * 활성 Baseline 변경 → 통계 교체, EWMA 초기화 (이전 Baseline 기준 점수와 섞이지 않도록)
+     */
+    @Override
+    public void on(BaselineActivated event) {
+        UserState state = states.get(event.userId());
+        if (state == null) {
+            return;  // 다음 측정 때 새 Baseline으로 로딩
+        }
+
+        BaselineProfile profile = loadProfile(event.userId());
+        synchronized (state) {
+            state.profile = profile;
+            state.stream.reset();
+        }
+    }
+
+    /**
+     * 사용자 상태 (DB 조회는 ConcurrentHashMap 버킷 잠금 밖에서)
+     * - 처음이면 조회 후 putIfAbsent (동시에 조회한 쪽은 먼저 등록된 상태 사용)
+     * - 활성 Baseline이 없던 상태는 TTL이 지나면 다시 조회 (이벤트를 놓쳐도 영구히 판정을 건너뛰지 않도록)
+     */
+    private UserState stateOf(Long userId) {
+        UserState state = states.get(userId);
+        if (state == null) {
+            UserState loaded = new UserState(loadProfile(userId));
+            UserState raced = states.putIfAbsent(userId, loaded);
+            return raced != null ? raced : loaded;
+        }
+        state.lastSeenNanos = System.nanoTime();
+
+        if (state.profile == null && System.nanoTime() - state.loadedAtNanos > missingBaselineTtlNanos) {
+            BaselineProfile profile = loadProfile(userId);
+            synchronized (state) {
+                if (state.profile == null) {
+                    state.profile = profile;
+                    state.stream.reset();
+                }
+                state.loadedAtNanos = System.nanoTime();
+            }
+        }
+        return state;
+    }
+
+    private BaselineProfile loadProfile(Long userId) {
+        return baselineRepository.findByUserIdAndIsActiveTrue(userId)
+                .map(baseline -> BaselineProfile.from(baseline, minStd))
+                .orElse(null);
+    }
+
+    private static double value(Double v) {
+        return v != null ? v : Double.NaN;
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,137 @@
+package com.finger.hand_backend.measurement.anomaly;
+
+/**
+ * 개인 Baseline 기준 스트리밍 이상 탐지 (EWMA + 히스테리시스)
+ * - 측정값 1건의 z-score: 스트레스 방향 편차의 최댓값
+ *   심박수 상승 (HR - mean) / std, HRV 저하 (mean - SDNN) / std, (mean - RMSSD) / std, 피부 온도 |T - mean| / std
+ * - 사용자 상태는 EWMA 점수, 이상 여부, 마지막 측정 시각뿐 (사용자당 O(1))
+ * - 히스테리시스: EWMA ≥ enter이면 이상 시작, EWMA ≤ exit이 될 때까지 유지 → 경계값 근처에서 깜빡이지 않음
+ * - 직전 측정과 resetGap 이상 떨어지면 EWMA를 새로 시작, 이전보다 과거 측정값은 상태를 바꾸지 않고 단건 점수로만 판정
+ *
+ * 스레드 안전하지 않음: 같은 State는 호출부에서 동기화
+ */
+public final class StreamingAnomalyDetector {
+
+    /**
+     * 사용자별 탐지 상태
+     */
+    public static final class State {
+
+        private double ewma;
+        private boolean active;
+        private long lastMicros = Long.MIN_VALUE;
+
+        // 마지막 update 결과
+        private double score;
+
+        public double score() {
+            return score;
+        }
+
+        public boolean active() {
+            return active;
+        }
+
+        /**
+         * 같은 상태의 복사본 (커밋 전 임시 판정용)
+         */
+        public State copy() {
+            State copy = new State();
+            copy.ewma = ewma;
+            copy.active = active;
+            copy.lastMicros = lastMicros;
+            copy.score = score;
+            return copy;
+        }
+
+        /**
+         * EWMA/이상 여부 초기화 (Baseline 변경 시)
+         */
+        public void reset() {
+            ewma = 0;
+            active = false;
+            lastMicros = Long.MIN_VALUE;
+        }
+    }
+
+    private final double alpha;
+    private final double enterThreshold;
+    private final double exitThreshold;
+    private final long resetGapMicros;
+
+    /**
+     * @param alpha          EWMA 가중치 (0, 1], 클수록 최근 값 반영이 빠름
+     * @param enterThreshold 이상 시작 EWMA 점수
+     * @param exitThreshold  이상 해제 EWMA 점수 (enterThreshold 이하)
+     * @param resetGapMicros 이 간격 이상 측정이 끊기면 EWMA 재시작
+     */
+    public StreamingAnomalyDetector(double alpha, double enterThreshold, double exitThreshold, long resetGapMicros) {
+        if (alpha <= 0 || alpha > 1) {
+            throw new IllegalArgumentException("INVALID_ALPHA: " + alpha);
+        }
+        if (exitThreshold > enterThreshold) {
+            throw new IllegalArgumentException("INVALID_HYSTERESIS: exit > enter");
+        }
+        this.alpha = alpha;
+        this.enterThreshold = enterThreshold;
+        this.exitThreshold = exitThreshold;
+        this.resetGapMicros = resetGapMicros;
+    }
+
+    /**
+     * 측정값 1건의 z-score (판정 가능한 지표가 없으면 NaN)
+     */
+    public static double pointScore(BaselineProfile p, double heartRate, double hrvSdnn, double hrvRmssd, double objectTemp) {
+        double z = Double.NaN;
+        z = max(z, (heartRate - p.heartRateMean()) / p.heartRateStd());
+        z = max(z, (p.hrvSdnnMean() - hrvSdnn) / p.hrvSdnnStd());
+        z = max(z, (p.hrvRmssdMean() - hrvRmssd) / p.hrvRmssdStd());
+        z = max(z, Math.abs(objectTemp - p.objectTempMean()) / p.objectTempStd());
+        return z;
+    }
+
+    // NaN(값 없음)은 무시하는 max
+    private static double max(double current, double candidate) {
+        if (Double.isNaN(candidate)) {
+            return current;
+        }
+        return Double.isNaN(current) || candidate > current ? candidate : current;
+    }
+
+    /**
+     * 측정값 1건 반영
+     *
+     * @param state  사용자 상태
+     * @param micros 측정 시각 (epoch micros)
+     * @param z      pointScore 결과
+     * @return 이 측정값의 이상 여부 (점수는 state.score())
+     */
+    public boolean update(State state, long micros, double z) {
+        if (Double.isNaN(z)) {
+            state.score = Double.NaN;
+            return false;
+        }
+
+        if (micros <= state.lastMicros) {
+            // 늦게 도착한 과거 측정값 → 스트림 상태는 그대로 두고 단건 기준으로만 판정
+            state.score = z;
+            return z >= enterThreshold;
+        }
+
+        if (state.lastMicros == Long.MIN_VALUE || micros - state.lastMicros >= resetGapMicros) {
+            state.ewma = z;
+            state.active = false;
+        } else {
+            state.ewma += alpha * (z - state.ewma);
+        }
+        state.lastMicros = micros;
+
+        if (state.active) {
+            state.active = state.ewma > exitThreshold;
+        } else {
+            state.active = state.ewma >= enterThreshold;
+        }
+        state.score = state.ewma;
+        return state.active;
+    }
+}
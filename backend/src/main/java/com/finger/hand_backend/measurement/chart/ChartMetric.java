@@ -0,0 +1,13 @@
+package com.finger.hand_backend.measurement.chart;
+
+/**
+ * 차트 지표
+ * - STRESS: stress_index
+ * - HEART_RATE: heart_rate
+ * - HRV_RMSSD: hrv_rmssd
+ */
+public enum ChartMetric {
+    STRESS,
+    HEART_RATE,
+    HRV_RMSSD
+}
@@ -0,0 +1,15 @@
+package com.finger.hand_backend.measurement.chart;
+
+import java.time.LocalDateTime;
+
+/**
+ * 차트 점 (다운샘플링 결과로 선택된 원본 측정값)
+ *
+ * @param measuredAt 측정 시각
+ * @param value      지표 값
+ */
+public record ChartPoint(
+        LocalDateTime measuredAt,
+        double value
+) {
+}
@@ -0,0 +1,218 @@
+package com.finger.hand_backend.measurement.chart;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Largest-Triangle-Three-Buckets 스트리밍 다운샘플러
+ * - 시간 오름차순으로 들어오는 점을 한 번만 훑어서 최대 budget개 점 선택
+ * - 처음/마지막 점은 항상 포함, 나머지는 조회 구간을 (budget - 2)개 시간 버킷으로 나눠 버킷당 1개
+ * - 버킷 i의 점은 직전 선택점(A)과 다음 버킷 평균점(C)으로 만든 삼각형 넓이가 가장 큰 점을 선택
+ * - 현재/다음 버킷 2개만 원시 배열로 보관하고 재사용 → 점마다 객체를 만들지 않음 (결과 점만 생성)
+ * - 전체 점이 budget개 이하이면 원본 그대로 반환
+ *
+ * 시간은 epoch micros (LocalDateTime을 UTC 기준으로 환산한 값, 시간대 변환 없음)
+ */
+final class LttbDownsampler {
+
+    private final int budget;
+    private final long originMicros;
+    private final double bucketWidth;
+    private final int bucketCount;
+
+    // budget 이하일 때 원본 반환용
+    private final long[] rawTimes;
+    private final double[] rawValues;
+    private long count;
+
+    // 직전 선택점 (A)
+    private double anchorT;
+    private double anchorV;
+
+    private PointBuffer current = new PointBuffer();
+    private PointBuffer next = new PointBuffer();
+    private int currentBucket = -1;
+    private int nextBucket = -1;
+
+    private long lastT;
+    private double lastV;
+
+    private final List<ChartPoint> selected;
+
+    /**
+     * @param budget     최대 점 개수 (3 이상)
+     * @param fromMicros 조회 구간 시작
+     * @param toMicros   조회 구간 끝 (미포함)
+     */
+    LttbDownsampler(int budget, long fromMicros, long toMicros) {
+        this.budget = budget;
+        this.originMicros = fromMicros;
+        this.bucketCount = budget - 2;
+        this.bucketWidth = Math.max(1.0, (double) (toMicros - fromMicros) / bucketCount);
+        this.rawTimes = new long[budget];
+        this.rawValues = new double[budget];
+        this.selected = new ArrayList<>(budget);
+    }
+
+    void add(long t, double v) {
+        if (count < budget) {
+            rawTimes[(int) count] = t;
+            rawValues[(int) count] = v;
+        }
+        count++;
+        lastT = t;
+        lastV = v;
+
+        if (count == 1) {
+            select(t, v);
+            return;
+        }
+
+        int bucket = bucketOf(t);
+        if (currentBucket < 0 || bucket == currentBucket) {
+            currentBucket = bucket;
+            current.add(rel(t), v, t);
+            return;
+        }
+        if (nextBucket < 0 || bucket == nextBucket) {
+            nextBucket = bucket;
+            next.add(rel(t), v, t);
+            return;
+        }
+
+        // 다음 버킷 평균이 확정됐으므로 현재 버킷에서 1개 선택 후 한 칸 이동
+        selectFrom(current, next.avgT(), next.avgV());
+        PointBuffer done = current;
+        current = next;
+        currentBucket = nextBucket;
+        next = done;
+        next.clear();
+        nextBucket = bucket;
+        next.add(rel(t), v, t);
+    }
+
+    /**
+     * 남은 버킷 처리 후 결과 반환
+     */
+    List<ChartPoint> finish() {
+        if (count <= budget) {
+            List<ChartPoint> raw = new ArrayList<>((int) count);
+            for (int i = 0; i < count; i++) {
+                raw.add(new ChartPoint(toLocalDateTime(rawTimes[i]), rawValues[i]));
+            }
+            return raw;
+        }
+
+        // 마지막 점은 별도로 항상 포함하므로 버킷에서 제외
+        (nextBucket >= 0 ? next : current).removeLast();
+
+        if (nextBucket >= 0 && next.size > 0) {
+            selectFrom(current, next.avgT(), next.avgV());
+            selectFrom(next, rel(lastT), lastV);
+        } else if (current.size > 0) {
+            selectFrom(current, rel(lastT), lastV);
+        }
+        select(lastT, lastV);
+        return selected;
+    }
+
+    long count() {
+        return count;
+    }
+
+    private void selectFrom(PointBuffer bucket, double cT, double cV) {
+        if (bucket.size == 0) {
+            return;
+        }
+
+        int best = 0;
+        double bestArea = -1;
+        for (int i = 0; i < bucket.size; i++) {
+            // 삼각형 넓이 × 2 (비교만 하므로 1/2 생략)
+            double area = Math.abs((anchorT - cT) * (bucket.values[i] - anchorV)
+                    - (anchorT - bucket.relTimes[i]) * (cV - anchorV));
+            if (area > bestArea) {
+                bestArea = area;
+                best = i;
+            }
+        }
+        select(bucket.times[best], bucket.values[best]);
+    }
+
+    private void select(long t, double v) {
+        selected.add(new ChartPoint(toLocalDateTime(t), v));
+        anchorT = rel(t);
+        anchorV = v;
+    }
+
+    private int bucketOf(long t) {
+        int bucket = (int) ((t - originMicros) / bucketWidth);
+        return Math.max(0, Math.min(bucket, bucketCount - 1));
+    }
+
+    private double rel(long t) {
+        return t - originMicros;
+    }
+
+    static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    static LocalDateTime toLocalDateTime(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * 재사용 가능한 버킷 버퍼 (배열은 필요할 때만 2배 확장)
+     */
+    private static final class PointBuffer {
+
+        private long[] times = new long[64];
+        private double[] relTimes = new double[64];
+        private double[] values = new double[64];
+        private int size;
+        private double sumT;
+        private double sumV;
+
+        void add(double relT, double v, long t) {
+            if (size == times.length) {
+                times = Arrays.copyOf(times, size * 2);
+                relTimes = Arrays.copyOf(relTimes, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            times[size] = t;
+            relTimes[size] = relT;
+            values[size] = v;
+            size++;
+            sumT += relT;
+            sumV += v;
+        }
+
+        void removeLast() {
+            if (size == 0) {
+                return;
+            }
+            size--;
+            sumT -= relTimes[size];
+            sumV -= values[size];
+        }
+
+        void clear() {
+            size = 0;
+            sumT = 0;
+            sumV = 0;
+        }
+
+        double avgT() {
+            return sumT / size;
+        }
+
+        double avgV() {
+            return sumV / size;
+        }
+    }
+}
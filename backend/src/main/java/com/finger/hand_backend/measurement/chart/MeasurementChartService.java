@@ -0,0 +1,137 @@
+package com.finger.hand_backend.measurement.chart;
+
+import com.finger.hand_backend.measurement.dto.MeasurementChartResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 차트용 측정 데이터 다운샘플링
+ * - 주/월 차트는 수만 개 원본 대신 화면에 그릴 수 있는 수백 개 점만 전달
+ * - 스트리밍 결과셋으로 한 번만 읽으면서 지표별 LTTB 다운샘플러에 바로 전달 (원본 리스트를 만들지 않음)
+ * - 시각은 TIMESTAMPDIFF로 정수(micros)로 읽어 행마다 Timestamp 객체를 만들지 않음
+ */
+@Slf4j
+@Service
+public class MeasurementChartService {
+
+    private static final String SQL = """
+            SELECT TIMESTAMPDIFF(MICROSECOND, '1970-01-01 00:00:00', measured_at) AS t,
+                   stress_index, heart_rate, hrv_rmssd
+            FROM measurements
+            WHERE user_id = ? AND measured_at >= ? AND measured_at < ?
+            ORDER BY measured_at, id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int defaultPoints;
+    private final int maxPoints;
+    private final int maxDays;
+
+    public MeasurementChartService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${measurement.chart.default-points:500}") int defaultPoints,
+            @Value("${measurement.chart.max-points:2000}") int maxPoints,
+            @Value("${measurement.chart.max-days:366}") int maxDays
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.defaultPoints = defaultPoints;
+        this.maxPoints = maxPoints;
+        this.maxDays = maxDays;
+    }
+
+    /**
+     * 기간 차트 조회
+     *
+     * @param userId    사용자 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜 (해당 날짜 전체 포함)
+     * @param metrics   지표 (비어 있으면 전체)
+     * @param points    지표별 최대 점 개수 (null이면 기본값, 3 ~ max-points로 보정)
+     * @return 지표별 다운샘플링 결과
+     */
+    @Transactional(readOnly = true)
+    public MeasurementChartResponse getChart(
+            Long userId,
+            LocalDate startDate,
+            LocalDate endDate,
+            Set<ChartMetric> metrics,
+            Integer points
+    ) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("INVALID_DATE_RANGE");
+        }
+        if (startDate.plusDays(maxDays).isBefore(endDate)) {
+            throw new IllegalArgumentException("DATE_RANGE_TOO_LONG");
+        }
+
+        int budget = Math.max(3, Math.min(points != null ? points : defaultPoints, maxPoints));
+        ChartMetric[] requested = (metrics == null || metrics.isEmpty())
+                ? ChartMetric.values()
+                : metrics.toArray(ChartMetric[]::new);
+
+        LocalDateTime from = startDate.atStartOfDay();
+        LocalDateTime to = endDate.plusDays(1).atStartOfDay();
+        long fromMicros = LttbDownsampler.toMicros(from);
+        long toMicros = LttbDownsampler.toMicros(to);
+
+        LttbDownsampler[] samplers = new LttbDownsampler[requested.length];
+        int[] columns = new int[requested.length];
+        for (int i = 0; i < requested.length; i++) {
+            samplers[i] = new LttbDownsampler(budget, fromMicros, toMicros);
+            columns[i] = columnIndex(requested[i]);
+        }
+
+        long[] rawCount = new long[1];
+        RowCallbackHandler handler = rs -> {
+            long t = rs.getLong(1);
+            rawCount[0]++;
+            for (int i = 0; i < samplers.length; i++) {
+                double v = rs.getDouble(columns[i]);
+                if (!rs.wasNull()) {
+                    samplers[i].add(t, v);
+                }
+            }
+        };
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SQL);
+            // MySQL 드라이버는 Integer.MIN_VALUE일 때만 행 단위 스트리밍 (이 statement에만 적용)
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setLong(1, userId);
+            ps.setTimestamp(2, Timestamp.valueOf(from));
+            ps.setTimestamp(3, Timestamp.valueOf(to));
+            return ps;
+        }, handler);
+
+        Map<ChartMetric, List<ChartPoint>> series = new EnumMap<>(ChartMetric.class);
+        for (int i = 0; i < requested.length; i++) {
+            series.put(requested[i], samplers[i].finish());
+        }
+
+        log.debug("Chart for user {} ({} ~ {}): {} raw rows -> {} points/metric", userId, startDate, endDate,
+                rawCount[0], budget);
+
+        return new MeasurementChartResponse(startDate, endDate, budget, rawCount[0], series);
+    }
+
+    private static int columnIndex(ChartMetric metric) {
+        return switch (metric) {
+            case STRESS -> 2;
+            case HEART_RATE -> 3;
+            case HRV_RMSSD -> 4;
+        };
+    }
+}
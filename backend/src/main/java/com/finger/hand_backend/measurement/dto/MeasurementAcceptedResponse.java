@@ -0,0 +1,25 @@
+package com.finger.hand_backend.measurement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 측정 데이터 비동기 수락 응답 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class MeasurementAcceptedResponse {
+
+    /**
+     * 수집 순번 (sequence token)
+     * - committedSequence 이하가 되면 DB에 커밋된 것
+     */
+    private Long sequence;
+
+    /**
+     * 현재까지 DB에 커밋된 마지막 순번
+     */
+    private Long committedSequence;
+}
@@ -0,0 +1,27 @@
+package com.finger.hand_backend.measurement.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 측정 데이터 일괄 저장 요청 DTO
+ * - 워치가 오프라인 후 재연결될 때 밀린 측정값을 한 번에 전송
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class MeasurementBatchRequest {
+
+    /**
+     * 측정 데이터 목록 (최대 1000개)
+     */
+    @NotEmpty(message = "측정 데이터 목록은 비어 있을 수 없습니다")
+    @Size(max = 1000, message = "한 번에 최대 1000개까지 전송할 수 있습니다")
+    private List<@Valid MeasurementRequest> measurements;
+}
@@ -0,0 +1,26 @@
+package com.finger.hand_backend.measurement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 측정 데이터 일괄 저장 응답 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class MeasurementBatchResponse {
+
+    /**
+     * 저장된 측정 데이터 개수
+     */
+    private Integer count;
+
+    /**
+     * 저장된 측정 데이터 ID 목록 (요청 순서와 동일)
+     */
+    private List<Long> ids;
+}
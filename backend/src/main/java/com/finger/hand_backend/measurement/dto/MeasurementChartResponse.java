@@ -0,0 +1,26 @@
+package com.finger.hand_backend.measurement.dto;
+
+import com.finger.hand_backend.measurement.chart.ChartMetric;
+import com.finger.hand_backend.measurement.chart.ChartPoint;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 차트용 다운샘플링 응답
+ *
+ * @param startDate 시작 날짜
+ * @param endDate   종료 날짜
+ * @param points    지표별 최대 점 개수
+ * @param rawCount  구간 내 원본 측정 데이터 개수
+ * @param series    지표별 선택된 점 (측정 시각 오름차순)
+ */
+public record MeasurementChartResponse(
+        LocalDate startDate,
+        LocalDate endDate,
+        int points,
+        long rawCount,
+        Map<ChartMetric, List<ChartPoint>> series
+) {
+}
@@ -31,4 +31,14 @@ public class MeasurementCreateResponse {
      * 이상치 여부
      */
     private Boolean isAnomaly;
+
+    /**
+     * 서버 이상치 여부 (활성 Baseline 기준, 없으면 null)
+     */
+    private Boolean serverAnomaly;
+
+    /**
+     * 서버 이상치 점수
+     */
+    private Double serverAnomalyScore;
 }
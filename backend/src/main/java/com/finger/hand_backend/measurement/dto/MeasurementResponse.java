@@ -27,6 +27,10 @@ public class MeasurementResponse {
     private Integer stressLevel;
     private Boolean isAnomaly;
 
+    // 서버 이상 탐지 (활성 Baseline이 없으면 null)
+    private Boolean serverAnomaly;
+    private Double serverAnomalyScore;
+
     // 활동 감지
     private Integer totalSteps;
     private Double stepsPerMinute;
@@ -52,6 +56,8 @@ public class MeasurementResponse {
             .stressIndex(measurement.getStressIndex())
             .stressLevel(measurement.getStressLevel())
             .isAnomaly(measurement.getIsAnomaly())
+            .serverAnomaly(measurement.getServerAnomaly())
+            .serverAnomalyScore(measurement.getServerAnomalyScore())
             .totalSteps(measurement.getTotalSteps())
             .stepsPerMinute(measurement.getStepsPerMinute())
             .measuredAt(measurement.getMeasuredAt())
@@ -0,0 +1,24 @@
+package com.finger.hand_backend.measurement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 측정 데이터 바이너리 스트림 업로드 응답 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class MeasurementStreamResponse {
+
+    /**
+     * 처리된 프레임 개수
+     */
+    private Integer frames;
+
+    /**
+     * 저장된 측정 데이터 개수
+     */
+    private Integer count;
+}
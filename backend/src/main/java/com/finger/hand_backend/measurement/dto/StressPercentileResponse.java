@@ -0,0 +1,63 @@
+package com.finger.hand_backend.measurement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 스트레스 백분위 조회 응답 DTO
+ * - 오늘의 스트레스가 지난 기간 내 측정값 중 어디쯤인지 (0 ~ 100, 높을수록 평소보다 스트레스가 높음)
+ * - 오늘/기간 데이터가 없으면 해당 값은 null
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class StressPercentileResponse {
+
+    /**
+     * 기준 날짜 (오늘)
+     */
+    private LocalDate date;
+
+    /**
+     * 오늘 스트레스 지수 중앙값
+     */
+    private Double todayMedianStress;
+
+    /**
+     * 오늘 중앙값의 기간 내 백분위
+     */
+    private Double todayPercentile;
+
+    /**
+     * 가장 최근 측정 스트레스 지수
+     */
+    private Double latestStress;
+
+    /**
+     * 최근 측정값의 기간 내 백분위
+     */
+    private Double latestPercentile;
+
+    /**
+     * 비교 기간 (오늘 제외 최근 N일)
+     */
+    private Integer historyDays;
+
+    /**
+     * 비교 기간 측정 개수
+     */
+    private Long historyCount;
+
+    /**
+     * 비교 기간 스트레스 지수 중앙값
+     */
+    private Double historyMedian;
+
+    /**
+     * 비교 기간 스트레스 지수 90% 분위수
+     */
+    private Double historyP90;
+}
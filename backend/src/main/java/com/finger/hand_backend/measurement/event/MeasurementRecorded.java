@@ -0,0 +1,24 @@
+package com.finger.hand_backend.measurement.event;
+
+import com.finger.hand_backend.common.event.DomainEvent;
+import com.finger.hand_backend.measurement.Measurement;
+
+import java.util.List;
+
+/**
+ * 측정 데이터가 새로 저장됨 (중복으로 건너뛴 측정값 제외)
+ *
+ * @param userId       사용자 ID
+ * @param measurements 새로 저장된 측정값 (저장 순서, ID 포함)
+ */
+public record MeasurementRecorded(Long userId, List<Measurement> measurements) implements DomainEvent {
+
+    public MeasurementRecorded {
+        measurements = List.copyOf(measurements);
+    }
+
+    @Override
+    public String toString() {
+        return "MeasurementRecorded[userId=" + userId + ", count=" + measurements.size() + "]";
+    }
+}
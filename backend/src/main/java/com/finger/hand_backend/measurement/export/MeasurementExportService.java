@@ -0,0 +1,106 @@
+package com.finger.hand_backend.measurement.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.finger.hand_backend.measurement.Measurement;
+import com.finger.hand_backend.measurement.MeasurementRepository;
+import com.finger.hand_backend.measurement.dto.MeasurementResponse;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 측정 데이터 NDJSON 내보내기
+ * - 한 줄에 MeasurementResponse 1건 (application/x-ndjson)
+ * - 스트리밍 결과셋(fetch size Integer.MIN_VALUE)으로 한 행씩 읽고, 1건씩 직렬화 후 영속성 컨텍스트에서 분리 → 기간과 무관하게 메모리 일정
+ * - flush-every 건마다 flush해서 클라이언트가 바로 받기 시작함
+ * - 클라이언트 연결이 끊기면 (쓰기 IOException) 조회를 중단하고 커서를 닫음
+ */
+@Slf4j
+@Service
+public class MeasurementExportService {
+
+    public static final String CONTENT_TYPE = "application/x-ndjson";
+
+    private final MeasurementRepository measurementRepository;
+    private final EntityManager entityManager;
+    private final ObjectWriter writer;
+    private final int flushEvery;
+    private final int maxDays;
+
+    public MeasurementExportService(
+            MeasurementRepository measurementRepository,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            @Value("${measurement.export.flush-every:500}") int flushEvery,
+            @Value("${measurement.export.max-days:366}") int maxDays
+    ) {
+        this.measurementRepository = measurementRepository;
+        this.entityManager = entityManager;
+        this.writer = objectMapper.writerFor(MeasurementResponse.class);
+        this.flushEvery = flushEvery;
+        this.maxDays = maxDays;
+    }
+
+    /**
+     * 기간 검증 (응답 커밋 전에 호출해서 400으로 돌려줌)
+     */
+    public void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("INVALID_DATE_RANGE");
+        }
+        if (startDate.plusDays(maxDays).isBefore(endDate)) {
+            throw new IllegalArgumentException("DATE_RANGE_TOO_LONG");
+        }
+    }
+
+    /**
+     * 기간 내 측정 데이터를 측정 시각 오름차순으로 NDJSON 출력
+     *
+     * @param userId    사용자 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜 (해당 날짜 전체 포함)
+     * @param out       응답 스트림
+     * @return 출력한 건수 (연결이 끊긴 경우 그때까지 건수)
+     */
+    @Transactional(readOnly = true)
+    public long export(Long userId, LocalDate startDate, LocalDate endDate, OutputStream out) {
+        LocalDateTime start = startDate.atStartOfDay();
+        LocalDateTime end = endDate.plusDays(1).atStartOfDay();
+
+        long count = 0;
+        try (Stream<Measurement> rows = measurementRepository.streamByUserIdAndMeasuredAtRange(userId, start, end);
+             JsonGenerator generator = writer.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            Iterator<Measurement> it = rows.iterator();
+            while (it.hasNext()) {
+                Measurement measurement = it.next();
+                writer.writeValue(generator, MeasurementResponse.from(measurement));
+                generator.writeRaw('\n');
+                entityManager.detach(measurement);
+
+                if (++count % flushEvery == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        } catch (IOException e) {
+            log.info("Measurement export aborted by client: user={}, rows={}, cause={}", userId, count, e.getMessage());
+            return count;
+        }
+
+        log.debug("Exported {} measurements for user {} ({} ~ {})", count, userId, startDate, endDate);
+        return count;
+    }
+}
@@ -0,0 +1,15 @@
+package com.finger.hand_backend.measurement.hot;
+
+/**
+ * 핫 윈도우 조회 결과
+ * - hit=false: 윈도우가 답할 수 없는 구간 → DB 조회 필요
+ * - hit=true, sample=null: 윈도우 구간 안에 해당 측정값이 없음이 확실 (DB 조회 불필요)
+ */
+public record HotWindowLookup(boolean hit, StressSample sample) {
+
+    static final HotWindowLookup MISS = new HotWindowLookup(false, null);
+
+    static HotWindowLookup of(StressSample sample) {
+        return new HotWindowLookup(true, sample);
+    }
+}
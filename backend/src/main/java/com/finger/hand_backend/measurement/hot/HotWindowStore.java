@@ -0,0 +1,203 @@
+package com.finger.hand_backend.measurement.hot;
+
+import com.finger.hand_backend.common.AfterCommit;
+import com.finger.hand_backend.measurement.Measurement;
+import com.finger.hand_backend.measurement.MeasurementRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 최근 측정값 인메모리 윈도우 (기본 24시간)
+ * - 홈 화면 최신값, Relief 전/후 스트레스 매칭 등 "최근 값" 조회를 DB 없이 처리
+ * - 저장 트랜잭션 커밋 후 append, 윈도우가 없으면 첫 조회 시 DB에서 lazy 로딩
+ * - 메모리 예산: max-bytes / (capacity-per-user × 슬롯 크기) 명까지 유지, 초과 시 가장 오래 안 쓴 사용자 제거 (LRU)
+ * - 윈도우가 확실히 답할 수 없는 질의는 MISS → 호출부에서 DB 조회
+ * - measurement.hot-window.enabled=false이면 항상 MISS
+ */
+@Slf4j
+@Component
+public class HotWindowStore {
+
+    private static final Comparator<Measurement> ORDER = Comparator
+            .comparing(Measurement::getMeasuredAt)
+            .thenComparing(Measurement::getId);
+
+    private final MeasurementRepository measurementRepository;
+
+    private final boolean enabled;
+    private final int capacityPerUser;
+    private final int maxUsers;
+    private final Duration retention;
+
+    private final Map<Long, UserHotWindow> windows;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter loadCounter;
+
+    public HotWindowStore(
+            MeasurementRepository measurementRepository,
+            MeterRegistry meterRegistry,
+            @Value("${measurement.hot-window.enabled:true}") boolean enabled,
+            @Value("${measurement.hot-window.retention-hours:24}") long retentionHours,
+            @Value("${measurement.hot-window.capacity-per-user:2048}") int capacityPerUser,
+            @Value("${measurement.hot-window.max-bytes:268435456}") long maxBytes
+    ) {
+        this.measurementRepository = measurementRepository;
+        this.enabled = enabled;
+        this.capacityPerUser = capacityPerUser;
+        this.maxUsers = (int) Math.max(1, Math.min(Integer.MAX_VALUE,
+                maxBytes / ((long) capacityPerUser * UserHotWindow.BYTES_PER_SLOT)));
+        this.retention = Duration.ofHours(retentionHours);
+
+        int maxUsers = this.maxUsers;
+        this.windows = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserHotWindow> eldest) {
+                return size() > maxUsers;
+            }
+        });
+
+        this.hitCounter = Counter.builder("measurement.hot_window.lookup")
+                .tag("result", "hit")
+                .description("Recent-measurement lookups answered from memory")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("measurement.hot_window.lookup")
+                .tag("result", "miss")
+                .description("Recent-measurement lookups that fell back to the database")
+                .register(meterRegistry);
+        this.loadCounter = Counter.builder("measurement.hot_window.load")
+                .description("Per-user windows loaded from the database")
+                .register(meterRegistry);
+        Gauge.builder("measurement.hot_window.users", windows, Map::size)
+                .description("Users with a resident hot window")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장된 측정값을 트랜잭션 커밋 후 윈도우에 반영
+     * - 롤백되면 반영하지 않음
+     * - 윈도우가 아직 없는 사용자는 건너뜀 (다음 조회 때 DB에서 로딩)
+     *
+     * @param saved 저장된 측정값 (ID 포함)
+     */
+    public void appendAfterCommit(List<Measurement> saved) {
+        if (!enabled || saved.isEmpty()) {
+            return;
+        }
+
+        List<Measurement> ordered = new ArrayList<>(saved);
+        ordered.sort(ORDER);
+        AfterCommit.run(() -> ordered.forEach(this::append));
+    }
+
+    private void append(Measurement m) {
+        UserHotWindow window = windows.get(m.getUserId());
+        if (window != null && !window.append(m)) {
+            // 늦게 도착한 과거 측정값 → 순서 보장이 깨지므로 다음 조회 때 다시 로딩
+            windows.remove(m.getUserId(), window);
+            log.debug("Hot window for user {} invalidated by out-of-order measurement {}", m.getUserId(), m.getId());
+        }
+    }
+
+    /**
+     * 사용자 윈도우 폐기 (측정값 삭제 등)
+     * - 커밋 후 폐기해서 삭제 전 스냅샷이 다시 올라오지 않도록 함
+     */
+    public void invalidateAfterCommit(Long userId) {
+        if (!enabled) {
+            return;
+        }
+        AfterCommit.run(() -> windows.remove(userId));
+    }
+
+    /**
+     * 가장 최근 측정값
+     *
+     * @return 윈도우 구간에 측정값이 없거나 비활성화면 fallback 결과
+     */
+    public Measurement latest(Long userId, Supplier<Measurement> fallback) {
+        UserHotWindow window = window(userId);
+        Measurement latest = window != null ? window.latest() : null;
+        if (latest != null) {
+            hitCounter.increment();
+            return latest;
+        }
+        missCounter.increment();
+        return fallback.get();
+    }
+
+    /**
+     * t 이하 가장 최근 측정값 (측정 시각, ID 내림차순 첫 건)
+     */
+    public HotWindowLookup latestAtOrBefore(Long userId, LocalDateTime t) {
+        UserHotWindow window = window(userId);
+        return record(window != null ? window.latestAtOrBefore(t) : HotWindowLookup.MISS);
+    }
+
+    /**
+     * from 이상 to 이하 가장 이른 측정값 (측정 시각, ID 오름차순 첫 건)
+     */
+    public HotWindowLookup firstBetween(Long userId, LocalDateTime from, LocalDateTime to) {
+        UserHotWindow window = window(userId);
+        return record(window != null ? window.firstBetween(from, to) : HotWindowLookup.MISS);
+    }
+
+    private HotWindowLookup record(HotWindowLookup lookup) {
+        (lookup.hit() ? hitCounter : missCounter).increment();
+        return lookup;
+    }
+
+    /**
+     * 로딩된 사용자 윈도우 (없으면 DB에서 로딩)
+     * - 같은 사용자의 동시 로딩은 1회로 합침
+     */
+    private UserHotWindow window(Long userId) {
+        if (!enabled) {
+            return null;
+        }
+
+        UserHotWindow window = windows.computeIfAbsent(userId, id -> new UserHotWindow(capacityPerUser));
+        if (window.isLoaded()) {
+            return window;
+        }
+
+        synchronized (window.loadLock) {
+            if (!window.isLoaded()) {
+                load(userId, window);
+            }
+        }
+        return window;
+    }
+
+    private void load(Long userId, UserHotWindow window) {
+        LocalDateTime from = LocalDateTime.now().minus(retention);
+        List<Measurement> recent = new ArrayList<>(measurementRepository
+                .findByUserIdAndMeasuredAtGreaterThanEqualOrderByMeasuredAtDescIdDesc(
+                        userId, from, PageRequest.of(0, capacityPerUser)));
+        Collections.reverse(recent);
+
+        // 24시간 안에 용량보다 많으면 잘린 구간 이후만 보장
+        LocalDateTime coveredFrom = recent.size() < capacityPerUser
+                ? from
+                : recent.get(0).getMeasuredAt().plusNanos(1_000);
+
+        window.install(recent, coveredFrom);
+        loadCounter.increment();
+    }
+}
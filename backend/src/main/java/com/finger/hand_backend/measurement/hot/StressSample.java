@@ -0,0 +1,17 @@
+package com.finger.hand_backend.measurement.hot;
+
+import java.time.LocalDateTime;
+
+/**
+ * 핫 윈도우에서 조회한 스트레스 샘플
+ *
+ * @param measurementId 측정 데이터 ID
+ * @param measuredAt    측정 시각
+ * @param stressIndex   스트레스 지수 (없으면 null)
+ */
+public record StressSample(
+        Long measurementId,
+        LocalDateTime measuredAt,
+        Double stressIndex
+) {
+}
@@ -0,0 +1,230 @@
+package com.finger.hand_backend.measurement.hot;
+
+import com.finger.hand_backend.measurement.Measurement;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자 1명의 최근 측정값 링 버퍼 (struct-of-arrays)
+ * - 시간은 long[] (epoch micros), 지표는 float[] (NaN = null)
+ * - 논리 인덱스 0 = 가장 오래된 값, 시간 오름차순 유지 (같은 시각은 id 오름차순)
+ * - coveredFrom 이후의 측정값은 빠짐없이 들어 있음을 보장 → 그 구간의 질의는 DB 없이 답할 수 있음
+ *
+ * 로딩 중(loaded=false)에 커밋된 측정값은 pending에 모았다가 DB 스냅샷과 id 기준으로 합침
+ */
+final class UserHotWindow {
+
+    /**
+     * 슬롯당 바이트 (time, id, float 4개, anomaly 1바이트)
+     */
+    static final int BYTES_PER_SLOT = 8 + 8 + 4 * 4 + 1;
+
+    private static final Comparator<Measurement> ORDER = Comparator
+            .comparing(Measurement::getMeasuredAt)
+            .thenComparing(Measurement::getId);
+
+    final Object loadLock = new Object();
+
+    private final int capacity;
+    private final long[] times;
+    private final long[] ids;
+    private final float[] stress;
+    private final float[] heartRate;
+    private final float[] hrvSdnn;
+    private final float[] hrvRmssd;
+    private final byte[] anomaly;
+
+    private int head;
+    private int size;
+    private long coveredFromMicros;
+    private Measurement latest;
+
+    private volatile boolean loaded;
+    private List<Measurement> pending = new ArrayList<>();
+
+    UserHotWindow(int capacity) {
+        this.capacity = capacity;
+        this.times = new long[capacity];
+        this.ids = new long[capacity];
+        this.stress = new float[capacity];
+        this.heartRate = new float[capacity];
+        this.hrvSdnn = new float[capacity];
+        this.hrvRmssd = new float[capacity];
+        this.anomaly = new byte[capacity];
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * DB 스냅샷 설치 + 로딩 중 들어온 값 병합
+     *
+     * @param snapshot    coveredFrom 이후 측정값 (시간 오름차순)
+     * @param coveredFrom 스냅샷 조회 시작 시각
+     */
+    synchronized void install(List<Measurement> snapshot, LocalDateTime coveredFrom) {
+        List<Measurement> rows = new ArrayList<>(snapshot);
+        if (!pending.isEmpty()) {
+            Set<Long> loadedIds = new HashSet<>();
+            for (Measurement m : snapshot) loadedIds.add(m.getId());
+            for (Measurement m : pending) {
+                if (!loadedIds.contains(m.getId()) && !m.getMeasuredAt().isBefore(coveredFrom)) rows.add(m);
+            }
+            rows.sort(ORDER);
+        }
+        pending = null;
+
+        coveredFromMicros = toMicros(coveredFrom);
+        head = 0;
+        size = 0;
+        for (Measurement m : rows) {
+            push(m);
+        }
+        loaded = true;
+    }
+
+    /**
+     * 커밋된 측정값 추가
+     *
+     * - 마지막 값과 같은 측정값(같은 시각, 같은 id)은 이미 들어 있으므로 건너뜀
+     *
+     * @return false면 시간 순서가 어긋나 윈도우를 버려야 함
+     */
+    synchronized boolean append(Measurement m) {
+        if (!loaded) {
+            pending.add(m);
+            return true;
+        }
+        if (size > 0) {
+            int order = ORDER.compare(m, latest);
+            if (order == 0) {
+                return true;
+            }
+            if (order < 0) {
+                return false;
+            }
+        }
+        push(m);
+        return true;
+    }
+
+    private void push(Measurement m) {
+        int slot;
+        if (size < capacity) {
+            slot = (head + size) % capacity;
+            size++;
+        } else {
+            // 가장 오래된 값을 덮어쓰고, 그 시각 이후만 보장
+            slot = head;
+            coveredFromMicros = times[head] + 1;
+            head = (head + 1) % capacity;
+        }
+
+        times[slot] = toMicros(m.getMeasuredAt());
+        ids[slot] = m.getId();
+        stress[slot] = toFloat(m.getStressIndex());
+        heartRate[slot] = toFloat(m.getHeartRate());
+        hrvSdnn[slot] = toFloat(m.getHrvSdnn());
+        hrvRmssd[slot] = toFloat(m.getHrvRmssd());
+        anomaly[slot] = (byte) (Boolean.TRUE.equals(m.getIsAnomaly()) ? 1 : 0);
+        latest = m;
+    }
+
+    /**
+     * 가장 최근 측정값 (윈도우가 비어 있으면 null)
+     */
+    synchronized Measurement latest() {
+        return size > 0 ? latest : null;
+    }
+
+    /**
+     * t 이하 가장 최근 측정값
+     * - 윈도우에 없으면 coveredFrom 이전에 있을 수 있으므로 MISS
+     */
+    synchronized HotWindowLookup latestAtOrBefore(LocalDateTime t) {
+        int idx = upperBound(toMicros(t)) - 1;
+        return idx >= 0 ? HotWindowLookup.of(sample(idx)) : HotWindowLookup.MISS;
+    }
+
+    /**
+     * from 이상 to 이하 가장 이른 측정값
+     * - from이 coveredFrom 이후면 없다는 것도 확실한 답
+     */
+    synchronized HotWindowLookup firstBetween(LocalDateTime from, LocalDateTime to) {
+        long fromMicros = toMicros(from);
+        if (fromMicros < coveredFromMicros) {
+            return HotWindowLookup.MISS;
+        }
+
+        int idx = lowerBound(fromMicros);
+        if (idx < size && times[physical(idx)] <= toMicros(to)) {
+            return HotWindowLookup.of(sample(idx));
+        }
+        return HotWindowLookup.of(null);
+    }
+
+    /**
+     * 사용 중인 슬롯 수
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    private StressSample sample(int logicalIndex) {
+        int p = physical(logicalIndex);
+        float value = stress[p];
+        return new StressSample(ids[p], fromMicros(times[p]), Float.isNaN(value) ? null : (double) value);
+    }
+
+    /**
+     * time > micros인 첫 논리 인덱스
+     */
+    private int upperBound(long micros) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (times[physical(mid)] <= micros) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * time >= micros인 첫 논리 인덱스
+     */
+    private int lowerBound(long micros) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (times[physical(mid)] < micros) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private int physical(int logicalIndex) {
+        return (head + logicalIndex) % capacity;
+    }
+
+    private static float toFloat(Double value) {
+        return value == null ? Float.NaN : value.floatValue();
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
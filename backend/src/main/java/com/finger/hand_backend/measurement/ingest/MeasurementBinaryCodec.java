@@ -0,0 +1,184 @@
+package com.finger.hand_backend.measurement.ingest;
+
+import com.finger.hand_backend.measurement.dto.MeasurementRequest;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 측정 데이터 바이너리 포맷 (application/vnd.hand.measurements)
+ *
+ * 스트림 = 프레임의 연속, 길이 0 프레임(또는 EOF)으로 종료. 모든 값은 big-endian.
+ * <pre>
+ * frame  := i32 bodyLength, body
+ * body   := u16 rowCount (1~1000)
+ *           i64 baseEpochMillis              (Asia/Seoul 기준 measuredAt)
+ *           i32 deltaMillis[rowCount]         (첫 행은 base 기준, 이후 직전 행 기준)
+ *           f32 heartRate[rowCount]           ┐
+ *           f32 objectTemp[rowCount]          │
+ *           f32 ambientTemp[rowCount]         │
+ *           f32 accelX[rowCount]              │
+ *           f32 accelY[rowCount]              │ 컬럼 단위 저장
+ *           f32 accelZ[rowCount]              │ NaN = null
+ *           f32 hrvSdnn[rowCount]             │
+ *           f32 hrvRmssd[rowCount]            │
+ *           f32 movementIntensity[rowCount]   │
+ *           f32 stressIndex[rowCount]         │
+ *           f32 stepsPerMinute[rowCount]      ┘
+ *           i8  stressLevel[rowCount]         (0 = null)
+ *           i8  isAnomaly[rowCount]           (0/1)
+ *           i32 totalSteps[rowCount]          (-1 = null)
+ * </pre>
+ * 행당 54바이트 (JSON 약 400바이트 대비)
+ */
+public final class MeasurementBinaryCodec {
+
+    public static final String CONTENT_TYPE = "application/vnd.hand.measurements";
+    public static final int MAX_ROWS_PER_FRAME = 1000;
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int FLOAT_COLUMNS = 11;
+    private static final int HEADER_BYTES = 2 + 8;
+    private static final int ROW_BYTES = 4 + FLOAT_COLUMNS * 4 + 1 + 1 + 4;
+
+    private MeasurementBinaryCodec() {
+    }
+
+    public static int frameBodyLength(int rowCount) {
+        return HEADER_BYTES + rowCount * ROW_BYTES;
+    }
+
+    /**
+     * 프레임 1개 읽기
+     *
+     * @param in     요청 본문 스트림
+     * @param buffer 재사용 버퍼 (최대 프레임 크기 이상)
+     * @return 디코딩된 측정 데이터, 스트림 끝이면 null
+     */
+    public static List<MeasurementRequest> readFrame(DataInputStream in, byte[] buffer) throws IOException {
+        int bodyLength;
+        try {
+            bodyLength = in.readInt();
+        } catch (EOFException e) {
+            return null;
+        }
+        if (bodyLength == 0) {
+            return null;
+        }
+        if (bodyLength < HEADER_BYTES || bodyLength > buffer.length) {
+            throw new IllegalArgumentException("INVALID_MEASUREMENT_FRAME: length " + bodyLength);
+        }
+
+        try {
+            in.readFully(buffer, 0, bodyLength);
+        } catch (EOFException e) {
+            throw new IllegalArgumentException("INVALID_MEASUREMENT_FRAME: truncated");
+        }
+        return decodeBody(ByteBuffer.wrap(buffer, 0, bodyLength), bodyLength);
+    }
+
+    private static List<MeasurementRequest> decodeBody(ByteBuffer buf, int bodyLength) {
+        int rowCount = Short.toUnsignedInt(buf.getShort());
+        if (rowCount == 0 || rowCount > MAX_ROWS_PER_FRAME || bodyLength != frameBodyLength(rowCount)) {
+            throw new IllegalArgumentException("INVALID_MEASUREMENT_FRAME: rowCount " + rowCount);
+        }
+
+        List<MeasurementRequest> rows = new ArrayList<>(rowCount);
+        long epochMillis = buf.getLong();
+        for (int i = 0; i < rowCount; i++) {
+            epochMillis += buf.getInt();
+            MeasurementRequest row = new MeasurementRequest();
+            row.setMeasuredAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZONE));
+            rows.add(row);
+        }
+
+        for (MeasurementRequest row : rows) row.setHeartRate(readFloat(buf));
+        for (MeasurementRequest row : rows) row.setObjectTemp(readFloat(buf));
+        for (MeasurementRequest row : rows) row.setAmbientTemp(readFloat(buf));
+        for (MeasurementRequest row : rows) row.setAccelX(readFloat(buf));
+        for (MeasurementRequest row : rows) row.setAccelY(readFloat(buf));
+        for (MeasurementRequest row : rows) row.setAccelZ(readFloat(buf));
+        for (MeasurementRequest row : rows) row.setHrvSdnn(readFloat(buf));
+        for (MeasurementRequest row : rows) row.setHrvRmssd(readFloat(buf));
+        for (MeasurementRequest row : rows) row.setMovementIntensity(readFloat(buf));
+        for (MeasurementRequest row : rows) row.setStressIndex(readFloat(buf));
+        for (MeasurementRequest row : rows) row.setStepsPerMinute(readFloat(buf));
+        for (MeasurementRequest row : rows) {
+            byte level = buf.get();
+            row.setStressLevel(level == 0 ? null : (int) level);
+        }
+        for (MeasurementRequest row : rows) row.setIsAnomaly(buf.get() != 0);
+        for (MeasurementRequest row : rows) {
+            int steps = buf.getInt();
+            row.setTotalSteps(steps < 0 ? null : steps);
+        }
+        return rows;
+    }
+
+    /**
+     * float32 → Double (값 그대로 확장, 센서 정밀도는 float32로 충분)
+     */
+    private static Double readFloat(ByteBuffer buf) {
+        float value = buf.getFloat();
+        return Float.isNaN(value) ? null : (double) value;
+    }
+
+    /**
+     * 프레임 1개 쓰기 (클라이언트/테스트용 레퍼런스 인코더)
+     */
+    public static void writeFrame(DataOutputStream out, List<MeasurementRequest> rows) throws IOException {
+        if (rows.isEmpty() || rows.size() > MAX_ROWS_PER_FRAME) {
+            throw new IllegalArgumentException("INVALID_MEASUREMENT_FRAME: rowCount " + rows.size());
+        }
+
+        out.writeInt(frameBodyLength(rows.size()));
+        out.writeShort(rows.size());
+
+        long base = toEpochMillis(rows.get(0).getMeasuredAt());
+        out.writeLong(base);
+        long previous = base;
+        for (MeasurementRequest row : rows) {
+            long t = toEpochMillis(row.getMeasuredAt());
+            out.writeInt(Math.toIntExact(t - previous));
+            previous = t;
+        }
+
+        for (MeasurementRequest row : rows) writeFloat(out, row.getHeartRate());
+        for (MeasurementRequest row : rows) writeFloat(out, row.getObjectTemp());
+        for (MeasurementRequest row : rows) writeFloat(out, row.getAmbientTemp());
+        for (MeasurementRequest row : rows) writeFloat(out, row.getAccelX());
+        for (MeasurementRequest row : rows) writeFloat(out, row.getAccelY());
+        for (MeasurementRequest row : rows) writeFloat(out, row.getAccelZ());
+        for (MeasurementRequest row : rows) writeFloat(out, row.getHrvSdnn());
+        for (MeasurementRequest row : rows) writeFloat(out, row.getHrvRmssd());
+        for (MeasurementRequest row : rows) writeFloat(out, row.getMovementIntensity());
+        for (MeasurementRequest row : rows) writeFloat(out, row.getStressIndex());
+        for (MeasurementRequest row : rows) writeFloat(out, row.getStepsPerMinute());
+        for (MeasurementRequest row : rows) out.writeByte(row.getStressLevel() == null ? 0 : row.getStressLevel());
+        for (MeasurementRequest row : rows) out.writeByte(Boolean.TRUE.equals(row.getIsAnomaly()) ? 1 : 0);
+        for (MeasurementRequest row : rows) out.writeInt(row.getTotalSteps() == null ? -1 : row.getTotalSteps());
+    }
+
+    /**
+     * 스트림 종료 표시
+     */
+    public static void writeEnd(DataOutputStream out) throws IOException {
+        out.writeInt(0);
+    }
+
+    private static void writeFloat(DataOutputStream out, Double value) throws IOException {
+        out.writeFloat(value == null ? Float.NaN : value.floatValue());
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+}
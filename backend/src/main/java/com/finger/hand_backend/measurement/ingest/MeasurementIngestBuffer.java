@@ -0,0 +1,381 @@
+package com.finger.hand_backend.measurement.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finger.hand_backend.measurement.DuplicateMeasurementException;
+import com.finger.hand_backend.measurement.MeasurementService;
+import com.finger.hand_backend.measurement.dto.MeasurementRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 측정 데이터 비동기 수집 버퍼 (write-behind, group commit)
+ * - 요청 스레드는 저널 기록을 요청하고, journal 스레드가 모아서 fsync 1회 한 뒤 202 반환 (DB 커넥션 미사용)
+ * - fsync가 끝난 항목은 순번 순서대로 큐에 적재
+ * - 단일 writer 스레드가 큐를 비우며 최대 max-batch-size개 또는 max-delay-ms 단위로 묶어서 커밋
+ * - 단일 writer + FIFO 큐이므로 사용자별 수신 순서가 그대로 유지됨
+ * - 저널 기록 대기 + 큐 + 커밋 중 항목이 queue-capacity에 이르면 INGEST_QUEUE_FULL (503)로 거절 → 클라이언트 재시도
+ * - 커밋 실패 시
+ *   - 데이터 오류(제약 조건 위반, 검증 실패)면 항목별로 다시 저장하고 실패한 항목만 dead-letter 파일로 옮긴 뒤 진행
+ *   - 그 밖의 오류(DB 연결 끊김 등)는 최대 max-retry-backoff-ms 간격으로 계속 재시도 (checkpoint를 넘기지 않음, 큐가 차면 503)
+ * - measurement.ingest.async.enabled=false(기본)이면 저널을 열지 않고 요청을 거절
+ */
+@Slf4j
+@Component
+public class MeasurementIngestBuffer {
+
+    private final MeasurementService measurementService;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Path journalDir;
+    private final boolean fsync;
+    private final long segmentBytes;
+    private final long maxRetryBackoffMs;
+
+    private final BlockingQueue<MeasurementIngestEntry> queue = new LinkedBlockingQueue<>();
+    private final Semaphore capacity;
+
+    private MeasurementIngestJournal journal;
+    private Thread writer;
+    private volatile boolean running;
+    private volatile boolean stopping;
+
+    private Timer flushTimer;
+    private DistributionSummary batchSizeSummary;
+    private Counter rejectedCounter;
+    private Counter failedFlushCounter;
+    private Counter deadLetteredCounter;
+
+    public MeasurementIngestBuffer(
+            MeasurementService measurementService,
+            MeterRegistry meterRegistry,
+            ObjectMapper objectMapper,
+            @Value("${measurement.ingest.async.enabled:false}") boolean enabled,
+            @Value("${measurement.ingest.async.queue-capacity:10000}") int queueCapacity,
+            @Value("${measurement.ingest.async.max-batch-size:500}") int maxBatchSize,
+            @Value("${measurement.ingest.async.max-delay-ms:50}") long maxDelayMs,
+            @Value("${measurement.ingest.async.journal-dir:./data/ingest}") String journalDir,
+            @Value("${measurement.ingest.async.fsync:true}") boolean fsync,
+            @Value("${measurement.ingest.async.segment-bytes:67108864}") long segmentBytes,
+            @Value("${measurement.ingest.async.max-retry-backoff-ms:5000}") long maxRetryBackoffMs
+    ) {
+        this.measurementService = measurementService;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+        this.journalDir = Path.of(journalDir);
+        this.fsync = fsync;
+        this.segmentBytes = segmentBytes;
+        this.maxRetryBackoffMs = Math.max(100, maxRetryBackoffMs);
+        this.capacity = new Semaphore(queueCapacity);
+    }
+
+    /**
+     * 저널 복구 후 writer 스레드 시작
+     * - 이전 실행에서 커밋되지 못한 항목은 writer가 새 항목보다 먼저 저장 (DB가 내려가 있어도 기동을 막지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        registerMetrics();
+
+        journal = new MeasurementIngestJournal(journalDir, objectMapper, fsync, segmentBytes);
+        List<MeasurementIngestEntry> pending;
+        try {
+            pending = journal.open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("INGEST_JOURNAL_OPEN_FAILED", e);
+        }
+
+        journal.start(queue::add);
+        running = true;
+        writer = Thread.ofPlatform()
+                .name("measurement-ingest-writer")
+                .start(() -> {
+                    if (replay(pending)) {
+                        drainLoop();
+                    }
+                });
+    }
+
+    private boolean replay(List<MeasurementIngestEntry> pending) {
+        for (int from = 0; from < pending.size(); from += maxBatchSize) {
+            if (!flushWithRetry(pending.subList(from, Math.min(from + maxBatchSize, pending.size())))) {
+                log.warn("Ingest journal replay stopped, remaining entries stay in the journal");
+                return false;
+            }
+        }
+        if (!pending.isEmpty()) {
+            log.info("Replayed {} measurements from ingest journal", pending.size());
+        }
+        return true;
+    }
+
+    /**
+     * 측정 데이터 수락
+     *
+     * @return 수집 순번 (sequence token)
+     * @throws IllegalStateException ASYNC_INGEST_DISABLED, INGEST_QUEUE_FULL
+     */
+    public long accept(Long userId, MeasurementRequest request) {
+        if (!running) {
+            throw new IllegalStateException("ASYNC_INGEST_DISABLED");
+        }
+
+        if (!capacity.tryAcquire()) {
+            rejectedCounter.increment();
+            throw new IllegalStateException("INGEST_QUEUE_FULL");
+        }
+
+        // 같은 group commit에 묶인 요청들과 함께 fsync가 끝나면 반환 (허가는 DB 커밋 후 writer가 반납)
+        try {
+            return journal.append(userId, request).join().sequence();
+        } catch (CompletionException e) {
+            capacity.release();
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * DB 커밋이 끝난 마지막 순번
+     */
+    public long committedSequence() {
+        return journal != null ? journal.committedSequence() : 0L;
+    }
+
+    private void drainLoop() {
+        List<MeasurementIngestEntry> batch = new ArrayList<>(maxBatchSize);
+
+        while (!stopping || !queue.isEmpty()) {
+            try {
+                MeasurementIngestEntry first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 항목 기준 max-delay 안에서 max-batch-size까지 모으기
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+                    MeasurementIngestEntry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                queue.drainTo(batch, maxBatchSize - batch.size());
+
+                boolean committed = flushWithRetry(batch);
+                capacity.release(batch.size());
+                if (!committed) {
+                    // 이후 배치를 커밋하면 checkpoint가 이 배치를 건너뛰므로 중단 (저널에 남아 재기동 시 복구)
+                    break;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+        log.info("Measurement ingest writer stopped (committed={})", committedSequence());
+    }
+
+    /**
+     * 묶음 커밋 (일시적 오류는 백오프 재시도)
+     * - 커밋 전까지 checkpoint를 올리지 않으므로 재시작해도 유실 없음
+     * - 재시도 중에는 큐가 차오르며 자연스럽게 backpressure(503) 발생
+     * - 데이터 오류면 항목별로 다시 저장하고, 데이터 오류로 실패한 항목만 dead-letter로 옮긴 뒤 checkpoint 진행
+     *   (잘못된 데이터 하나가 writer와 기동 시 복구를 멈추지 않도록)
+     *
+     * @return 커밋(또는 dead-letter)까지 끝났으면 true, 종료/인터럽트로 중단했으면 false (checkpoint 그대로)
+     */
+    private boolean flushWithRetry(List<MeasurementIngestEntry> batch) {
+        long backoffMs = 100;
+        while (true) {
+            try {
+                flushTimer.record(() -> flush(batch));
+                batchSizeSummary.record(batch.size());
+                journal.checkpoint(batch.get(batch.size() - 1).sequence());
+                return true;
+            } catch (RuntimeException e) {
+                failedFlushCounter.increment();
+                if (isDataError(e)) {
+                    log.error("Failed to flush {} ingested measurements (data error), isolating failures: {}",
+                            batch.size(), e.getMessage());
+                    return isolate(batch);
+                }
+                log.error("Failed to flush {} ingested measurements, retrying in {}ms: {}",
+                        batch.size(), backoffMs, e.getMessage());
+                if (!backoff(backoffMs)) {
+                    return false;
+                }
+                backoffMs = Math.min(backoffMs * 2, maxRetryBackoffMs);
+            }
+        }
+    }
+
+    /**
+     * 항목별 저장 → 데이터 오류로 실패한 항목만 dead-letter (일시적 오류는 같은 항목을 재시도)
+     */
+    private boolean isolate(List<MeasurementIngestEntry> batch) {
+        List<MeasurementIngestEntry> failed = new ArrayList<>();
+        for (MeasurementIngestEntry entry : batch) {
+            long backoffMs = 100;
+            while (true) {
+                try {
+                    flush(List.of(entry));
+                    break;
+                } catch (RuntimeException e) {
+                    if (isDataError(e)) {
+                        log.error("Dead-lettering ingested measurement seq={} userId={}: {}",
+                                entry.sequence(), entry.userId(), e.getMessage());
+                        failed.add(entry);
+                        break;
+                    }
+                    log.error("Failed to flush ingested measurement seq={}, retrying in {}ms: {}",
+                            entry.sequence(), backoffMs, e.getMessage());
+                    if (!backoff(backoffMs)) {
+                        // 이미 저장된 앞 항목은 재기동 시 중복 판별로 건너뜀
+                        return false;
+                    }
+                    backoffMs = Math.min(backoffMs * 2, maxRetryBackoffMs);
+                }
+            }
+        }
+
+        if (!failed.isEmpty()) {
+            try {
+                journal.deadLetter(failed);
+            } catch (IOException e) {
+                // 저널에서도 곧 지워지므로 로그에 남겨 수동 복구 가능하게 함
+                log.error("Failed to write {} dead-lettered measurements, dropping: {}", failed.size(), failed, e);
+            }
+            deadLetteredCounter.increment(failed.size());
+        }
+        journal.checkpoint(batch.get(batch.size() - 1).sequence());
+        return true;
+    }
+
+    /**
+     * 다시 시도해도 같은 결과인 오류 (제약 조건 위반, 검증 실패)
+     * - 동시 저장 경합(DuplicateMeasurementException)은 재시도하면 중복 판별로 해소되므로 제외
+     */
+    private static boolean isDataError(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof DuplicateMeasurementException) {
+                return false;
+            }
+            if (t instanceof DataIntegrityViolationException
+                    || t instanceof ConstraintViolationException
+                    || t instanceof IllegalArgumentException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 재시도 전 대기 (종료 중이거나 인터럽트되면 false)
+     */
+    private boolean backoff(long backoffMs) {
+        if (stopping) {
+            return false;
+        }
+        try {
+            Thread.sleep(backoffMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void flush(List<MeasurementIngestEntry> batch) {
+        // 사용자별로 묶되 수신 순서 유지
+        Map<Long, List<MeasurementRequest>> byUser = new LinkedHashMap<>();
+        for (MeasurementIngestEntry entry : batch) {
+            byUser.computeIfAbsent(entry.userId(), id -> new ArrayList<>()).add(entry.request());
+        }
+        measurementService.saveGrouped(byUser);
+    }
+
+    private void registerMetrics() {
+        Gauge.builder("measurement.ingest.queue.depth", queue, BlockingQueue::size)
+                .description("Pending measurements in the async ingest queue")
+                .register(meterRegistry);
+        Gauge.builder("measurement.ingest.queue.remaining", capacity, Semaphore::availablePermits)
+                .description("Remaining capacity of the async ingest queue")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("measurement.ingest.flush")
+                .description("Group commit latency of the async ingest writer")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        batchSizeSummary = DistributionSummary.builder("measurement.ingest.flush.size")
+                .description("Rows per group commit")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("measurement.ingest.rejected")
+                .description("Measurements rejected because the ingest queue was full")
+                .register(meterRegistry);
+        failedFlushCounter = Counter.builder("measurement.ingest.flush.failed")
+                .description("Failed group commit attempts")
+                .register(meterRegistry);
+        deadLetteredCounter = Counter.builder("measurement.ingest.dead_lettered")
+                .description("Measurements moved to the dead-letter file because of data errors")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 종료 시 새 요청을 막고 기록 대기 중인 항목까지 큐에 넣은 뒤 모두 커밋
+     */
+    @PreDestroy
+    public void stop() {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        journal.stopAppends();
+        stopping = true;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        journal.close();
+    }
+}
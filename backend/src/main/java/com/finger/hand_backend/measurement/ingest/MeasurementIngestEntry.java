@@ -0,0 +1,17 @@
+package com.finger.hand_backend.measurement.ingest;
+
+import com.finger.hand_backend.measurement.dto.MeasurementRequest;
+
+/**
+ * 비동기 수집 큐/저널 항목
+ *
+ * @param sequence 수집 순번 (전역 단조 증가, 202 응답의 토큰)
+ * @param userId   사용자 ID
+ * @param request  측정 데이터 요청
+ */
+public record MeasurementIngestEntry(
+        long sequence,
+        Long userId,
+        MeasurementRequest request
+) {
+}
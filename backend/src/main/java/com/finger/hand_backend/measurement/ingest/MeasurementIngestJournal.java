@@ -0,0 +1,365 @@
+package com.finger.hand_backend.measurement.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finger.hand_backend.measurement.dto.MeasurementRequest;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 비동기 수집 저널 (append-only spill file, 세그먼트 단위)
+ * - ingest-{첫 순번}.log: 수락된 항목을 JSON Lines로 기록 (202 응답 전에 기록)
+ * - ingest.checkpoint: DB 커밋이 끝난 마지막 순번
+ * - 재시작 시 checkpoint 이후 항목을 다시 저장 → 크래시가 나도 유실 없음
+ * - group commit: 단일 journal 스레드가 대기 중인 기록을 모아 한 번에 쓰고 fsync 1회, 그 뒤에 요청들에 응답
+ * - 세그먼트가 segment-bytes를 넘으면 새 세그먼트로 교체, 모든 항목이 커밋된 세그먼트는 삭제
+ * - dead-letter.log: 재시도 한도를 넘겨 저장하지 못한 항목 (수동 재처리용)
+ */
+@Slf4j
+class MeasurementIngestJournal {
+
+    private static final String SEGMENT_PREFIX = "ingest-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "ingest.checkpoint";
+    private static final String DEAD_LETTER_FILE = "dead-letter.log";
+    private static final int MAX_GROUP_SIZE = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final boolean fsync;
+    private final long segmentBytes;
+    private final Path directory;
+    private final Path checkpointPath;
+
+    private final BlockingQueue<PendingAppend> appends = new LinkedBlockingQueue<>();
+    private final TreeMap<Long, Path> closedSegments = new TreeMap<>();  // 첫 순번 → 파일 (guarded by this)
+
+    private FileChannel channel;       // journal 스레드만 사용
+    private long activeFirstSequence;  // guarded by this
+    private long lastAppendedSequence; // journal 스레드만 사용
+    private long committedSequence;    // guarded by this
+
+    private Thread appender;
+    private volatile boolean accepting;
+
+    private record PendingAppend(Long userId, MeasurementRequest request,
+                                 CompletableFuture<MeasurementIngestEntry> durable) {
+    }
+
+    MeasurementIngestJournal(Path directory, ObjectMapper objectMapper, boolean fsync, long segmentBytes) {
+        this.objectMapper = objectMapper;
+        this.fsync = fsync;
+        this.segmentBytes = segmentBytes;
+        this.directory = directory;
+        this.checkpointPath = directory.resolve(CHECKPOINT_FILE);
+    }
+
+    /**
+     * 저널 열기 + 미커밋 항목 복구
+     * - 기존 세그먼트는 읽기만 하고, 새 항목은 새 세그먼트에 기록
+     *
+     * @return checkpoint 이후 기록된 항목 (순번 오름차순)
+     */
+    synchronized List<MeasurementIngestEntry> open() throws IOException {
+        Files.createDirectories(directory);
+
+        committedSequence = Files.exists(checkpointPath)
+                ? Long.parseLong(Files.readString(checkpointPath).trim())
+                : 0L;
+        lastAppendedSequence = committedSequence;
+
+        List<MeasurementIngestEntry> pending = new ArrayList<>();
+        for (Path segment : existingSegments()) {
+            long firstSequence = Long.MAX_VALUE;
+            try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) continue;
+                    MeasurementIngestEntry entry;
+                    try {
+                        entry = objectMapper.readValue(line, MeasurementIngestEntry.class);
+                    } catch (IOException e) {
+                        // 크래시로 마지막 줄이 잘린 경우 (202 응답 전이므로 유실 아님)
+                        log.warn("Skipping torn ingest journal line in {}: {}", segment.getFileName(), e.getMessage());
+                        continue;
+                    }
+                    firstSequence = Math.min(firstSequence, entry.sequence());
+                    lastAppendedSequence = Math.max(lastAppendedSequence, entry.sequence());
+                    if (entry.sequence() > committedSequence) {
+                        pending.add(entry);
+                    }
+                }
+            }
+            if (firstSequence == Long.MAX_VALUE) {
+                Files.deleteIfExists(segment);  // 비어 있거나 잘린 줄만 있는 세그먼트
+            } else {
+                closedSegments.put(firstSequence, segment);
+            }
+        }
+        pending.sort((a, b) -> Long.compare(a.sequence(), b.sequence()));
+
+        openSegment(lastAppendedSequence + 1);
+        deleteCommittedSegments();
+
+        log.info("Ingest journal opened: committed={}, lastAppended={}, pending={}, segments={}",
+                committedSequence, lastAppendedSequence, pending.size(), closedSegments.size() + 1);
+        return pending;
+    }
+
+    /**
+     * journal 스레드 시작
+     *
+     * @param onDurable fsync가 끝난 항목을 순번 순서대로 전달 (요청 응답보다 먼저 호출)
+     */
+    void start(Consumer<MeasurementIngestEntry> onDurable) {
+        accepting = true;
+        appender = Thread.ofPlatform()
+                .name("measurement-ingest-journal")
+                .start(() -> appendLoop(onDurable));
+    }
+
+    /**
+     * 항목 기록 요청 (다음 group commit에 포함)
+     *
+     * @return fsync 후 순번이 발급된 항목으로 완료되는 future (기록 실패 시 UncheckedIOException)
+     */
+    CompletableFuture<MeasurementIngestEntry> append(Long userId, MeasurementRequest request) {
+        CompletableFuture<MeasurementIngestEntry> durable = new CompletableFuture<>();
+        if (!accepting) {
+            durable.completeExceptionally(new IllegalStateException("ASYNC_INGEST_DISABLED"));
+            return durable;
+        }
+        appends.add(new PendingAppend(userId, request, durable));
+        return durable;
+    }
+
+    private void appendLoop(Consumer<MeasurementIngestEntry> onDurable) {
+        List<PendingAppend> group = new ArrayList<>(MAX_GROUP_SIZE);
+
+        while (accepting || !appends.isEmpty()) {
+            try {
+                PendingAppend first = appends.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                appends.drainTo(group, MAX_GROUP_SIZE - 1);
+
+                writeGroup(group, onDurable);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    /**
+     * 묶음 기록: 순번 발급 → 한 번에 write → fsync 1회 → onDurable → 응답
+     */
+    private void writeGroup(List<PendingAppend> group, Consumer<MeasurementIngestEntry> onDurable) {
+        List<MeasurementIngestEntry> entries = new ArrayList<>(group.size());
+        long sequence = lastAppendedSequence;
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(group.size() * 256);
+            for (PendingAppend pending : group) {
+                MeasurementIngestEntry entry = new MeasurementIngestEntry(++sequence, pending.userId(), pending.request());
+                out.write(objectMapper.writeValueAsBytes(entry));
+                out.write('\n');
+                entries.add(entry);
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+            lastAppendedSequence = sequence;
+        } catch (IOException e) {
+            // 일부만 써졌을 수 있으므로 발급한 순번은 버리고(재사용 금지) 새 세그먼트로 교체
+            // 재시작 시 써진 항목이 다시 저장될 수 있으나 이미 저장된 측정값은 제외되므로 중복 없음
+            lastAppendedSequence = sequence;
+            log.error("Failed to write {} entries to ingest journal: {}", group.size(), e.getMessage());
+            UncheckedIOException failure = new UncheckedIOException("INGEST_JOURNAL_WRITE_FAILED", e);
+            group.forEach(pending -> pending.durable().completeExceptionally(failure));
+            rotateQuietly();
+            return;
+        }
+
+        for (int i = 0; i < group.size(); i++) {
+            onDurable.accept(entries.get(i));
+            group.get(i).durable().complete(entries.get(i));
+        }
+
+        if (channelSize() >= segmentBytes) {
+            rotateQuietly();
+        }
+    }
+
+    /**
+     * DB 커밋 완료 순번 기록
+     * - 임시 파일 + atomic move로 checkpoint 갱신
+     * - 모든 항목이 커밋된 닫힌 세그먼트 삭제
+     */
+    synchronized void checkpoint(long sequence) {
+        try {
+            Path tmp = checkpointPath.resolveSibling(CHECKPOINT_FILE + ".tmp");
+            Files.writeString(tmp, Long.toString(sequence), StandardCharsets.UTF_8);
+            Files.move(tmp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            committedSequence = sequence;
+        } catch (IOException e) {
+            // checkpoint 실패 시 재시작 때 중복 저장될 수 있으나 유실은 없음
+            log.error("Failed to write ingest checkpoint {}: {}", sequence, e.getMessage());
+            return;
+        }
+        deleteCommittedSegments();
+    }
+
+    /**
+     * 저장하지 못한 항목을 dead-letter 파일에 기록 (checkpoint 전에 호출)
+     */
+    synchronized void deadLetter(Collection<MeasurementIngestEntry> entries) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(entries.size() * 256);
+        for (MeasurementIngestEntry entry : entries) {
+            out.write(objectMapper.writeValueAsBytes(entry));
+            out.write('\n');
+        }
+        try (FileChannel deadLetter = FileChannel.open(directory.resolve(DEAD_LETTER_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+            while (buffer.hasRemaining()) {
+                deadLetter.write(buffer);
+            }
+            deadLetter.force(false);
+        }
+    }
+
+    synchronized long committedSequence() {
+        return committedSequence;
+    }
+
+    /**
+     * 새 기록 요청을 막고 대기 중인 기록을 모두 쓴 뒤 journal 스레드 종료
+     */
+    void stopAppends() {
+        accepting = false;
+        if (appender == null) return;
+        try {
+            appender.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 종료 직전에 들어와 기록되지 못한 요청은 거절 (응답 대기로 멈추지 않도록)
+        List<PendingAppend> leftovers = new ArrayList<>();
+        appends.drainTo(leftovers);
+        IllegalStateException disabled = new IllegalStateException("ASYNC_INGEST_DISABLED");
+        leftovers.forEach(pending -> pending.durable().completeExceptionally(disabled));
+    }
+
+    synchronized void close() {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close ingest journal: {}", e.getMessage());
+        }
+    }
+
+    private List<Path> existingSegments() throws IOException {
+        // 첫 순번 순서
+        Map<Long, Path> segments = new TreeMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                String number = name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length());
+                try {
+                    segments.put(Long.parseLong(number), path);
+                } catch (NumberFormatException e) {
+                    log.warn("Ignoring unexpected file in ingest journal directory: {}", name);
+                }
+            }
+        }
+        return new ArrayList<>(segments.values());
+    }
+
+    private synchronized void openSegment(long firstSequence) throws IOException {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+        channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        activeFirstSequence = firstSequence;
+    }
+
+    private void rotateQuietly() {
+        synchronized (this) {
+            Path active = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, activeFirstSequence, SEGMENT_SUFFIX));
+            try {
+                channel.close();
+                if (lastAppendedSequence >= activeFirstSequence) {
+                    closedSegments.put(activeFirstSequence, active);
+                } else {
+                    Files.deleteIfExists(active);
+                }
+                openSegment(lastAppendedSequence + 1);
+            } catch (IOException e) {
+                // 다음 기록이 실패(INGEST_JOURNAL_WRITE_FAILED)하며 다시 교체를 시도
+                log.error("Failed to rotate ingest journal segment: {}", e.getMessage());
+                return;
+            }
+        }
+        deleteCommittedSegments();
+    }
+
+    /**
+     * 닫힌 세그먼트 중 다음 세그먼트의 첫 순번 - 1 까지 모두 커밋된 것 삭제
+     */
+    private synchronized void deleteCommittedSegments() {
+        while (!closedSegments.isEmpty()) {
+            Map.Entry<Long, Path> oldest = closedSegments.firstEntry();
+            Long next = closedSegments.higherKey(oldest.getKey());
+            long nextFirstSequence = next != null ? next : activeFirstSequence;
+            if (nextFirstSequence - 1 > committedSequence) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(oldest.getValue());
+            } catch (IOException e) {
+                log.warn("Failed to delete committed ingest journal segment {}: {}",
+                        oldest.getValue().getFileName(), e.getMessage());
+                return;
+            }
+            closedSegments.pollFirstEntry();
+        }
+    }
+
+    private long channelSize() {
+        try {
+            return channel.size();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
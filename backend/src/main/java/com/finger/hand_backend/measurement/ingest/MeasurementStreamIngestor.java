@@ -0,0 +1,61 @@
+package com.finger.hand_backend.measurement.ingest;
+
+import com.finger.hand_backend.measurement.MeasurementService;
+import com.finger.hand_backend.measurement.dto.MeasurementRequest;
+import com.finger.hand_backend.measurement.dto.MeasurementStreamResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 바이너리 스트림 수집
+ * - chunked 요청 본문을 프레임 단위로 디코딩 → 검증 → 배치 저장
+ * - 프레임마다 커밋하므로 스트림 도중 오류가 나도 앞선 프레임은 저장된 상태
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MeasurementStreamIngestor {
+
+    private final MeasurementService measurementService;
+    private final Validator validator;
+
+    public MeasurementStreamResponse ingest(Long userId, InputStream body) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(body, 64 * 1024));
+        byte[] buffer = new byte[MeasurementBinaryCodec.frameBodyLength(MeasurementBinaryCodec.MAX_ROWS_PER_FRAME)];
+
+        int frames = 0;
+        int count = 0;
+        List<MeasurementRequest> rows;
+        while ((rows = MeasurementBinaryCodec.readFrame(in, buffer)) != null) {
+            validate(rows, frames);
+            count += measurementService.saveBatch(userId, rows).size();
+            frames++;
+        }
+
+        log.debug("Stream ingested {} measurements in {} frames for user {}", count, frames, userId);
+        return MeasurementStreamResponse.builder()
+                .frames(frames)
+                .count(count)
+                .build();
+    }
+
+    private void validate(List<MeasurementRequest> rows, int frameIndex) {
+        for (int i = 0; i < rows.size(); i++) {
+            Set<ConstraintViolation<MeasurementRequest>> violations = validator.validate(rows.get(i));
+            if (!violations.isEmpty()) {
+                throw new IllegalArgumentException(String.format("INVALID_MEASUREMENT_FRAME: frame %d row %d - %s",
+                        frameIndex, i, violations.iterator().next().getMessage()));
+            }
+        }
+    }
+}
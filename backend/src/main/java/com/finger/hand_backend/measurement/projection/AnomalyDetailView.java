@@ -0,0 +1,18 @@
+package com.finger.hand_backend.measurement.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이상치 상세 조회용 프로젝션 (JPQL 생성자 표현식)
+ * - 보고서에 필요한 컬럼만 조회, 엔티티/영속성 컨텍스트 미사용
+ */
+public record AnomalyDetailView(
+        Long measurementId,
+        LocalDateTime measuredAt,
+        Double stressIndex,
+        Integer stressLevel,
+        Double heartRate,
+        Double hrvSdnn,
+        Double hrvRmssd
+) {
+}
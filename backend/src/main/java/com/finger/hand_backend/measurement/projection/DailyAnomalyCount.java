@@ -0,0 +1,15 @@
+package com.finger.hand_backend.measurement.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 일별 이상치 개수 (인터페이스 프로젝션)
+ */
+public interface DailyAnomalyCount {
+
+    Long getUserId();
+
+    LocalDate getDay();
+
+    Long getAnomalyCount();
+}
@@ -0,0 +1,22 @@
+package com.finger.hand_backend.measurement.projection;
+
+/**
+ * 기간 내 측정/이상치 집계 (위험 점수 measurement_component 입력)
+ * - 일 롤업이 있으면 롤업 1행, 없으면 원본 집계 쿼리 1회로 만듦
+ *
+ * @param measurementCount 전체 측정 횟수
+ * @param anomalyCount     이상치 개수
+ * @param avgAnomalyStress 이상치 stressIndex 평균 (없으면 null)
+ */
+public record MeasurementDaySummary(
+        Long measurementCount,
+        Long anomalyCount,
+        Double avgAnomalyStress
+) {
+
+    public MeasurementDaySummary {
+        // 대상 행이 없으면 SUM이 null
+        measurementCount = measurementCount != null ? measurementCount : 0L;
+        anomalyCount = anomalyCount != null ? anomalyCount : 0L;
+    }
+}
@@ -0,0 +1,22 @@
+package com.finger.hand_backend.measurement.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 이상치 상세 프로젝션 (보고서 일괄 생성용, JPQL 생성자 표현식)
+ */
+public record UserAnomalyDetailView(
+        Long userId,
+        Long measurementId,
+        LocalDateTime measuredAt,
+        Double stressIndex,
+        Integer stressLevel,
+        Double heartRate,
+        Double hrvSdnn,
+        Double hrvRmssd
+) {
+
+    public AnomalyDetailView toDetailView() {
+        return new AnomalyDetailView(measurementId, measuredAt, stressIndex, stressLevel, heartRate, hrvSdnn, hrvRmssd);
+    }
+}
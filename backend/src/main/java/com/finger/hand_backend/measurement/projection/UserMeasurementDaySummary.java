@@ -0,0 +1,21 @@
+package com.finger.hand_backend.measurement.projection;
+
+/**
+ * 사용자별 하루 측정/이상치 집계 (야간 위험 점수 일괄 계산용)
+ *
+ * @param userId           사용자 ID
+ * @param measurementCount 전체 측정 횟수
+ * @param anomalyCount     이상치 개수
+ * @param avgAnomalyStress 이상치 stressIndex 평균 (없으면 null)
+ */
+public record UserMeasurementDaySummary(
+        Long userId,
+        Long measurementCount,
+        Long anomalyCount,
+        Double avgAnomalyStress
+) {
+
+    public MeasurementDaySummary toDaySummary() {
+        return new MeasurementDaySummary(measurementCount, anomalyCount, avgAnomalyStress);
+    }
+}
@@ -0,0 +1,137 @@
+package com.finger.hand_backend.measurement.rollup;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 측정 데이터 롤업 엔티티
+ * - 사용자별 1분/1시간/1일 버킷 단위 stressIndex 요약
+ * - 측정 데이터 저장 시 같은 트랜잭션에서 증분 갱신 (MeasurementRollupWriter)
+ * - 쓰기는 JDBC upsert로만 하고, JPA로는 조회만 함
+ */
+@Entity
+@Table(
+    name = "measurement_rollups",
+    indexes = {
+        // 야간 일괄 작업: 특정 날짜의 전체 사용자 일 롤업 조회
+        @Index(name = "idx_rollup_resolution_bucket", columnList = "resolution, bucket_start, user_id")
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_rollup_user_resolution_bucket", columnNames = {"user_id", "resolution", "bucket_start"})
+    }
+)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeasurementRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resolution", nullable = false, length = 10)
+    private RollupResolution resolution;
+
+    /**
+     * 버킷 시작 시각 (분/시/일 단위로 절삭)
+     */
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    // ========== 개수 ==========
+
+    /**
+     * 전체 측정 횟수
+     */
+    @Column(name = "measurement_count", nullable = false)
+    private Integer measurementCount;
+
+    /**
+     * stressIndex가 있는 측정 횟수 (평균 계산 분모)
+     */
+    @Column(name = "stress_count", nullable = false)
+    private Integer stressCount;
+
+    /**
+     * 이상치 횟수
+     */
+    @Column(name = "anomaly_count", nullable = false)
+    private Integer anomalyCount;
+
+    /**
+     * stressIndex가 있는 이상치 횟수 (이상치 평균 스트레스 분모)
+     */
+    @Column(name = "anomaly_stress_count", nullable = false)
+    private Integer anomalyStressCount;
+
+    /**
+     * 이상치 stressIndex 합
+     */
+    @Column(name = "anomaly_stress_sum", nullable = false)
+    private Double anomalyStressSum;
+
+    // ========== stressIndex 요약 ==========
+
+    @Column(name = "stress_min")
+    private Double stressMin;
+
+    /**
+     * 최저 stressIndex 측정 시각 (같은 값이면 가장 이른 시각)
+     */
+    @Column(name = "stress_min_at")
+    private LocalDateTime stressMinAt;
+
+    @Column(name = "stress_max")
+    private Double stressMax;
+
+    /**
+     * 최고 stressIndex 측정 시각 (같은 값이면 가장 이른 시각)
+     */
+    @Column(name = "stress_max_at")
+    private LocalDateTime stressMaxAt;
+
+    @Column(name = "stress_sum", nullable = false)
+    private Double stressSum;
+
+    /**
+     * stressIndex 제곱합 (분산 계산용)
+     */
+    @Column(name = "stress_sum_sq", nullable = false)
+    private Double stressSumSq;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 평균 stressIndex (없으면 null)
+     */
+    public Double getStressAvg() {
+        return stressCount > 0 ? stressSum / stressCount : null;
+    }
+
+    /**
+     * 이상치 평균 stressIndex (없으면 null)
+     */
+    public Double getAnomalyStressAvg() {
+        return anomalyStressCount > 0 ? anomalyStressSum / anomalyStressCount : null;
+    }
+
+    /**
+     * stressIndex 모표준편차 (없으면 null)
+     */
+    public Double getStressStd() {
+        if (stressCount == 0) return null;
+        double mean = stressSum / stressCount;
+        return Math.sqrt(Math.max(0.0, stressSumSq / stressCount - mean * mean));
+    }
+}
@@ -0,0 +1,55 @@
+package com.finger.hand_backend.measurement.rollup;
+
+import com.finger.hand_backend.measurement.projection.UserMeasurementDaySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MeasurementRollup Repository (조회 전용)
+ */
+@Repository
+public interface MeasurementRollupRepository extends JpaRepository<MeasurementRollup, Long> {
+
+    /**
+     * 특정 해상도의 기간 내 롤업 조회 (bucketStart 오름차순)
+     *
+     * @param userId     사용자 ID
+     * @param resolution 해상도
+     * @param from       시작 버킷 (포함)
+     * @param to         종료 버킷 (포함)
+     */
+    List<MeasurementRollup> findByUserIdAndResolutionAndBucketStartBetweenOrderByBucketStartAsc(
+            Long userId,
+            RollupResolution resolution,
+            LocalDateTime from,
+            LocalDateTime to
+    );
+
+    Optional<MeasurementRollup> findByUserIdAndResolutionAndBucketStart(
+            Long userId,
+            RollupResolution resolution,
+            LocalDateTime bucketStart
+    );
+
+    /**
+     * 특정 날짜 일 롤업이 있는 모든 사용자의 측정/이상치 집계 (엔티티 로딩 없음)
+     *
+     * @param bucketStart 날짜 시작 시각
+     */
+    @Query("""
+  SELECT new com.finger.hand_backend.measurement.projection.UserMeasurementDaySummary(
+    r.userId,
+    CAST(r.measurementCount AS Long),
+    CAST(r.anomalyCount AS Long),
+    CASE WHEN r.anomalyStressCount > 0 THEN r.anomalyStressSum / r.anomalyStressCount END)
+  FROM MeasurementRollup r
+  WHERE r.resolution = com.finger.hand_backend.measurement.rollup.RollupResolution.DAY
+    AND r.bucketStart = :bucketStart
+""")
+    List<UserMeasurementDaySummary> findDaySummaries(LocalDateTime bucketStart);
+}
@@ -0,0 +1,116 @@
+package com.finger.hand_backend.measurement.rollup;
+
+import com.finger.hand_backend.measurement.Measurement;
+import com.finger.hand_backend.measurement.MeasurementRepository;
+import com.finger.hand_backend.measurement.projection.MeasurementDaySummary;
+import com.finger.hand_backend.measurement.projection.UserMeasurementDaySummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 측정 데이터 롤업 서비스
+ * - 저장된 측정 데이터를 1분/1시간/1일 버킷으로 묶어 증분 반영
+ * - 조회 API는 원본 대신 롤업을 읽어 착용 시간과 무관한 비용으로 응답
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MeasurementRollupService {
+
+    private static final Comparator<RollupKey> KEY_ORDER = Comparator
+            .comparing(RollupKey::userId)
+            .thenComparing(RollupKey::resolution)
+            .thenComparing(RollupKey::bucketStart);
+
+    private final MeasurementRollupWriter rollupWriter;
+    private final MeasurementRollupRepository rollupRepository;
+    private final MeasurementRepository measurementRepository;
+
+    /**
+     * 새로 저장된 측정 데이터 반영 (호출 측 트랜잭션에 참여)
+     */
+    @Transactional
+    public void apply(List<Measurement> measurements) {
+        if (measurements.isEmpty()) {
+            return;
+        }
+
+        // 정렬된 키 순서로 upsert → 동시 배치 간 행 잠금 순서가 같아 교착 방지
+        Map<RollupKey, RollupAccumulator> deltas = new TreeMap<>(KEY_ORDER);
+        for (Measurement m : measurements) {
+            for (RollupResolution resolution : RollupResolution.values()) {
+                RollupKey key = new RollupKey(m.getUserId(), resolution, resolution.bucketStart(m.getMeasuredAt()));
+                deltas.computeIfAbsent(key, k -> new RollupAccumulator(k.userId(), k.resolution(), k.bucketStart()))
+                        .add(m);
+            }
+        }
+
+        rollupWriter.upsert(new ArrayList<>(deltas.values()));
+    }
+
+    /**
+     * 하루치 롤업 재계산 (측정 데이터 삭제 시)
+     */
+    @Transactional
+    public void rebuildDay(Long userId, LocalDate date) {
+        rollupWriter.rebuild(userId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        log.debug("Rebuilt measurement rollups for user {} on {}", userId, date);
+    }
+
+    /**
+     * 기간 내 롤업 조회
+     *
+     * @param from 시작 시각 (포함, 버킷 단위로 절삭)
+     * @param to   종료 시각 (포함)
+     */
+    @Transactional(readOnly = true)
+    public List<MeasurementRollup> getRollups(Long userId, RollupResolution resolution,
+                                              LocalDateTime from, LocalDateTime to) {
+        return rollupRepository.findByUserIdAndResolutionAndBucketStartBetweenOrderByBucketStartAsc(
+                userId, resolution, resolution.bucketStart(from), to);
+    }
+
+    /**
+     * 하루 측정/이상치 집계
+     * - 일 롤업 1행으로 계산 (측정 저장과 같은 트랜잭션에서 갱신되므로 원본과 일치)
+     * - 롤업이 없으면 원본 집계 쿼리 1회로 대체
+     *   (이상치 stressIndex 컬럼 추가 전에 만든 롤업은 scripts/migration-measurement-rollups-anomaly-stress-backfill.sql로 채움)
+     */
+    @Transactional(readOnly = true)
+    public MeasurementDaySummary summarizeDay(Long userId, LocalDate date) {
+        MeasurementRollup day = rollupRepository
+                .findByUserIdAndResolutionAndBucketStart(userId, RollupResolution.DAY, date.atStartOfDay())
+                .orElse(null);
+
+        if (day == null) {
+            return measurementRepository.summarizeDay(userId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        }
+        return new MeasurementDaySummary(
+                day.getMeasurementCount().longValue(),
+                day.getAnomalyCount().longValue(),
+                day.getAnomalyStressAvg());
+    }
+
+    /**
+     * 특정 날짜에 측정 데이터가 있는 모든 사용자의 하루 집계
+     * - 일 롤업 조회 1회
+     * - 측정 데이터가 없는 사용자는 결과에 없음
+     */
+    @Transactional(readOnly = true)
+    public List<UserMeasurementDaySummary> summarizeDayForAllUsers(LocalDate date) {
+        return rollupRepository.findDaySummaries(date.atStartOfDay());
+    }
+
+    private record RollupKey(Long userId, RollupResolution resolution, LocalDateTime bucketStart) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.finger.hand_backend.measurement.rollup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * MeasurementRollup 쓰기 저장소 (JDBC)
+ * - upsert: 배치 내 증분을 INSERT ... ON DUPLICATE KEY UPDATE로 병합 (MySQL 8.0.19+ row alias)
+ * - rebuild: 원본 measurements에서 기간 내 버킷을 다시 계산 (삭제 반영, 백필)
+ */
+@Repository
+@RequiredArgsConstructor
+public class MeasurementRollupWriter {
+
+    /**
+     * ON DUPLICATE KEY UPDATE는 왼쪽부터 차례로 적용되고, 이미 갱신된 컬럼을 참조하면 새 값을 읽으므로
+     * *_at 컬럼을 stress_min/stress_max보다 먼저 갱신해야 함
+     */
+    private static final String UPSERT_SQL = """
+            INSERT INTO measurement_rollups (
+                user_id, resolution, bucket_start, measurement_count, stress_count, anomaly_count,
+                anomaly_stress_count, anomaly_stress_sum,
+                stress_min, stress_min_at, stress_max, stress_max_at, stress_sum, stress_sum_sq, updated_at
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) AS new
+            ON DUPLICATE KEY UPDATE
+                stress_min_at = IF(stress_min IS NULL OR new.stress_min < stress_min
+                        OR (new.stress_min = stress_min AND new.stress_min_at < stress_min_at),
+                        new.stress_min_at, stress_min_at),
+                stress_max_at = IF(stress_max IS NULL OR new.stress_max > stress_max
+                        OR (new.stress_max = stress_max AND new.stress_max_at < stress_max_at),
+                        new.stress_max_at, stress_max_at),
+                stress_min = COALESCE(LEAST(stress_min, new.stress_min), stress_min, new.stress_min),
+                stress_max = COALESCE(GREATEST(stress_max, new.stress_max), stress_max, new.stress_max),
+                measurement_count = measurement_count + new.measurement_count,
+                stress_count = stress_count + new.stress_count,
+                anomaly_count = anomaly_count + new.anomaly_count,
+                anomaly_stress_count = anomaly_stress_count + new.anomaly_stress_count,
+                anomaly_stress_sum = anomaly_stress_sum + new.anomaly_stress_sum,
+                stress_sum = stress_sum + new.stress_sum,
+                stress_sum_sq = stress_sum_sq + new.stress_sum_sq,
+                updated_at = new.updated_at
+            """;
+
+    private static final String DELETE_RANGE_SQL = """
+            DELETE FROM measurement_rollups
+            WHERE user_id = ? AND bucket_start >= ? AND bucket_start < ?
+            """;
+
+    /**
+     * 버킷별 재계산 (min/max 시각은 ROW_NUMBER로 같은 값 중 가장 이른 행 선택)
+     */
+    private static final String REBUILD_SQL = """
+            INSERT INTO measurement_rollups (
+                user_id, resolution, bucket_start, measurement_count, stress_count, anomaly_count,
+                anomaly_stress_count, anomaly_stress_sum,
+                stress_min, stress_min_at, stress_max, stress_max_at, stress_sum, stress_sum_sq, updated_at
+            )
+            SELECT user_id, ?, bucket, COUNT(*), COUNT(stress_index), COALESCE(SUM(is_anomaly), 0),
+                   COUNT(CASE WHEN is_anomaly = 1 THEN stress_index END),
+                   COALESCE(SUM(CASE WHEN is_anomaly = 1 THEN stress_index END), 0),
+                   MIN(stress_index), MAX(CASE WHEN rn_min = 1 AND stress_index IS NOT NULL THEN measured_at END),
+                   MAX(stress_index), MAX(CASE WHEN rn_max = 1 AND stress_index IS NOT NULL THEN measured_at END),
+                   COALESCE(SUM(stress_index), 0), COALESCE(SUM(stress_index * stress_index), 0), NOW()
+            FROM (
+                SELECT b.*,
+                       ROW_NUMBER() OVER (PARTITION BY bucket ORDER BY stress_index IS NULL, stress_index, measured_at) AS rn_min,
+                       ROW_NUMBER() OVER (PARTITION BY bucket ORDER BY stress_index IS NULL, stress_index DESC, measured_at) AS rn_max
+                FROM (
+                    SELECT user_id, stress_index, is_anomaly, measured_at, DATE_FORMAT(measured_at, ?) AS bucket
+                    FROM measurements
+                    WHERE user_id = ? AND measured_at >= ? AND measured_at < ?
+                ) b
+            ) r
+            GROUP BY user_id, bucket
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 증분 병합
+     *
+     * @param deltas 버킷별 증분 (교착 방지를 위해 키 순서로 정렬된 상태)
+     */
+    void upsert(List<RollupAccumulator> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                RollupAccumulator d = deltas.get(i);
+                ps.setLong(1, d.userId);
+                ps.setString(2, d.resolution.name());
+                ps.setObject(3, d.bucketStart);
+                ps.setInt(4, d.measurementCount);
+                ps.setInt(5, d.stressCount);
+                ps.setInt(6, d.anomalyCount);
+                ps.setInt(7, d.anomalyStressCount);
+                ps.setDouble(8, d.anomalyStressSum);
+                ps.setObject(9, d.stressMin, Types.DOUBLE);
+                ps.setObject(10, d.stressMinAt);
+                ps.setObject(11, d.stressMax, Types.DOUBLE);
+                ps.setObject(12, d.stressMaxAt);
+                ps.setDouble(13, d.stressSum);
+                ps.setDouble(14, d.stressSumSq);
+                ps.setObject(15, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return deltas.size();
+            }
+        });
+    }
+
+    /**
+     * 기간 내 모든 해상도의 롤업을 원본에서 다시 계산
+     * - from/to는 일 단위 경계여야 DAY 버킷이 온전히 계산됨
+     *
+     * @param userId 사용자 ID
+     * @param from   시작 (포함)
+     * @param to     종료 (미포함)
+     */
+    void rebuild(Long userId, LocalDateTime from, LocalDateTime to) {
+        jdbcTemplate.update(DELETE_RANGE_SQL, userId, from, to);
+        for (RollupResolution resolution : RollupResolution.values()) {
+            jdbcTemplate.update(REBUILD_SQL, resolution.name(), resolution.sqlBucketFormat(), userId, from, to);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.finger.hand_backend.measurement.rollup;
+
+import com.finger.hand_backend.measurement.Measurement;
+
+import java.time.LocalDateTime;
+
+/**
+ * 버킷 1개에 대한 배치 내 증분 (upsert 파라미터)
+ */
+final class RollupAccumulator {
+
+    final Long userId;
+    final RollupResolution resolution;
+    final LocalDateTime bucketStart;
+
+    int measurementCount;
+    int stressCount;
+    int anomalyCount;
+    int anomalyStressCount;
+    double anomalyStressSum;
+    Double stressMin;
+    LocalDateTime stressMinAt;
+    Double stressMax;
+    LocalDateTime stressMaxAt;
+    double stressSum;
+    double stressSumSq;
+
+    RollupAccumulator(Long userId, RollupResolution resolution, LocalDateTime bucketStart) {
+        this.userId = userId;
+        this.resolution = resolution;
+        this.bucketStart = bucketStart;
+    }
+
+    void add(Measurement m) {
+        measurementCount++;
+        boolean anomaly = Boolean.TRUE.equals(m.getIsAnomaly());
+        if (anomaly) {
+            anomalyCount++;
+        }
+
+        Double stress = m.getStressIndex();
+        if (stress == null) {
+            return;
+        }
+        LocalDateTime t = m.getMeasuredAt();
+
+        if (anomaly) {
+            anomalyStressCount++;
+            anomalyStressSum += stress;
+        }
+        stressCount++;
+        stressSum += stress;
+        stressSumSq += stress * stress;
+
+        // 같은 값이면 더 이른 시각 유지
+        if (stressMin == null || stress < stressMin || (stress.equals(stressMin) && t.isBefore(stressMinAt))) {
+            stressMin = stress;
+            stressMinAt = t;
+        }
+        if (stressMax == null || stress > stressMax || (stress.equals(stressMax) && t.isBefore(stressMaxAt))) {
+            stressMax = stress;
+            stressMaxAt = t;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.finger.hand_backend.measurement.rollup;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 롤업 해상도
+ * - sqlBucketFormat: MySQL DATE_FORMAT으로 버킷 시작 시각을 만드는 포맷 (재계산/백필용)
+ */
+public enum RollupResolution {
+
+    MINUTE("%Y-%m-%d %H:%i:00"),
+    HOUR("%Y-%m-%d %H:00:00"),
+    DAY("%Y-%m-%d 00:00:00");
+
+    private final String sqlBucketFormat;
+
+    RollupResolution(String sqlBucketFormat) {
+        this.sqlBucketFormat = sqlBucketFormat;
+    }
+
+    public String sqlBucketFormat() {
+        return sqlBucketFormat;
+    }
+
+    /**
+     * 측정 시각이 속한 버킷의 시작 시각
+     */
+    public LocalDateTime bucketStart(LocalDateTime time) {
+        return switch (this) {
+            case MINUTE -> time.truncatedTo(ChronoUnit.MINUTES);
+            case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.finger.hand_backend.measurement.sketch;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 × 날짜 × 지표별 분위수 스케치 (직렬화된 TDigest)
+ * - 행 크기는 측정 개수와 무관 (compression 100 기준 약 0.5KB)
+ * - 측정 데이터 저장 트랜잭션 안에서 병합 (MeasurementSketchService.apply → MeasurementSketchWriter), JPA로는 조회만 함
+ * - 기간 분위수는 일별 스케치를 병합해서 계산
+ */
+@Entity
+@Table(
+    name = "measurement_daily_sketches",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_measurement_daily_sketches_user_date_metric",
+                columnNames = {"user_id", "sketch_date", "metric"})
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MeasurementDailySketch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "sketch_date", nullable = false)
+    private LocalDate sketchDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SketchMetric metric;
+
+    /**
+     * 스케치에 반영된 측정값 개수
+     */
+    @Column(name = "sample_count", nullable = false)
+    private Long sampleCount;
+
+    /**
+     * TDigest.toBytes()
+     */
+    @Lob
+    @Column(nullable = false, columnDefinition = "BLOB")
+    private byte[] digest;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public TDigest toDigest() {
+        return TDigest.fromBytes(digest);
+    }
+}
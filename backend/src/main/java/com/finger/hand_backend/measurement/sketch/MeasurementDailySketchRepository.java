@@ -0,0 +1,16 @@
+package com.finger.hand_backend.measurement.sketch;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface MeasurementDailySketchRepository extends JpaRepository<MeasurementDailySketch, Long> {
+
+    List<MeasurementDailySketch> findByUserIdAndMetricAndSketchDateBetween(
+            Long userId, SketchMetric metric, LocalDate from, LocalDate to);
+
+    List<MeasurementDailySketch> findByUserIdInAndMetricInAndSketchDateBetween(
+            Collection<Long> userIds, Collection<SketchMetric> metrics, LocalDate from, LocalDate to);
+}
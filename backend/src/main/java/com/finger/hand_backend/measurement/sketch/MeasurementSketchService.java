@@ -0,0 +1,196 @@
+package com.finger.hand_backend.measurement.sketch;
+
+import com.finger.hand_backend.measurement.Measurement;
+import com.finger.hand_backend.measurement.MeasurementRepository;
+import com.finger.hand_backend.measurement.dto.StressPercentileResponse;
+import com.finger.hand_backend.measurement.hot.HotWindowStore;
+import com.finger.hand_backend.measurement.sketch.MeasurementSketchWriter.SketchKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 분위수 스케치 서비스
+ * - 측정 데이터 저장 트랜잭션 안에서 사용자 × 날짜 × 지표별 스케치에 병합 (롤업과 같이 원본과 함께 커밋/롤백)
+ * - 병합/재계산 모두 기존 스케치 행을 FOR UPDATE로 잠근 뒤 진행하므로 같은 사용자의 동시 갱신이 직렬화됨
+ *   (병합은 잠그기 전에 빈 행을 먼저 만들어 첫 측정값끼리도 행 잠금으로 직렬화)
+ * - 기간 분위수는 일별 스케치 병합 → 기간 길이와 무관하게 메모리 상수
+ * - 스트레스 백분위 조회, Baseline 중앙값/MAD 계산에 사용
+ */
+@Slf4j
+@Service
+public class MeasurementSketchService {
+
+    private static final Comparator<SketchKey> KEY_ORDER = Comparator
+            .comparing(SketchKey::date)
+            .thenComparing(SketchKey::metric);
+
+    private final MeasurementSketchWriter sketchWriter;
+    private final MeasurementDailySketchRepository sketchRepository;
+    private final MeasurementRepository measurementRepository;
+    private final HotWindowStore hotWindowStore;
+    private final double compression;
+    private final int maxHistoryDays;
+
+    public MeasurementSketchService(
+            MeasurementSketchWriter sketchWriter,
+            MeasurementDailySketchRepository sketchRepository,
+            MeasurementRepository measurementRepository,
+            HotWindowStore hotWindowStore,
+            @Value("${measurement.sketch.compression:100}") double compression,
+            @Value("${measurement.sketch.max-history-days:365}") int maxHistoryDays
+    ) {
+        this.sketchWriter = sketchWriter;
+        this.sketchRepository = sketchRepository;
+        this.measurementRepository = measurementRepository;
+        this.hotWindowStore = hotWindowStore;
+        this.compression = compression;
+        this.maxHistoryDays = maxHistoryDays;
+    }
+
+    /**
+     * 새로 저장된 측정값을 일별 스케치에 병합 (호출 측 트랜잭션에 참여)
+     * - 배치 내 증분 스케치를 먼저 만든 뒤 기존 행을 잠그고 병합해서 덮어씀 (날짜 × 지표당 1행)
+     * - 사용자 ID 순서로 잠가서 여러 사용자를 묶은 배치 간 교착 방지
+     */
+    @Transactional
+    public void apply(List<Measurement> measurements) {
+        TreeMap<Long, TreeMap<SketchKey, TDigest>> deltasByUser = new TreeMap<>();
+        for (Measurement m : measurements) {
+            add(deltasByUser.computeIfAbsent(m.getUserId(), id -> new TreeMap<>(KEY_ORDER)),
+                    m.getMeasuredAt().toLocalDate(), m);
+        }
+        deltasByUser.forEach(this::merge);
+    }
+
+    private void merge(Long userId, TreeMap<SketchKey, TDigest> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        sketchWriter.ensureRows(userId, deltas.keySet(), new TDigest(compression).toBytes());
+        Map<SketchKey, TDigest> stored = sketchWriter.lock(userId, deltas.firstKey().date(), deltas.lastKey().date());
+        deltas.replaceAll((key, delta) -> {
+            TDigest existing = stored.get(key);
+            if (existing == null) {
+                return delta;
+            }
+            existing.merge(delta);
+            return existing;
+        });
+        sketchWriter.upsert(userId, deltas);
+    }
+
+    /**
+     * 하루치 스케치 재계산 (측정 데이터 삭제 시, 스케치는 값을 뺄 수 없으므로 원본에서 다시 만듦)
+     * - 원본을 읽기 전에 그날 스케치 행을 잠가서, 동시에 저장 중인 측정값의 병합이 재계산 결과에 덮이지 않게 함
+     */
+    @Transactional
+    public void rebuildDay(Long userId, LocalDate date) {
+        sketchWriter.lock(userId, date, date);
+        Map<SketchKey, TDigest> rebuilt = new TreeMap<>(KEY_ORDER);
+        sketchWriter.scanDay(userId, date, m -> add(rebuilt, date, m));
+        sketchWriter.deleteDay(userId, date);
+        sketchWriter.upsert(userId, rebuilt);
+        log.debug("Rebuilt measurement sketches for user {} on {}", userId, date);
+    }
+
+    /**
+     * 기간 내 일별 스케치 병합
+     *
+     * @param from 시작 날짜 (포함)
+     * @param to   종료 날짜 (포함)
+     * @return 병합된 스케치 (데이터가 없으면 빈 스케치)
+     */
+    @Transactional(readOnly = true)
+    public TDigest merge(Long userId, SketchMetric metric, LocalDate from, LocalDate to) {
+        TDigest merged = new TDigest(compression);
+        for (MeasurementDailySketch day : sketchRepository.findByUserIdAndMetricAndSketchDateBetween(userId, metric, from, to)) {
+            merged.merge(day.toDigest());
+        }
+        return merged;
+    }
+
+    /**
+     * 여러 사용자의 기간 스케치를 쿼리 1회로 병합
+     *
+     * @return 사용자 ID → 지표 → 병합된 스케치 (데이터가 없는 사용자/지표는 없음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Map<SketchMetric, TDigest>> mergeAll(
+            Collection<Long> userIds, Collection<SketchMetric> metrics, LocalDate from, LocalDate to) {
+        if (userIds.isEmpty() || metrics.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Map<SketchMetric, TDigest>> result = new HashMap<>();
+        for (MeasurementDailySketch day : sketchRepository.findByUserIdInAndMetricInAndSketchDateBetween(userIds, metrics, from, to)) {
+            result.computeIfAbsent(day.getUserId(), id -> new EnumMap<>(SketchMetric.class))
+                    .computeIfAbsent(day.getMetric(), metric -> new TDigest(compression))
+                    .merge(day.toDigest());
+        }
+        return result;
+    }
+
+    /**
+     * 오늘의 스트레스가 지난 N일(오늘 제외) 측정값 중 몇 번째 백분위인지
+     *
+     * @param days 비교 기간 (1 ~ max-history-days)
+     */
+    @Transactional(readOnly = true)
+    public StressPercentileResponse getStressPercentile(Long userId, int days) {
+        if (days < 1 || days > maxHistoryDays) {
+            throw new IllegalArgumentException(
+                    String.format("INVALID_DAYS: 비교 기간은 1 ~ %d일이어야 합니다", maxHistoryDays));
+        }
+
+        LocalDate today = LocalDate.now();
+        TDigest history = merge(userId, SketchMetric.STRESS_INDEX, today.minusDays(days), today.minusDays(1));
+        TDigest todaySketch = merge(userId, SketchMetric.STRESS_INDEX, today, today);
+
+        Double todayMedian = todaySketch.isEmpty() ? null : todaySketch.quantile(0.5);
+
+        Measurement latest = hotWindowStore.latest(userId, () -> measurementRepository
+                .findTopByUserIdOrderByMeasuredAtDesc(userId)
+                .orElse(null));
+        Double latestStress = latest != null ? latest.getStressIndex() : null;
+
+        return StressPercentileResponse.builder()
+                .date(today)
+                .todayMedianStress(todayMedian)
+                .todayPercentile(percentile(history, todayMedian))
+                .latestStress(latestStress)
+                .latestPercentile(percentile(history, latestStress))
+                .historyDays(days)
+                .historyCount(history.count())
+                .historyMedian(history.isEmpty() ? null : history.quantile(0.5))
+                .historyP90(history.isEmpty() ? null : history.quantile(0.9))
+                .build();
+    }
+
+    private void add(Map<SketchKey, TDigest> sketches, LocalDate date, Measurement m) {
+        for (SketchMetric metric : SketchMetric.values()) {
+            Double value = metric.extract(m);
+            if (value != null) {
+                sketches.computeIfAbsent(new SketchKey(date, metric), k -> new TDigest(compression)).add(value);
+            }
+        }
+    }
+
+    private static Double percentile(TDigest history, Double value) {
+        if (value == null || history.isEmpty()) {
+            return null;
+        }
+        return Math.round(history.cdf(value) * 1000) / 10.0;
+    }
+}
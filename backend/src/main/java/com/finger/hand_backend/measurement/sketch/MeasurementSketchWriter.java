@@ -0,0 +1,166 @@
+package com.finger.hand_backend.measurement.sketch;
+
+import com.finger.hand_backend.measurement.Measurement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * MeasurementDailySketch 쓰기 저장소 (JDBC)
+ * - 스케치 병합은 SQL로 할 수 없으므로 기존 행을 FOR UPDATE로 읽어 애플리케이션에서 병합 후 덮어씀
+ * - 잠그기 전에 빈 행을 INSERT IGNORE로 만들어 둠 → 행이 없을 때 FOR UPDATE가 gap 잠금만 잡고
+ *   두 트랜잭션이 같은 gap에 INSERT하며 교착되는 상황 방지 (항상 기존 행 잠금으로 직렬화)
+ * - 재계산: 원본 measurements에서 스케치에 필요한 컬럼만 읽어 하루치를 다시 만듦 (삭제 반영)
+ */
+@Repository
+@RequiredArgsConstructor
+public class MeasurementSketchWriter {
+
+    private static final String LOCK_SQL = """
+            SELECT sketch_date, metric, digest
+            FROM measurement_daily_sketches
+            WHERE user_id = ? AND sketch_date BETWEEN ? AND ?
+            FOR UPDATE
+            """;
+
+    private static final String ENSURE_SQL = """
+            INSERT IGNORE INTO measurement_daily_sketches (user_id, sketch_date, metric, sample_count, digest, updated_at)
+            VALUES (?, ?, ?, 0, ?, ?)
+            """;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO measurement_daily_sketches (user_id, sketch_date, metric, sample_count, digest, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?) AS new
+            ON DUPLICATE KEY UPDATE
+                sample_count = new.sample_count,
+                digest = new.digest,
+                updated_at = new.updated_at
+            """;
+
+    private static final String DELETE_DAY_SQL = """
+            DELETE FROM measurement_daily_sketches
+            WHERE user_id = ? AND sketch_date = ?
+            """;
+
+    private static final String SCAN_DAY_SQL = """
+            SELECT stress_index, stress_level, heart_rate, hrv_sdnn, hrv_rmssd, object_temp
+            FROM measurements
+            WHERE user_id = ? AND measured_at >= ? AND measured_at < ?
+            FOR SHARE
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 병합할 (날짜, 지표) 행이 없으면 빈 스케치로 생성 (이미 있으면 그대로)
+     *
+     * @param keys  (날짜, 지표) 순서로 정렬된 키 (교착 방지)
+     * @param empty 빈 스케치 직렬화 값
+     */
+    void ensureRows(Long userId, Collection<SketchKey> keys, byte[] empty) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        List<SketchKey> rows = List.copyOf(keys);
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(ENSURE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                SketchKey key = rows.get(i);
+                ps.setLong(1, userId);
+                ps.setObject(2, key.date());
+                ps.setString(3, key.metric().name());
+                ps.setBytes(4, empty);
+                ps.setObject(5, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    /**
+     * 사용자의 기간 내 스케치를 잠그고 조회 (트랜잭션 종료까지 잠금 유지)
+     */
+    Map<SketchKey, TDigest> lock(Long userId, LocalDate from, LocalDate to) {
+        Map<SketchKey, TDigest> existing = new HashMap<>();
+        jdbcTemplate.query(LOCK_SQL, rs -> {
+            existing.put(
+                    new SketchKey(rs.getObject("sketch_date", LocalDate.class), SketchMetric.valueOf(rs.getString("metric"))),
+                    TDigest.fromBytes(rs.getBytes("digest")));
+        }, userId, from, to);
+        return existing;
+    }
+
+    /**
+     * 병합된 스케치 저장
+     *
+     * @param sketches (날짜, 지표) 순서로 정렬된 상태 (교착 방지)
+     */
+    void upsert(Long userId, Map<SketchKey, TDigest> sketches) {
+        if (sketches.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<SketchKey, TDigest>> rows = List.copyOf(sketches.entrySet());
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<SketchKey, TDigest> row = rows.get(i);
+                ps.setLong(1, userId);
+                ps.setObject(2, row.getKey().date());
+                ps.setString(3, row.getKey().metric().name());
+                ps.setLong(4, row.getValue().count());
+                ps.setBytes(5, row.getValue().toBytes());
+                ps.setObject(6, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    void deleteDay(Long userId, LocalDate date) {
+        jdbcTemplate.update(DELETE_DAY_SQL, userId, date);
+    }
+
+    /**
+     * 하루치 원본 측정값을 스케치 대상 컬럼만 채워 전달
+     * - 잠금 읽기라서 트랜잭션 스냅샷이 아니라 최신 커밋된 행을 읽음 (스케치 잠금을 기다리는 동안 커밋된 측정값 포함)
+     */
+    void scanDay(Long userId, LocalDate date, Consumer<Measurement> consumer) {
+        jdbcTemplate.query(SCAN_DAY_SQL, rs -> {
+            consumer.accept(Measurement.builder()
+                    .stressIndex(rs.getObject("stress_index", Double.class))
+                    .stressLevel(rs.getObject("stress_level", Integer.class))
+                    .heartRate(rs.getObject("heart_rate", Double.class))
+                    .hrvSdnn(rs.getObject("hrv_sdnn", Double.class))
+                    .hrvRmssd(rs.getObject("hrv_rmssd", Double.class))
+                    .objectTemp(rs.getObject("object_temp", Double.class))
+                    .build());
+        }, userId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * 스케치 행 키 (사용자 내)
+     */
+    record SketchKey(LocalDate date, SketchMetric metric) {
+    }
+}
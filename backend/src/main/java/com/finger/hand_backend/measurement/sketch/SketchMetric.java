@@ -0,0 +1,41 @@
+package com.finger.hand_backend.measurement.sketch;
+
+import com.finger.hand_backend.measurement.Measurement;
+
+import java.util.function.Function;
+
+/**
+ * 분위수 스케치를 유지하는 지표
+ * - STRESS_INDEX: 모든 측정값 (스트레스 백분위 조회용)
+ * - CALM_*: 편안한 상태(stress_level ≤ 2) 측정값만 (Baseline 중앙값/MAD 계산용, BaselineDailyStat과 같은 조건)
+ * - 0 이하 값은 제외
+ */
+public enum SketchMetric {
+
+    STRESS_INDEX(false, Measurement::getStressIndex),
+    CALM_HEART_RATE(true, Measurement::getHeartRate),
+    CALM_HRV_SDNN(true, Measurement::getHrvSdnn),
+    CALM_HRV_RMSSD(true, Measurement::getHrvRmssd),
+    CALM_OBJECT_TEMP(true, Measurement::getObjectTemp);
+
+    private static final int CALM_STRESS_LEVEL = 2;
+
+    private final boolean calmOnly;
+    private final Function<Measurement, Double> extractor;
+
+    SketchMetric(boolean calmOnly, Function<Measurement, Double> extractor) {
+        this.calmOnly = calmOnly;
+        this.extractor = extractor;
+    }
+
+    /**
+     * 스케치에 넣을 값 (대상이 아니면 null)
+     */
+    public Double extract(Measurement measurement) {
+        if (calmOnly && (measurement.getStressLevel() == null || measurement.getStressLevel() > CALM_STRESS_LEVEL)) {
+            return null;
+        }
+        Double value = extractor.apply(measurement);
+        return value != null && value > 0 ? value : null;
+    }
+}
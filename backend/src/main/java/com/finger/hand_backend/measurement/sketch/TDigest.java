@@ -0,0 +1,310 @@
+package com.finger.hand_backend.measurement.sketch;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 병합 가능한 분위수 스케치 (merging t-digest)
+ * - 값을 (평균, 가중치) 중심점으로 요약, 중심점 수는 compression에 비례하고 입력 개수와 무관 (상수 메모리)
+ * - 스케일 함수 k₁(q) = δ/2π · asin(2q − 1) → 꼬리(q ≈ 0, 1)는 작은 중심점, 중앙은 큰 중심점
+ * - 하루치 스케치끼리 merge 후 분위수/CDF 조회 (같은 compression끼리 병합 순서와 무관하게 오차 한계 유지)
+ * - 직렬화는 float 평균/가중치 (중심점당 8바이트)
+ *
+ * 스레드 안전하지 않음 (요청/이벤트 1건 안에서만 사용)
+ */
+public final class TDigest {
+
+    public static final double DEFAULT_COMPRESSION = 100;
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 1 + 4 + 8 + 8 + 8 + 4;
+
+    private final double compression;
+
+    // 병합된 중심점 (평균 오름차순)
+    private double[] means;
+    private double[] weights;
+    private int centroids;
+
+    // 아직 병합하지 않은 입력
+    private double[] bufferMeans;
+    private double[] bufferWeights;
+    private int buffered;
+
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    public TDigest(double compression) {
+        if (compression < 10) {
+            throw new IllegalArgumentException("compression은 10 이상이어야 합니다");
+        }
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression) * 2 + 8;
+        this.means = new double[capacity];
+        this.weights = new double[capacity];
+        this.bufferMeans = new double[capacity * 4];
+        this.bufferWeights = new double[capacity * 4];
+    }
+
+    public TDigest() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    private void add(double value, double weight) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (buffered == bufferMeans.length) {
+            compress();
+        }
+        bufferMeans[buffered] = value;
+        bufferWeights[buffered] = weight;
+        buffered++;
+        count += (long) weight;
+        min = Double.isNaN(min) ? value : Math.min(min, value);
+        max = Double.isNaN(max) ? value : Math.max(max, value);
+    }
+
+    /**
+     * 다른 스케치를 이 스케치에 병합 (other는 변경되지 않음)
+     */
+    public void merge(TDigest other) {
+        if (other.count == 0) {
+            return;
+        }
+        for (int i = 0; i < other.centroids; i++) {
+            add(other.means[i], other.weights[i]);
+        }
+        for (int i = 0; i < other.buffered; i++) {
+            add(other.bufferMeans[i], other.bufferWeights[i]);
+        }
+        // 중심점 평균은 원래 min/max 안쪽이므로 원본 극값으로 보정
+        min = Double.isNaN(min) ? other.min : Math.min(min, other.min);
+        max = Double.isNaN(max) ? other.max : Math.max(max, other.max);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public double min() {
+        return min;
+    }
+
+    public double max() {
+        return max;
+    }
+
+    /**
+     * q 분위수 (0 ≤ q ≤ 1), 비어 있으면 NaN
+     * - 중심점 가중치의 절반 지점을 기준으로 이웃 중심점 평균을 선형 보간, 양 끝은 min/max까지 보간
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("q는 0 이상 1 이하여야 합니다");
+        }
+        compress();
+        if (centroids == 0) {
+            return Double.NaN;
+        }
+        if (centroids == 1) {
+            return min + (max - min) * q;
+        }
+
+        double target = q * count;
+        if (target <= weights[0] / 2) {
+            return interpolate(0, min, weights[0] / 2, means[0], target);
+        }
+
+        double cumulative = weights[0] / 2;
+        for (int i = 0; i < centroids - 1; i++) {
+            double step = (weights[i] + weights[i + 1]) / 2;
+            if (target <= cumulative + step) {
+                return interpolate(cumulative, means[i], cumulative + step, means[i + 1], target);
+            }
+            cumulative += step;
+        }
+
+        int last = centroids - 1;
+        return interpolate(cumulative, means[last], count, max, target);
+    }
+
+    /**
+     * value 이하일 누적 비율 (0 ~ 1), 비어 있으면 NaN
+     */
+    public double cdf(double value) {
+        compress();
+        if (centroids == 0) {
+            return Double.NaN;
+        }
+        if (value < min) {
+            return 0;
+        }
+        if (value >= max) {
+            return 1;
+        }
+        if (centroids == 1) {
+            return max > min ? (value - min) / (max - min) : 0.5;
+        }
+
+        if (value < means[0]) {
+            return interpolate(min, 0, means[0], weights[0] / 2, value) / count;
+        }
+
+        double cumulative = weights[0] / 2;
+        for (int i = 0; i < centroids - 1; i++) {
+            double step = (weights[i] + weights[i + 1]) / 2;
+            if (value < means[i + 1]) {
+                return interpolate(means[i], cumulative, means[i + 1], cumulative + step, value) / count;
+            }
+            cumulative += step;
+        }
+
+        int last = centroids - 1;
+        return interpolate(means[last], cumulative, max, count, value) / count;
+    }
+
+    /**
+     * 중앙값 절대 편차 (median(|x − median|))
+     * - CDF에서 [m − r, m + r] 구간 비율이 0.5가 되는 r을 이분 탐색
+     */
+    public double medianAbsoluteDeviation() {
+        double median = quantile(0.5);
+        if (Double.isNaN(median)) {
+            return Double.NaN;
+        }
+
+        double low = 0;
+        double high = Math.max(max - median, median - min);
+        for (int i = 0; i < 50 && high - low > 1e-9 * Math.max(1, high); i++) {
+            double r = (low + high) / 2;
+            if (cdf(median + r) - cdf(median - r) >= 0.5) {
+                high = r;
+            } else {
+                low = r;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * 직렬화 (버전, compression, count, min, max, 중심점 수, (float 평균, float 가중치) × n)
+     */
+    public byte[] toBytes() {
+        compress();
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_BYTES + centroids * 8);
+        buf.put(FORMAT_VERSION);
+        buf.putFloat((float) compression);
+        buf.putLong(count);
+        buf.putDouble(min);
+        buf.putDouble(max);
+        buf.putInt(centroids);
+        for (int i = 0; i < centroids; i++) {
+            buf.putFloat((float) means[i]);
+            buf.putFloat((float) weights[i]);
+        }
+        return buf.array();
+    }
+
+    public static TDigest fromBytes(byte[] bytes) {
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+        byte version = buf.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalStateException("UNSUPPORTED_SKETCH_FORMAT: " + version);
+        }
+
+        TDigest digest = new TDigest(buf.getFloat());
+        long count = buf.getLong();
+        double min = buf.getDouble();
+        double max = buf.getDouble();
+        int n = buf.getInt();
+        for (int i = 0; i < n; i++) {
+            digest.add(buf.getFloat(), buf.getFloat());
+        }
+        // float 가중치 합의 반올림 오차 대신 저장된 값 사용
+        digest.count = count;
+        digest.min = min;
+        digest.max = max;
+        digest.compress();
+        return digest;
+    }
+
+    /**
+     * 버퍼를 기존 중심점과 합쳐 정렬 후 한 번 훑으며 k₁ 크기 한도(Δk ≤ 1) 안에서 이웃 중심점 병합
+     */
+    private void compress() {
+        if (buffered == 0) {
+            return;
+        }
+
+        int n = centroids + buffered;
+        double[] allMeans = Arrays.copyOf(means, n);
+        double[] allWeights = Arrays.copyOf(weights, n);
+        System.arraycopy(bufferMeans, 0, allMeans, centroids, buffered);
+        System.arraycopy(bufferWeights, 0, allWeights, centroids, buffered);
+        buffered = 0;
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(allMeans[a], allMeans[b]));
+
+        double total = 0;
+        for (int i = 0; i < n; i++) {
+            total += allWeights[i];
+        }
+
+        int out = 0;
+        double curMean = allMeans[order[0]];
+        double curWeight = allWeights[order[0]];
+        double weightSoFar = 0;
+        double kLeft = k(0, total);
+        for (int j = 1; j < n; j++) {
+            int idx = order[j];
+            double proposed = curWeight + allWeights[idx];
+            if (k(weightSoFar + proposed, total) - kLeft <= 1) {
+                curWeight = proposed;
+                curMean += (allMeans[idx] - curMean) * allWeights[idx] / curWeight;
+            } else {
+                out = emit(out, curMean, curWeight);
+                weightSoFar += curWeight;
+                kLeft = k(weightSoFar, total);
+                curMean = allMeans[idx];
+                curWeight = allWeights[idx];
+            }
+        }
+        centroids = emit(out, curMean, curWeight);
+    }
+
+    private int emit(int index, double mean, double weight) {
+        if (index == means.length) {
+            means = Arrays.copyOf(means, index * 2);
+            weights = Arrays.copyOf(weights, index * 2);
+        }
+        means[index] = mean;
+        weights[index] = weight;
+        return index + 1;
+    }
+
+    private double k(double weight, double total) {
+        double q = Math.min(1, Math.max(0, weight / total));
+        return compression / (2 * Math.PI) * Math.asin(2 * q - 1);
+    }
+
+    private static double interpolate(double x0, double y0, double x1, double y1, double x) {
+        if (x1 <= x0) {
+            return (y0 + y1) / 2;
+        }
+        return y0 + (y1 - y0) * (x - x0) / (x1 - x0);
+    }
+}
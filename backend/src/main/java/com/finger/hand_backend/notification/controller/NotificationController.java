@@ -1,6 +1,7 @@
 package com.finger.hand_backend.notification.controller;
 
 import com.finger.hand_backend.common.dto.ApiResponse;
+import com.finger.hand_backend.common.dto.CursorPage;
 import com.finger.hand_backend.notification.entity.Notification;
 import com.finger.hand_backend.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
@@ -69,6 +70,25 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.success(notifications, "알림 목록 조회 성공"));
     }
 
+    /**
+     * 내 알림 목록 커서 조회 (최신순)
+     * - cursor: 이전 응답의 nextCursor, includeTotal=true일 때만 전체 개수 포함
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<Notification>>> getMyNotificationsByCursor(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        Long userId = Long.valueOf(authentication.getName());
+        log.info("GET /notifications/cursor - userId: {}", userId);
+
+        CursorPage<Notification> notifications =
+                notificationService.getMyNotificationsByCursor(userId, cursor, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(notifications, "알림 목록 조회 성공"));
+    }
+
     /**
      * 읽지 않은 알림 개수
      */
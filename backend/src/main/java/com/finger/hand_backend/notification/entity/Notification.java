@@ -15,7 +15,12 @@ import java.util.Map;
  * 알림
  */
 @Entity
-@Table(name = "notifications")
+@Table(
+    name = "notifications",
+    indexes = {
+        @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at, id")
+    }
+)
 @Data
 @Builder
 @NoArgsConstructor
@@ -4,8 +4,12 @@ import com.finger.hand_backend.notification.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
@@ -14,6 +18,32 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      */
     Page<Notification> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
+    /**
+     * 사용자의 알림 목록 커서 조회 - 첫 페이지 (최신순, COUNT 없음)
+     */
+    @Query("""
+  SELECT n FROM Notification n
+  WHERE n.userId = :userId
+  ORDER BY n.createdAt DESC, n.id DESC
+""")
+    List<Notification> findCursorFirstPage(Long userId, Pageable pageable);
+
+    /**
+     * 사용자의 알림 목록 커서 조회 - (at, id) 이전 행부터
+     */
+    @Query("""
+  SELECT n FROM Notification n
+  WHERE n.userId = :userId
+    AND (n.createdAt < :at OR (n.createdAt = :at AND n.id < :id))
+  ORDER BY n.createdAt DESC, n.id DESC
+""")
+    List<Notification> findCursorPageBefore(Long userId, LocalDateTime at, Long id, Pageable pageable);
+
+    /**
+     * 사용자의 알림 개수
+     */
+    long countByUserId(Long userId);
+
     /**
      * 사용자의 읽지 않은 알림 개수
      */
@@ -1,5 +1,7 @@
 package com.finger.hand_backend.notification.service;
 
+import com.finger.hand_backend.common.CursorToken;
+import com.finger.hand_backend.common.dto.CursorPage;
 import com.finger.hand_backend.group.entity.GroupMember;
 import com.finger.hand_backend.group.entity.GroupRole;
 import com.finger.hand_backend.group.repository.GroupMemberRepository;
@@ -11,6 +13,7 @@ import com.finger.hand_backend.notification.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -280,6 +283,23 @@ public class NotificationService {
         return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
     }
 
+    /**
+     * 내 알림 목록 커서 조회 (최신순, 전체 개수는 선택)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Notification> getMyNotificationsByCursor(Long userId, String cursor, int size, boolean includeTotal) {
+        int limit = CursorPage.clampSize(size);
+        CursorToken token = CursorToken.decode(cursor);
+        PageRequest fetch = PageRequest.of(0, limit + 1);
+
+        List<Notification> rows = token == null
+                ? notificationRepository.findCursorFirstPage(userId, fetch)
+                : notificationRepository.findCursorPageBefore(userId, token.at(), token.id(), fetch);
+        Long total = includeTotal ? notificationRepository.countByUserId(userId) : null;
+
+        return CursorPage.of(rows, limit, Notification::getCreatedAt, Notification::getId, n -> n, total);
+    }
+
     /**
      * 알림 읽음 처리
      */
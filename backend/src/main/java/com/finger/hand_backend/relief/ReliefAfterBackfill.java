@@ -1,50 +1,102 @@
 package com.finger.hand_backend.relief;
 
+import com.finger.hand_backend.common.event.DomainEventListener;
 import com.finger.hand_backend.measurement.Measurement;
 import com.finger.hand_backend.measurement.MeasurementRepository;
+import com.finger.hand_backend.measurement.event.MeasurementRecorded;
+import com.finger.hand_backend.relief.ReliefPendingWindowIndex.PendingWindow;
 import com.finger.hand_backend.relief.entity.InterventionLog;
 import com.finger.hand_backend.relief.repository.InterventionLogRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.Comparator;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
-public class ReliefAfterBackfill {
+public class ReliefAfterBackfill implements DomainEventListener<MeasurementRecorded> {
 
     private final InterventionLogRepository logRepo;
+    private final ReliefPendingWindowIndex pendingIndex;
+    private final MeasurementRepository measurementRepo;
 
     @Value("${relief.match.post-window-minutes:5}")
     private int postWindowMinutes;
 
+    @Value("${relief.match.pending-grace-minutes:10}")
+    private int graceMinutes;
+
+    @Override
+    public Class<MeasurementRecorded> eventType() {
+        return MeasurementRecorded.class;
+    }
+
     /**
-     * Measurement가 새로 저장된 직후 호출해 주세요.
+     * 새 측정값이 커밋된 뒤 호출 (저장 요청/배치당 1회)
      * 조건: 해당 사용자에 대해 endedAt이 있고 afterStress가 아직 NULL이며,
-     *       endedAt < m.measuredAt <= endedAt + window 인 가장 최신 세션 1건
+     *       endedAt <= m.measuredAt <= endedAt + window 인 가장 최신 세션 1건
+     * 대기 세션 인덱스에서 먼저 확인하고, 윈도우 안에 들어오는 측정값 중
+     * measuredAt이 가장 이른 값으로 afterStress를 채웁니다. (윈도우 밖이면 intervention_logs 조회 없음)
+     */
+    @Override
+    @Transactional
+    public void on(MeasurementRecorded event) {
+        PendingWindow window = pendingIndex.find(event.userId());
+        if (window == null) return;
+
+        event.measurements().stream()
+                .filter(m -> window.contains(m.getMeasuredAt()))
+                .min(Comparator.comparing(Measurement::getMeasuredAt))
+                .ifPresent(m -> fill(event.userId(), window, m));
+    }
+
+    /**
+     * 기동 시 보정: 아직 대기 중인 세션의 윈도우에 이미 저장된 측정값이 있으면 채움
+     * - 재시작 직전에 커밋된 측정값의 이벤트는 메모리 큐와 함께 사라지므로 DB에서 다시 매칭
      */
+    @EventListener(ApplicationReadyEvent.class)
     @Transactional
-    public void onNewMeasurement(Long userId, Measurement m) {
-        LocalDateTime t = m.getMeasuredAt();
-
-        Optional<InterventionLog> target = logRepo
-                .findTop1ByUserIdAndAfterStressIsNullAndEndedAtIsNotNullOrderByEndedAtDesc(userId)
-                .filter(log -> {
-                    var end = log.getEndedAt();
-                    if (end == null) return false;
-
-                    // ★ 변경 전: t.isAfter(end) && !t.isAfter(end.plusMinutes(postWindowMinutes))
-                    // ★ 변경 후: t >= end && t <= end + window
-                    return !t.isBefore(end) &&            // t >= end
-                            !t.isAfter(end.plusMinutes(postWindowMinutes)); // t <= end+window
-                });
-
-        target.ifPresent(log -> {
-            Double stressIndex = m.getStressIndex();
-            log.setAfterStress(stressIndex != null ? stressIndex.intValue() : null);
-        });
+    public void reconcile() {
+        LocalDateTime since = LocalDateTime.now().minusMinutes(postWindowMinutes + graceMinutes);
+        int filled = 0;
+        for (InterventionLog session : logRepo.findByAfterStressIsNullAndEndedAtGreaterThanEqual(since)) {
+            Double stressIndex = measurementRepo
+                    .findFirstBetween(session.getUserId(), session.getEndedAt(), session.getEndedAt().plusMinutes(postWindowMinutes),
+                            PageRequest.of(0, 1))
+                    .stream().findFirst()
+                    .map(Measurement::getStressIndex)
+                    .orElse(null);
+            if (stressIndex == null) continue;
+
+            session.setAfterStress(stressIndex.intValue());
+            pendingIndex.resolveAfterCommit(session.getUserId(), session.getId());
+            filled++;
+        }
+        if (filled > 0) {
+            log.info("Relief after-stress reconciled for {} sessions", filled);
+        }
+    }
+
+    private void fill(Long userId, PendingWindow window, Measurement m) {
+        InterventionLog log = logRepo.findById(window.logId()).orElse(null);
+        if (log == null || log.getAfterStress() != null) {
+            // 삭제됐거나 이미 채워진 세션 → 더 이상 대기하지 않음
+            pendingIndex.resolveAfterCommit(userId, window.logId());
+            return;
+        }
+
+        Double stressIndex = m.getStressIndex();
+        if (stressIndex == null) return;
+
+        log.setAfterStress(stressIndex.intValue());
+        pendingIndex.resolveAfterCommit(userId, window.logId());
     }
 }
@@ -0,0 +1,122 @@
+package com.finger.hand_backend.relief;
+
+import com.finger.hand_backend.common.AfterCommit;
+import com.finger.hand_backend.relief.entity.InterventionLog;
+import com.finger.hand_backend.relief.repository.InterventionLogRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * afterStress 대기 중인 완화 세션 인덱스 (사용자당 1건)
+ * - ReliefService.end 커밋 후 afterStress가 비어 있으면 등록, 채워지면 제거
+ * - 측정값 수집 시 O(1) 조회 → 대기 세션이 없거나 윈도우 밖이면 intervention_logs 조회 생략
+ * - 윈도우: endedAt ≤ measuredAt ≤ endedAt + post-window (ReliefAfterBackfill과 동일)
+ * - 만료: endedAt + post-window + pending-grace (늦게 동기화되는 측정값 허용), 주기적으로 정리
+ * - 기동 시 만료 전 세션을 DB에서 다시 올림 (재시작 직전에 끝난 세션 유실 방지)
+ */
+@Slf4j
+@Component
+public class ReliefPendingWindowIndex {
+
+    /**
+     * 대기 중인 세션
+     */
+    public record PendingWindow(Long logId, LocalDateTime endedAt, LocalDateTime windowEnd, LocalDateTime expiresAt) {
+
+        public boolean contains(LocalDateTime measuredAt) {
+            return !measuredAt.isBefore(endedAt) && !measuredAt.isAfter(windowEnd);
+        }
+    }
+
+    private final InterventionLogRepository logRepo;
+    private final int postWindowMinutes;
+    private final int graceMinutes;
+
+    private final Map<Long, PendingWindow> pending = new ConcurrentHashMap<>();
+
+    public ReliefPendingWindowIndex(
+            InterventionLogRepository logRepo,
+            MeterRegistry meterRegistry,
+            @Value("${relief.match.post-window-minutes:5}") int postWindowMinutes,
+            @Value("${relief.match.pending-grace-minutes:10}") int graceMinutes
+    ) {
+        this.logRepo = logRepo;
+        this.postWindowMinutes = postWindowMinutes;
+        this.graceMinutes = graceMinutes;
+
+        Gauge.builder("relief.pending_windows", pending, Map::size)
+                .description("Relief sessions waiting for an after-stress measurement")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 종료된 세션을 커밋 후 등록
+     * - 같은 사용자의 기존 대기 세션보다 endedAt이 늦을 때만 교체 (가장 최근 세션 1건 기준)
+     */
+    public void registerAfterCommit(Long userId, Long logId, LocalDateTime endedAt) {
+        AfterCommit.run(() -> register(userId, logId, endedAt));
+    }
+
+    private void register(Long userId, Long logId, LocalDateTime endedAt) {
+        LocalDateTime windowEnd = endedAt.plusMinutes(postWindowMinutes);
+        PendingWindow window = new PendingWindow(logId, endedAt, windowEnd, windowEnd.plusMinutes(graceMinutes));
+        pending.merge(userId, window,
+                (existing, added) -> added.endedAt().isBefore(existing.endedAt()) ? existing : added);
+    }
+
+    /**
+     * 사용자의 대기 세션 (없거나 만료됐으면 null)
+     */
+    public PendingWindow find(Long userId) {
+        PendingWindow window = pending.get(userId);
+        if (window == null) {
+            return null;
+        }
+        if (window.expiresAt().isBefore(LocalDateTime.now())) {
+            pending.remove(userId, window);
+            return null;
+        }
+        return window;
+    }
+
+    /**
+     * afterStress가 채워졌거나 더 이상 대기할 필요가 없는 세션을 커밋 후 제거
+     */
+    public void resolveAfterCommit(Long userId, Long logId) {
+        AfterCommit.run(() -> pending.computeIfPresent(userId,
+                (id, window) -> window.logId().equals(logId) ? null : window));
+    }
+
+    /**
+     * 만료된 세션 정리 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        pending.values().removeIf(window -> window.expiresAt().isBefore(now));
+    }
+
+    /**
+     * 기동 시 아직 만료되지 않은 대기 세션 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        LocalDateTime since = LocalDateTime.now().minusMinutes(postWindowMinutes + graceMinutes);
+        int restored = 0;
+        for (InterventionLog session : logRepo.findByAfterStressIsNullAndEndedAtGreaterThanEqual(since)) {
+            register(session.getUserId(), session.getId(), session.getEndedAt());
+            restored++;
+        }
+        log.info("Relief pending window index restored {} sessions", restored);
+    }
+}
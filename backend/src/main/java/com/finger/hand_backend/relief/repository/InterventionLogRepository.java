@@ -5,6 +5,7 @@ import com.finger.hand_backend.relief.entity.InterventionLog;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +28,9 @@ public interface InterventionLogRepository extends JpaRepository<InterventionLog
 
     Optional<InterventionLog> findTop1ByUserIdAndAfterStressIsNullAndEndedAtIsNotNullOrderByEndedAtDesc(Long userId);
 
+    // 기동 시 afterStress 대기 세션 복원용 (ReliefPendingWindowIndex)
+    List<InterventionLog> findByAfterStressIsNullAndEndedAtGreaterThanEqual(LocalDateTime since);
+
     // 완화 기록 화면용: 일수 포함 통계
     @Query(value = """
         SELECT il.intervention_id,
@@ -2,6 +2,10 @@ package com.finger.hand_backend.relief.service;
 
 import com.finger.hand_backend.measurement.Measurement;
 import com.finger.hand_backend.measurement.MeasurementRepository;
+import com.finger.hand_backend.measurement.hot.HotWindowLookup;
+import com.finger.hand_backend.measurement.hot.HotWindowStore;
+import com.finger.hand_backend.measurement.hot.StressSample;
+import com.finger.hand_backend.relief.ReliefPendingWindowIndex;
 import com.finger.hand_backend.relief.entity.InterventionLog;
 import com.finger.hand_backend.relief.entity.TriggerType;
 import com.finger.hand_backend.relief.repository.InterventionLogRepository;
@@ -22,6 +26,8 @@ public class ReliefService {
     private final InterventionRepository interventionRepo;
     private final InterventionLogRepository logRepo;
     private final MeasurementRepository measurementRepo;
+    private final HotWindowStore hotWindowStore;
+    private final ReliefPendingWindowIndex pendingIndex;
 
     @Value("${relief.match.post-window-minutes:5}")
     private int postWindowMinutes;
@@ -62,12 +68,22 @@ public class ReliefService {
         if (log.getAfterStress() == null) {
             resolveAfterStress(userId, endedAt).ifPresent(log::setAfterStress);
         }
+        if (log.getAfterStress() == null) {
+            // 아직 윈도우 안의 측정값이 없음 → 이후 수집되는 측정값으로 채우도록 대기 등록
+            pendingIndex.registerAfterCommit(userId, logId, endedAt);
+        }
         if (cmd.userRating() != null) log.setUserRating(cmd.userRating());
         return log;
     }
 
     // -------- 매칭 핵심 --------
     private Integer resolveBeforeStress(Long userId, LocalDateTime startedAt) {
+        // 핫 윈도우 우선 (1차 조건의 값이 최근 24시간 안에 있으면 DB 생략)
+        HotWindowLookup hot = hotWindowStore.latestAtOrBefore(userId, startedAt);
+        if (hot.hit()) {
+            return toStress(hot.sample());
+        }
+
         // 1차: startedAt <= 가장 최근 1건
         var one = measurementRepo
                 .findLatestAtOrBefore(userId, startedAt, PageRequest.of(0, 1))
@@ -89,6 +105,11 @@ public class ReliefService {
 
     private Optional<Integer> resolveAfterStress(Long userId, LocalDateTime endedAt) {
         LocalDateTime deadline = endedAt.plusMinutes(postWindowMinutes);
+        HotWindowLookup hot = hotWindowStore.firstBetween(userId, endedAt, deadline);
+        if (hot.hit()) {
+            return Optional.ofNullable(hot.sample()).map(this::toStress);
+        }
+
         return measurementRepo
                 .findFirstBetween(userId, endedAt, deadline, PageRequest.of(0, 1))
                 .stream().findFirst()
@@ -98,6 +119,10 @@ public class ReliefService {
                 });
     }
 
+    private Integer toStress(StressSample sample) {
+        return sample.stressIndex() != null ? sample.stressIndex().intValue() : null;
+    }
+
     private Integer calcDuration(LocalDateTime s, LocalDateTime e) {
         if (s == null || e == null) return null;
         long sec = java.time.Duration.between(s, e).getSeconds();
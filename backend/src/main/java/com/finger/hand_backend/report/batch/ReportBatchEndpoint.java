@@ -0,0 +1,33 @@
+package com.finger.hand_backend.report.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 보고서 일괄 생성 진행 상황 (운영용 actuator 엔드포인트, 조회 전용)
+ * - GET /actuator/reportbatches: 최근 실행 20개
+ * - GET /actuator/reportbatches/{runId}: 실행 1개
+ * - 다른 actuator 경로와 달리 인증 필요 (SecurityConfig)
+ */
+@Component
+@Endpoint(id = "reportbatches")
+@RequiredArgsConstructor
+public class ReportBatchEndpoint {
+
+    private final ReportBatchRunService runService;
+
+    @ReadOperation
+    public List<ReportBatchRunResponse> runs() {
+        return runService.getRecentProgress();
+    }
+
+    @ReadOperation
+    public ReportBatchRunResponse run(@Selector Long runId) {
+        return runService.getProgress(runId).orElse(null);
+    }
+}
@@ -0,0 +1,78 @@
+package com.finger.hand_backend.report.batch;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보고서 일괄 생성 사용자별 원장
+ * - 쓰기는 JDBC 배치(ReportBatchLedgerWriter)로만 하고, JPA로는 조회만 함
+ */
+@Entity
+@Table(
+    name = "report_batch_items",
+    indexes = {
+        // 다음 청크 조회: 실행별 PENDING + 재시도 시각이 지난 FAILED
+        @Index(name = "idx_report_batch_item_claim", columnList = "run_id, status, next_attempt_at")
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_report_batch_item_user", columnNames = {"run_id", "user_id"})
+    }
+)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportBatchItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReportBatchItemStatus status;
+
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount;
+
+    /**
+     * 마지막 실패 원인 (예외 클래스명)
+     */
+    @Column(name = "last_error", length = 200)
+    private String lastError;
+
+    /**
+     * 다음 재시도 가능 시각 (FAILED이고 재시도가 남았을 때만)
+     */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 첫 시도 시각
+     */
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    /**
+     * 마지막 시도 종료 시각
+     */
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /**
+     * 마지막 시도 소요 시간 (청크 단위 처리라 같은 청크는 같은 값)
+     */
+    @Column(name = "elapsed_ms")
+    private Long elapsedMs;
+}
@@ -0,0 +1,59 @@
+package com.finger.hand_backend.report.batch;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보고서 일괄 생성 사용자별 원장 Repository (조회 전용, 쓰기는 ReportBatchLedgerWriter)
+ */
+public interface ReportBatchItemRepository extends JpaRepository<ReportBatchItem, Long> {
+
+    /**
+     * 다음 청크 대상: PENDING + 재시도 시각이 지난 FAILED (사용자 ID 오름차순)
+     * - 여러 청크를 동시에 처리하므로 이미 가져간 사용자는 afterUserId 커서로 제외
+     *
+     * @param runId       실행 ID
+     * @param now         기준 시각
+     * @param afterUserId 이 사용자 ID 이후부터
+     * @param pageable    청크 크기
+     * @return 처리할 사용자별 원장
+     */
+    @Query("""
+  SELECT i FROM ReportBatchItem i
+  WHERE i.runId = :runId
+    AND i.userId > :afterUserId
+    AND (i.status = com.finger.hand_backend.report.batch.ReportBatchItemStatus.PENDING
+      OR (i.status = com.finger.hand_backend.report.batch.ReportBatchItemStatus.FAILED
+          AND i.nextAttemptAt <= :now))
+  ORDER BY i.userId ASC
+""")
+    List<ReportBatchItem> findClaimable(Long runId, LocalDateTime now, Long afterUserId, Pageable pageable);
+
+    /**
+     * 가장 이른 재시도 시각 (재시도 대기 중인 사용자가 없으면 null)
+     */
+    @Query("""
+  SELECT MIN(i.nextAttemptAt) FROM ReportBatchItem i
+  WHERE i.runId = :runId
+    AND i.status = com.finger.hand_backend.report.batch.ReportBatchItemStatus.FAILED
+""")
+    LocalDateTime findNextAttemptAt(Long runId);
+
+    /**
+     * 상태별 사용자 수 (진행 상황 조회용)
+     */
+    @Query("""
+  SELECT new com.finger.hand_backend.report.batch.ReportBatchStatusCount(
+      i.status, COUNT(i), SUM(CASE WHEN i.nextAttemptAt IS NULL THEN 0 ELSE 1 END))
+  FROM ReportBatchItem i
+  WHERE i.runId = :runId
+  GROUP BY i.status
+""")
+    List<ReportBatchStatusCount> countByStatus(Long runId);
+
+    long countByRunId(Long runId);
+}
@@ -0,0 +1,23 @@
+package com.finger.hand_backend.report.batch;
+
+/**
+ * 청크 처리 결과 (사용자별)
+ *
+ * @param userId 사용자 ID
+ * @param status SUCCEEDED | SKIPPED | FAILED
+ * @param error  실패 원인 (FAILED일 때만)
+ */
+public record ReportBatchItemResult(Long userId, ReportBatchItemStatus status, String error) {
+
+    public static ReportBatchItemResult succeeded(Long userId) {
+        return new ReportBatchItemResult(userId, ReportBatchItemStatus.SUCCEEDED, null);
+    }
+
+    public static ReportBatchItemResult skipped(Long userId) {
+        return new ReportBatchItemResult(userId, ReportBatchItemStatus.SKIPPED, null);
+    }
+
+    public static ReportBatchItemResult failed(Long userId, String error) {
+        return new ReportBatchItemResult(userId, ReportBatchItemStatus.FAILED, error);
+    }
+}
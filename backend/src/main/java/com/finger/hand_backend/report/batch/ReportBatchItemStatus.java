@@ -0,0 +1,15 @@
+package com.finger.hand_backend.report.batch;
+
+/**
+ * 보고서 일괄 생성 사용자별 상태
+ * - PENDING: 아직 처리하지 않음 (중단된 실행을 재개하면 여기서부터)
+ * - SUCCEEDED: 보고서 저장 완료
+ * - SKIPPED: 기존 보고서 있음 또는 다이어리 부족
+ * - FAILED: 실패 (next_attempt_at이 있으면 그 이후 재시도, 없으면 재시도 소진)
+ */
+public enum ReportBatchItemStatus {
+    PENDING,
+    SUCCEEDED,
+    SKIPPED,
+    FAILED
+}
@@ -0,0 +1,151 @@
+package com.finger.hand_backend.report.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 보고서 일괄 생성 원장 쓰기 저장소 (JDBC)
+ * - 사용자 등록은 배치 INSERT (이미 있는 사용자는 그대로)
+ * - 청크 결과는 사용자별 UPDATE 배치 + 실행 하트비트 갱신을 한 트랜잭션으로 (= 체크포인트)
+ * - 실행 행 갱신(하트비트/체크포인트/완료)은 owner_token이 일치할 때만 → 0행이면 다른 프로세스가 인계한 것
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReportBatchLedgerWriter {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_PENDING_SQL = """
+            INSERT INTO report_batch_items (run_id, user_id, status, attempt_count)
+            VALUES (?, ?, 'PENDING', 0)
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+
+    private static final String RECORD_RESULT_SQL = """
+            UPDATE report_batch_items
+            SET status = ?, attempt_count = ?, last_error = ?, next_attempt_at = ?,
+                started_at = COALESCE(started_at, ?), finished_at = ?, elapsed_ms = ?
+            WHERE run_id = ? AND user_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자 등록 (이미 등록된 사용자는 상태 유지)
+     */
+    void insertPending(Long runId, Collection<Long> userIds) {
+        jdbcTemplate.batchUpdate(INSERT_PENDING_SQL, List.copyOf(userIds), BATCH_SIZE, (ps, userId) -> {
+            ps.setLong(1, runId);
+            ps.setLong(2, userId);
+        });
+    }
+
+    /**
+     * 재시도가 소진된 실패 사용자를 다시 PENDING으로 (같은 기간을 다시 실행할 때)
+     *
+     * @return 다시 대기열에 넣은 사용자 수
+     */
+    int requeueExhausted(Long runId) {
+        return jdbcTemplate.update("""
+                UPDATE report_batch_items SET status = 'PENDING'
+                WHERE run_id = ? AND status = 'FAILED' AND next_attempt_at IS NULL
+                """, runId);
+    }
+
+    /**
+     * 실행 인계 (하트비트가 끊겼거나 완료된 실행만)
+     *
+     * @param ownerToken 새 소유 토큰
+     * @return 인계 성공 여부 (다른 프로세스가 진행 중이면 false)
+     */
+    boolean tryAcquire(Long runId, String ownerToken, LocalDateTime now, LocalDateTime staleBefore) {
+        return jdbcTemplate.update("""
+                UPDATE report_batch_runs
+                SET status = 'RUNNING', owner_token = ?, checkpoint_at = ?, finished_at = NULL
+                WHERE id = ? AND (status = 'COMPLETED' OR checkpoint_at < ?)
+                """, ownerToken, now, runId, staleBefore) == 1;
+    }
+
+    void updateTotalCount(Long runId, long totalCount) {
+        jdbcTemplate.update("UPDATE report_batch_runs SET total_count = ? WHERE id = ?", totalCount, runId);
+    }
+
+    /**
+     * 청크 체크포인트: 실행 하트비트 + 사용자별 결과
+     * - 하트비트를 먼저 갱신해서 소유권을 잃었으면 사용자별 결과는 쓰지 않음
+     *
+     * @return 소유권 유지 여부 (false면 아무것도 기록하지 않음)
+     */
+    @Transactional
+    public boolean checkpoint(Long runId, String ownerToken, List<ItemUpdate> updates, LocalDateTime now) {
+        if (!heartbeat(runId, ownerToken, now)) {
+            return false;
+        }
+        jdbcTemplate.batchUpdate(RECORD_RESULT_SQL, updates, BATCH_SIZE, (ps, update) -> {
+            ps.setString(1, update.status().name());
+            ps.setInt(2, update.attemptCount());
+            ps.setString(3, update.error());
+            ps.setObject(4, update.nextAttemptAt());
+            ps.setObject(5, update.startedAt());
+            ps.setObject(6, update.finishedAt());
+            ps.setLong(7, update.elapsedMs());
+            ps.setLong(8, runId);
+            ps.setLong(9, update.userId());
+        });
+        return true;
+    }
+
+    /**
+     * 실행 하트비트
+     *
+     * @return 소유권 유지 여부
+     */
+    public boolean heartbeat(Long runId, String ownerToken, LocalDateTime now) {
+        return jdbcTemplate.update("""
+                UPDATE report_batch_runs SET checkpoint_at = ?
+                WHERE id = ? AND owner_token = ?
+                """, now, runId, ownerToken) == 1;
+    }
+
+    /**
+     * 실행 완료
+     *
+     * @return 소유권 유지 여부
+     */
+    public boolean complete(Long runId, String ownerToken, LocalDateTime now) {
+        return jdbcTemplate.update("""
+                UPDATE report_batch_runs SET status = 'COMPLETED', checkpoint_at = ?, finished_at = ?
+                WHERE id = ? AND owner_token = ?
+                """, now, now, runId, ownerToken) == 1;
+    }
+
+    /**
+     * 사용자별 결과 기록
+     *
+     * @param userId        사용자 ID
+     * @param status        결과 상태
+     * @param attemptCount  누적 시도 횟수
+     * @param error         실패 원인
+     * @param nextAttemptAt 다음 재시도 시각 (없으면 null)
+     * @param startedAt     이번 시도 시작 시각 (첫 시도일 때만 기록됨)
+     * @param finishedAt    이번 시도 종료 시각
+     * @param elapsedMs     이번 시도 소요 시간
+     */
+    public record ItemUpdate(
+            Long userId,
+            ReportBatchItemStatus status,
+            int attemptCount,
+            String error,
+            LocalDateTime nextAttemptAt,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt,
+            long elapsedMs
+    ) {
+    }
+}
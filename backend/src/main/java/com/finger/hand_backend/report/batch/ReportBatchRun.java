@@ -0,0 +1,90 @@
+package com.finger.hand_backend.report.batch;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 보고서 일괄 생성 실행 (체크포인트 원장)
+ * - (종류, 대상, 기간 시작일)당 1행 → 같은 기간을 다시 실행하면 새로 만들지 않고 이어서 진행
+ * - checkpoint_at: 청크를 끝낼 때마다 갱신하는 하트비트 (오래되면 다른 실행이 인계)
+ * - owner_token: 실행을 맡은 프로세스 토큰 (인계할 때마다 새로 발급, 원장 쓰기는 토큰이 일치할 때만)
+ */
+@Entity
+@Table(
+    name = "report_batch_runs",
+    indexes = {
+        @Index(name = "idx_report_batch_run_status", columnList = "status, checkpoint_at")
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_report_batch_run_period", columnNames = {"report_type", "target_key", "period_start"})
+    }
+)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportBatchRun {
+
+    /**
+     * 전체 사용자 대상 실행
+     */
+    public static final String TARGET_ALL = "ALL";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_type", nullable = false, length = 10)
+    private ReportBatchType reportType;
+
+    /**
+     * 대상 사용자 범위 (ALL 또는 테스트 시드 키)
+     */
+    @Column(name = "target_key", nullable = false, length = 50)
+    private String targetKey;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReportBatchRunStatus status;
+
+    /**
+     * 원장에 등록된 사용자 수
+     */
+    @Column(name = "total_count", nullable = false)
+    private Integer totalCount;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "checkpoint_at", nullable = false)
+    private LocalDateTime checkpointAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /**
+     * 실행 소유 토큰 (생성 후에는 ReportBatchLedgerWriter로만 변경)
+     */
+    @Column(name = "owner_token", length = 36, updatable = false)
+    private String ownerToken;
+
+    /**
+     * 인계 성공 후 메모리상의 소유 토큰 갱신 (DB는 ReportBatchLedgerWriter.tryAcquire에서 이미 갱신됨)
+     */
+    void assignOwner(String ownerToken) {
+        this.ownerToken = ownerToken;
+    }
+}
@@ -0,0 +1,30 @@
+package com.finger.hand_backend.report.batch;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 보고서 일괄 생성 실행 Repository (조회 전용, 쓰기는 ReportBatchLedgerWriter)
+ */
+public interface ReportBatchRunRepository extends JpaRepository<ReportBatchRun, Long> {
+
+    /**
+     * 같은 기간 실행 조회 (재개용)
+     */
+    Optional<ReportBatchRun> findByReportTypeAndTargetKeyAndPeriodStart(
+            ReportBatchType reportType, String targetKey, LocalDate periodStart);
+
+    /**
+     * 하트비트가 끊긴 진행 중 실행 (중단된 실행 자동 재개용)
+     */
+    List<ReportBatchRun> findByStatusAndCheckpointAtBefore(ReportBatchRunStatus status, LocalDateTime staleBefore);
+
+    /**
+     * 최근 실행 목록 (진행 상황 조회용)
+     */
+    List<ReportBatchRun> findTop20ByOrderByIdDesc();
+}
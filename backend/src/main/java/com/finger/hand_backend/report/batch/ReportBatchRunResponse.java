@@ -0,0 +1,77 @@
+package com.finger.hand_backend.report.batch;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보고서 일괄 생성 실행 진행 상황 응답 DTO
+ */
+@Getter
+@Builder
+public class ReportBatchRunResponse {
+
+    private Long runId;
+    private ReportBatchType reportType;
+    private String targetKey;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private ReportBatchRunStatus status;
+
+    // 사용자 수
+    private Integer totalCount;
+    private Long pendingCount;
+    private Long succeededCount;
+    private Long skippedCount;
+    private Long failedCount;      // 재시도 소진 포함 전체 실패
+    private Long retryingCount;    // 실패 중 재시도 대기
+
+    /**
+     * 처리 완료 비율 (0-100, 재시도 대기는 미완료로 계산)
+     */
+    private Double progressPercent;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime checkpointAt;
+    private LocalDateTime finishedAt;
+
+    public static ReportBatchRunResponse from(ReportBatchRun run, List<ReportBatchStatusCount> counts) {
+        long pending = 0, succeeded = 0, skipped = 0, failed = 0, retrying = 0;
+        for (ReportBatchStatusCount count : counts) {
+            switch (count.status()) {
+                case PENDING -> pending = count.count();
+                case SUCCEEDED -> succeeded = count.count();
+                case SKIPPED -> skipped = count.count();
+                case FAILED -> {
+                    failed = count.count();
+                    retrying = count.retryingCount();
+                }
+            }
+        }
+
+        long total = pending + succeeded + skipped + failed;
+        long done = total - pending - retrying;
+
+        return ReportBatchRunResponse.builder()
+                .runId(run.getId())
+                .reportType(run.getReportType())
+                .targetKey(run.getTargetKey())
+                .periodStart(run.getPeriodStart())
+                .periodEnd(run.getPeriodEnd())
+                .status(run.getStatus())
+                .totalCount(run.getTotalCount())
+                .pendingCount(pending)
+                .succeededCount(succeeded)
+                .skippedCount(skipped)
+                .failedCount(failed)
+                .retryingCount(retrying)
+                .progressPercent(total > 0 ? Math.round(done * 1000.0 / total) / 10.0 : 100.0)
+                .startedAt(run.getStartedAt())
+                .checkpointAt(run.getCheckpointAt())
+                .finishedAt(run.getFinishedAt())
+                .build();
+    }
+}
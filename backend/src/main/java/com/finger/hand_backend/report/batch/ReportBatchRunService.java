@@ -0,0 +1,408 @@
+package com.finger.hand_backend.report.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 보고서 일괄 생성 실행 관리 (체크포인트/재개/재시도)
+ * - (종류, 대상, 기간)마다 실행 1개와 사용자별 원장을 두고, 청크를 끝낼 때마다 결과를 기록
+ * - 같은 기간을 다시 실행하거나 중단된 실행을 재개하면 PENDING 사용자부터 이어서 처리
+ * - 실패한 사용자만 지수 백오프로 max-attempts까지 재시도
+ * - 실행 소유권은 하트비트(checkpoint_at)로 판단: stale-minutes 동안 갱신이 없으면 다른 실행이 인계
+ *   (인계 시 새 owner_token 발급 → 이전 소유자의 하트비트/체크포인트가 0행이 되면 실행 루프 중단)
+ * - 배치의 DB 작업(선조회/저장/체크포인트) 동시 실행 수는 커넥션 풀의 절반 이하로 제한
+ */
+@Slf4j
+@Service
+public class ReportBatchRunService {
+
+    private final ReportBatchRunRepository runRepository;
+    private final ReportBatchItemRepository itemRepository;
+    private final ReportBatchLedgerWriter ledgerWriter;
+
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration staleAfter;
+    private final int maxChunksInFlight;
+    private final Semaphore dbPermits;
+
+    public ReportBatchRunService(
+            ReportBatchRunRepository runRepository,
+            ReportBatchItemRepository itemRepository,
+            ReportBatchLedgerWriter ledgerWriter,
+            @Value("${report.batch.max-attempts:3}") int maxAttempts,
+            @Value("${report.batch.retry-backoff-seconds:30}") long retryBackoffSeconds,
+            @Value("${report.batch.stale-minutes:5}") long staleMinutes,
+            @Value("${report.batch.max-chunks-in-flight:3}") int maxChunksInFlight,
+            @Value("${report.batch.max-db-concurrency:4}") int maxDbConcurrency,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize
+    ) {
+        this.runRepository = runRepository;
+        this.itemRepository = itemRepository;
+        this.ledgerWriter = ledgerWriter;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoff = Duration.ofSeconds(Math.max(1, retryBackoffSeconds));
+        this.staleAfter = Duration.ofMinutes(Math.max(1, staleMinutes));
+        this.maxChunksInFlight = Math.max(1, maxChunksInFlight);
+        this.dbPermits = new Semaphore(Math.max(1, Math.min(maxDbConcurrency, poolSize / 2)));
+    }
+
+    /**
+     * 실행 시작 또는 재개
+     * - 처음이면 실행과 사용자별 원장 생성
+     * - 이미 있으면 새 대상 사용자만 추가하고, 재시도가 소진된 실패 사용자를 다시 대기열에 넣음
+     *
+     * @param type        보고서 종류
+     * @param targetKey   대상 사용자 범위
+     * @param periodStart 기간 시작일
+     * @param periodEnd   기간 종료일
+     * @param userIds     대상 사용자 ID (처음 실행 또는 재실행 시에만 조회)
+     * @return 실행 (다른 프로세스가 진행 중이면 empty)
+     */
+    @Transactional
+    public Optional<ReportBatchRun> open(ReportBatchType type, String targetKey,
+                                         LocalDate periodStart, LocalDate periodEnd,
+                                         Supplier<List<Long>> userIds) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<ReportBatchRun> existing = runRepository
+                .findByReportTypeAndTargetKeyAndPeriodStart(type, targetKey, periodStart);
+
+        if (existing.isEmpty()) {
+            List<Long> targets = userIds.get();
+            ReportBatchRun run = runRepository.save(ReportBatchRun.builder()
+                    .reportType(type)
+                    .targetKey(targetKey)
+                    .periodStart(periodStart)
+                    .periodEnd(periodEnd)
+                    .status(ReportBatchRunStatus.RUNNING)
+                    .totalCount(targets.size())
+                    .startedAt(now)
+                    .checkpointAt(now)
+                    .ownerToken(UUID.randomUUID().toString())
+                    .build());
+            ledgerWriter.insertPending(run.getId(), targets);
+
+            log.info("Report batch run {} opened: {} {} ~ {} ({}), {} users",
+                    run.getId(), type, periodStart, periodEnd, targetKey, targets.size());
+            return Optional.of(run);
+        }
+
+        ReportBatchRun run = existing.get();
+        if (!acquire(run, now)) {
+            log.warn("Report batch run {} is still running elsewhere (checkpoint at {}), skipped",
+                    run.getId(), run.getCheckpointAt());
+            return Optional.empty();
+        }
+
+        ledgerWriter.insertPending(run.getId(), userIds.get());
+        ledgerWriter.updateTotalCount(run.getId(), itemRepository.countByRunId(run.getId()));
+        int requeued = ledgerWriter.requeueExhausted(run.getId());
+
+        log.info("Report batch run {} resumed: {} {} ~ {} ({}), {} failed users requeued",
+                run.getId(), type, periodStart, periodEnd, targetKey, requeued);
+        return Optional.of(run);
+    }
+
+    /**
+     * 중단된 실행 인계 (사용자 추가/재대기 없이 남은 사용자만 이어서)
+     *
+     * @return 인계 성공 여부
+     */
+    @Transactional
+    public boolean acquireStale(ReportBatchRun run) {
+        return run.getStatus() == ReportBatchRunStatus.RUNNING && acquire(run, LocalDateTime.now());
+    }
+
+    private boolean acquire(ReportBatchRun run, LocalDateTime now) {
+        String ownerToken = UUID.randomUUID().toString();
+        if (!ledgerWriter.tryAcquire(run.getId(), ownerToken, now, now.minus(staleAfter))) {
+            return false;
+        }
+        run.assignOwner(ownerToken);
+        return true;
+    }
+
+    /**
+     * 하트비트가 끊긴 진행 중 실행 목록
+     */
+    @Transactional(readOnly = true)
+    public List<ReportBatchRun> findStaleRuns() {
+        return runRepository.findByStatusAndCheckpointAtBefore(
+                ReportBatchRunStatus.RUNNING, LocalDateTime.now().minus(staleAfter));
+    }
+
+    /**
+     * 실행 진행 (청크 파이프라인)
+     * - PENDING/재시도 시각이 지난 FAILED 사용자를 chunkSize씩 가져와 processor에 넘기고, 결과가 오면 체크포인트
+     * - 청크 사이에 장벽이 없음: 최대 max-chunks-in-flight개 청크가 동시에 진행되고, 하나가 끝나면 바로 다음 청크 투입
+     *   (느린 사용자는 자기 청크의 체크포인트만 늦춤, 처리량은 AI 서버 동시성 제한이 결정)
+     * - 사용자 ID 커서로 한 바퀴 돈 뒤 진행 중 청크가 모두 끝나면 처음부터 다시 (재시도 대상 포함)
+     * - 남은 사용자가 재시도 대기뿐이면 가장 이른 재시도 시각까지 대기
+     * - 진행 중에는 별도 가상 스레드가 stale 기간의 1/3마다 하트비트 갱신
+     * - 중간에 프로세스가 죽으면 체크포인트되지 않은 청크만 다시 처리됨
+     * - 다른 프로세스가 인계해서 하트비트/체크포인트/완료가 0행이면 새 청크 투입을 멈추고 반환
+     *
+     * @param run       실행
+     * @param chunkSize 청크 크기
+     * @param processor 청크 처리 (사용자 ID → 사용자별 결과, 비동기)
+     */
+    public void execute(ReportBatchRun run, int chunkSize,
+                        Function<List<Long>, CompletableFuture<List<ReportBatchItemResult>>> processor) {
+        Long runId = run.getId();
+        String ownerToken = run.getOwnerToken();
+        Ownership ownership = new Ownership();
+        Semaphore chunkSlots = new Semaphore(maxChunksInFlight);
+        int chunkIndex = 0;
+        long cursor = 0L;
+        boolean completed = false;
+        Thread heartbeat = startHeartbeat(runId, ownerToken, ownership);
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                chunkSlots.acquire();
+                LocalDateTime startedAt = LocalDateTime.now();
+                long afterUserId = cursor;
+                List<ReportBatchItem> items = withDbPermit(() ->
+                        itemRepository.findClaimable(runId, startedAt, afterUserId, PageRequest.of(0, chunkSize)));
+
+                if (items.isEmpty()) {
+                    chunkSlots.release();
+
+                    // 한 바퀴 끝: 진행 중 청크의 체크포인트를 모두 기다린 뒤 판단
+                    chunkSlots.acquire(maxChunksInFlight);
+                    chunkSlots.release(maxChunksInFlight);
+
+                    if (cursor > 0L) {
+                        cursor = 0L;
+                        continue;
+                    }
+
+                    LocalDateTime nextAttemptAt = withDbPermit(() -> itemRepository.findNextAttemptAt(runId));
+                    if (nextAttemptAt == null) {
+                        if (!ledgerWriter.complete(runId, ownerToken, LocalDateTime.now())) {
+                            ownership.lose();
+                            break;
+                        }
+                        log.info("Report batch run {} completed: {}", runId, summarize(runId));
+                        completed = true;
+                        return;
+                    }
+                    awaitRetry(runId, nextAttemptAt);
+                    continue;
+                }
+
+                cursor = items.getLast().getUserId();
+                dispatch(runId, ownerToken, ownership, ++chunkIndex, items, startedAt, processor)
+                        .whenComplete((ignored, ex) -> chunkSlots.release());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            heartbeat.interrupt();
+            if (ownership.finish()) {
+                log.warn("Report batch run {} was taken over by another process, stopped", runId);
+            } else if (!completed) {
+                log.warn("Report batch run {} interrupted, will resume from last checkpoint", runId);
+            }
+        }
+    }
+
+    /**
+     * DB 작업 동시성 제한 (배치의 선조회/저장/체크포인트가 API 요청용 커넥션을 잠식하지 않도록)
+     */
+    public <T> T withDbPermit(Supplier<T> work) {
+        dbPermits.acquireUninterruptibly();
+        try {
+            return work.get();
+        } finally {
+            dbPermits.release();
+        }
+    }
+
+    private CompletableFuture<Void> dispatch(Long runId, String ownerToken, Ownership ownership,
+                                             int chunkIndex, List<ReportBatchItem> items,
+                                             LocalDateTime startedAt,
+                                             Function<List<Long>, CompletableFuture<List<ReportBatchItemResult>>> processor) {
+        List<Long> userIds = items.stream().map(ReportBatchItem::getUserId).toList();
+
+        CompletableFuture<List<ReportBatchItemResult>> future;
+        try {
+            future = processor.apply(userIds);
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future.handle((results, ex) -> {
+            if (ex != null) {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                log.error("Report batch run {} chunk {} failed", runId, chunkIndex, cause);
+                results = userIds.stream()
+                        .map(userId -> ReportBatchItemResult.failed(userId, cause.getClass().getSimpleName()))
+                        .toList();
+            }
+
+            List<ReportBatchLedgerWriter.ItemUpdate> updates = toUpdates(items, results, startedAt);
+            try {
+                boolean owned = withDbPermit(() -> ledgerWriter.checkpoint(runId, ownerToken, updates, LocalDateTime.now()));
+                if (!owned) {
+                    log.warn("Report batch run {} chunk {} not checkpointed: run was taken over", runId, chunkIndex);
+                    ownership.lose();
+                    return null;
+                }
+                log.info("Report batch run {} chunk {} checkpointed: {}", runId, chunkIndex, countResults(results));
+            } catch (Exception e) {
+                // 체크포인트 실패: 원장 상태가 그대로라 다음 바퀴에서 다시 처리됨 (저장된 보고서는 SKIPPED)
+                log.error("Report batch run {} chunk {} checkpoint failed", runId, chunkIndex, e);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 실행 진행 상황
+     */
+    @Transactional(readOnly = true)
+    public Optional<ReportBatchRunResponse> getProgress(Long runId) {
+        return runRepository.findById(runId)
+                .map(run -> ReportBatchRunResponse.from(run, itemRepository.countByStatus(runId)));
+    }
+
+    /**
+     * 최근 실행 진행 상황 목록
+     */
+    @Transactional(readOnly = true)
+    public List<ReportBatchRunResponse> getRecentProgress() {
+        return runRepository.findTop20ByOrderByIdDesc().stream()
+                .map(run -> ReportBatchRunResponse.from(run, itemRepository.countByStatus(run.getId())))
+                .toList();
+    }
+
+    private List<ReportBatchLedgerWriter.ItemUpdate> toUpdates(List<ReportBatchItem> items,
+                                                               List<ReportBatchItemResult> results,
+                                                               LocalDateTime startedAt) {
+        Map<Long, ReportBatchItemResult> resultByUser = new HashMap<>();
+        for (ReportBatchItemResult result : results) {
+            resultByUser.put(result.userId(), result);
+        }
+
+        LocalDateTime finishedAt = LocalDateTime.now();
+        long elapsedMs = Duration.between(startedAt, finishedAt).toMillis();
+
+        List<ReportBatchLedgerWriter.ItemUpdate> updates = new ArrayList<>(items.size());
+        for (ReportBatchItem item : items) {
+            ReportBatchItemResult result = resultByUser.getOrDefault(
+                    item.getUserId(), ReportBatchItemResult.failed(item.getUserId(), "NO_RESULT"));
+            int attempt = item.getAttemptCount() + 1;
+
+            LocalDateTime nextAttemptAt = null;
+            if (result.status() == ReportBatchItemStatus.FAILED && attempt < maxAttempts) {
+                // 지수 백오프: backoff, 2×backoff, 4×backoff, ...
+                nextAttemptAt = finishedAt.plus(retryBackoff.multipliedBy(1L << Math.min(attempt - 1, 20)));
+            }
+
+            updates.add(new ReportBatchLedgerWriter.ItemUpdate(
+                    item.getUserId(), result.status(), attempt, result.error(),
+                    nextAttemptAt, startedAt, finishedAt, elapsedMs));
+        }
+        return updates;
+    }
+
+    private void awaitRetry(Long runId, LocalDateTime nextAttemptAt) {
+        Duration wait = Duration.between(LocalDateTime.now(), nextAttemptAt);
+        if (wait.isNegative() || wait.isZero()) {
+            return;
+        }
+
+        log.info("Report batch run {} waiting {} ms for retry", runId, wait.toMillis());
+        try {
+            Thread.sleep(wait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 실행 중 하트비트 (청크 처리/재시도 대기가 stale 기간보다 길어도 다른 프로세스가 인계하지 않도록)
+     */
+    private Thread startHeartbeat(Long runId, String ownerToken, Ownership ownership) {
+        Duration interval = staleAfter.dividedBy(3);
+        return Thread.ofVirtual().name("report-batch-heartbeat-" + runId).start(() -> {
+            while (true) {
+                try {
+                    Thread.sleep(interval);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                try {
+                    if (!ledgerWriter.heartbeat(runId, ownerToken, LocalDateTime.now())) {
+                        ownership.lose();
+                        return;
+                    }
+                } catch (Exception e) {
+                    log.warn("Report batch run {} heartbeat failed: {}", runId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private String summarize(Long runId) {
+        return itemRepository.countByStatus(runId).stream()
+                .map(count -> count.status() + "=" + count.count())
+                .reduce((a, b) -> a + ", " + b)
+                .orElse("no users");
+    }
+
+    private static Map<ReportBatchItemStatus, Integer> countResults(List<ReportBatchItemResult> results) {
+        Map<ReportBatchItemStatus, Integer> counts = new EnumMap<>(ReportBatchItemStatus.class);
+        for (ReportBatchItemResult result : results) {
+            counts.merge(result.status(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * 실행 소유권 상실 신호 (하트비트/체크포인트 스레드 → 실행 스레드)
+     * - 처음 상실을 감지하면 실행 스레드를 깨워서 청크 투입/재시도 대기를 멈춤
+     * - 실행이 끝난 뒤 도착한 신호는 무시 (호출 스레드에 인터럽트를 남기지 않도록)
+     */
+    private static final class Ownership {
+
+        private final Thread executor = Thread.currentThread();
+        private boolean lost;
+        private boolean finished;
+
+        synchronized void lose() {
+            if (!lost && !finished) {
+                executor.interrupt();
+            }
+            lost = true;
+        }
+
+        /**
+         * 실행 스레드에서 종료 시 호출
+         *
+         * @return 소유권 상실로 중단됐는지
+         */
+        synchronized boolean finish() {
+            finished = true;
+            if (lost) {
+                // lose()가 건 인터럽트 해제
+                Thread.interrupted();
+            }
+            return lost;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.finger.hand_backend.report.batch;
+
+/**
+ * 보고서 일괄 생성 실행 상태
+ * - RUNNING: 진행 중 또는 중단됨 (checkpoint_at이 오래되면 재개 대상)
+ * - COMPLETED: 모든 사용자가 성공/건너뜀/재시도 소진 실패로 끝남
+ */
+public enum ReportBatchRunStatus {
+    RUNNING,
+    COMPLETED
+}
@@ -0,0 +1,16 @@
+package com.finger.hand_backend.report.batch;
+
+/**
+ * 실행별 상태 집계 (JPQL 생성자 표현식)
+ *
+ * @param status        사용자별 상태
+ * @param count         사용자 수
+ * @param retryingCount 재시도 대기 중인 사용자 수 (FAILED일 때만 의미 있음)
+ */
+public record ReportBatchStatusCount(ReportBatchItemStatus status, Long count, Long retryingCount) {
+
+    public ReportBatchStatusCount {
+        count = count != null ? count : 0L;
+        retryingCount = retryingCount != null ? retryingCount : 0L;
+    }
+}
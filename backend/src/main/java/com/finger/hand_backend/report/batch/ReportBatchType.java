@@ -0,0 +1,9 @@
+package com.finger.hand_backend.report.batch;
+
+/**
+ * 보고서 일괄 생성 종류
+ */
+public enum ReportBatchType {
+    WEEKLY,
+    MONTHLY
+}
@@ -4,7 +4,10 @@ import com.finger.hand_backend.report.entity.MonthlyReport;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,6 +20,16 @@ public interface MonthlyReportRepository extends JpaRepository<MonthlyReport, Lo
      */
     Optional<MonthlyReport> findByUserIdAndYearAndMonth(Long userId, Integer year, Integer month);
 
+    /**
+     * 해당 월 보고서가 이미 있는 사용자 ID 조회 (보고서 일괄 생성용)
+     */
+    @Query("""
+  SELECT r.userId FROM MonthlyReport r
+  WHERE r.year = :year AND r.month = :month
+    AND r.userId IN :userIds
+""")
+    List<Long> findUserIdsWithReport(Integer year, Integer month, Collection<Long> userIds);
+
     /**
      * 사용자 ID로 조회 (페이징)
      */
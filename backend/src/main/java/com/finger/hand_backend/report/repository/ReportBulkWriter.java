@@ -0,0 +1,192 @@
+package com.finger.hand_backend.report.repository;
+
+import com.finger.hand_backend.report.entity.MonthlyReportDetail;
+import com.finger.hand_backend.report.entity.ReportStatus;
+import com.finger.hand_backend.report.entity.WeeklyReportDetail;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 보고서 일괄 쓰기 저장소 (보고서 일괄 생성 청크용)
+ * - 상세(MongoDB)는 insertMany 1회, 메타데이터(MySQL)는 JDBC 배치 INSERT
+ * - MySQL 저장이 실패하면 방금 넣은 상세 문서를 지워 고아 문서를 남기지 않음
+ * - 같은 기간 보고서가 이미 있으면 MySQL 행은 건드리지 않음 (선조회 이후 수동 생성된 보고서 보존)
+ *   → INSERT 후 각 행의 mongodb_report_id를 다시 읽어 우리 문서를 가리키지 않는 사용자는 상세 문서를 지우고 건너뜀으로 반환
+ *   (rewriteBatchedStatements로 묶인 배치는 문장별 영향 행 수를 돌려주지 않으므로 다시 읽어서 판별)
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class ReportBulkWriter {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_WEEKLY_SQL = """
+            INSERT INTO weekly_reports (
+                user_id, year, week_number, week_start_date, week_end_date,
+                mongodb_report_id, diary_count, status, created_at, completed_at
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+
+    private static final String INSERT_MONTHLY_SQL = """
+            INSERT INTO monthly_reports (
+                user_id, year, month, month_start_date, month_end_date,
+                mongodb_report_id, diary_count, status, created_at, completed_at
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+
+    private static final String SELECT_WEEKLY_OWNERS_SQL = """
+            SELECT user_id, mongodb_report_id
+            FROM weekly_reports
+            WHERE year = :year AND week_number = :period AND user_id IN (:userIds)
+            """;
+
+    private static final String SELECT_MONTHLY_OWNERS_SQL = """
+            SELECT user_id, mongodb_report_id
+            FROM monthly_reports
+            WHERE year = :year AND month = :period AND user_id IN (:userIds)
+            """;
+
+    private final MongoTemplate mongoTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * 주간 보고서 일괄 저장
+     *
+     * @param details AI 분석이 끝난 보고서 상세 (id 없음)
+     * @return 같은 기간 보고서가 이미 있어 저장하지 않은 사용자 ID (상세 문서는 삭제됨)
+     */
+    @Transactional
+    public Set<Long> insertWeekly(List<WeeklyReportDetail> details) {
+        if (details.isEmpty()) {
+            return Set.of();
+        }
+
+        List<WeeklyReportDetail> saved = new ArrayList<>(mongoTemplate.insert(details, WeeklyReportDetail.class));
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_WEEKLY_SQL, saved, BATCH_SIZE, (ps, detail) -> {
+                ps.setLong(1, detail.getUserId());
+                ps.setInt(2, detail.getYear());
+                ps.setInt(3, detail.getWeekNumber());
+                ps.setObject(4, detail.getWeekStartDate());
+                ps.setObject(5, detail.getWeekEndDate());
+                ps.setString(6, detail.getId());
+                ps.setInt(7, detail.getTotalDiaryCount());
+                ps.setString(8, ReportStatus.COMPLETED.name());
+                ps.setObject(9, now);
+                ps.setObject(10, now);
+            });
+        } catch (RuntimeException e) {
+            removeDetails(saved.stream().map(WeeklyReportDetail::getId).toList(), WeeklyReportDetail.class);
+            throw e;
+        }
+
+        // 저장 기간(연도, 주차)별로 MySQL 행이 방금 넣은 문서를 가리키는지 확인
+        Map<List<Integer>, List<WeeklyReportDetail>> byPeriod = saved.stream()
+                .collect(Collectors.groupingBy(detail -> List.of(detail.getYear(), detail.getWeekNumber())));
+        List<WeeklyReportDetail> orphans = new ArrayList<>();
+        byPeriod.forEach((period, group) ->
+                orphans.addAll(notOwned(SELECT_WEEKLY_OWNERS_SQL, period.get(0), period.get(1), group,
+                        WeeklyReportDetail::getUserId, WeeklyReportDetail::getId)));
+        return discardOrphans(orphans, WeeklyReportDetail::getUserId, WeeklyReportDetail::getId, WeeklyReportDetail.class);
+    }
+
+    /**
+     * 월간 보고서 일괄 저장
+     *
+     * @param details AI 분석이 끝난 보고서 상세 (id 없음)
+     * @return 같은 기간 보고서가 이미 있어 저장하지 않은 사용자 ID (상세 문서는 삭제됨)
+     */
+    @Transactional
+    public Set<Long> insertMonthly(List<MonthlyReportDetail> details) {
+        if (details.isEmpty()) {
+            return Set.of();
+        }
+
+        List<MonthlyReportDetail> saved = new ArrayList<>(mongoTemplate.insert(details, MonthlyReportDetail.class));
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_MONTHLY_SQL, saved, BATCH_SIZE, (ps, detail) -> {
+                ps.setLong(1, detail.getUserId());
+                ps.setInt(2, detail.getYear());
+                ps.setInt(3, detail.getMonth());
+                ps.setObject(4, detail.getStartDate());
+                ps.setObject(5, detail.getEndDate());
+                ps.setString(6, detail.getId());
+                ps.setInt(7, detail.getTotalDiaryCount());
+                ps.setString(8, ReportStatus.COMPLETED.name());
+                ps.setObject(9, now);
+                ps.setObject(10, now);
+            });
+        } catch (RuntimeException e) {
+            removeDetails(saved.stream().map(MonthlyReportDetail::getId).toList(), MonthlyReportDetail.class);
+            throw e;
+        }
+
+        // 저장 기간(연도, 월)별로 MySQL 행이 방금 넣은 문서를 가리키는지 확인
+        Map<List<Integer>, List<MonthlyReportDetail>> byPeriod = saved.stream()
+                .collect(Collectors.groupingBy(detail -> List.of(detail.getYear(), detail.getMonth())));
+        List<MonthlyReportDetail> orphans = new ArrayList<>();
+        byPeriod.forEach((period, group) ->
+                orphans.addAll(notOwned(SELECT_MONTHLY_OWNERS_SQL, period.get(0), period.get(1), group,
+                        MonthlyReportDetail::getUserId, MonthlyReportDetail::getId)));
+        return discardOrphans(orphans, MonthlyReportDetail::getUserId, MonthlyReportDetail::getId, MonthlyReportDetail.class);
+    }
+
+    /**
+     * 같은 기간 MySQL 행이 다른 상세 문서를 가리키는 (INSERT가 무시된) 상세 목록
+     */
+    private <T> List<T> notOwned(String sql, int year, int period, List<T> details,
+                                 Function<T, Long> userIdOf, Function<T, String> idOf) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("year", year)
+                .addValue("period", period)
+                .addValue("userIds", details.stream().map(userIdOf).toList());
+        Map<Long, String> owners = new HashMap<>();
+        namedJdbcTemplate.query(sql, params, rs -> {
+            owners.put(rs.getLong("user_id"), rs.getString("mongodb_report_id"));
+        });
+        return details.stream()
+                .filter(detail -> !idOf.apply(detail).equals(owners.get(userIdOf.apply(detail))))
+                .toList();
+    }
+
+    private <T> Set<Long> discardOrphans(List<T> orphans, Function<T, Long> userIdOf,
+                                         Function<T, String> idOf, Class<T> detailClass) {
+        if (orphans.isEmpty()) {
+            return Set.of();
+        }
+        log.info("Skipped {} {} already saved for the same period", orphans.size(), detailClass.getSimpleName());
+        removeDetails(orphans.stream().map(idOf).toList(), detailClass);
+        return orphans.stream().map(userIdOf).collect(Collectors.toSet());
+    }
+
+    private void removeDetails(List<String> ids, Class<?> detailClass) {
+        try {
+            mongoTemplate.remove(Query.query(Criteria.where("_id").in(ids)), detailClass);
+        } catch (RuntimeException e) {
+            log.error("Failed to remove {} orphan {} documents", ids.size(), detailClass.getSimpleName(), e);
+        }
+    }
+}
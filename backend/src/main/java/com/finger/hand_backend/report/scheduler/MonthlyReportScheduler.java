@@ -1,19 +1,29 @@
 package com.finger.hand_backend.report.scheduler;
 
-import com.finger.hand_backend.diary.entity.DiaryConversation;
-import com.finger.hand_backend.diary.repository.DiaryConversationRepository;
+import com.finger.hand_backend.report.batch.ReportBatchItemResult;
+import com.finger.hand_backend.report.batch.ReportBatchRun;
+import com.finger.hand_backend.report.batch.ReportBatchRunService;
+import com.finger.hand_backend.report.batch.ReportBatchType;
+import com.finger.hand_backend.report.entity.MonthlyReportDetail;
+import com.finger.hand_backend.report.service.MonthlyReportAsyncService;
 import com.finger.hand_backend.report.service.MonthlyReportService;
-import com.finger.hand_backend.report.service.ReportGenerationResult;
+import com.finger.hand_backend.report.service.ReportBatchChunk;
 import com.finger.hand_backend.user.entity.IndividualUser;
 import com.finger.hand_backend.user.repository.IndividualUserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 
 /**
  * 월간 보고서 자동 생성 스케줄러
@@ -24,8 +34,15 @@ import java.util.List;
 public class MonthlyReportScheduler {
 
     private final IndividualUserRepository individualUserRepository;
-    private final DiaryConversationRepository diaryConversationRepository;
     private final MonthlyReportService monthlyReportService;
+    private final MonthlyReportAsyncService monthlyReportAsyncService;
+    private final ReportBatchRunService reportBatchRunService;
+
+    /**
+     * 청크 크기 (청크당 선조회 쿼리 묶음 1회 + 일괄 저장 1회)
+     */
+    @Value("${report.batch.chunk-size:50}")
+    private int chunkSize;
 
     /**
      * 매월 1일 새벽 3시, 지난 달 보고서 자동 생성
@@ -43,60 +60,84 @@ public class MonthlyReportScheduler {
 
         log.info("Target month: {} ~ {}", lastMonthStart, lastMonthEnd);
 
-        // 2. 모든 개인 사용자 조회
-        List<IndividualUser> allUsers = individualUserRepository.findAll();
-        log.info("Total users: {}", allUsers.size());
-
-        int generatedCount = 0;
-        int skippedCount = 0;
-        int errorCount = 0;
-
-        // 3. 각 사용자별 보고서 생성
-        for (IndividualUser user : allUsers) {
-            Long userId = user.getUserId();
-
-            try {
-                // 3-1. 지난 달 완료된 다이어리 개수 확인
-                List<DiaryConversation> diaries = diaryConversationRepository
-                        .findByUserIdAndSessionDateBetweenOrderBySessionDateAsc(
-                                userId,
-                                lastMonthStart.minusDays(1),
-                                lastMonthEnd.plusDays(1)
-                        )
-                        .stream()
-                        .filter(d -> d.getEmotionAnalysis() != null)  // 완료된 다이어리만
-                        .filter(d -> !d.getSessionDate().isBefore(lastMonthStart) && !d.getSessionDate().isAfter(lastMonthEnd))
-                        .toList();
-
-                // 3-2. 최소 2개 미만이면 스킵
-                if (diaries.size() < 2) {
-                    log.debug("User {} skipped: insufficient diaries ({} < 2)", userId, diaries.size());
-                    skippedCount++;
-                    continue;
-                }
-
-                // 3-3. 보고서 생성 시도
-                ReportGenerationResult result = monthlyReportService.generateMonthlyReport(
-                        userId,
-                        lastMonthStart  // 지난 달 1일 날짜
-                );
-
-                if (result.isNewlyCreated()) {
-                    generatedCount++;
-                    log.info("Monthly report generated for user {}: reportId={}", userId, result.getReportId());
-                } else {
-                    // 이미 존재하는 경우
-                    skippedCount++;
-                    log.debug("User {} skipped: report already exists (reportId={})", userId, result.getReportId());
-                }
-
-            } catch (Exception e) {
-                errorCount++;
-                log.error("Failed to generate monthly report for user {}", userId, e);
-            }
+        // 2. 실행 시작 또는 재개 (처음이면 모든 개인 사용자를 원장에 등록)
+        Optional<ReportBatchRun> run = reportBatchRunService.open(
+                ReportBatchType.MONTHLY, ReportBatchRun.TARGET_ALL, lastMonthStart, lastMonthEnd,
+                () -> individualUserRepository.findAll().stream().map(IndividualUser::getUserId).toList());
+
+        if (run.isEmpty()) {
+            log.info("=== Monthly Report Auto Generation Skipped: run for {} is in progress elsewhere ===", lastMonthStart);
+            return;
         }
 
-        log.info("=== Monthly Report Auto Generation Completed: {} generated, {} skipped, {} errors ===",
-                generatedCount, skippedCount, errorCount);
+        execute(run.get());
+    }
+
+    /**
+     * 중단된 실행 재개 (마지막 체크포인트 이후 사용자만)
+     */
+    public void resume(ReportBatchRun run) {
+        log.info("=== Monthly Report Auto Generation Resumed === runId={}, month: {} ~ {}",
+                run.getId(), run.getPeriodStart(), run.getPeriodEnd());
+        execute(run);
+    }
+
+    private void execute(ReportBatchRun run) {
+        // 3. 청크 파이프라인 처리 + 청크마다 체크포인트
+        reportBatchRunService.execute(run, chunkSize, chunk -> processChunk(chunk, run.getPeriodStart()));
+
+        reportBatchRunService.getProgress(run.getId()).ifPresent(progress ->
+                log.info("=== Monthly Report Auto Generation Completed: runId={}, {} generated, {} skipped, {} errors ===",
+                        progress.getRunId(), progress.getSucceededCount(), progress.getSkippedCount(),
+                        progress.getFailedCount()));
+    }
+
+    /**
+     * 청크 처리: 선조회(기존 보고서/다이어리/생체 데이터) → AI 분석만 병렬 → 청크의 마지막 분석이 끝나면 일괄 저장
+     */
+    private CompletableFuture<List<ReportBatchItemResult>> processChunk(List<Long> chunk, LocalDate monthStart) {
+        // 3-1. 기존 보고서 / 완료된 다이어리 2개 미만 사용자는 스킵
+        ReportBatchChunk prefetched = reportBatchRunService.withDbPermit(
+                () -> monthlyReportService.prefetchChunk(chunk, monthStart));
+
+        List<ReportBatchItemResult> results = new ArrayList<>(chunk.size());
+        prefetched.existingUserIds().forEach(userId -> results.add(ReportBatchItemResult.skipped(userId)));
+        prefetched.insufficientUserIds().forEach(userId -> results.add(ReportBatchItemResult.skipped(userId)));
+
+        // 3-2. 보고서 생성 시도 (AI 분석, 동시 요청 수는 AiConcurrencyLimiter가 제한)
+        List<ReportBatchChunk.Source> sources = prefetched.sources();
+        List<CompletableFuture<MonthlyReportDetail>> futures = sources.stream()
+                // AI 허가는 시간 제한 없이 대기 (limit만큼씩 순서대로 진행), 호출 1건은 HTTP 읽기 제한(report read-timeout-ms)으로 제한됨
+                .map(source -> monthlyReportAsyncService.analyzeMonthlyReportAsync(source, monthStart))
+                .toList();
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .handle((ignored, ex) -> {
+                    List<MonthlyReportDetail> details = new ArrayList<>(futures.size());
+                    for (int i = 0; i < futures.size(); i++) {
+                        CompletableFuture<MonthlyReportDetail> future = futures.get(i);
+                        if (future.state() == Future.State.SUCCESS) {
+                            details.add(future.resultNow());
+                            continue;
+                        }
+
+                        Long userId = sources.get(i).userId();
+                        Throwable cause = future.exceptionNow();
+                        log.error("Failed to generate monthly report for user {}", userId, cause);
+                        results.add(ReportBatchItemResult.failed(userId, cause.getClass().getSimpleName()));
+                    }
+
+                    // 3-3. 청크 일괄 저장
+                    try {
+                        Set<Long> duplicated = reportBatchRunService.withDbPermit(() -> monthlyReportService.saveChunk(details));
+                        details.forEach(detail -> results.add(duplicated.contains(detail.getUserId())
+                                ? ReportBatchItemResult.skipped(detail.getUserId())
+                                : ReportBatchItemResult.succeeded(detail.getUserId())));
+                    } catch (Exception e) {
+                        log.error("Failed to save {} monthly reports", details.size(), e);
+                        details.forEach(detail -> results.add(ReportBatchItemResult.failed(detail.getUserId(), e.getClass().getSimpleName())));
+                    }
+                    return results;
+                });
     }
 }
@@ -0,0 +1,49 @@
+package com.finger.hand_backend.report.scheduler;
+
+import com.finger.hand_backend.report.batch.ReportBatchRun;
+import com.finger.hand_backend.report.batch.ReportBatchRunService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 중단된 보고서 일괄 생성 자동 재개
+ * - 배치 도중 파드가 재시작되면 실행이 RUNNING으로 남고 하트비트가 끊김
+ * - 하트비트가 stale-minutes 이상 끊긴 실행을 인계해 마지막 체크포인트 이후 사용자만 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReportBatchResumeJob {
+
+    private final ReportBatchRunService reportBatchRunService;
+    private final WeeklyReportScheduler weeklyReportScheduler;
+    private final MonthlyReportScheduler monthlyReportScheduler;
+
+    @Value("${report.batch.auto-resume:true}")
+    private boolean enabled;
+
+    @Scheduled(initialDelay = 60_000, fixedDelay = 300_000)
+    public void resumeStaleRuns() {
+        if (!enabled) {
+            return;
+        }
+
+        for (ReportBatchRun run : reportBatchRunService.findStaleRuns()) {
+            if (!reportBatchRunService.acquireStale(run)) {
+                continue;
+            }
+
+            try {
+                switch (run.getReportType()) {
+                    case WEEKLY -> weeklyReportScheduler.resume(run);
+                    case MONTHLY -> monthlyReportScheduler.resume(run);
+                }
+            } catch (Exception e) {
+                log.error("Failed to resume report batch run {}", run.getId(), e);
+            }
+        }
+    }
+}
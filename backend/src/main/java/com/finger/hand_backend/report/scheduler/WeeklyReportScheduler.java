@@ -1,23 +1,30 @@
 package com.finger.hand_backend.report.scheduler;
 
-import com.finger.hand_backend.diary.entity.DiaryConversation;
-import com.finger.hand_backend.diary.repository.DiaryConversationRepository;
-import com.finger.hand_backend.mockAPI.BatchUserResult;
+import com.finger.hand_backend.report.batch.ReportBatchItemResult;
+import com.finger.hand_backend.report.batch.ReportBatchRun;
+import com.finger.hand_backend.report.batch.ReportBatchRunService;
+import com.finger.hand_backend.report.batch.ReportBatchType;
+import com.finger.hand_backend.report.entity.WeeklyReportDetail;
+import com.finger.hand_backend.report.service.ReportBatchChunk;
 import com.finger.hand_backend.report.service.WeeklyReportAsyncService;
 import com.finger.hand_backend.report.service.WeeklyReportService;
 import com.finger.hand_backend.user.entity.IndividualUser;
 import com.finger.hand_backend.user.repository.IndividualUserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Future;
 
 /**
  * 주간 보고서 자동 생성 스케줄러
@@ -28,9 +35,15 @@ import java.util.concurrent.TimeUnit;
 public class WeeklyReportScheduler {
 
     private final IndividualUserRepository individualUserRepository;
-    private final DiaryConversationRepository diaryConversationRepository;
     private final WeeklyReportService weeklyReportService;           // sync용
     private final WeeklyReportAsyncService weeklyReportAsyncService; // async용
+    private final ReportBatchRunService reportBatchRunService;
+
+    /**
+     * 청크 크기 (청크당 선조회 쿼리 묶음 1회 + 일괄 저장 1회)
+     */
+    @Value("${report.batch.chunk-size:50}")
+    private int chunkSize;
 
     public void runNowForTest(Long batchKey) {
         runAsync(batchKey); // 기본은 async
@@ -80,7 +93,7 @@ public class WeeklyReportScheduler {
 
 
 
-    /** ✅ After: 병렬 방식 */
+    /** ✅ After: 병렬 방식 (청크 장벽 없는 파이프라인, 체크포인트 원장으로 중단 시 이어서 진행) */
     public void runAsync(Long batchKey) {
         WeekRange range = lastWeekRange();
         LocalDate lastWeekStart = range.start();
@@ -89,57 +102,85 @@ public class WeeklyReportScheduler {
         log.info("=== Weekly Report ASYNC Started === batchKey={}", batchKey);
         log.info("Target week: {} ~ {}", lastWeekStart, lastWeekEnd);
 
-        List<IndividualUser> allUsers = loadTargetUsers(batchKey);
-        log.info("Total users: {}", allUsers.size());
-
-        long startMs = System.currentTimeMillis();
-
-        // ✅ 테스트 목적: seed로 다이어리 3개씩 넣었으니 전원 처리(불필요한 Mongo 조회 제거)
-        List<Long> eligibleUserIds = allUsers.stream()
-                .map(IndividualUser::getUserId)
-                .toList();
-
-        int skippedCount = 0;
-
-        final int chunkSize = 50;
-        int total = eligibleUserIds.size();
-        int chunks = (total + chunkSize - 1) / chunkSize;
-
-        long successCount = 0;
-        long errorCount = 0;
-
-        for (int i = 0; i < total; i += chunkSize) {
-            int to = Math.min(i + chunkSize, total);
-            int chunkIndex = (i / chunkSize) + 1;
+        String targetKey = batchKey == null ? ReportBatchRun.TARGET_ALL : "SeedUser_" + batchKey;
+        Optional<ReportBatchRun> run = reportBatchRunService.open(
+                ReportBatchType.WEEKLY, targetKey, lastWeekStart, lastWeekEnd,
+                () -> loadTargetUsers(batchKey).stream().map(IndividualUser::getUserId).toList());
 
-            List<Long> chunk = eligibleUserIds.subList(i, to);
-            log.info("ASYNC chunk {}/{} start: size={}", chunkIndex, chunks, chunk.size());
+        if (run.isEmpty()) {
+            log.info("=== Weekly Report ASYNC Skipped: run for {} ({}) is in progress elsewhere ===", lastWeekStart, targetKey);
+            return;
+        }
 
-            List<CompletableFuture<BatchUserResult>> futures = chunk.stream()
-                    .map(userId -> weeklyReportAsyncService.generateWeeklyReportAsync(userId, lastWeekStart)
-                            .orTimeout(120, TimeUnit.SECONDS)
-                            .exceptionally(ex -> BatchUserResult.fail(userId, ex.getClass().getSimpleName()))
-                    )
-                    .toList();
+        execute(run.get());
+    }
 
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    /**
+     * 중단된 실행 재개 (마지막 체크포인트 이후 사용자만)
+     */
+    public void resume(ReportBatchRun run) {
+        log.info("=== Weekly Report ASYNC Resumed === runId={}, week: {} ~ {}",
+                run.getId(), run.getPeriodStart(), run.getPeriodEnd());
+        execute(run);
+    }
 
-            long chunkSuccess = futures.stream()
-                    .map(CompletableFuture::join)
-                    .filter(BatchUserResult::isSuccess)
-                    .count();
+    private void execute(ReportBatchRun run) {
+        long startMs = System.currentTimeMillis();
 
-            long chunkFail = futures.size() - chunkSuccess;
+        reportBatchRunService.execute(run, chunkSize, chunk -> processChunk(chunk, run.getPeriodStart()));
 
-            successCount += chunkSuccess;
-            errorCount += chunkFail;
+        long elapsed = System.currentTimeMillis() - startMs;
+        reportBatchRunService.getProgress(run.getId()).ifPresent(progress ->
+                log.info("=== Weekly Report ASYNC Completed: runId={}, success={}, skipped={}, errors={}, elapsedMs={} ===",
+                        progress.getRunId(), progress.getSucceededCount(), progress.getSkippedCount(),
+                        progress.getFailedCount(), elapsed));
+    }
 
-            log.info("ASYNC chunk {}/{} end: success={}, fail={}", chunkIndex, chunks, chunkSuccess, chunkFail);
-        }
+    /**
+     * 청크 처리: 선조회(기존 보고서/다이어리/생체 데이터) → AI 분석만 병렬 → 청크의 마지막 분석이 끝나면 일괄 저장
+     * - 호출 스레드는 선조회까지만 하고 반환 (다음 청크를 바로 투입할 수 있도록)
+     */
+    private CompletableFuture<List<ReportBatchItemResult>> processChunk(List<Long> chunk, LocalDate weekStart) {
+        ReportBatchChunk prefetched = reportBatchRunService.withDbPermit(
+                () -> weeklyReportService.prefetchChunk(chunk, weekStart));
+
+        List<ReportBatchItemResult> results = new ArrayList<>(chunk.size());
+        prefetched.existingUserIds().forEach(userId -> results.add(ReportBatchItemResult.skipped(userId)));
+        prefetched.insufficientUserIds().forEach(userId -> results.add(ReportBatchItemResult.skipped(userId)));
+
+        List<ReportBatchChunk.Source> sources = prefetched.sources();
+        List<CompletableFuture<WeeklyReportDetail>> futures = sources.stream()
+                // AI 허가는 시간 제한 없이 대기 (limit만큼씩 순서대로 진행), 호출 1건은 HTTP 읽기 제한(report read-timeout-ms)으로 제한됨
+                .map(source -> weeklyReportAsyncService.analyzeWeeklyReportAsync(source, weekStart))
+                .toList();
 
-        long elapsed = System.currentTimeMillis() - startMs;
-        log.info("=== Weekly Report ASYNC Completed: success={}, skipped={}, errors={}, elapsedMs={} ===",
-                successCount, skippedCount, errorCount, elapsed);
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .handle((ignored, ex) -> {
+                    List<WeeklyReportDetail> details = new ArrayList<>(futures.size());
+                    for (int i = 0; i < futures.size(); i++) {
+                        CompletableFuture<WeeklyReportDetail> future = futures.get(i);
+                        if (future.state() == Future.State.SUCCESS) {
+                            details.add(future.resultNow());
+                            continue;
+                        }
+
+                        Long userId = sources.get(i).userId();
+                        Throwable cause = future.exceptionNow();
+                        log.error("ASYNC failed userId={}, error={}", userId, cause.getClass().getSimpleName(), cause);
+                        results.add(ReportBatchItemResult.failed(userId, cause.getClass().getSimpleName()));
+                    }
+
+                    try {
+                        Set<Long> duplicated = reportBatchRunService.withDbPermit(() -> weeklyReportService.saveChunk(details));
+                        details.forEach(detail -> results.add(duplicated.contains(detail.getUserId())
+                                ? ReportBatchItemResult.skipped(detail.getUserId())
+                                : ReportBatchItemResult.succeeded(detail.getUserId())));
+                    } catch (Exception e) {
+                        log.error("ASYNC chunk save failed: {} reports", details.size(), e);
+                        details.forEach(detail -> results.add(ReportBatchItemResult.failed(detail.getUserId(), e.getClass().getSimpleName())));
+                    }
+                    return results;
+                });
     }
 
 
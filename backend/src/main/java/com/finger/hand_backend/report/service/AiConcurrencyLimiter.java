@@ -0,0 +1,188 @@
+package com.finger.hand_backend.report.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AI 서버(FastAPI) 동시 요청 제한 (AIMD)
+ * - 동시 요청 수 상한(limit)을 응답 결과에 따라 조정: 정상 응답이면 limit += 1/limit (한 바퀴에 약 +1),
+ *   오류이거나 target-latency보다 느리면 limit × backoff-ratio (target-latency당 최대 1회 감소)
+ * - limit은 [min, max] 범위, max는 AI 서버가 감당 가능한 동시 요청 수
+ * - 보고서/상담 분석이 같은 AI 서버를 쓰므로 ReportAnalysisClient의 모든 호출이 공유
+ * - 대화형 호출({@link #acquire()})은 acquire-timeout-ms까지만 대기하고, 대기 중에는 일괄 생성보다 먼저 허가를 받음
+ * - 일괄 생성({@link #acquireForBatch()})은 제한 없이 대기 (수백 명이 한꺼번에 대기해도 시간 초과로 실패 처리되지 않음)
+ * - 지표: report.ai.concurrency.limit, report.ai.concurrency.in_flight,
+ *   report.ai.concurrency.decreases, report.ai.latency{outcome=success|failure}
+ */
+@Slf4j
+@Component
+public class AiConcurrencyLimiter {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final double backoffRatio;
+    private final long acquireTimeoutNanos;
+
+    private double limit;
+    private int inFlight;
+    private int interactiveWaiting;
+    private long lastDecreaseNanos;
+
+    private final Counter decreaseCounter;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+
+    public AiConcurrencyLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${report.ai.concurrency.initial:4}") int initialLimit,
+            @Value("${report.ai.concurrency.min:1}") int minLimit,
+            @Value("${report.ai.concurrency.max:16}") int maxLimit,
+            @Value("${report.ai.concurrency.target-latency-ms:20000}") long targetLatencyMs,
+            @Value("${report.ai.concurrency.backoff-ratio:0.7}") double backoffRatio,
+            @Value("${report.ai.concurrency.acquire-timeout-ms:60000}") long acquireTimeoutMs
+    ) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.clamp(initialLimit, this.minLimit, this.maxLimit);
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMs);
+        this.backoffRatio = Math.clamp(backoffRatio, 0.1, 0.95);
+        this.acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMs);
+        this.lastDecreaseNanos = System.nanoTime() - targetLatencyNanos;
+
+        Gauge.builder("report.ai.concurrency.limit", this, AiConcurrencyLimiter::currentLimit)
+                .description("Current adaptive concurrency limit toward the AI server")
+                .register(meterRegistry);
+        Gauge.builder("report.ai.concurrency.in_flight", this, AiConcurrencyLimiter::currentInFlight)
+                .description("AI requests in flight")
+                .register(meterRegistry);
+        this.decreaseCounter = Counter.builder("report.ai.concurrency.decreases")
+                .description("Multiplicative decreases of the AI concurrency limit")
+                .register(meterRegistry);
+        this.successTimer = latencyTimer(meterRegistry, "success");
+        this.failureTimer = latencyTimer(meterRegistry, "failure");
+    }
+
+    private static Timer latencyTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("report.ai.latency")
+                .tag("outcome", outcome)
+                .description("AI server call latency")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대화형 요청 허가 획득 (limit만큼 진행 중이면 반납될 때까지 대기)
+     *
+     * @return 요청 시작 시각 (nanoTime, {@link #release(long, boolean)}에 전달)
+     * @throws TimeoutException     acquire-timeout-ms 동안 허가를 얻지 못함
+     * @throws InterruptedException 대기 중 인터럽트
+     */
+    public long acquire() throws InterruptedException, TimeoutException {
+        lock.lockInterruptibly();
+        try {
+            long remaining = acquireTimeoutNanos;
+            interactiveWaiting++;
+            try {
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        throw new TimeoutException("AI concurrency limit " + (int) limit + " reached");
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+            } finally {
+                interactiveWaiting--;
+            }
+            inFlight++;
+            return System.nanoTime();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 일괄 생성 요청 허가 획득 (시간 제한 없이 대기, 대기 중인 대화형 요청이 있으면 양보)
+     *
+     * @return 요청 시작 시각 (nanoTime, {@link #release(long, boolean)}에 전달)
+     * @throws InterruptedException 대기 중 인터럽트 (일괄 실행 소유권을 잃은 경우 등)
+     */
+    public long acquireForBatch() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= (int) limit || interactiveWaiting > 0) {
+                released.await();
+            }
+            inFlight++;
+            return System.nanoTime();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 요청 허가 반납 + limit 조정
+     *
+     * @param startedAt {@link #acquire()} / {@link #acquireForBatch()} 반환값
+     * @param success   정상 응답 여부
+     */
+    public void release(long startedAt, boolean success) {
+        long now = System.nanoTime();
+        long latency = now - startedAt;
+        (success ? successTimer : failureTimer).record(latency, TimeUnit.NANOSECONDS);
+
+        lock.lock();
+        try {
+            boolean saturated = inFlight >= (int) limit;
+            inFlight--;
+
+            if (!success || latency > targetLatencyNanos) {
+                // 같은 시점에 몰린 실패로 연속 감소하지 않도록 target-latency당 1회만
+                if (now - lastDecreaseNanos >= targetLatencyNanos) {
+                    double previous = limit;
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecreaseNanos = now;
+                    decreaseCounter.increment();
+                    log.info("AI concurrency limit decreased {} -> {} (success={}, latencyMs={})",
+                            (int) previous, (int) limit, success, TimeUnit.NANOSECONDS.toMillis(latency));
+                }
+            } else if (saturated) {
+                // 상한까지 쓰고 있을 때만 증가 (요청이 적어서 여유가 있는 경우 limit이 계속 커지지 않도록)
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int currentLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int currentInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
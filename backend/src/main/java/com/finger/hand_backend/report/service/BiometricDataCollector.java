@@ -2,8 +2,9 @@ package com.finger.hand_backend.report.service;
 
 import com.finger.hand_backend.baseline.Baseline;
 import com.finger.hand_backend.baseline.BaselineRepository;
-import com.finger.hand_backend.measurement.Measurement;
 import com.finger.hand_backend.measurement.MeasurementRepository;
+import com.finger.hand_backend.measurement.projection.AnomalyDetailView;
+import com.finger.hand_backend.measurement.projection.UserAnomalyDetailView;
 import com.finger.hand_backend.user.entity.IndividualUser;
 import com.finger.hand_backend.user.repository.IndividualUserRepository;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +14,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -48,7 +48,7 @@ public class BiometricDataCollector {
 
         // 2. 이상치 데이터 조회 (측정 데이터 포함)
         LocalDateTime start = startDate.atStartOfDay();
-        LocalDateTime end = endDate.atTime(LocalTime.MAX);
+        LocalDateTime end = endDate.plusDays(1).atStartOfDay();
         List<Map<String, Object>> anomalies = getAnomalyDetails(userId, start, end);
 
         // 3. 사용자 기본 정보 조회 (AI 분석 참고용)
@@ -61,19 +61,60 @@ public class BiometricDataCollector {
                 .build();
     }
 
+    /**
+     * 여러 사용자의 생체 데이터 일괄 수집 (보고서 일괄 생성 청크용)
+     * - 활성 Baseline 1회, 사용자 정보 1회, 이상치 1회 조회 (사용자 수와 무관)
+     *
+     * @param userIds   사용자 ID 목록
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
+     * @return 사용자 ID별 생체 데이터 수집 결과 (요청한 모든 사용자 포함, 없으면 기본값)
+     */
+    public Map<Long, BiometricDataResult> collectBiometricData(Collection<Long> userIds, LocalDate startDate, LocalDate endDate) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Baseline> baselines = baselineRepository.findByUserIdInAndIsActiveTrue(userIds).stream()
+                .collect(Collectors.toMap(Baseline::getUserId, b -> b, (a, b) -> a));
+
+        Map<Long, IndividualUser> users = individualUserRepository.findByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(IndividualUser::getUserId, u -> u, (a, b) -> a));
+
+        Map<Long, List<AnomalyDetailView>> anomaliesByUser = measurementRepository
+                .findAnomalyDetailsByUsers(userIds, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay())
+                .stream()
+                .collect(Collectors.groupingBy(UserAnomalyDetailView::userId,
+                        Collectors.mapping(UserAnomalyDetailView::toDetailView, Collectors.toList())));
+
+        Map<Long, BiometricDataResult> results = new HashMap<>();
+        for (Long userId : userIds) {
+            results.put(userId, BiometricDataResult.builder()
+                    .userBaseline(toBaselineMap(userId, baselines.get(userId)))
+                    .anomalies(toAnomalyDetails(anomaliesByUser.getOrDefault(userId, List.of())))
+                    .userInfo(toUserInfoMap(userId, users.get(userId)))
+                    .build());
+        }
+
+        log.debug("Collected biometric data for {} users from {} to {} ({} baselines, {} anomaly users)",
+                userIds.size(), startDate, endDate, baselines.size(), anomaliesByUser.size());
+        return results;
+    }
+
     /**
      * 사용자 베이스라인 조회
      * - 데이터가 없으면 기본값으로 채워서 반환 (FastAPI 422 에러 방지)
      */
     private Map<String, Object> getUserBaseline(Long userId) {
-        Optional<Baseline> baselineOpt = baselineRepository.findByUserIdAndIsActiveTrue(userId);
+        return toBaselineMap(userId, baselineRepository.findByUserIdAndIsActiveTrue(userId).orElse(null));
+    }
 
-        if (baselineOpt.isEmpty()) {
+    private Map<String, Object> toBaselineMap(Long userId, Baseline baseline) {
+        if (baseline == null) {
             log.warn("No active baseline found for user {}, returning default values", userId);
             return getDefaultBaseline();
         }
 
-        Baseline baseline = baselineOpt.get();
         Map<String, Object> result = new HashMap<>();
 
         result.put("version", baseline.getVersion() != null ? baseline.getVersion() : 0);
@@ -140,14 +181,15 @@ public class BiometricDataCollector {
      * - 데이터가 없거나 null이면 기본값으로 채워서 반환 (FastAPI 422 에러 방지)
      */
     private Map<String, Object> getUserInfo(Long userId) {
-        Optional<IndividualUser> userOpt = individualUserRepository.findByUserId(userId);
+        return toUserInfoMap(userId, individualUserRepository.findByUserId(userId).orElse(null));
+    }
 
-        if (userOpt.isEmpty()) {
+    private Map<String, Object> toUserInfoMap(Long userId, IndividualUser user) {
+        if (user == null) {
             log.warn("No individual user info found for user {}, returning default values", userId);
             return getDefaultUserInfo();
         }
 
-        IndividualUser user = userOpt.get();
         Map<String, Object> result = new HashMap<>();
 
         result.put("age", user.getAge() != null ? user.getAge() : 0);
@@ -179,28 +221,30 @@ public class BiometricDataCollector {
     /**
      * 이상치 상세 정보 조회
      * - 워치에서 이상치로 탐지된 측정 데이터 조회 (isAnomaly=true)
+     * - 필요한 컬럼만 프로젝션으로 조회 (엔티티 로딩/스냅샷 없음)
      */
     private List<Map<String, Object>> getAnomalyDetails(Long userId, LocalDateTime start, LocalDateTime end) {
         // Measurement 테이블에서 isAnomaly=true인 데이터 직접 조회
-        List<Measurement> anomalies = measurementRepository
-                .findByUserIdAndIsAnomalyTrueAndMeasuredAtBetweenOrderByMeasuredAtAsc(userId, start, end);
+        List<AnomalyDetailView> anomalies = measurementRepository.findAnomalyDetails(userId, start, end);
 
         if (anomalies.isEmpty()) {
             log.debug("No anomalies found for user {} from {} to {}", userId, start, end);
-            return new ArrayList<>();
         }
+        return toAnomalyDetails(anomalies);
+    }
 
+    private List<Map<String, Object>> toAnomalyDetails(List<AnomalyDetailView> anomalies) {
         // 이상치 상세 정보 구성 (FastAPI 스펙에 맞춤)
         List<Map<String, Object>> anomalyDetails = new ArrayList<>();
-        for (Measurement measurement : anomalies) {
+        for (AnomalyDetailView measurement : anomalies) {
             Map<String, Object> detail = new HashMap<>();
-            detail.put("detectedAt", measurement.getMeasuredAt().toString());  // measuredAt -> detectedAt (String)
-            detail.put("measurementId", measurement.getId());  // 측정 ID 추가
-            detail.put("stressIndex", measurement.getStressIndex());
-            detail.put("stressLevel", measurement.getStressLevel());
-            detail.put("heartRate", measurement.getHeartRate());
-            detail.put("hrvSdnn", measurement.getHrvSdnn());
-            detail.put("hrvRmssd", measurement.getHrvRmssd());
+            detail.put("detectedAt", measurement.measuredAt().toString());  // measuredAt -> detectedAt (String)
+            detail.put("measurementId", measurement.measurementId());  // 측정 ID 추가
+            detail.put("stressIndex", measurement.stressIndex());
+            detail.put("stressLevel", measurement.stressLevel());
+            detail.put("heartRate", measurement.heartRate());
+            detail.put("hrvSdnn", measurement.hrvSdnn());
+            detail.put("hrvRmssd", measurement.hrvRmssd());
             // objectTemp는 FastAPI 스펙에 없으므로 제거
 
             anomalyDetails.add(detail);
@@ -0,0 +1,28 @@
+package com.finger.hand_backend.report.service;
+
+import com.finger.hand_backend.report.entity.MonthlyReportDetail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+@RequiredArgsConstructor
+public class MonthlyReportAsyncService {
+
+    private final MonthlyReportService monthlyReportService;
+
+    /**
+     * 선조회한 입력으로 AI 분석만 비동기 실행 (저장은 스케줄러가 청크 단위로 일괄 처리)
+     */
+    @Async("reportGenerationExecutor")
+    public CompletableFuture<MonthlyReportDetail> analyzeMonthlyReportAsync(ReportBatchChunk.Source source, LocalDate monthStart) {
+        try {
+            return CompletableFuture.completedFuture(monthlyReportService.analyze(source, monthStart));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -1,14 +1,14 @@
 package com.finger.hand_backend.report.service;
 
 import com.finger.hand_backend.diary.entity.DiaryConversation;
-import com.finger.hand_backend.diary.repository.DiaryConversationRepository;
 import com.finger.hand_backend.report.entity.MonthlyReport;
 import com.finger.hand_backend.report.entity.MonthlyReportDetail;
-import com.finger.hand_backend.report.entity.ReportStatus;
 import com.finger.hand_backend.report.repository.MonthlyReportDetailRepository;
 import com.finger.hand_backend.report.repository.MonthlyReportRepository;
+import com.finger.hand_backend.report.repository.ReportBulkWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -28,68 +28,119 @@ import java.util.stream.Collectors;
 @Slf4j
 public class MonthlyReportService {
 
-    private final DiaryConversationRepository diaryConversationRepository;
     private final MonthlyReportRepository monthlyReportRepository;
     private final MonthlyReportDetailRepository monthlyReportDetailRepository;
-    private final BiometricDataCollector biometricDataCollector;
     private final ReportAnalysisClient reportAnalysisClient;
+    private final ReportBatchPrefetcher batchPrefetcher;
+    private final ReportBulkWriter reportBulkWriter;
+    private final ReportPhase1Service phase1Service;
+    private final ReportPhase3Service phase3Service;
 
     /**
      * 월간 보고서 생성
+     * Phase 1: 기존 보고서 확인 + 다이어리/생체 데이터 조회 (읽기 트랜잭션) - 별도 서비스
+     * Phase 2: AI 분석 (트랜잭션 외부 - 커넥션 해제 상태) - 현재 서비스
+     * Phase 3: 재확인 후 저장 (쓰기 트랜잭션) - 별도 서비스
      *
      * @param userId 사용자 ID
      * @param date   기준 날짜 (해당 월의 아무 날짜)
      * @return 보고서 생성 결과
      */
-    @Transactional
     public ReportGenerationResult generateMonthlyReport(Long userId, LocalDate date) {
         log.info("Generating monthly report for user {} on {}", userId, date);
 
-        // 1. 연도와 월 추출
-        int year = date.getYear();
-        int month = date.getMonthValue();
-
-        log.debug("Month: {}-{:02d}", year, month);
-
-        // 2. 이미 생성된 보고서 확인
-        Optional<MonthlyReport> existingReport = monthlyReportRepository
-                .findByUserIdAndYearAndMonth(userId, year, month);
+        // Phase 1: 기존 보고서 확인 + 입력 조회 (트랜잭션 내) - 별도 서비스로 프록시 호출
+        ReportPhase1Service.Phase1Result phase1Result = phase1Service.loadMonthly(userId, date);
+        if (phase1Result.isExisting()) {
+            return ReportGenerationResult.existing(phase1Result.existingReportId());
+        }
 
-        if (existingReport.isPresent()) {
-            log.warn("Monthly report already exists for user {} {}-{:02d}", userId, year, month);
-            return ReportGenerationResult.existing(existingReport.get().getId());
+        // Phase 2: AI 분석 (트랜잭션 외부)
+        MonthlyReportDetail detail = analyze(phase1Result.source(), date, true);
+
+        // Phase 3: 재확인 후 저장 (트랜잭션 내) - 별도 서비스로 프록시 호출
+        try {
+            return phase3Service.saveMonthly(detail);
+        } catch (DataIntegrityViolationException e) {
+            // 재확인 이후 다른 요청이 먼저 저장함 (상세 문서는 Phase 3에서 정리)
+            return monthlyReportRepository
+                    .findByUserIdAndYearAndMonth(userId, detail.getYear(), detail.getMonth())
+                    .map(report -> ReportGenerationResult.existing(report.getId()))
+                    .orElseThrow(() -> e);
         }
+    }
 
-        // 3. 해당 월의 시작일과 종료일 계산
-        YearMonth yearMonth = YearMonth.of(year, month);
-        LocalDate monthStart = yearMonth.atDay(1);
-        LocalDate monthEnd = yearMonth.atEndOfMonth();
+    /**
+     * 보고서 일괄 생성 청크 선조회
+     * - 기존 보고서 1회 + 다이어리 $in 1회 + 생체 데이터 일괄 조회 (사용자별 반복 조회 없음)
+     *
+     * @param userIds 청크 사용자 ID
+     * @param date    기준 날짜 (해당 월의 아무 날짜)
+     * @return 사용자별 입력 + 건너뛸 사용자
+     */
+    @Transactional(readOnly = true)
+    public ReportBatchChunk prefetchChunk(List<Long> userIds, LocalDate date) {
+        YearMonth yearMonth = YearMonth.from(date);
 
-        log.debug("Month range: {} ~ {}", monthStart, monthEnd);
+        List<Long> existingUserIds = monthlyReportRepository
+                .findUserIdsWithReport(yearMonth.getYear(), yearMonth.getMonthValue(), userIds);
+        return batchPrefetcher.prefetch(userIds, existingUserIds, yearMonth.atDay(1), yearMonth.atEndOfMonth());
+    }
 
-        // 4. 다이어리 조회 (COMPLETED 상태만)
-        // Between 쿼리에서 endDate 포함을 위해 +1일 (MongoDB LocalDate 변환 이슈 대응)
-        List<DiaryConversation> diaries = diaryConversationRepository
-                .findByUserIdAndSessionDateBetweenOrderBySessionDateAsc(userId, monthStart.minusDays(1), monthEnd.plusDays(1))
-                .stream()
-                .filter(d -> d.getEmotionAnalysis() != null) // 완료된 다이어리만
-                .filter(d -> !d.getSessionDate().isBefore(monthStart) && !d.getSessionDate().isAfter(monthEnd)) // 정확한 범위 필터링
-                .collect(Collectors.toList());
+    /**
+     * 선조회한 입력으로 AI 분석 (DB 조회/저장 없음, 일괄 생성용)
+     * - 저장은 청크 단위로 {@link #saveChunk(List)}
+     * - AI 호출이 실패하면 Mock 보고서 대신 예외 (원장에 FAILED로 기록되어 백오프 후 재시도)
+     *
+     * @param source 사용자별 입력
+     * @param date   기준 날짜 (해당 월의 아무 날짜)
+     * @return 저장 전 보고서 상세
+     * @throws IllegalStateException AI 호출/응답 파싱 실패
+     */
+    public MonthlyReportDetail analyze(ReportBatchChunk.Source source, LocalDate date) {
+        return analyze(source, date, false);
+    }
 
-        log.debug("Found {} completed diaries", diaries.size());
+    private MonthlyReportDetail analyze(ReportBatchChunk.Source source, LocalDate date, boolean fallbackOnError) {
+        YearMonth yearMonth = YearMonth.from(date);
+        return buildMonthlyReportDetail(
+                source.userId(),
+                source.diaries(),
+                source.biometricData(),
+                yearMonth.getYear(),
+                yearMonth.getMonthValue(),
+                yearMonth.atDay(1),
+                yearMonth.atEndOfMonth(),
+                fallbackOnError);
+    }
 
-        // 5. 최소 2개 이상 확인
-        if (diaries.size() < 2) {
-            throw new IllegalStateException(
-                    String.format("월간 보고서 생성을 위해서는 최소 2개의 다이어리가 필요합니다. (현재: %d개)", diaries.size()));
-        }
+    /**
+     * 청크 일괄 저장 (MongoDB insertMany + MySQL 배치 INSERT)
+     *
+     * @param details 보고서 상세 목록
+     * @return 같은 기간 보고서가 이미 있어 저장하지 않은 사용자 ID
+     */
+    public Set<Long> saveChunk(List<MonthlyReportDetail> details) {
+        return reportBulkWriter.insertMonthly(details);
+    }
 
-        // 6. totalSummary 생성 (모든 longSummary 이어붙이기)
+    /**
+     * AI 분석 요청 후 MonthlyReportDetail 구성 (저장 전)
+     */
+    private MonthlyReportDetail buildMonthlyReportDetail(Long userId,
+                                                         List<DiaryConversation> diaries,
+                                                         BiometricDataCollector.BiometricDataResult biometricData,
+                                                         int year,
+                                                         int month,
+                                                         LocalDate monthStart,
+                                                         LocalDate monthEnd,
+                                                         boolean fallbackOnError) {
+        // 1. totalSummary 생성 (모든 longSummary 이어붙이기)
         String totalSummary = diaries.stream()
                 .map(diary -> diary.getEmotionAnalysis().getLongSummary())
                 .collect(Collectors.joining(" "));
 
-        // 7. 일별 다이어리 데이터 구성
+        // 2. 일별 다이어리 데이터 구성
         List<Map<String, Object>> dailyDiaries = new ArrayList<>();
 
         for (DiaryConversation diary : diaries) {
@@ -101,17 +152,13 @@ public class MonthlyReportService {
             dailyDiaries.add(dailyDiary);
         }
 
-        // 8. 생체 데이터 수집
-        BiometricDataCollector.BiometricDataResult biometricData =
-                biometricDataCollector.collectBiometricData(userId, monthStart, monthEnd);
-
-        // 8. FastAPI로 분석 요청 (개인용)
+        // 3. FastAPI로 분석 요청 (개인용)
         Map<String, Object> biometricsForApi = new HashMap<>();
         biometricsForApi.put("baseline", biometricData.getUserBaseline());
         biometricsForApi.put("anomalies", biometricData.getAnomalies());
         biometricsForApi.put("userInfo", biometricData.getUserInfo());  // height, weight, residenceType 포함
 
-        // 9. AI 분석용 user_info 생성 (height, weight 제외, family로 변경)
+        // 4. AI 분석용 user_info 생성 (height, weight 제외, family로 변경)
         Map<String, Object> userInfoForAi = new HashMap<>();
         Map<String, Object> baseUserInfo = biometricData.getUserInfo();
         userInfoForAi.put("age", baseUserInfo.get("age"));
@@ -127,16 +174,17 @@ public class MonthlyReportService {
                         dailyDiaries,
                         biometricsForApi,
                         totalSummary,  // longSummary 이어붙인 요약 전달
-                        userInfoForAi  // AI 분석용 사용자 정보
+                        userInfoForAi, // AI 분석용 사용자 정보
+                        fallbackOnError
                 );
 
-        // 10. 통계 계산
+        // 5. 통계 계산
         DoubleSummaryStatistics scoreStats = diaries.stream()
                 .mapToDouble(d -> d.getEmotionAnalysis().getDepressionScore())
                 .summaryStatistics();
 
-        // 11. MonthlyReportDetail (MongoDB) 저장
-        MonthlyReportDetail detail = MonthlyReportDetail.builder()
+        // 6. MonthlyReportDetail 구성
+        return MonthlyReportDetail.builder()
                 .userId(userId)
                 .year(year)
                 .month(month)
@@ -155,28 +203,6 @@ public class MonthlyReportService {
                 .createdAt(LocalDateTime.now())
                 .analyzedAt(LocalDateTime.now())
                 .build();
-
-        detail = monthlyReportDetailRepository.save(detail);
-        log.debug("MonthlyReportDetail saved with ID: {}", detail.getId());
-
-        // 12. MonthlyReport (MySQL) 메타데이터 저장
-        MonthlyReport report = MonthlyReport.builder()
-                .userId(userId)
-                .year(year)
-                .month(month)
-                .monthStartDate(monthStart)
-                .monthEndDate(monthEnd)
-                .mongodbReportId(detail.getId())
-                .diaryCount(diaries.size())
-                .status(ReportStatus.COMPLETED)
-                .createdAt(LocalDateTime.now())
-                .completedAt(LocalDateTime.now())
-                .build();
-
-        report = monthlyReportRepository.save(report);
-        log.info("Monthly report created successfully with ID: {}", report.getId());
-
-        return ReportGenerationResult.created(report.getId());
     }
 
     /**
@@ -2,8 +2,7 @@ package com.finger.hand_backend.report.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import lombok.RequiredArgsConstructor;
+import com.finger.hand_backend.common.http.OutboundHttpClients;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
@@ -22,13 +21,12 @@ import java.util.Map;
  * - FastAPI 서버로 주간/월간 보고서 분석 요청
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ReportAnalysisClient {
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper()
-            .registerModule(new JavaTimeModule());  // LocalDate 직렬화 지원
+    private final AiConcurrencyLimiter concurrencyLimiter;
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;  // 공용 ObjectMapper (JavaTimeModule 포함)
 
     @Value("${report.api.individual.url}")
     private String individualReportApiUrl;
@@ -36,6 +34,14 @@ public class ReportAnalysisClient {
     @Value("${report.api.manager.url}")
     private String managerAdviceApiUrl;
 
+    public ReportAnalysisClient(AiConcurrencyLimiter concurrencyLimiter,
+                                OutboundHttpClients httpClients,
+                                ObjectMapper objectMapper) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.restTemplate = httpClients.forEndpoint("report");
+        this.objectMapper = objectMapper;
+    }
+
     /**
      * 개인 사용자 보고서 분석
      *
@@ -54,10 +60,27 @@ public class ReportAnalysisClient {
             Map<String, Object> biometrics,
             String totalSummary,
             Map<String, Object> userInfo) {
+        return analyzeIndividualReport(userId, diaries, biometrics, totalSummary, userInfo, true);
+    }
+
+    /**
+     * 개인 사용자 보고서 분석
+     *
+     * @param fallbackOnError true면 실패 시 Mock 결과 반환, false면 예외 (일괄 생성은 실패로 기록 후 재시도해야 하므로 false)
+     * @throws IllegalStateException fallbackOnError=false에서 AI 호출/응답 파싱 실패
+     */
+    public ReportAnalysisResult analyzeIndividualReport(
+            Long userId,
+            List<Map<String, Object>> diaries,
+            Map<String, Object> biometrics,
+            String totalSummary,
+            Map<String, Object> userInfo,
+            boolean fallbackOnError) {
 
         log.info("Analyzing individual report for user {} (diaries: {})", userId, diaries.size());
 
-        return callAnalysisApi(individualReportApiUrl, userId, diaries, biometrics, totalSummary, userInfo, "individual");
+        return callAnalysisApi(individualReportApiUrl, userId, diaries, biometrics, totalSummary, userInfo,
+                "individual", fallbackOnError);
     }
 
     /**
@@ -81,11 +104,14 @@ public class ReportAnalysisClient {
 
         log.info("Analyzing manager advice for user {} (diaries: {})", userId, diaries.size());
 
-        return callAnalysisApi(managerAdviceApiUrl, userId, diaries, biometrics, totalSummary, userInfo, "manager");
+        return callAnalysisApi(managerAdviceApiUrl, userId, diaries, biometrics, totalSummary, userInfo,
+                "manager", true);
     }
 
     /**
      * FastAPI 호출 공통 메서드
+     * - fallbackOnError=false(일괄 생성)면 실패(인터럽트 포함)를 Mock 결과로 바꾸지 않고 예외로 전달,
+     *   동시성 제한 허가는 시간 제한 없이 대기 (대화형 호출만 acquire-timeout-ms 적용)
      *
      * API 스펙:
      * - Request: { "user_id": int, "diaries": [...], "biometrics": {...}, "total_summary": string, "user_info": {...} }
@@ -98,7 +124,8 @@ public class ReportAnalysisClient {
             Map<String, Object> biometrics,
             String totalSummary,
             Map<String, Object> userInfo,
-            String reportType) {
+            String reportType,
+            boolean fallbackOnError) {
 
         try {
             // FastAPI 스펙에 맞춘 요청 바디
@@ -117,7 +144,7 @@ public class ReportAnalysisClient {
             HttpEntity<String> request = new HttpEntity<>(jsonRequestBody, headers);
 
             log.debug("{} Report API Request: {}", reportType, jsonRequestBody);
-            String responseBody = restTemplate.postForObject(apiUrl, request, String.class);
+            String responseBody = postWithinLimit(apiUrl, request, !fallbackOnError);
             log.debug("{} Report API Response: {}", reportType, responseBody);
 
             // 응답 파싱 (FastAPI 스펙)
@@ -129,6 +156,13 @@ public class ReportAnalysisClient {
                     .build();
 
         } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            if (!fallbackOnError) {
+                throw new IllegalStateException(
+                        reportType + " report analysis failed for user " + userId + ": " + e.getClass().getSimpleName(), e);
+            }
             log.warn("{} Report Analysis: FastAPI 호출 실패, Mock 데이터 반환", reportType, e);
 
             // Fallback: Mock 데이터 반환
@@ -139,6 +173,23 @@ public class ReportAnalysisClient {
         }
     }
 
+    /**
+     * AI 서버 동시 요청 제한 안에서 호출 (허가 대기 시간은 limit 조정에 포함하지 않음)
+     *
+     * @param batch true면 일괄 생성용 허가 (시간 제한 없음, 대기 중인 대화형 요청에 양보)
+     */
+    private String postWithinLimit(String apiUrl, HttpEntity<String> request, boolean batch) throws Exception {
+        long startedAt = batch ? concurrencyLimiter.acquireForBatch() : concurrencyLimiter.acquire();
+        boolean success = false;
+        try {
+            String responseBody = restTemplate.postForObject(apiUrl, request, String.class);
+            success = true;
+            return responseBody;
+        } finally {
+            concurrencyLimiter.release(startedAt, success);
+        }
+    }
+
     /**
      * 보고서 분석 결과 (FastAPI 응답 스펙)
      */
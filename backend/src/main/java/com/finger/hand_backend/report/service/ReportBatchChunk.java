@@ -0,0 +1,38 @@
+package com.finger.hand_backend.report.service;
+
+import com.finger.hand_backend.diary.entity.DiaryConversation;
+
+import java.util.List;
+
+/**
+ * 보고서 일괄 생성 청크 선조회 결과
+ * - 청크 단위로 한 번에 조회한 다이어리/생체 데이터와 건너뛸 사용자 목록
+ *
+ * @param sources             보고서를 생성할 사용자별 입력
+ * @param existingUserIds     해당 기간 보고서가 이미 있는 사용자
+ * @param insufficientUserIds 완료된 다이어리가 부족한 사용자
+ */
+public record ReportBatchChunk(
+        List<Source> sources,
+        List<Long> existingUserIds,
+        List<Long> insufficientUserIds
+) {
+
+    public int skippedCount() {
+        return existingUserIds.size() + insufficientUserIds.size();
+    }
+
+    /**
+     * 사용자별 보고서 입력
+     *
+     * @param userId        사용자 ID
+     * @param diaries       기간 내 완료된 다이어리 (날짜 오름차순)
+     * @param biometricData 생체 데이터
+     */
+    public record Source(
+            Long userId,
+            List<DiaryConversation> diaries,
+            BiometricDataCollector.BiometricDataResult biometricData
+    ) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.finger.hand_backend.report.service;
+
+import com.finger.hand_backend.diary.entity.DiaryConversation;
+import com.finger.hand_backend.diary.repository.DiaryConversationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 보고서 일괄 생성 선조회
+ * - 사용자별 반복 조회 대신 청크 단위로 다이어리 $in 1회 + 생체 데이터(Baseline/사용자 정보/이상치) 각 1회 조회
+ * - 주간/월간 공통 (기존 보고서 여부는 각 서비스에서 1회 조회해 전달)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ReportBatchPrefetcher {
+
+    /**
+     * 보고서 생성에 필요한 최소 완료 다이어리 수
+     */
+    static final int MIN_DIARY_COUNT = 2;
+
+    private final DiaryConversationRepository diaryConversationRepository;
+    private final BiometricDataCollector biometricDataCollector;
+
+    /**
+     * 청크 선조회
+     *
+     * @param userIds         청크 사용자 ID
+     * @param existingUserIds 보고서가 이미 있는 사용자 ID (건너뜀)
+     * @param startDate       기간 시작일 (포함)
+     * @param endDate         기간 종료일 (포함)
+     * @return 사용자별 입력 + 건너뛸 사용자
+     */
+    public ReportBatchChunk prefetch(List<Long> userIds, Collection<Long> existingUserIds,
+                                     LocalDate startDate, LocalDate endDate) {
+        Set<Long> existing = new HashSet<>(existingUserIds);
+        List<Long> targets = userIds.stream()
+                .filter(userId -> !existing.contains(userId))
+                .toList();
+
+        if (targets.isEmpty()) {
+            return new ReportBatchChunk(List.of(), List.copyOf(existing), List.of());
+        }
+
+        // 1. 다이어리 $in 1회 (Between 경계 포함을 위해 ±1일 후 정확한 범위 필터링)
+        Map<Long, List<DiaryConversation>> diariesByUser = diaryConversationRepository
+                .findByUserIdInAndSessionDateBetween(targets, startDate.minusDays(1), endDate.plusDays(1))
+                .stream()
+                .filter(d -> d.getEmotionAnalysis() != null) // 완료된 다이어리만
+                .filter(d -> !d.getSessionDate().isBefore(startDate) && !d.getSessionDate().isAfter(endDate))
+                .sorted(Comparator.comparing(DiaryConversation::getSessionDate))
+                .collect(Collectors.groupingBy(DiaryConversation::getUserId));
+
+        List<Long> eligible = new ArrayList<>();
+        List<Long> insufficient = new ArrayList<>();
+        for (Long userId : targets) {
+            if (diariesByUser.getOrDefault(userId, List.of()).size() >= MIN_DIARY_COUNT) {
+                eligible.add(userId);
+            } else {
+                insufficient.add(userId);
+            }
+        }
+
+        // 2. 생체 데이터는 보고서를 생성할 사용자만 일괄 조회
+        Map<Long, BiometricDataCollector.BiometricDataResult> biometrics =
+                biometricDataCollector.collectBiometricData(eligible, startDate, endDate);
+
+        List<ReportBatchChunk.Source> sources = eligible.stream()
+                .map(userId -> new ReportBatchChunk.Source(userId, diariesByUser.get(userId), biometrics.get(userId)))
+                .toList();
+
+        log.debug("Report chunk prefetched: {} users, {} eligible, {} existing, {} insufficient diaries",
+                userIds.size(), sources.size(), existing.size(), insufficient.size());
+
+        return new ReportBatchChunk(sources, List.copyOf(existing), insufficient);
+    }
+}
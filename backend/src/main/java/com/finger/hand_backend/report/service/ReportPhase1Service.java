@@ -0,0 +1,153 @@
+package com.finger.hand_backend.report.service;
+
+import com.finger.hand_backend.diary.entity.DiaryConversation;
+import com.finger.hand_backend.diary.repository.DiaryConversationRepository;
+import com.finger.hand_backend.report.entity.MonthlyReport;
+import com.finger.hand_backend.report.entity.WeeklyReport;
+import com.finger.hand_backend.report.repository.MonthlyReportRepository;
+import com.finger.hand_backend.report.repository.WeeklyReportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.WeekFields;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 보고서 생성 Phase 1 서비스 (주간/월간)
+ * - 트랜잭션 분리를 위해 별도 서비스로 분리 (Self-invocation 문제 해결)
+ * - 기존 보고서 확인 + 다이어리/생체 데이터 조회까지만 짧은 읽기 트랜잭션으로 처리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportPhase1Service {
+
+    private final DiaryConversationRepository diaryConversationRepository;
+    private final WeeklyReportRepository weeklyReportRepository;
+    private final MonthlyReportRepository monthlyReportRepository;
+    private final BiometricDataCollector biometricDataCollector;
+
+    /**
+     * Phase 1 결과
+     *
+     * @param existingReportId 해당 기간 보고서가 이미 있으면 그 ID (이때 source는 null)
+     * @param source           AI 분석 입력
+     */
+    public record Phase1Result(Long existingReportId, ReportBatchChunk.Source source) {
+
+        static Phase1Result existing(Long reportId) {
+            return new Phase1Result(reportId, null);
+        }
+
+        static Phase1Result ready(ReportBatchChunk.Source source) {
+            return new Phase1Result(null, source);
+        }
+
+        public boolean isExisting() {
+            return existingReportId != null;
+        }
+    }
+
+    /**
+     * Phase 1: 주간 보고서 입력 조회 (읽기 트랜잭션)
+     *
+     * @param userId 사용자 ID
+     * @param date   기준 날짜 (해당 주의 아무 날짜)
+     */
+    @Transactional(readOnly = true)
+    public Phase1Result loadWeekly(Long userId, LocalDate date) {
+        // 1. ISO 8601 주차 계산
+        int year = date.get(WeekFields.ISO.weekBasedYear());
+        int weekNumber = date.get(WeekFields.ISO.weekOfWeekBasedYear());
+
+        log.debug("Week: {}-W{}", year, weekNumber);
+
+        // 2. 이미 생성된 보고서 확인
+        Optional<WeeklyReport> existingReport = weeklyReportRepository
+                .findByUserIdAndYearAndWeekNumber(userId, year, weekNumber);
+
+        if (existingReport.isPresent()) {
+            log.warn("Weekly report already exists for user {} {}-W{}", userId, year, weekNumber);
+            return Phase1Result.existing(existingReport.get().getId());
+        }
+
+        // 3. 주의 시작일(월요일)과 종료일(일요일) 계산
+        LocalDate weekStart = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate weekEnd = date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+
+        log.debug("Week range: {} ~ {}", weekStart, weekEnd);
+
+        // 4. 다이어리 조회 + 최소 2개 이상 확인
+        List<DiaryConversation> diaries = findCompletedDiaries(userId, weekStart, weekEnd);
+        if (diaries.size() < 2) {
+            throw new IllegalStateException(
+                    String.format("주간 보고서 생성을 위해서는 최소 2개의 다이어리가 필요합니다. (현재: %d개)", diaries.size()));
+        }
+
+        // 5. 생체 데이터 수집
+        return Phase1Result.ready(new ReportBatchChunk.Source(
+                userId, diaries, biometricDataCollector.collectBiometricData(userId, weekStart, weekEnd)));
+    }
+
+    /**
+     * Phase 1: 월간 보고서 입력 조회 (읽기 트랜잭션)
+     *
+     * @param userId 사용자 ID
+     * @param date   기준 날짜 (해당 월의 아무 날짜)
+     */
+    @Transactional(readOnly = true)
+    public Phase1Result loadMonthly(Long userId, LocalDate date) {
+        // 1. 연도와 월 추출
+        YearMonth yearMonth = YearMonth.from(date);
+
+        // 2. 이미 생성된 보고서 확인
+        Optional<MonthlyReport> existingReport = monthlyReportRepository
+                .findByUserIdAndYearAndMonth(userId, yearMonth.getYear(), yearMonth.getMonthValue());
+
+        if (existingReport.isPresent()) {
+            log.warn("Monthly report already exists for user {} {}", userId, yearMonth);
+            return Phase1Result.existing(existingReport.get().getId());
+        }
+
+        // 3. 해당 월의 시작일과 종료일 계산
+        LocalDate monthStart = yearMonth.atDay(1);
+        LocalDate monthEnd = yearMonth.atEndOfMonth();
+
+        log.debug("Month range: {} ~ {}", monthStart, monthEnd);
+
+        // 4. 다이어리 조회 + 최소 2개 이상 확인
+        List<DiaryConversation> diaries = findCompletedDiaries(userId, monthStart, monthEnd);
+        if (diaries.size() < 2) {
+            throw new IllegalStateException(
+                    String.format("월간 보고서 생성을 위해서는 최소 2개의 다이어리가 필요합니다. (현재: %d개)", diaries.size()));
+        }
+
+        // 5. 생체 데이터 수집
+        return Phase1Result.ready(new ReportBatchChunk.Source(
+                userId, diaries, biometricDataCollector.collectBiometricData(userId, monthStart, monthEnd)));
+    }
+
+    /**
+     * 기간 내 완료된 다이어리 조회 (COMPLETED 상태만)
+     */
+    private List<DiaryConversation> findCompletedDiaries(Long userId, LocalDate start, LocalDate end) {
+        // Between 쿼리에서 endDate 포함을 위해 +1일 (MongoDB LocalDate 변환 이슈 대응)
+        List<DiaryConversation> diaries = diaryConversationRepository
+                .findByUserIdAndSessionDateBetweenOrderBySessionDateAsc(userId, start.minusDays(1), end.plusDays(1))
+                .stream()
+                .filter(d -> d.getEmotionAnalysis() != null) // 완료된 다이어리만 (emotionAnalysis 존재)
+                .filter(d -> !d.getSessionDate().isBefore(start) && !d.getSessionDate().isAfter(end)) // 정확한 범위 필터링
+                .collect(Collectors.toList());
+
+        log.debug("Found {} completed diaries", diaries.size());
+        return diaries;
+    }
+}
@@ -0,0 +1,132 @@
+package com.finger.hand_backend.report.service;
+
+import com.finger.hand_backend.report.entity.MonthlyReport;
+import com.finger.hand_backend.report.entity.MonthlyReportDetail;
+import com.finger.hand_backend.report.entity.ReportStatus;
+import com.finger.hand_backend.report.entity.WeeklyReport;
+import com.finger.hand_backend.report.entity.WeeklyReportDetail;
+import com.finger.hand_backend.report.repository.MonthlyReportDetailRepository;
+import com.finger.hand_backend.report.repository.MonthlyReportRepository;
+import com.finger.hand_backend.report.repository.WeeklyReportDetailRepository;
+import com.finger.hand_backend.report.repository.WeeklyReportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 보고서 생성 Phase 3 서비스 (주간/월간)
+ * - 트랜잭션 분리를 위해 별도 서비스로 분리 (Self-invocation 문제 해결)
+ * - AI 분석이 끝난 뒤 짧은 쓰기 트랜잭션으로 저장, 그 사이 생성된 보고서가 있으면 저장하지 않고 기존 보고서 반환
+ * - 재확인 이후에 다른 요청이 먼저 저장해 유니크 키 충돌이 나면 방금 넣은 상세 문서를 지우고 예외를 다시 던짐
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportPhase3Service {
+
+    private final WeeklyReportRepository weeklyReportRepository;
+    private final WeeklyReportDetailRepository weeklyReportDetailRepository;
+    private final MonthlyReportRepository monthlyReportRepository;
+    private final MonthlyReportDetailRepository monthlyReportDetailRepository;
+
+    /**
+     * Phase 3: 주간 보고서 저장 (트랜잭션)
+     *
+     * @param detail AI 분석이 끝난 보고서 상세 (id 없음)
+     * @return 보고서 생성 결과
+     */
+    @Transactional
+    public ReportGenerationResult saveWeekly(WeeklyReportDetail detail) {
+        Long userId = detail.getUserId();
+
+        // 1. 재확인 (Phase 2 동안 다른 요청이 먼저 생성했을 수 있음)
+        Optional<WeeklyReport> existingReport = weeklyReportRepository
+                .findByUserIdAndYearAndWeekNumber(userId, detail.getYear(), detail.getWeekNumber());
+
+        if (existingReport.isPresent()) {
+            log.warn("Weekly report created concurrently for user {} {}-W{}", userId, detail.getYear(), detail.getWeekNumber());
+            return ReportGenerationResult.existing(existingReport.get().getId());
+        }
+
+        // 2. WeeklyReportDetail (MongoDB) 저장
+        detail = weeklyReportDetailRepository.save(detail);
+        log.debug("WeeklyReportDetail saved with ID: {}", detail.getId());
+
+        // 3. WeeklyReport (MySQL) 메타데이터 저장
+        WeeklyReport report = WeeklyReport.builder()
+                .userId(userId)
+                .year(detail.getYear())
+                .weekNumber(detail.getWeekNumber())
+                .weekStartDate(detail.getWeekStartDate())
+                .weekEndDate(detail.getWeekEndDate())
+                .mongodbReportId(detail.getId())
+                .diaryCount(detail.getTotalDiaryCount())
+                .status(ReportStatus.COMPLETED)
+                .createdAt(LocalDateTime.now())
+                .completedAt(LocalDateTime.now())
+                .build();
+
+        try {
+            report = weeklyReportRepository.saveAndFlush(report);
+        } catch (DataIntegrityViolationException e) {
+            weeklyReportDetailRepository.deleteById(detail.getId());
+            throw e;
+        }
+        log.info("Weekly report created successfully with ID: {}", report.getId());
+
+        return ReportGenerationResult.created(report.getId());
+    }
+
+    /**
+     * Phase 3: 월간 보고서 저장 (트랜잭션)
+     *
+     * @param detail AI 분석이 끝난 보고서 상세 (id 없음)
+     * @return 보고서 생성 결과
+     */
+    @Transactional
+    public ReportGenerationResult saveMonthly(MonthlyReportDetail detail) {
+        Long userId = detail.getUserId();
+
+        // 1. 재확인 (Phase 2 동안 다른 요청이 먼저 생성했을 수 있음)
+        Optional<MonthlyReport> existingReport = monthlyReportRepository
+                .findByUserIdAndYearAndMonth(userId, detail.getYear(), detail.getMonth());
+
+        if (existingReport.isPresent()) {
+            log.warn("Monthly report created concurrently for user {} {}-{}", userId, detail.getYear(), detail.getMonth());
+            return ReportGenerationResult.existing(existingReport.get().getId());
+        }
+
+        // 2. MonthlyReportDetail (MongoDB) 저장
+        detail = monthlyReportDetailRepository.save(detail);
+        log.debug("MonthlyReportDetail saved with ID: {}", detail.getId());
+
+        // 3. MonthlyReport (MySQL) 메타데이터 저장
+        MonthlyReport report = MonthlyReport.builder()
+                .userId(userId)
+                .year(detail.getYear())
+                .month(detail.getMonth())
+                .monthStartDate(detail.getStartDate())
+                .monthEndDate(detail.getEndDate())
+                .mongodbReportId(detail.getId())
+                .diaryCount(detail.getTotalDiaryCount())
+                .status(ReportStatus.COMPLETED)
+                .createdAt(LocalDateTime.now())
+                .completedAt(LocalDateTime.now())
+                .build();
+
+        try {
+            report = monthlyReportRepository.saveAndFlush(report);
+        } catch (DataIntegrityViolationException e) {
+            monthlyReportDetailRepository.deleteById(detail.getId());
+            throw e;
+        }
+        log.info("Monthly report created successfully with ID: {}", report.getId());
+
+        return ReportGenerationResult.created(report.getId());
+    }
+}
@@ -1,6 +1,6 @@
 package com.finger.hand_backend.report.service;
 
-import com.finger.hand_backend.mockAPI.BatchUserResult;
+import com.finger.hand_backend.report.entity.WeeklyReportDetail;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
@@ -14,16 +14,15 @@ public class WeeklyReportAsyncService {
 
     private final WeeklyReportService weeklyReportService;
 
+    /**
+     * 선조회한 입력으로 AI 분석만 비동기 실행 (저장은 스케줄러가 청크 단위로 일괄 처리)
+     */
     @Async("reportGenerationExecutor")
-    public CompletableFuture<BatchUserResult> generateWeeklyReportAsync(Long userId, LocalDate weekStart) {
+    public CompletableFuture<WeeklyReportDetail> analyzeWeeklyReportAsync(ReportBatchChunk.Source source, LocalDate weekStart) {
         try {
-            weeklyReportService.generateWeeklyReport(userId, weekStart); // 기존 동기 로직 실행
-            return CompletableFuture.completedFuture(BatchUserResult.success(userId));
+            return CompletableFuture.completedFuture(weeklyReportService.analyze(source, weekStart));
         } catch (Exception e) {
-            return CompletableFuture.completedFuture(
-                    BatchUserResult.fail(userId, e.getClass().getSimpleName())
-            );
+            return CompletableFuture.failedFuture(e);
         }
     }
 }
-
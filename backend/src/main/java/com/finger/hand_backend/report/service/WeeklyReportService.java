@@ -1,14 +1,14 @@
 package com.finger.hand_backend.report.service;
 
 import com.finger.hand_backend.diary.entity.DiaryConversation;
-import com.finger.hand_backend.diary.repository.DiaryConversationRepository;
-import com.finger.hand_backend.report.entity.ReportStatus;
 import com.finger.hand_backend.report.entity.WeeklyReport;
 import com.finger.hand_backend.report.entity.WeeklyReportDetail;
+import com.finger.hand_backend.report.repository.ReportBulkWriter;
 import com.finger.hand_backend.report.repository.WeeklyReportDetailRepository;
 import com.finger.hand_backend.report.repository.WeeklyReportRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -30,68 +30,120 @@ import java.util.stream.Collectors;
 @Slf4j
 public class WeeklyReportService {
 
-    private final DiaryConversationRepository diaryConversationRepository;
     private final WeeklyReportRepository weeklyReportRepository;
     private final WeeklyReportDetailRepository weeklyReportDetailRepository;
-    private final BiometricDataCollector biometricDataCollector;
     private final ReportAnalysisClient reportAnalysisClient;
+    private final ReportBatchPrefetcher batchPrefetcher;
+    private final ReportBulkWriter reportBulkWriter;
+    private final ReportPhase1Service phase1Service;
+    private final ReportPhase3Service phase3Service;
 
     /**
      * 주간 보고서 생성
+     * Phase 1: 기존 보고서 확인 + 다이어리/생체 데이터 조회 (읽기 트랜잭션) - 별도 서비스
+     * Phase 2: AI 분석 (트랜잭션 외부 - 커넥션 해제 상태) - 현재 서비스
+     * Phase 3: 재확인 후 저장 (쓰기 트랜잭션) - 별도 서비스
      *
      * @param userId 사용자 ID
      * @param date   기준 날짜 (해당 주의 아무 날짜)
      * @return 보고서 생성 결과
      */
-    @Transactional
     public ReportGenerationResult generateWeeklyReport(Long userId, LocalDate date) {
         log.info("Generating weekly report for user {} on {}", userId, date);
 
-        // 1. ISO 8601 주차 계산
-        WeekFields weekFields = WeekFields.ISO;
-        int year = date.get(weekFields.weekBasedYear());
-        int weekNumber = date.get(weekFields.weekOfWeekBasedYear());
-
-        log.debug("Week: {}-W{}", year, weekNumber);
-
-        // 2. 이미 생성된 보고서 확인
-        Optional<WeeklyReport> existingReport = weeklyReportRepository
-                .findByUserIdAndYearAndWeekNumber(userId, year, weekNumber);
+        // Phase 1: 기존 보고서 확인 + 입력 조회 (트랜잭션 내) - 별도 서비스로 프록시 호출
+        ReportPhase1Service.Phase1Result phase1Result = phase1Service.loadWeekly(userId, date);
+        if (phase1Result.isExisting()) {
+            return ReportGenerationResult.existing(phase1Result.existingReportId());
+        }
 
-        if (existingReport.isPresent()) {
-            log.warn("Weekly report already exists for user {} {}-W{}", userId, year, weekNumber);
-            return ReportGenerationResult.existing(existingReport.get().getId());
+        // Phase 2: AI 분석 (트랜잭션 외부)
+        WeeklyReportDetail detail = analyze(phase1Result.source(), date, true);
+
+        // Phase 3: 재확인 후 저장 (트랜잭션 내) - 별도 서비스로 프록시 호출
+        try {
+            return phase3Service.saveWeekly(detail);
+        } catch (DataIntegrityViolationException e) {
+            // 재확인 이후 다른 요청이 먼저 저장함 (상세 문서는 Phase 3에서 정리)
+            return weeklyReportRepository
+                    .findByUserIdAndYearAndWeekNumber(userId, detail.getYear(), detail.getWeekNumber())
+                    .map(report -> ReportGenerationResult.existing(report.getId()))
+                    .orElseThrow(() -> e);
         }
+    }
 
-        // 3. 주의 시작일(월요일)과 종료일(일요일) 계산
+    /**
+     * 보고서 일괄 생성 청크 선조회
+     * - 기존 보고서 1회 + 다이어리 $in 1회 + 생체 데이터 일괄 조회 (사용자별 반복 조회 없음)
+     *
+     * @param userIds 청크 사용자 ID
+     * @param date    기준 날짜 (해당 주의 아무 날짜)
+     * @return 사용자별 입력 + 건너뛸 사용자
+     */
+    @Transactional(readOnly = true)
+    public ReportBatchChunk prefetchChunk(List<Long> userIds, LocalDate date) {
+        int year = date.get(WeekFields.ISO.weekBasedYear());
+        int weekNumber = date.get(WeekFields.ISO.weekOfWeekBasedYear());
         LocalDate weekStart = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
         LocalDate weekEnd = date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
 
-        log.debug("Week range: {} ~ {}", weekStart, weekEnd);
+        List<Long> existingUserIds = weeklyReportRepository.findUserIdsWithReport(year, weekNumber, userIds);
+        return batchPrefetcher.prefetch(userIds, existingUserIds, weekStart, weekEnd);
+    }
 
-        // 4. 다이어리 조회 (COMPLETED 상태만)
-        // Between 쿼리에서 endDate 포함을 위해 +1일 (MongoDB LocalDate 변환 이슈 대응)
-        List<DiaryConversation> diaries = diaryConversationRepository
-                .findByUserIdAndSessionDateBetweenOrderBySessionDateAsc(userId, weekStart.minusDays(1), weekEnd.plusDays(1))
-                .stream()
-                .filter(d -> d.getEmotionAnalysis() != null) // 완료된 다이어리만 (emotionAnalysis 존재)
-                .filter(d -> !d.getSessionDate().isBefore(weekStart) && !d.getSessionDate().isAfter(weekEnd)) // 정확한 범위 필터링
-                .collect(Collectors.toList());
+    /**
+     * 선조회한 입력으로 AI 분석 (DB 조회/저장 없음, 일괄 생성용)
+     * - 저장은 청크 단위로 {@link #saveChunk(List)}
+     * - AI 호출이 실패하면 Mock 보고서 대신 예외 (원장에 FAILED로 기록되어 백오프 후 재시도)
+     *
+     * @param source 사용자별 입력
+     * @param date   기준 날짜 (해당 주의 아무 날짜)
+     * @return 저장 전 보고서 상세
+     * @throws IllegalStateException AI 호출/응답 파싱 실패
+     */
+    public WeeklyReportDetail analyze(ReportBatchChunk.Source source, LocalDate date) {
+        return analyze(source, date, false);
+    }
 
-        log.debug("Found {} completed diaries", diaries.size());
+    private WeeklyReportDetail analyze(ReportBatchChunk.Source source, LocalDate date, boolean fallbackOnError) {
+        return buildWeeklyReportDetail(
+                source.userId(),
+                source.diaries(),
+                source.biometricData(),
+                date.get(WeekFields.ISO.weekBasedYear()),
+                date.get(WeekFields.ISO.weekOfWeekBasedYear()),
+                date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)),
+                date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)),
+                fallbackOnError);
+    }
 
-        // 5. 최소 2개 이상 확인
-        if (diaries.size() < 2) {
-            throw new IllegalStateException(
-                    String.format("주간 보고서 생성을 위해서는 최소 2개의 다이어리가 필요합니다. (현재: %d개)", diaries.size()));
-        }
+    /**
+     * 청크 일괄 저장 (MongoDB insertMany + MySQL 배치 INSERT)
+     *
+     * @param details 보고서 상세 목록
+     * @return 같은 기간 보고서가 이미 있어 저장하지 않은 사용자 ID
+     */
+    public Set<Long> saveChunk(List<WeeklyReportDetail> details) {
+        return reportBulkWriter.insertWeekly(details);
+    }
 
-        // 6. totalSummary 생성 (모든 longSummary 이어붙이기)
+    /**
+     * AI 분석 요청 후 WeeklyReportDetail 구성 (저장 전)
+     */
+    private WeeklyReportDetail buildWeeklyReportDetail(Long userId,
+                                                       List<DiaryConversation> diaries,
+                                                       BiometricDataCollector.BiometricDataResult biometricData,
+                                                       int year,
+                                                       int weekNumber,
+                                                       LocalDate weekStart,
+                                                       LocalDate weekEnd,
+                                                       boolean fallbackOnError) {
+        // 1. totalSummary 생성 (모든 longSummary 이어붙이기)
         String totalSummary = diaries.stream()
                 .map(diary -> diary.getEmotionAnalysis().getLongSummary())
                 .collect(Collectors.joining(" "));
 
-        // 7. 일별 다이어리 데이터 구성
+        // 2. 일별 다이어리 데이터 구성
         List<Map<String, Object>> dailyDiaries = new ArrayList<>();
 
         for (DiaryConversation diary : diaries) {
@@ -103,17 +155,13 @@ public class WeeklyReportService {
             dailyDiaries.add(dailyDiary);
         }
 
-        // 8. 생체 데이터 수집
-        BiometricDataCollector.BiometricDataResult biometricData =
-                biometricDataCollector.collectBiometricData(userId, weekStart, weekEnd);
-
-        // 8. FastAPI로 분석 요청 (개인용)
+        // 3. FastAPI로 분석 요청 (개인용)
         Map<String, Object> biometricsForApi = new HashMap<>();
         biometricsForApi.put("baseline", biometricData.getUserBaseline());
         biometricsForApi.put("anomalies", biometricData.getAnomalies());
         biometricsForApi.put("userInfo", biometricData.getUserInfo());  // height, weight, residenceType 포함
 
-        // 9. AI 분석용 user_info 생성 (height, weight 제외, family로 변경)
+        // 4. AI 분석용 user_info 생성 (height, weight 제외, family로 변경)
         Map<String, Object> userInfoForAi = new HashMap<>();
         Map<String, Object> baseUserInfo = biometricData.getUserInfo();
         userInfoForAi.put("age", baseUserInfo.get("age"));
@@ -129,16 +177,17 @@ public class WeeklyReportService {
                         dailyDiaries,
                         biometricsForApi,
                         totalSummary,  // longSummary 이어붙인 요약 전달
-                        userInfoForAi  // AI 분석용 사용자 정보
+                        userInfoForAi, // AI 분석용 사용자 정보
+                        fallbackOnError
                 );
 
-        // 10. 통계 계산
+        // 5. 통계 계산
         DoubleSummaryStatistics scoreStats = diaries.stream()
                 .mapToDouble(d -> d.getEmotionAnalysis().getDepressionScore())
                 .summaryStatistics();
 
-        // 11. WeeklyReportDetail (MongoDB) 저장
-        WeeklyReportDetail detail = WeeklyReportDetail.builder()
+        // 6. WeeklyReportDetail 구성
+        return WeeklyReportDetail.builder()
                 .userId(userId)
                 .year(year)
                 .weekNumber(weekNumber)
@@ -157,28 +206,6 @@ public class WeeklyReportService {
                 .createdAt(LocalDateTime.now())
                 .analyzedAt(LocalDateTime.now())
                 .build();
-
-        detail = weeklyReportDetailRepository.save(detail);
-        log.debug("WeeklyReportDetail saved with ID: {}", detail.getId());
-
-        // 12. WeeklyReport (MySQL) 메타데이터 저장
-        WeeklyReport report = WeeklyReport.builder()
-                .userId(userId)
-                .year(year)
-                .weekNumber(weekNumber)
-                .weekStartDate(weekStart)
-                .weekEndDate(weekEnd)
-                .mongodbReportId(detail.getId())
-                .diaryCount(diaries.size())
-                .status(ReportStatus.COMPLETED)
-                .createdAt(LocalDateTime.now())
-                .completedAt(LocalDateTime.now())
-                .build();
-
-        report = weeklyReportRepository.save(report);
-        log.info("Weekly report created successfully with ID: {}", report.getId());
-
-        return ReportGenerationResult.created(report.getId());
     }
 
     /**
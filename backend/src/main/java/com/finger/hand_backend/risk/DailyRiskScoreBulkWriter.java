@@ -0,0 +1,56 @@
+package com.finger.hand_backend.risk;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DailyRiskScore 일괄 쓰기 저장소 (JDBC)
+ * - 야간 작업에서 계산한 점수를 배치 INSERT (rewriteBatchedStatements로 다중 행 INSERT)
+ * - 이미 행이 있으면 건드리지 않음 (조회 이후 다이어리 완료로 먼저 저장된 점수 보존)
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyRiskScoreBulkWriter {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_MISSING_SQL = """
+            INSERT INTO daily_risk_scores (
+                user_id, score_date, risk_score, diary_component, measurement_component, sleep_component,
+                measurement_count, anomaly_count, created_at, updated_at
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 없는 점수만 저장
+     *
+     * @param scores 저장할 점수 (id 없음)
+     */
+    void insertMissing(List<DailyRiskScore> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_MISSING_SQL, scores, BATCH_SIZE, (ps, score) -> {
+            ps.setLong(1, score.getUserId());
+            ps.setObject(2, score.getScoreDate());
+            ps.setObject(3, score.getRiskScore(), Types.DOUBLE);
+            ps.setObject(4, score.getDiaryComponent(), Types.DOUBLE);
+            ps.setObject(5, score.getMeasurementComponent(), Types.DOUBLE);
+            ps.setObject(6, score.getSleepComponent(), Types.DOUBLE);
+            ps.setObject(7, score.getMeasurementCount(), Types.INTEGER);
+            ps.setObject(8, score.getAnomalyCount(), Types.INTEGER);
+            ps.setObject(9, now);
+            ps.setObject(10, now);
+        });
+    }
+}
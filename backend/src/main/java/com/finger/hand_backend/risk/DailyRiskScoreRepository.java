@@ -1,6 +1,7 @@
 package com.finger.hand_backend.risk;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -29,4 +30,10 @@ public interface DailyRiskScoreRepository extends JpaRepository<DailyRiskScore,
      * 사용자 ID로 최근 N일 조회
      */
     List<DailyRiskScore> findTop30ByUserIdOrderByScoreDateDesc(Long userId);
+
+    /**
+     * 날짜에 점수가 이미 있는 사용자 ID (야간 일괄 계산 제외 대상)
+     */
+    @Query("SELECT r.userId FROM DailyRiskScore r WHERE r.scoreDate = :scoreDate")
+    List<Long> findUserIdsByScoreDate(LocalDate scoreDate);
 }
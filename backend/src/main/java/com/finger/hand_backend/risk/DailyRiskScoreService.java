@@ -1,15 +1,20 @@
 package com.finger.hand_backend.risk;
 
-import com.finger.hand_backend.measurement.Measurement;
-import com.finger.hand_backend.measurement.MeasurementRepository;
+import com.finger.hand_backend.diary.entity.DiaryStatus;
+import com.finger.hand_backend.diary.repository.DiarySessionRepository;
+import com.finger.hand_backend.measurement.projection.MeasurementDaySummary;
+import com.finger.hand_backend.measurement.projection.UserMeasurementDaySummary;
+import com.finger.hand_backend.measurement.rollup.MeasurementRollupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 일일 위험 점수 서비스
@@ -21,7 +26,9 @@ import java.util.List;
 public class DailyRiskScoreService {
 
     private final DailyRiskScoreRepository riskScoreRepository;
-    private final MeasurementRepository measurementRepository;
+    private final MeasurementRollupService rollupService;
+    private final DiarySessionRepository diarySessionRepository;
+    private final DailyRiskScoreBulkWriter bulkWriter;
 
     /**
      * 일일 위험 점수 계산 및 저장
@@ -35,23 +42,18 @@ public class DailyRiskScoreService {
     public DailyRiskScore calculateAndSave(Long userId, LocalDate date, Double depressionScore) {
         log.info("일일 위험 점수 계산 - userId: {}, date: {}", userId, date);
 
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.plusDays(1).atStartOfDay();
-
         // 1. diary_component (AI 우울점수)
         Double diaryComponent = depressionScore; // 0-100
 
-        // 2. measurement_component 계산
-        Double measurementComponent = calculateMeasurementComponent(userId, startOfDay, endOfDay);
+        // 2. measurement_component 계산 (측정 횟수/이상치 COUNT/AVG를 일 롤업 또는 집계 쿼리 1회로)
+        MeasurementDaySummary summary = rollupService.summarizeDay(userId, date);
+        Double measurementComponent = calculateMeasurementComponent(summary);
 
         // 3. 하루 총 측정 횟수
-        Integer measurementCount = (int) measurementRepository
-                .countByUserIdAndMeasuredAtBetween(userId, startOfDay, endOfDay);
+        Integer measurementCount = summary.measurementCount().intValue();
 
         // 4. 하루 이상치 감지 횟수 (워치에서 탐지된 isAnomaly=true)
-        List<Measurement> anomalies = measurementRepository
-                .findByUserIdAndIsAnomalyTrueAndMeasuredAtBetweenOrderByMeasuredAtAsc(userId, startOfDay, endOfDay);
-        Integer anomalyCount = anomalies.size();
+        Integer anomalyCount = summary.anomalyCount().intValue();
 
         // 5. 최종 risk_score 계산 (wellness score - 높을수록 좋음)
         // diary: 높을수록 좋음 (AI 우울점수지만 기획 변경으로 wellness 의미)
@@ -79,80 +81,70 @@ public class DailyRiskScoreService {
     }
 
     /**
-     * 다이어리 없이 하루 점수 계산 (측정 데이터만 사용)
+     * 다이어리 없이 하루 점수 일괄 계산 (측정 데이터만 사용)
      * - 스케줄러에서 호출
+     * - 해당 날짜에 측정 데이터가 있는 전체 사용자 집계 1회 + 이미 점수가 있는 사용자 1회 + 다이어리 완료 사용자 1회 조회
+     * - 점수는 메모리에서 계산 후 배치 INSERT (측정 데이터도 다이어리도 없는 사용자는 건너뜀)
      * - diary_component = null
      * - risk_score = 100 - measurement_component (wellness 개념)
      *
-     * @param userId 사용자 ID
-     * @param date   날짜
-     * @return 저장된 DailyRiskScore
+     * @param date 날짜
+     * @return 대상/저장/건너뜀 사용자 수
      */
     @Transactional
-    public DailyRiskScore calculateWithoutDiary(Long userId, LocalDate date) {
-        log.info("다이어리 없이 일일 위험 점수 계산 - userId: {}, date: {}", userId, date);
-
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.plusDays(1).atStartOfDay();
-
-        // 1. diary_component = null (다이어리 없음)
-        Double diaryComponent = null;
-
-        // 2. measurement_component 계산
-        Double measurementComponent = calculateMeasurementComponent(userId, startOfDay, endOfDay);
-
-        // 3. 하루 총 측정 횟수
-        Integer measurementCount = (int) measurementRepository
-                .countByUserIdAndMeasuredAtBetween(userId, startOfDay, endOfDay);
-
-        // 4. 하루 이상치 감지 횟수
-        List<Measurement> anomalies = measurementRepository
-                .findByUserIdAndIsAnomalyTrueAndMeasuredAtBetweenOrderByMeasuredAtAsc(userId, startOfDay, endOfDay);
-        Integer anomalyCount = anomalies.size();
-
-        // 5. risk_score = wellness score (측정 데이터만 사용)
-        // measurement는 높을수록 안좋음 → 반전시켜 wellness로
-        Double riskScore = 100.0 - measurementComponent;  // 높을수록 건강함
-
-        // 6. 저장 또는 업데이트
-        DailyRiskScore riskScoreEntity = riskScoreRepository
-                .findByUserIdAndScoreDate(userId, date)
-                .orElse(DailyRiskScore.builder()
-                        .userId(userId)
-                        .scoreDate(date)
-                        .build());
-
-        riskScoreEntity.updateScores(diaryComponent, measurementComponent, null, riskScore);
-        riskScoreEntity.updateStats(measurementCount, anomalyCount);
-
-        DailyRiskScore saved = riskScoreRepository.save(riskScoreEntity);
+    public MissingScoreResult calculateMissingWithoutDiary(LocalDate date) {
+        List<UserMeasurementDaySummary> summaries = rollupService.summarizeDayForAllUsers(date);
+
+        // 다이어리를 작성했거나 이미 점수가 있는 사용자 제외 (중복 방지)
+        Set<Long> excluded = new HashSet<>(riskScoreRepository.findUserIdsByScoreDate(date));
+        excluded.addAll(diarySessionRepository.findUserIdsBySessionDateAndStatus(date, DiaryStatus.COMPLETED));
+
+        List<DailyRiskScore> scores = new ArrayList<>(summaries.size());
+        for (UserMeasurementDaySummary summary : summaries) {
+            if (excluded.contains(summary.userId())) {
+                continue;
+            }
+
+            Double measurementComponent = calculateMeasurementComponent(summary.toDaySummary());
+            scores.add(DailyRiskScore.builder()
+                    .userId(summary.userId())
+                    .scoreDate(date)
+                    .diaryComponent(null)
+                    .measurementComponent(measurementComponent)
+                    .riskScore(100.0 - measurementComponent)  // 높을수록 건강함
+                    .measurementCount(summary.measurementCount().intValue())
+                    .anomalyCount(summary.anomalyCount().intValue())
+                    .build());
+        }
 
-        log.info("다이어리 없이 점수 저장 완료 - riskScore: {}, measurementComponent: {}",
-                riskScore, measurementComponent);
+        bulkWriter.insertMissing(scores);
+        return new MissingScoreResult(summaries.size(), scores.size(), summaries.size() - scores.size());
+    }
 
-        return saved;
+    /**
+     * 일괄 계산 결과
+     *
+     * @param candidates 측정 데이터가 있는 사용자 수
+     * @param calculated 점수를 저장한 사용자 수
+     * @param skipped    다이어리/기존 점수로 건너뛴 사용자 수
+     */
+    public record MissingScoreResult(int candidates, int calculated, int skipped) {
     }
 
     /**
      * measurement_component 계산
      * = f(anomalyCount, avgStressIndex)
      */
-    private Double calculateMeasurementComponent(Long userId, LocalDateTime startOfDay, LocalDateTime endOfDay) {
-        // 1. 하루 동안 워치에서 이상치로 탐지된 측정 데이터 조회 (isAnomaly=true)
-        List<Measurement> anomalies = measurementRepository
-                .findByUserIdAndIsAnomalyTrueAndMeasuredAtBetweenOrderByMeasuredAtAsc(userId, startOfDay, endOfDay);
-
-        if (anomalies.isEmpty()) {
+    private Double calculateMeasurementComponent(MeasurementDaySummary summary) {
+        // 1. 하루 동안 워치에서 이상치로 탐지된 측정 데이터 개수 (isAnomaly=true)
+        if (summary.anomalyCount() == 0) {
             return 0.0; // 이상치 없음
         }
 
-        Integer anomalyCount = anomalies.size();
+        long anomalyCount = summary.anomalyCount();
 
-        // 2. 이상치 측정 데이터의 stressIndex 평균 계산
-        Double avgStressIndex = anomalies.stream()
-                .mapToDouble(Measurement::getStressIndex)
-                .average()
-                .orElse(0.0);
+        // 2. 이상치 측정 데이터의 stressIndex 평균
+        Double avgStressIndex = summary.avgAnomalyStress() != null ? summary.avgAnomalyStress() : 0.0;
 
         // 3. measurement_component 계산
         // 이상치 1개당 2점, 평균 스트레스 지수의 0.4배
@@ -5,6 +5,7 @@ import com.finger.hand_backend.user.entity.IndividualUser;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +16,11 @@ public interface IndividualUserRepository extends JpaRepository<IndividualUser,
     void deleteByUserId(Long userId);
     List<IndividualUser> findByNameStartingWith(String prefix);
 
+    /**
+     * 여러 사용자 기본 정보 조회 (보고서 일괄 생성용)
+     */
+    List<IndividualUser> findByUserIdIn(Collection<Long> userIds);
+
     /**
      * 알림 활성화되어 있고, 특정 시간에 알림받을 사용자 목록 조회
      */
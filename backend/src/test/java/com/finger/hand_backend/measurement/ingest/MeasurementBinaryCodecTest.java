@@ -0,0 +1,162 @@
+package com.finger.hand_backend.measurement.ingest;
+
+import com.finger.hand_backend.measurement.dto.MeasurementRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MeasurementBinaryCodecTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 9, 0, 0, 123_000_000);
+
+    @Test
+    void roundTripPreservesEveryColumn() throws IOException {
+        List<MeasurementRequest> rows = List.of(
+                row(BASE, 72.5, 1.25f, 3),
+                row(BASE.plusSeconds(1), 80.0, -0.5f, null),
+                row(BASE.plusSeconds(1).plusNanos(250_000_000), 51.1, 0.1f, 5));
+        rows.get(1).setObjectTemp(null);
+        rows.get(1).setHrvRmssd(null);
+        rows.get(1).setTotalSteps(null);
+        rows.get(1).setIsAnomaly(true);
+
+        List<MeasurementRequest> decoded = decode(encode(rows));
+
+        assertThat(decoded).hasSize(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            MeasurementRequest expected = rows.get(i);
+            MeasurementRequest actual = decoded.get(i);
+            assertThat(actual.getMeasuredAt()).isEqualTo(expected.getMeasuredAt());
+            assertThat(actual.getHeartRate()).isEqualTo(asFloat(expected.getHeartRate()));
+            assertThat(actual.getObjectTemp()).isEqualTo(asFloat(expected.getObjectTemp()));
+            assertThat(actual.getAmbientTemp()).isEqualTo(asFloat(expected.getAmbientTemp()));
+            assertThat(actual.getAccelX()).isEqualTo(asFloat(expected.getAccelX()));
+            assertThat(actual.getAccelY()).isEqualTo(asFloat(expected.getAccelY()));
+            assertThat(actual.getAccelZ()).isEqualTo(asFloat(expected.getAccelZ()));
+            assertThat(actual.getHrvSdnn()).isEqualTo(asFloat(expected.getHrvSdnn()));
+            assertThat(actual.getHrvRmssd()).isEqualTo(asFloat(expected.getHrvRmssd()));
+            assertThat(actual.getMovementIntensity()).isEqualTo(asFloat(expected.getMovementIntensity()));
+            assertThat(actual.getStressIndex()).isEqualTo(asFloat(expected.getStressIndex()));
+            assertThat(actual.getStepsPerMinute()).isEqualTo(asFloat(expected.getStepsPerMinute()));
+            assertThat(actual.getStressLevel()).isEqualTo(expected.getStressLevel());
+            assertThat(actual.getIsAnomaly()).isEqualTo(Boolean.TRUE.equals(expected.getIsAnomaly()));
+            assertThat(actual.getTotalSteps()).isEqualTo(expected.getTotalSteps());
+        }
+    }
+
+    @Test
+    void frameIsColumnMajorWith54BytesPerRow() throws IOException {
+        List<MeasurementRequest> rows = List.of(
+                row(BASE, 60.0, 1.0f, 1),
+                row(BASE.plusSeconds(2), 61.0, 2.0f, 2));
+
+        ByteBuffer frame = ByteBuffer.wrap(encode(rows));
+
+        assertThat(MeasurementBinaryCodec.frameBodyLength(2)).isEqualTo(2 + 8 + 2 * 54);
+        assertThat(frame.getInt()).isEqualTo(MeasurementBinaryCodec.frameBodyLength(2));
+        assertThat(frame.getShort()).isEqualTo((short) 2);
+        frame.getLong();
+        assertThat(frame.getInt()).isZero();
+        assertThat(frame.getInt()).isEqualTo(2000);
+        // 첫 컬럼(heartRate)의 두 행이 연속
+        assertThat(frame.getFloat()).isEqualTo(60.0f);
+        assertThat(frame.getFloat()).isEqualTo(61.0f);
+        // 두 번째 컬럼(objectTemp)
+        assertThat(frame.getFloat()).isEqualTo(36.5f);
+        assertThat(frame.getFloat()).isEqualTo(36.5f);
+        // 끝 표시(길이 0) 4바이트만 남음
+        frame.position(4 + MeasurementBinaryCodec.frameBodyLength(2));
+        assertThat(frame.remaining()).isEqualTo(4);
+        assertThat(frame.getInt()).isZero();
+    }
+
+    @Test
+    void readFrameReturnsNullAtEndOfStream() throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(new byte[0]));
+
+        assertThat(MeasurementBinaryCodec.readFrame(in, newBuffer())).isNull();
+    }
+
+    @Test
+    void readFrameRejectsTruncatedBody() throws IOException {
+        byte[] bytes = encode(List.of(row(BASE, 70.0, 0.0f, 1)));
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 10);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(truncated));
+
+        assertThatThrownBy(() -> MeasurementBinaryCodec.readFrame(in, newBuffer()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("INVALID_MEASUREMENT_FRAME");
+    }
+
+    @Test
+    void writeFrameRejectsTooManyRows() {
+        List<MeasurementRequest> rows = new ArrayList<>();
+        for (int i = 0; i <= MeasurementBinaryCodec.MAX_ROWS_PER_FRAME; i++) {
+            rows.add(row(BASE.plusSeconds(i), 70.0, 0.0f, 1));
+        }
+
+        assertThatThrownBy(() -> encode(rows))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("INVALID_MEASUREMENT_FRAME");
+    }
+
+    private static MeasurementRequest row(LocalDateTime measuredAt, double heartRate, float accel, Integer stressLevel) {
+        MeasurementRequest row = new MeasurementRequest();
+        row.setMeasuredAt(measuredAt);
+        row.setHeartRate(heartRate);
+        row.setObjectTemp(36.5);
+        row.setAmbientTemp(24.3);
+        row.setAccelX((double) accel);
+        row.setAccelY((double) -accel);
+        row.setAccelZ(9.81);
+        row.setHrvSdnn(45.2);
+        row.setHrvRmssd(38.7);
+        row.setMovementIntensity(0.12);
+        row.setStressIndex(42.0);
+        row.setStepsPerMinute(0.0);
+        row.setStressLevel(stressLevel);
+        row.setIsAnomaly(false);
+        row.setTotalSteps(1234);
+        return row;
+    }
+
+    private static Double asFloat(Double value) {
+        return value == null ? null : (double) value.floatValue();
+    }
+
+    private static byte[] encode(List<MeasurementRequest> rows) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        MeasurementBinaryCodec.writeFrame(out, rows);
+        MeasurementBinaryCodec.writeEnd(out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static List<MeasurementRequest> decode(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        byte[] buffer = newBuffer();
+        List<MeasurementRequest> rows = new ArrayList<>();
+        List<MeasurementRequest> frame;
+        while ((frame = MeasurementBinaryCodec.readFrame(in, buffer)) != null) {
+            rows.addAll(frame);
+        }
+        return rows;
+    }
+
+    private static byte[] newBuffer() {
+        return new byte[MeasurementBinaryCodec.frameBodyLength(MeasurementBinaryCodec.MAX_ROWS_PER_FRAME)];
+    }
+}
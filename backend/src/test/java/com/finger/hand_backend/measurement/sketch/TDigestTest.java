@@ -0,0 +1,185 @@
+package com.finger.hand_backend.measurement.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class TDigestTest {
+
+    private static final int N = 100_000;
+    private static final double[] QUANTILES = {0.001, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 0.999};
+
+    @Test
+    void quantileAndCdfMatchExactValuesForUniform() {
+        Random random = new Random(1);
+        assertAccurate(sample(random::nextDouble));
+    }
+
+    @Test
+    void quantileAndCdfMatchExactValuesForNormal() {
+        Random random = new Random(2);
+        assertAccurate(sample(() -> 70 + 10 * random.nextGaussian()));
+    }
+
+    @Test
+    void quantileAndCdfMatchExactValuesForSkewed() {
+        // 지수 분포 (긴 오른쪽 꼬리)
+        Random random = new Random(3);
+        assertAccurate(sample(() -> -Math.log(1 - random.nextDouble()) * 20));
+    }
+
+    @Test
+    void mergeOrderDoesNotChangeResult() {
+        Random random = new Random(4);
+        double[] values = sample(() -> 70 + 10 * random.nextGaussian());
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        // 하루치 스케치 25개를 서로 다른 순서로 병합
+        List<TDigest> days = new ArrayList<>();
+        int perDay = values.length / 25;
+        for (int d = 0; d < 25; d++) {
+            days.add(digestOf(Arrays.copyOfRange(values, d * perDay, (d + 1) * perDay)));
+        }
+
+        TDigest forward = mergeAll(days);
+        List<TDigest> reversed = new ArrayList<>(days);
+        Collections.reverse(reversed);
+        TDigest backward = mergeAll(reversed);
+        List<TDigest> shuffled = new ArrayList<>(days);
+        Collections.shuffle(shuffled, new Random(5));
+        TDigest mixed = mergeAll(shuffled);
+
+        for (TDigest merged : List.of(forward, backward, mixed)) {
+            assertThat(merged.count()).isEqualTo(values.length);
+            assertThat(merged.min()).isEqualTo(sorted[0]);
+            assertThat(merged.max()).isEqualTo(sorted[sorted.length - 1]);
+            for (double q : QUANTILES) {
+                assertThat(exactCdf(sorted, merged.quantile(q))).as("q=%s", q).isCloseTo(q, within(mergedRankTolerance(q)));
+            }
+        }
+        for (double q : QUANTILES) {
+            assertThat(backward.cdf(forward.quantile(q))).as("q=%s", q).isCloseTo(q, within(mergedRankTolerance(q)));
+            assertThat(mixed.cdf(forward.quantile(q))).as("q=%s", q).isCloseTo(q, within(mergedRankTolerance(q)));
+        }
+    }
+
+    @Test
+    void mergeLeavesOtherUnchanged() {
+        TDigest target = digestOf(new double[]{1, 2, 3});
+        TDigest other = digestOf(new double[]{10, 20, 30});
+        byte[] before = other.toBytes();
+
+        target.merge(other);
+
+        assertThat(target.count()).isEqualTo(6);
+        assertThat(target.max()).isEqualTo(30);
+        assertThat(other.toBytes()).isEqualTo(before);
+    }
+
+    @Test
+    void bytesRoundTripKeepsSummary() {
+        Random random = new Random(6);
+        TDigest digest = digestOf(sample(() -> 36 + 0.3 * random.nextGaussian()));
+
+        TDigest restored = TDigest.fromBytes(digest.toBytes());
+
+        assertThat(restored.count()).isEqualTo(digest.count());
+        assertThat(restored.min()).isEqualTo(digest.min());
+        assertThat(restored.max()).isEqualTo(digest.max());
+        for (double q : QUANTILES) {
+            // 직렬화는 float 평균/가중치 → float 정밀도 안에서 일치
+            assertThat(restored.quantile(q)).as("q=%s", q).isCloseTo(digest.quantile(q), within(1e-4));
+        }
+        assertThat(TDigest.fromBytes(restored.toBytes()).toBytes()).isEqualTo(restored.toBytes());
+    }
+
+    @Test
+    void bytesRoundTripOfEmptyDigest() {
+        TDigest restored = TDigest.fromBytes(new TDigest().toBytes());
+
+        assertThat(restored.isEmpty()).isTrue();
+        assertThat(restored.quantile(0.5)).isNaN();
+        assertThat(restored.cdf(0)).isNaN();
+    }
+
+    @Test
+    void fromBytesRejectsUnknownVersion() {
+        byte[] bytes = new TDigest().toBytes();
+        bytes[0] = 99;
+
+        assertThatThrownBy(() -> TDigest.fromBytes(bytes))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("UNSUPPORTED_SKETCH_FORMAT");
+    }
+
+    private static void assertAccurate(double[] values) {
+        TDigest digest = digestOf(values);
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        assertThat(digest.count()).isEqualTo(values.length);
+        assertThat(digest.quantile(0)).isEqualTo(sorted[0]);
+        assertThat(digest.quantile(1)).isEqualTo(sorted[sorted.length - 1]);
+        for (double q : QUANTILES) {
+            // 분위수 → 정확한 순위 오차
+            assertThat(exactCdf(sorted, digest.quantile(q))).as("quantile q=%s", q)
+                    .isCloseTo(q, within(rankTolerance(q)));
+            // 정확한 분위수 값의 CDF
+            double exact = sorted[(int) Math.min(sorted.length - 1, Math.floor(q * sorted.length))];
+            assertThat(digest.cdf(exact)).as("cdf q=%s", q)
+                    .isCloseTo(q, within(rankTolerance(q)));
+        }
+    }
+
+    /**
+     * 순위 허용 오차 (꼬리는 중심점이 작아 더 정확, compression 100 기준)
+     */
+    private static double rankTolerance(double q) {
+        return Math.max(0.0005, 0.02 * Math.sqrt(q * (1 - q)));
+    }
+
+    /**
+     * 병합한 스케치의 순위 허용 오차 (이미 요약된 중심점끼리 합쳐지므로 2배)
+     */
+    private static double mergedRankTolerance(double q) {
+        return 2 * rankTolerance(q);
+    }
+
+    private static double exactCdf(double[] sorted, double value) {
+        int index = Arrays.binarySearch(sorted, value);
+        int rank = index >= 0 ? index + 1 : -index - 1;
+        return (double) rank / sorted.length;
+    }
+
+    private static double[] sample(DoubleSupplier source) {
+        double[] values = new double[N];
+        for (int i = 0; i < N; i++) {
+            values[i] = source.getAsDouble();
+        }
+        return values;
+    }
+
+    private static TDigest digestOf(double[] values) {
+        TDigest digest = new TDigest(TDigest.DEFAULT_COMPRESSION);
+        for (double value : values) {
+            digest.add(value);
+        }
+        return digest;
+    }
+
+    private static TDigest mergeAll(List<TDigest> digests) {
+        TDigest merged = new TDigest(TDigest.DEFAULT_COMPRESSION);
+        digests.forEach(merged::merge);
+        return merged;
+    }
+}